@@ -23,17 +23,18 @@ def chunk_by_lines(text: str, lines_per_chunk: int = 2, overlap: int = 1) -> lis
         i += lines_per_chunk - overlap
     return chunks
 
-@app.route("/api/vector/upsert", methods=["POST"])
-def upsert_document():
-    data = request.get_json()
-
-    vector_id = str(data["id"])
-    text = data["text"]
-    metadata = data["metadata"]
+def to_chunk_rows(document: dict) -> tuple[list[str], list[str], list[dict]]:
+    vector_id = str(document["id"])
+    metadata = document["metadata"]
 
-    chunks = chunk_by_lines(text, lines_per_chunk=2, overlap=0)
+    chunks = chunk_by_lines(document["text"], lines_per_chunk=2, overlap=0)
     ids = [f"{vector_id}_{i}" for i in range(len(chunks))]
     metadatas = [metadata | {"chunk_index": i} for i in range(len(chunks))]
+    return ids, chunks, metadatas
+
+@app.route("/api/vector/upsert", methods=["POST"])
+def upsert_document():
+    ids, chunks, metadatas = to_chunk_rows(request.get_json())
 
     collection.upsert(
         ids=ids,
@@ -43,6 +44,28 @@ def upsert_document():
 
     return jsonify({"status": "upsert success"})
 
+# 백엔드 아웃박스 릴레이/재색인용: {"documents": [{"id", "text", "metadata"}, ...]}
+# 모든 문서의 청크를 모아 임베딩/upsert를 한 번에 수행 (같은 id는 덮어쓰기라 재시도해도 안전)
+@app.route("/api/vector/upsert/bulk", methods=["POST"])
+def upsert_documents():
+    documents = request.get_json().get("documents", [])
+
+    all_ids, all_chunks, all_metadatas = [], [], []
+    for document in documents:
+        ids, chunks, metadatas = to_chunk_rows(document)
+        all_ids.extend(ids)
+        all_chunks.extend(chunks)
+        all_metadatas.extend(metadatas)
+
+    if all_ids:
+        collection.upsert(
+            ids=all_ids,
+            documents=all_chunks,
+            metadatas=all_metadatas
+        )
+
+    return jsonify({"status": "upsert success", "documents": len(documents), "chunks": len(all_ids)})
+
 @app.route("/api/vector/search", methods=["POST"])
 def search_schedule():
     data = request.get_json()
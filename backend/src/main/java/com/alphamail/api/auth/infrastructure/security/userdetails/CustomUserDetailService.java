@@ -1,5 +1,11 @@
 package com.alphamail.api.auth.infrastructure.security.userdetails;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -8,20 +14,28 @@ import org.springframework.stereotype.Service;
 import com.alphamail.api.user.domain.entity.User;
 import com.alphamail.api.user.domain.repository.UserRepository;
 
-import lombok.RequiredArgsConstructor;
-
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailService implements UserDetailsService {
 
 	private final UserRepository userRepository;
+	// 운영 API(/api/admin/**)를 쓸 수 있는 계정 - 가입 경로로는 관리자가 생기지 않도록 설정으로만 지정
+	private final Set<String> adminEmails;
+
+	public CustomUserDetailService(UserRepository userRepository,
+		@Value("${security.admin-emails:}") List<String> adminEmails) {
+		this.userRepository = userRepository;
+		this.adminEmails = adminEmails.stream()
+			.map(email -> email.trim().toLowerCase(Locale.ROOT))
+			.filter(email -> !email.isEmpty())
+			.collect(Collectors.toUnmodifiableSet());
+	}
 
 	@Override
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 		User user = userRepository.findByEmail(email)
 			.orElseThrow(() -> new UsernameNotFoundException(email));
 
-		return new CustomUserDetails(user);
+		return new CustomUserDetails(user, isAdmin(user));
 	}
 
 	public UserDetails loadUserById(Integer userId) {
@@ -29,7 +43,11 @@ public class CustomUserDetailService implements UserDetailsService {
 		if (user == null) {
 			throw new UsernameNotFoundException("사용자 ID를 찾을 수 없습니다: " + userId);
 		}
-		return new CustomUserDetails(user);
+		return new CustomUserDetails(user, isAdmin(user));
+
+	}
 
+	private boolean isAdmin(User user) {
+		return user.getEmail() != null && adminEmails.contains(user.getEmail().toLowerCase(Locale.ROOT));
 	}
 }
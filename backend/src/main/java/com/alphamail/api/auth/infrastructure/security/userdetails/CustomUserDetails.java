@@ -17,9 +17,13 @@ import lombok.RequiredArgsConstructor;
 public class CustomUserDetails implements UserDetails {
 
 	private final User user;
+	private final boolean admin;
 
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
+		if (admin) {
+			return List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+		}
 		return List.of(new SimpleGrantedAuthority("ROLE_USER"));
 	}
 
@@ -0,0 +1,12 @@
+package com.alphamail.api.chatbot.application.dto;
+
+public record ChatbotCacheStats(
+	String tier,
+	long localHits,
+	long remoteHits,
+	long misses,
+	double hitRatio,
+	long avgMissLatencyMs,
+	long savedLatencyMs
+) {
+}
@@ -0,0 +1,29 @@
+package com.alphamail.api.chatbot.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record VectorReindexStatus(
+	String state,
+	List<String> types,
+	Long upserted,
+	String error,
+	LocalDateTime startedAt,
+	LocalDateTime finishedAt
+) {
+	public static VectorReindexStatus idle() {
+		return new VectorReindexStatus("IDLE", List.of(), null, null, null, null);
+	}
+
+	public static VectorReindexStatus running(List<String> types, LocalDateTime startedAt) {
+		return new VectorReindexStatus("RUNNING", types, null, null, startedAt, null);
+	}
+
+	public VectorReindexStatus completed(long upsertedCount, LocalDateTime finishedAt) {
+		return new VectorReindexStatus("COMPLETED", types, upsertedCount, null, startedAt, finishedAt);
+	}
+
+	public VectorReindexStatus failed(String reason, LocalDateTime finishedAt) {
+		return new VectorReindexStatus("FAILED", types, null, reason, startedAt, finishedAt);
+	}
+}
@@ -0,0 +1,237 @@
+package com.alphamail.api.chatbot.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.alphamail.api.chatbot.application.dto.ChatbotCacheStats;
+import com.alphamail.api.chatbot.application.dto.ClaudeClassification;
+import com.alphamail.api.chatbot.infrastructure.cache.ChatbotCacheStore;
+import com.alphamail.api.chatbot.infrastructure.cache.ChatbotCacheStore.CachedValue;
+import com.alphamail.api.chatbot.presentation.dto.ChatBotResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 챗봇 의도 분류 / 검색 답변 캐시
+ * - 의도 분류: 정규화한 메시지 + 시간대 + 시간 버킷 (상대 날짜 변환 결과가 버킷 안에서는 같음)
+ * - 검색 답변: 문서 종류 + 소유자(사용자/회사) + 사용자 + 시간대 + 변환된 메시지 + 무효화 버전
+ * 문서가 바뀌면 invalidate로 버전을 올려서 이전 답변을 버립니다.
+ */
+@Slf4j
+@Service
+public class ChatbotResponseCache {
+
+	private static final String KEY_PREFIX = "chatbot:cache:";
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s?!.~。？！]+$");
+
+	private final ChatbotCacheStore store;
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private final long timeBucketMinutes;
+	private final Duration answerTtl;
+	private final TierStats intentStats = new TierStats();
+	private final TierStats answerStats = new TierStats();
+
+	public ChatbotResponseCache(ChatbotCacheStore store,
+		ObjectMapper objectMapper,
+		@Value("${chatbot.cache.enabled:true}") boolean enabled,
+		@Value("${chatbot.cache.time-bucket-minutes:10}") long timeBucketMinutes,
+		@Value("${chatbot.cache.answer-ttl-seconds:600}") long answerTtlSeconds) {
+		this.store = store;
+		this.objectMapper = objectMapper;
+		this.enabled = enabled;
+		this.timeBucketMinutes = Math.max(1, timeBucketMinutes);
+		this.answerTtl = Duration.ofSeconds(answerTtlSeconds);
+	}
+
+	public ClaudeClassification classify(String message, String timezone, LocalDateTime userTime,
+		Supplier<ClaudeClassification> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+
+		long bucket = userTime.toEpochSecond(ZoneOffset.UTC) / 60 / timeBucketMinutes;
+		String key = KEY_PREFIX + "intent:" + timezone + ":" + bucket + ":" + hash(normalize(message));
+		// 버킷이 지나면 다시 조회되지 않으므로 TTL도 버킷 길이만큼
+		return lookup(key, Duration.ofMinutes(timeBucketMinutes), ClaudeClassification.class, intentStats, loader);
+	}
+
+	public ChatBotResponse answer(String documentType, Integer ownerId, Integer userId, String message,
+		String timezone, Supplier<ChatBotResponse> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+
+		List<String> versions = store.versions(List.of(typeVersionKey(documentType),
+			ownerVersionKey(documentType, ownerId)));
+		if (versions == null) {
+			// 버전을 모르면 무효화 여부를 판단할 수 없음 -> 캐시를 거치지 않는다
+			return loader.get();
+		}
+
+		String key = KEY_PREFIX + "answer:" + documentType + ":" + ownerId + ":" + userId + ":"
+			+ versions.get(0) + "." + versions.get(1) + ":" + timezone + ":" + hash(normalize(message));
+		return lookup(key, answerTtl, ChatBotResponse.class, answerStats, loader);
+	}
+
+	// 소유자(일정은 사용자, 견적/발주는 회사) 단위 무효화, 트랜잭션 안이면 커밋 후에 반영
+	public void invalidate(String documentType, Integer ownerId) {
+		afterCommit(() -> store.bumpVersion(ownerVersionKey(documentType, ownerId)));
+	}
+
+	// 소유자를 특정할 수 없는 변경(일괄 삭제, 재색인)은 문서 종류 전체를 무효화
+	public void invalidateAll(String documentType) {
+		afterCommit(() -> store.bumpVersion(typeVersionKey(documentType)));
+	}
+
+	public List<ChatbotCacheStats> stats() {
+		return List.of(intentStats.toSnapshot("intent"), answerStats.toSnapshot("answer"));
+	}
+
+	@Scheduled(fixedDelayString = "${chatbot.cache.stats-log-interval-ms:300000}")
+	public void logStats() {
+		for (ChatbotCacheStats snapshot : stats()) {
+			log.info("챗봇 캐시 [{}] hitRatio={}, localHits={}, remoteHits={}, misses={}, avgMiss={}ms, saved={}ms, "
+					+ "nearCacheSize={}", snapshot.tier(), String.format("%.3f", snapshot.hitRatio()),
+				snapshot.localHits(), snapshot.remoteHits(), snapshot.misses(), snapshot.avgMissLatencyMs(),
+				snapshot.savedLatencyMs(), store.nearCacheSize());
+		}
+	}
+
+	private <T> T lookup(String key, Duration ttl, Class<T> type, TierStats stats, Supplier<T> loader) {
+		long start = System.nanoTime();
+		CachedValue cached = store.get(key);
+		if (cached != null) {
+			T value = deserialize(cached.value(), type);
+			if (value != null) {
+				stats.recordHit(cached.local(), System.nanoTime() - start);
+				return value;
+			}
+		}
+
+		T loaded = loader.get();
+		stats.recordMiss(System.nanoTime() - start);
+		if (isCacheable(loaded)) {
+			try {
+				store.put(key, objectMapper.writeValueAsString(loaded), ttl);
+			} catch (Exception e) {
+				log.warn("챗봇 캐시 직렬화 실패: key={} ({})", key, e.toString());
+			}
+		}
+		return loaded;
+	}
+
+	// 실패 응답(파싱 실패, 기본 응답)은 캐시하지 않음 -> 다음 요청에서 다시 시도
+	private boolean isCacheable(Object value) {
+		if (value instanceof ChatBotResponse response) {
+			return response.type() != null;
+		}
+		return value != null;
+	}
+
+	private <T> T deserialize(String json, Class<T> type) {
+		try {
+			return objectMapper.readValue(json, type);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private static String typeVersionKey(String documentType) {
+		return KEY_PREFIX + "version:" + documentType;
+	}
+
+	private static String ownerVersionKey(String documentType, Integer ownerId) {
+		return KEY_PREFIX + "version:" + documentType + ":" + ownerId;
+	}
+
+	// 대소문자, 유니코드 조합형, 공백, 끝의 물음표/마침표 차이는 같은 질문으로 본다
+	private static String normalize(String message) {
+		if (message == null) {
+			return "";
+		}
+		String normalized = Normalizer.normalize(message, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		normalized = WHITESPACE.matcher(normalized.trim()).replaceAll(" ");
+		return TRAILING_PUNCTUATION.matcher(normalized).replaceAll("");
+	}
+
+	private static String hash(String text) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class TierStats {
+		private final LongAdder localHits = new LongAdder();
+		private final LongAdder remoteHits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		private final LongAdder missNanos = new LongAdder();
+		private final LongAdder savedNanos = new LongAdder();
+
+		private void recordMiss(long elapsedNanos) {
+			misses.increment();
+			missNanos.add(elapsedNanos);
+		}
+
+		// 절약 시간 = 지금까지의 평균 미스 처리 시간 - 이번 조회 시간
+		private void recordHit(boolean local, long elapsedNanos) {
+			(local ? localHits : remoteHits).increment();
+			long missCount = misses.sum();
+			if (missCount > 0) {
+				savedNanos.add(Math.max(0, missNanos.sum() / missCount - elapsedNanos));
+			}
+		}
+
+		private ChatbotCacheStats toSnapshot(String tier) {
+			long local = localHits.sum();
+			long remote = remoteHits.sum();
+			long missCount = misses.sum();
+			long total = local + remote + missCount;
+			return new ChatbotCacheStats(
+				tier,
+				local,
+				remote,
+				missCount,
+				total == 0 ? 0 : (double)(local + remote) / total,
+				missCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(missNanos.sum() / missCount),
+				TimeUnit.NANOSECONDS.toMillis(savedNanos.sum())
+			);
+		}
+	}
+}
@@ -23,8 +23,15 @@ public class SearchDocumentService {
 	private final VectorSearchClient vectorSearchClient;
 	private final ObjectMapper objectMapper;
 	private final Map<String, SummarizePromptHandler> handlerMap;
+	private final ChatbotResponseCache chatbotResponseCache;
 
 	public ChatBotResponse execute(String documentType, Integer ownerId, Integer userId, String message, String timezone) {
+		return chatbotResponseCache.answer(documentType, ownerId, userId, message, timezone,
+			() -> search(documentType, ownerId, userId, message, timezone));
+	}
+
+	private ChatBotResponse search(String documentType, Integer ownerId, Integer userId, String message,
+		String timezone) {
 		List<Map<String, String>> matched = vectorSearchClient.searchByEmbedding(documentType, ownerId, userId, message);
 
 		SummarizePromptHandler handler = handlerMap.get(documentType);
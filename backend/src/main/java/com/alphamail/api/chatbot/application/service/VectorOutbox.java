@@ -0,0 +1,40 @@
+package com.alphamail.api.chatbot.application.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alphamail.api.chatbot.domain.common.VectorizableDocument;
+import com.alphamail.api.chatbot.domain.entity.VectorOutboxEvent;
+import com.alphamail.api.chatbot.domain.repository.VectorOutboxRepository;
+import com.alphamail.api.chatbot.infrastructure.vector.VectorUpsertRequest;
+import com.alphamail.common.exception.ErrorMessage;
+import com.alphamail.common.exception.InternalServerException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 벡터 업서트 요청을 아웃박스에 적재
+ * 업무 데이터와 같은 트랜잭션에서만 호출 -> 롤백되면 업서트도 없고, 커밋되면 릴레이가 반드시 전송합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class VectorOutbox {
+
+	private final VectorOutboxRepository vectorOutboxRepository;
+	private final ObjectMapper objectMapper;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void enqueue(VectorizableDocument document) {
+		// 문서 내용은 지금(트랜잭션 안에서) 확정 -> 릴레이는 엔티티를 다시 읽지 않음
+		VectorUpsertRequest request = VectorUpsertRequest.from(document);
+		try {
+			vectorOutboxRepository.save(VectorOutboxEvent.pending(request.id(), document.getDocumentType(),
+				objectMapper.writeValueAsString(request)));
+		} catch (JsonProcessingException e) {
+			throw new InternalServerException(ErrorMessage.INTERNAL_SERVER_ERROR);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package com.alphamail.api.chatbot.application.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.alphamail.api.chatbot.domain.entity.VectorOutboxEvent;
+import com.alphamail.api.chatbot.domain.repository.VectorOutboxRepository;
+import com.alphamail.api.chatbot.infrastructure.vector.VectorUpsertClient;
+import com.alphamail.api.chatbot.infrastructure.vector.VectorUpsertRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 벡터 아웃박스 릴레이
+ * 커밋된 PENDING 이벤트를 batch-size만큼 선점해서 bulk 업서트 한 번으로 보내고,
+ * 실패하면 지수 백오프로 재시도, max-attempts를 넘기면 DEAD로 남깁니다.
+ */
+@Service
+@Slf4j
+public class VectorOutboxRelay {
+
+	private static final int MAX_ERROR_LENGTH = 2000;
+
+	private final VectorOutboxRepository vectorOutboxRepository;
+	private final VectorUpsertClient vectorUpsertClient;
+	private final ChatbotResponseCache chatbotResponseCache;
+	private final ObjectMapper objectMapper;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long retryBackoffMs;
+	private final long staleTimeoutMs;
+	private final long retentionHours;
+
+	public VectorOutboxRelay(VectorOutboxRepository vectorOutboxRepository,
+		VectorUpsertClient vectorUpsertClient,
+		ChatbotResponseCache chatbotResponseCache,
+		ObjectMapper objectMapper,
+		@Value("${vector.outbox.batch-size:100}") int batchSize,
+		@Value("${vector.outbox.max-attempts:8}") int maxAttempts,
+		@Value("${vector.outbox.retry-backoff-ms:2000}") long retryBackoffMs,
+		@Value("${vector.outbox.stale-timeout-ms:300000}") long staleTimeoutMs,
+		@Value("${vector.outbox.retention-hours:72}") long retentionHours) {
+		this.vectorOutboxRepository = vectorOutboxRepository;
+		this.vectorUpsertClient = vectorUpsertClient;
+		this.chatbotResponseCache = chatbotResponseCache;
+		this.objectMapper = objectMapper;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.retryBackoffMs = retryBackoffMs;
+		this.staleTimeoutMs = staleTimeoutMs;
+		this.retentionHours = retentionHours;
+	}
+
+	@Scheduled(fixedDelayString = "${vector.outbox.poll-interval-ms:1000}")
+	public void relay() {
+		List<VectorOutboxEvent> events = vectorOutboxRepository.claimPending(batchSize);
+		if (events.isEmpty()) {
+			return;
+		}
+
+		// payload가 깨진 이벤트는 재시도해도 소용없으므로 바로 DEAD
+		List<VectorOutboxEvent> sendable = new ArrayList<>(events.size());
+		List<VectorUpsertRequest> requests = new ArrayList<>(events.size());
+		for (VectorOutboxEvent event : events) {
+			try {
+				requests.add(objectMapper.readValue(event.getPayload(), VectorUpsertRequest.class));
+				sendable.add(event);
+			} catch (Exception e) {
+				log.error("벡터 아웃박스 payload 파싱 실패: eventId={}", event.getEventId(), e);
+				vectorOutboxRepository.markDead(event.getEventId(), event.nextAttempt(), truncate(e.toString()));
+			}
+		}
+
+		try {
+			vectorUpsertClient.upsertAll(requests);
+			vectorOutboxRepository.markDone(sendable.stream().map(VectorOutboxEvent::getEventId).toList());
+		} catch (Exception e) {
+			sendable.forEach(event -> handleFailure(event, e));
+			return;
+		}
+
+		// 벡터 스토어 내용이 바뀌었으니 해당 소유자의 챗봇 답변 캐시를 버린다
+		for (VectorUpsertRequest request : requests) {
+			invalidateCache(request);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${vector.outbox.stale-check-interval-ms:60000}")
+	public void requeueStale() {
+		int requeued = vectorOutboxRepository.requeueStale(
+			LocalDateTime.now().minusNanos(staleTimeoutMs * 1_000_000));
+		if (requeued > 0) {
+			log.warn("멈춘 벡터 아웃박스 이벤트 {}건 재대기", requeued);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${vector.outbox.cleanup-interval-ms:3600000}")
+	public void cleanup() {
+		int deleted = vectorOutboxRepository.deleteDoneBefore(LocalDateTime.now().minusHours(retentionHours));
+		if (deleted > 0) {
+			log.info("전송 완료된 벡터 아웃박스 이벤트 {}건 정리", deleted);
+		}
+	}
+
+	private void invalidateCache(VectorUpsertRequest request) {
+		Map<String, Object> metadata = request.metadata();
+		Object documentType = metadata == null ? null : metadata.get("document_type");
+		Object ownerId = metadata == null ? null : metadata.get("owner_id");
+		if (documentType == null) {
+			return;
+		}
+		if (ownerId instanceof Number number) {
+			chatbotResponseCache.invalidate(documentType.toString(), number.intValue());
+		} else {
+			chatbotResponseCache.invalidateAll(documentType.toString());
+		}
+	}
+
+	private void handleFailure(VectorOutboxEvent event, Exception error) {
+		int attempts = event.nextAttempt();
+		String reason = truncate(error.toString());
+
+		try {
+			if (attempts >= maxAttempts) {
+				log.error("벡터 업서트 최종 실패: eventId={}, vectorId={}, attempts={}", event.getEventId(),
+					event.getVectorId(), attempts, error);
+				vectorOutboxRepository.markDead(event.getEventId(), attempts, reason);
+				return;
+			}
+
+			// 지수 백오프: backoff * 2^(attempts - 1)
+			long delayMs = retryBackoffMs << Math.min(attempts - 1, 16);
+			log.warn("벡터 업서트 실패, {}ms 후 재시도: eventId={}, attempts={} ({})", delayMs, event.getEventId(),
+				attempts, reason);
+			vectorOutboxRepository.markRetry(event.getEventId(), attempts,
+				LocalDateTime.now().plusNanos(delayMs * 1_000_000), reason);
+		} catch (Exception e) {
+			// 상태 갱신까지 실패하면 PROCESSING으로 남고 requeueStale이 다시 살림
+			log.error("벡터 아웃박스 실패 상태 기록 실패: eventId={}", event.getEventId(), e);
+		}
+	}
+
+	private static String truncate(String message) {
+		if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+			return message;
+		}
+		return message.substring(0, MAX_ERROR_LENGTH);
+	}
+}
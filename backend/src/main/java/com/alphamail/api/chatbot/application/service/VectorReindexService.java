@@ -0,0 +1,180 @@
+package com.alphamail.api.chatbot.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alphamail.api.chatbot.application.dto.VectorReindexStatus;
+import com.alphamail.api.chatbot.domain.common.VectorizableDocument;
+import com.alphamail.api.chatbot.domain.dto.DocumentTypes;
+import com.alphamail.api.chatbot.infrastructure.adapter.PurchaseOrderVectorAdapter;
+import com.alphamail.api.chatbot.infrastructure.adapter.QuoteVectorAdapter;
+import com.alphamail.api.chatbot.infrastructure.adapter.ScheduleVectorAdapter;
+import com.alphamail.api.chatbot.infrastructure.vector.VectorUpsertClient;
+import com.alphamail.api.chatbot.infrastructure.vector.VectorUpsertClient.VectorBatchOptions;
+import com.alphamail.api.chatbot.infrastructure.vector.VectorUpsertRequest;
+import com.alphamail.api.erp.domain.entity.PurchaseOrder;
+import com.alphamail.api.erp.domain.entity.Quote;
+import com.alphamail.api.erp.domain.repository.PurchaseOrderRepository;
+import com.alphamail.api.erp.domain.repository.QuoteRepository;
+import com.alphamail.api.schedule.domain.entity.Schedule;
+import com.alphamail.api.schedule.domain.repository.ScheduleRepository;
+import com.alphamail.common.exception.BadRequestException;
+import com.alphamail.common.exception.ErrorMessage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * 견적/발주/일정 전체 벡터 재색인
+ * 테이블을 id 순 keyset 페이지로 읽어 어댑터로 변환한 뒤, 묶음 업서트로 흘려보냅니다.
+ * 한 번에 하나만 실행되며 백그라운드 스레드에서 돕니다.
+ */
+@Slf4j
+@Service
+public class VectorReindexService {
+
+	private static final List<String> REINDEX_TYPES = List.of(DocumentTypes.QUOTE, DocumentTypes.PURCHASE_ORDER,
+		DocumentTypes.SCHEDULE);
+
+	private final QuoteRepository quoteRepository;
+	private final PurchaseOrderRepository purchaseOrderRepository;
+	private final ScheduleRepository scheduleRepository;
+	private final VectorUpsertClient vectorUpsertClient;
+	private final ChatbotResponseCache chatbotResponseCache;
+	private final TransactionTemplate readOnlyTransaction;
+	private final VectorBatchOptions batchOptions;
+	private final int pageSize;
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "vector-reindex");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final AtomicReference<VectorReindexStatus> lastStatus = new AtomicReference<>(VectorReindexStatus.idle());
+
+	public VectorReindexService(QuoteRepository quoteRepository,
+		PurchaseOrderRepository purchaseOrderRepository,
+		ScheduleRepository scheduleRepository,
+		VectorUpsertClient vectorUpsertClient,
+		ChatbotResponseCache chatbotResponseCache,
+		PlatformTransactionManager transactionManager,
+		@Value("${vector.reindex.page-size:500}") int pageSize,
+		@Value("${vector.reindex.batch-size:200}") int batchSize,
+		@Value("${vector.reindex.max-wait-ms:500}") long maxWaitMs,
+		@Value("${vector.reindex.parallelism:4}") int parallelism,
+		@Value("${vector.reindex.max-retries:3}") int maxRetries,
+		@Value("${vector.reindex.retry-backoff-ms:1000}") long retryBackoffMs) {
+		this.quoteRepository = quoteRepository;
+		this.purchaseOrderRepository = purchaseOrderRepository;
+		this.scheduleRepository = scheduleRepository;
+		this.vectorUpsertClient = vectorUpsertClient;
+		this.chatbotResponseCache = chatbotResponseCache;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.pageSize = pageSize;
+		this.batchOptions = new VectorBatchOptions(batchSize, Duration.ofMillis(maxWaitMs), parallelism, maxRetries,
+			Duration.ofMillis(retryBackoffMs));
+	}
+
+	// types가 비어 있으면 전체
+	public VectorReindexStatus start(List<String> types) {
+		List<String> targets = types == null || types.isEmpty() ? REINDEX_TYPES : types;
+		if (!REINDEX_TYPES.containsAll(targets)) {
+			throw new BadRequestException(ErrorMessage.INVALID_PARAMETER);
+		}
+		if (!running.compareAndSet(false, true)) {
+			return lastStatus.get();
+		}
+
+		VectorReindexStatus started = VectorReindexStatus.running(targets, LocalDateTime.now());
+		lastStatus.set(started);
+		executor.execute(() -> run(started));
+		return started;
+	}
+
+	public VectorReindexStatus status() {
+		return lastStatus.get();
+	}
+
+	private void run(VectorReindexStatus started) {
+		try {
+			Flux<VectorUpsertRequest> documents = Flux.fromIterable(started.types())
+				.concatMap(this::stream);
+			Long upserted = vectorUpsertClient.upsertStream(documents, batchOptions).block();
+			started.types().forEach(chatbotResponseCache::invalidateAll);
+
+			lastStatus.set(started.completed(upserted == null ? 0 : upserted, LocalDateTime.now()));
+			log.info("벡터 재색인 완료 - types={}, upserted={}", started.types(), upserted);
+		} catch (Exception e) {
+			lastStatus.set(started.failed(e.toString(), LocalDateTime.now()));
+			log.error("벡터 재색인 실패 - types={}", started.types(), e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private Flux<VectorUpsertRequest> stream(String type) {
+		return switch (type) {
+			case DocumentTypes.QUOTE -> pages(quoteRepository::findAllAfterId, Quote::getQuoteId,
+				QuoteVectorAdapter::new);
+			case DocumentTypes.PURCHASE_ORDER -> pages(purchaseOrderRepository::findAllAfterId,
+				PurchaseOrder::getPurchaseOrderId, PurchaseOrderVectorAdapter::new);
+			case DocumentTypes.SCHEDULE -> pages(scheduleRepository::findAllAfterId, Schedule::getScheduleId,
+				ScheduleVectorAdapter::new);
+			default -> Flux.empty();
+		};
+	}
+
+	// 다운스트림이 요청할 때마다 한 페이지씩 읽음 -> 전체를 메모리에 올리지 않음
+	private <T> Flux<VectorUpsertRequest> pages(BiFunction<Integer, Integer, List<T>> finder,
+		Function<T, Integer> idGetter, Function<T, VectorizableDocument> adapter) {
+		return Flux.<List<VectorUpsertRequest>, Integer>generate(() -> 0, (lastId, sink) -> {
+			ReindexPage page = readPage(finder, idGetter, adapter, lastId);
+			if (page.requests().isEmpty()) {
+				sink.complete();
+			} else {
+				sink.next(page.requests());
+			}
+			return page.lastId();
+		}).concatMapIterable(Function.identity());
+	}
+
+	// 어댑터가 지연 로딩 연관관계를 읽으므로 변환까지 트랜잭션 안에서
+	private <T> ReindexPage readPage(BiFunction<Integer, Integer, List<T>> finder, Function<T, Integer> idGetter,
+		Function<T, VectorizableDocument> adapter, Integer lastId) {
+		ReindexPage page = readOnlyTransaction.execute(status -> {
+			List<T> rows = finder.apply(lastId, pageSize);
+			if (rows.isEmpty()) {
+				return new ReindexPage(List.of(), lastId);
+			}
+			List<VectorUpsertRequest> requests = rows.stream()
+				.map(adapter)
+				.map(VectorUpsertRequest::from)
+				.toList();
+			return new ReindexPage(requests, idGetter.apply(rows.get(rows.size() - 1)));
+		});
+		return page != null ? page : new ReindexPage(List.of(), lastId);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private record ReindexPage(List<VectorUpsertRequest> requests, Integer lastId) {
+	}
+}
@@ -0,0 +1,47 @@
+package com.alphamail.api.chatbot.domain.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 벡터 업서트 아웃박스 이벤트
+ * 견적/발주/일정 저장과 같은 트랜잭션에 업서트 요청 본문(JSON)을 남기고, 릴레이가 커밋된 것만 묶어서 전송합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString(exclude = "payload")
+public class VectorOutboxEvent {
+	private Long eventId;
+	private String vectorId;
+	private String documentType;
+	private String payload;
+	private VectorOutboxStatus status;
+	private Integer attempts;
+	private String lastError;
+	private LocalDateTime nextAttemptAt;
+	private LocalDateTime claimedAt;
+	private LocalDateTime createdAt;
+
+	public static VectorOutboxEvent pending(String vectorId, String documentType, String payload) {
+		LocalDateTime now = LocalDateTime.now();
+		return VectorOutboxEvent.builder()
+			.vectorId(vectorId)
+			.documentType(documentType)
+			.payload(payload)
+			.status(VectorOutboxStatus.PENDING)
+			.attempts(0)
+			.nextAttemptAt(now)
+			.createdAt(now)
+			.build();
+	}
+
+	public int nextAttempt() {
+		return attempts == null ? 1 : attempts + 1;
+	}
+}
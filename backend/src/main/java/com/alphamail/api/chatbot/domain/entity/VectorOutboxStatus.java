@@ -0,0 +1,8 @@
+package com.alphamail.api.chatbot.domain.entity;
+
+public enum VectorOutboxStatus {
+	PENDING,
+	PROCESSING,
+	DONE,
+	DEAD
+}
@@ -0,0 +1,25 @@
+package com.alphamail.api.chatbot.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.alphamail.api.chatbot.domain.entity.VectorOutboxEvent;
+
+public interface VectorOutboxRepository {
+
+	VectorOutboxEvent save(VectorOutboxEvent event);
+
+	// PENDING 이벤트를 최대 limit개까지 PROCESSING으로 선점 (다른 인스턴스와 겹치지 않음)
+	List<VectorOutboxEvent> claimPending(int limit);
+
+	void markDone(List<Long> eventIds);
+
+	void markRetry(Long eventId, int attempts, LocalDateTime nextAttemptAt, String lastError);
+
+	void markDead(Long eventId, int attempts, String lastError);
+
+	// 릴레이가 죽어서 PROCESSING에 멈춘 이벤트를 다시 PENDING으로 돌림
+	int requeueStale(LocalDateTime claimedBefore);
+
+	int deleteDoneBefore(LocalDateTime createdBefore);
+}
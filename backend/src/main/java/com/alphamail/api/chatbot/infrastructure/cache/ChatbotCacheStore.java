@@ -0,0 +1,91 @@
+package com.alphamail.api.chatbot.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.alphamail.common.cache.NearCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 챗봇 응답 캐시 저장소 (로컬 near-cache + Redis)
+ * Redis 장애는 캐시 미스로 취급 -> 캐시 때문에 챗봇 응답이 실패하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ChatbotCacheStore {
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final NearCache<String> nearCache;
+
+	public ChatbotCacheStore(RedisTemplate<String, String> redisTemplate,
+		@Value("${chatbot.cache.near-cache.max-entries:1000}") int nearMaxEntries,
+		@Value("${chatbot.cache.near-cache.ttl-seconds:30}") long nearTtlSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.nearCache = new NearCache<>(nearMaxEntries, Duration.ofSeconds(nearTtlSeconds));
+	}
+
+	public CachedValue get(String key) {
+		String local = nearCache.get(key);
+		if (local != null) {
+			return new CachedValue(local, true);
+		}
+
+		try {
+			String remote = redisTemplate.opsForValue().get(key);
+			if (remote == null) {
+				return null;
+			}
+			nearCache.put(key, remote);
+			return new CachedValue(remote, false);
+		} catch (Exception e) {
+			log.warn("챗봇 캐시 조회 실패: key={} ({})", key, e.toString());
+			return null;
+		}
+	}
+
+	public void put(String key, String value, Duration ttl) {
+		nearCache.put(key, value);
+		try {
+			redisTemplate.opsForValue().set(key, value, ttl);
+		} catch (Exception e) {
+			log.warn("챗봇 캐시 저장 실패: key={} ({})", key, e.toString());
+		}
+	}
+
+	// 무효화 버전 여러 개를 한 번에 조회, 없는 키는 "0" / Redis 장애면 null
+	public List<String> versions(List<String> versionKeys) {
+		try {
+			List<String> values = redisTemplate.opsForValue().multiGet(versionKeys);
+			if (values == null) {
+				return null;
+			}
+			return values.stream()
+				.map(value -> value == null ? "0" : value)
+				.toList();
+		} catch (Exception e) {
+			log.warn("챗봇 캐시 버전 조회 실패 ({})", e.toString());
+			return null;
+		}
+	}
+
+	// 버전을 올리면 이전 버전으로 만든 키는 더 이상 조회되지 않고 TTL로 사라짐
+	public void bumpVersion(String versionKey) {
+		try {
+			redisTemplate.opsForValue().increment(versionKey);
+		} catch (Exception e) {
+			log.warn("챗봇 캐시 무효화 실패: key={} ({})", versionKey, e.toString());
+		}
+	}
+
+	public int nearCacheSize() {
+		return nearCache.size();
+	}
+
+	public record CachedValue(String value, boolean local) {
+	}
+}
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -14,14 +15,13 @@ import org.springframework.web.client.RestTemplate;
 
 import com.alphamail.common.exception.BadRequestException;
 import com.alphamail.common.exception.ErrorMessage;
+import com.alphamail.common.exception.ServiceUnavailableException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ClaudeApiClient {
 
@@ -33,6 +33,11 @@ public class ClaudeApiClient {
 	@Value("${claude.base-url}")
 	private String baseUrl;
 
+	public ClaudeApiClient(@Qualifier("claudeRestTemplate") RestTemplate restTemplate, ObjectMapper objectMapper) {
+		this.restTemplate = restTemplate;
+		this.objectMapper = objectMapper;
+	}
+
 	public String askClaude(String userMessage) {
 		try {
 			HttpHeaders headers = new HttpHeaders();
@@ -91,6 +96,9 @@ public class ClaudeApiClient {
 
 			JsonNode root = objectMapper.readTree(response.getBody());
 			return root.get("content").get(0).get("text").asText();
+		} catch (ServiceUnavailableException e) {
+			// 서킷 OPEN / 동시 호출 초과 -> 503 그대로
+			throw e;
 		} catch (Exception e) {
 			throw new BadRequestException(ErrorMessage.CLAUDE_API_ERROR); // ✅ 이걸로 충분함
 		}
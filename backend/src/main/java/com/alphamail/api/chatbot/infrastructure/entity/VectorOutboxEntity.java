@@ -0,0 +1,61 @@
+package com.alphamail.api.chatbot.infrastructure.entity;
+
+import java.time.LocalDateTime;
+
+import com.alphamail.api.chatbot.domain.entity.VectorOutboxStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "vector_outbox", indexes = {
+	@Index(name = "idx_vector_outbox_status_next", columnList = "status, next_attempt_at")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class VectorOutboxEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long eventId;
+
+	@Column(nullable = false)
+	private String vectorId;
+
+	@Column(length = 50, nullable = false)
+	private String documentType;
+
+	@Column(columnDefinition = "text", nullable = false)
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20, nullable = false)
+	private VectorOutboxStatus status;
+
+	@Column(nullable = false)
+	private Integer attempts;
+
+	@Column(columnDefinition = "text")
+	private String lastError;
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	private LocalDateTime claimedAt;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,48 @@
+package com.alphamail.api.chatbot.infrastructure.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.alphamail.api.chatbot.domain.entity.VectorOutboxEvent;
+import com.alphamail.api.chatbot.infrastructure.entity.VectorOutboxEntity;
+
+@Component
+public class VectorOutboxMapper {
+
+	public VectorOutboxEvent toDomain(VectorOutboxEntity entity) {
+		if (entity == null) {
+			return null;
+		}
+
+		return VectorOutboxEvent.builder()
+			.eventId(entity.getEventId())
+			.vectorId(entity.getVectorId())
+			.documentType(entity.getDocumentType())
+			.payload(entity.getPayload())
+			.status(entity.getStatus())
+			.attempts(entity.getAttempts())
+			.lastError(entity.getLastError())
+			.nextAttemptAt(entity.getNextAttemptAt())
+			.claimedAt(entity.getClaimedAt())
+			.createdAt(entity.getCreatedAt())
+			.build();
+	}
+
+	public VectorOutboxEntity toEntity(VectorOutboxEvent domain) {
+		if (domain == null) {
+			return null;
+		}
+
+		return VectorOutboxEntity.builder()
+			.eventId(domain.getEventId())
+			.vectorId(domain.getVectorId())
+			.documentType(domain.getDocumentType())
+			.payload(domain.getPayload())
+			.status(domain.getStatus())
+			.attempts(domain.getAttempts())
+			.lastError(domain.getLastError())
+			.nextAttemptAt(domain.getNextAttemptAt())
+			.claimedAt(domain.getClaimedAt())
+			.createdAt(domain.getCreatedAt())
+			.build();
+	}
+}
@@ -0,0 +1,53 @@
+package com.alphamail.api.chatbot.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.alphamail.api.chatbot.domain.entity.VectorOutboxStatus;
+import com.alphamail.api.chatbot.infrastructure.entity.VectorOutboxEntity;
+
+public interface VectorOutboxJpaRepository extends JpaRepository<VectorOutboxEntity, Long> {
+
+	// SKIP LOCKED로 여러 인스턴스가 동시에 폴링해도 같은 이벤트를 중복 선점하지 않음
+	@Query(value = "SELECT * FROM vector_outbox "
+		+ "WHERE status = 'PENDING' AND next_attempt_at <= :now "
+		+ "ORDER BY event_id "
+		+ "LIMIT :limit "
+		+ "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<VectorOutboxEntity> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE VectorOutboxEntity e SET e.status = :status, e.claimedAt = :claimedAt "
+		+ "WHERE e.eventId IN :eventIds")
+	void updateStatusByIds(@Param("eventIds") List<Long> eventIds,
+		@Param("status") VectorOutboxStatus status,
+		@Param("claimedAt") LocalDateTime claimedAt);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE VectorOutboxEntity e "
+		+ "SET e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, "
+		+ "e.lastError = :lastError "
+		+ "WHERE e.eventId = :eventId")
+	void updateFailure(@Param("eventId") Long eventId,
+		@Param("status") VectorOutboxStatus status,
+		@Param("attempts") Integer attempts,
+		@Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+		@Param("lastError") String lastError);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE VectorOutboxEntity e SET e.status = :pending "
+		+ "WHERE e.status = :processing AND e.claimedAt < :claimedBefore")
+	int requeueStale(@Param("claimedBefore") LocalDateTime claimedBefore,
+		@Param("processing") VectorOutboxStatus processing,
+		@Param("pending") VectorOutboxStatus pending);
+
+	@Modifying
+	@Query("DELETE FROM VectorOutboxEntity e WHERE e.status = :status AND e.createdAt < :createdBefore")
+	int deleteByStatusAndCreatedAtBefore(@Param("status") VectorOutboxStatus status,
+		@Param("createdBefore") LocalDateTime createdBefore);
+}
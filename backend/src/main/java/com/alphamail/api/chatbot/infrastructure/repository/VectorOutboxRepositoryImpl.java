@@ -0,0 +1,93 @@
+package com.alphamail.api.chatbot.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alphamail.api.chatbot.domain.entity.VectorOutboxEvent;
+import com.alphamail.api.chatbot.domain.entity.VectorOutboxStatus;
+import com.alphamail.api.chatbot.domain.repository.VectorOutboxRepository;
+import com.alphamail.api.chatbot.infrastructure.entity.VectorOutboxEntity;
+import com.alphamail.api.chatbot.infrastructure.mapper.VectorOutboxMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class VectorOutboxRepositoryImpl implements VectorOutboxRepository {
+
+	private final VectorOutboxJpaRepository vectorOutboxJpaRepository;
+	private final VectorOutboxMapper vectorOutboxMapper;
+
+	@Override
+	public VectorOutboxEvent save(VectorOutboxEvent event) {
+		VectorOutboxEntity savedEntity = vectorOutboxJpaRepository.save(vectorOutboxMapper.toEntity(event));
+		return vectorOutboxMapper.toDomain(savedEntity);
+	}
+
+	@Override
+	@Transactional
+	public List<VectorOutboxEvent> claimPending(int limit) {
+		if (limit <= 0) {
+			return List.of();
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		List<VectorOutboxEntity> claimable = vectorOutboxJpaRepository.findClaimable(now, limit);
+		if (claimable.isEmpty()) {
+			return List.of();
+		}
+
+		List<Long> eventIds = claimable.stream()
+			.map(VectorOutboxEntity::getEventId)
+			.collect(Collectors.toList());
+		vectorOutboxJpaRepository.updateStatusByIds(eventIds, VectorOutboxStatus.PROCESSING, now);
+
+		return claimable.stream()
+			.map(vectorOutboxMapper::toDomain)
+			.map(event -> event.toBuilder()
+				.status(VectorOutboxStatus.PROCESSING)
+				.claimedAt(now)
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	@Transactional
+	public void markDone(List<Long> eventIds) {
+		if (eventIds == null || eventIds.isEmpty()) {
+			return;
+		}
+		vectorOutboxJpaRepository.updateStatusByIds(eventIds, VectorOutboxStatus.DONE, LocalDateTime.now());
+	}
+
+	@Override
+	@Transactional
+	public void markRetry(Long eventId, int attempts, LocalDateTime nextAttemptAt, String lastError) {
+		vectorOutboxJpaRepository.updateFailure(eventId, VectorOutboxStatus.PENDING, attempts, nextAttemptAt,
+			lastError);
+	}
+
+	@Override
+	@Transactional
+	public void markDead(Long eventId, int attempts, String lastError) {
+		vectorOutboxJpaRepository.updateFailure(eventId, VectorOutboxStatus.DEAD, attempts, LocalDateTime.now(),
+			lastError);
+	}
+
+	@Override
+	@Transactional
+	public int requeueStale(LocalDateTime claimedBefore) {
+		return vectorOutboxJpaRepository.requeueStale(claimedBefore, VectorOutboxStatus.PROCESSING,
+			VectorOutboxStatus.PENDING);
+	}
+
+	@Override
+	@Transactional
+	public int deleteDoneBefore(LocalDateTime createdBefore) {
+		return vectorOutboxJpaRepository.deleteByStatusAndCreatedAtBefore(VectorOutboxStatus.DONE, createdBefore);
+	}
+}
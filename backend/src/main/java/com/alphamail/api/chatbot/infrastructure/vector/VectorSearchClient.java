@@ -6,22 +6,30 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import lombok.RequiredArgsConstructor;
+import com.alphamail.common.exception.ServiceUnavailableException;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class VectorSearchClient {
 
 	private final RestTemplate restTemplate;
 
+	public VectorSearchClient(@Qualifier("chatbotRestTemplate") RestTemplate restTemplate) {
+		this.restTemplate = restTemplate;
+	}
+
 	public List<Map<String, String>> searchByEmbedding(String documentType, Integer ownerId, Integer userId, String query) {
 		Map<String, Object> where = Map.of(
 			"owner_id", ownerId,
@@ -38,13 +46,18 @@ public class VectorSearchClient {
 		headers.setContentType(MediaType.APPLICATION_JSON);
 		HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
 
-		ResponseEntity<List> response = restTemplate.exchange(
-			"http://chatbot:5001/api/vector/search",
-			HttpMethod.POST,
-			request,
-			List.class
-		);
-
-		return response.getBody();
+		try {
+			ResponseEntity<List> response = restTemplate.exchange(
+				"/api/vector/search",
+				HttpMethod.POST,
+				request,
+				List.class
+			);
+			return response.getBody();
+		} catch (RestClientException | ServiceUnavailableException e) {
+			// 벡터 검색이 안 되면 문맥 없이 답변하도록 빈 결과로 대체
+			log.warn("벡터 검색 실패 - 빈 결과로 대체: {}", e.getMessage());
+			return List.of();
+		}
 	}
 }
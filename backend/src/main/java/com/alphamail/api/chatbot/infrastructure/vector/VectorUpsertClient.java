@@ -1,36 +1,74 @@
 package com.alphamail.api.chatbot.infrastructure.vector;
 
-import java.time.format.DateTimeFormatter;
-import java.util.Locale;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
-import com.alphamail.api.chatbot.domain.common.VectorizableDocument;
-
-import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 @Service
-@RequiredArgsConstructor
 public class VectorUpsertClient {
 
 	private final RestTemplate restTemplate;
 
-	public void upsert(VectorizableDocument document) {
-		Map<String, Object> body = Map.of(
-			"id", document.getVectorId(),
-			"text", document.toVectorText(),
-			"metadata", document.toMetadata()
-		);
+	public VectorUpsertClient(@Qualifier("chatbotRestTemplate") RestTemplate restTemplate) {
+		this.restTemplate = restTemplate;
+	}
+
+	/**
+	 * 여러 문서를 한 번에 업서트
+	 * POST /api/vector/upsert/bulk {"documents": [{"id", "text", "metadata"}, ...]} -> 2xx면 전부 반영된 것
+	 * 같은 id는 덮어쓰기라 재시도해도 안전합니다. 실패 시 예외를 그대로 던집니다 (재시도는 호출 측 몫).
+	 */
+	public void upsertAll(List<VectorUpsertRequest> documents) {
+		if (documents.isEmpty()) {
+			return;
+		}
 
 		HttpHeaders headers = new HttpHeaders();
 		headers.setContentType(MediaType.APPLICATION_JSON);
-		HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+		HttpEntity<Map<String, Object>> request = new HttpEntity<>(Map.of("documents", documents), headers);
+
+		restTemplate.postForEntity("/api/vector/upsert/bulk", request, Void.class);
+	}
+
+	/**
+	 * 문서 스트림을 batchSize건 또는 maxWait 중 먼저 차는 기준으로 묶어 bulk 업서트
+	 * 최대 parallelism개 배치를 동시에 보내고, 배치마다 maxRetries번까지 백오프 재시도합니다.
+	 * 반환값은 업서트된 문서 수입니다.
+	 */
+	public Mono<Long> upsertStream(Flux<VectorUpsertRequest> documents, VectorBatchOptions options) {
+		return documents
+			.bufferTimeout(options.batchSize(), options.maxWait(), true)
+			.flatMap(batch -> send(batch, options), options.parallelism())
+			.reduce(0L, Long::sum);
+	}
+
+	private Mono<Long> send(List<VectorUpsertRequest> batch, VectorBatchOptions options) {
+		return Mono.fromCallable(() -> {
+			upsertAll(batch);
+			return (long)batch.size();
+		})
+			.subscribeOn(Schedulers.boundedElastic())
+			.retryWhen(Retry.backoff(options.maxRetries(), options.retryBackoff()));
+	}
 
-		restTemplate.postForEntity("http://chatbot:5001/api/vector/upsert", request, Void.class);
+	public record VectorBatchOptions(
+		int batchSize,
+		Duration maxWait,
+		int parallelism,
+		int maxRetries,
+		Duration retryBackoff
+	) {
 	}
 }
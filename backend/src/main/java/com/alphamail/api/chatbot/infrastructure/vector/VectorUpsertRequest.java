@@ -0,0 +1,16 @@
+package com.alphamail.api.chatbot.infrastructure.vector;
+
+import java.util.Map;
+
+import com.alphamail.api.chatbot.domain.common.VectorizableDocument;
+
+// chatbot 벡터 업서트 요청 본문 (단건 / bulk의 documents 원소)
+public record VectorUpsertRequest(
+	String id,
+	String text,
+	Map<String, Object> metadata
+) {
+	public static VectorUpsertRequest from(VectorizableDocument document) {
+		return new VectorUpsertRequest(document.getVectorId(), document.toVectorText(), document.toMetadata());
+	}
+}
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.alphamail.api.chatbot.application.dto.ClaudeClassification;
+import com.alphamail.api.chatbot.application.service.ChatbotResponseCache;
 import com.alphamail.api.chatbot.application.service.RegistScheduleService;
 import com.alphamail.api.chatbot.application.service.SearchDocumentService;
 import com.alphamail.api.chatbot.domain.dto.DocumentTypes;
@@ -36,6 +37,7 @@ public class ChatBotController {
 	private final UserReader userReader;
 	private final GroupReader groupReader;
 	private final RegistScheduleService registScheduleService;
+	private final ChatbotResponseCache chatbotResponseCache;
 
 	@PostMapping("/message")
 	public ResponseEntity<ChatBotResponse> handleMessage(@Auth Integer userId, @RequestBody ChatBotRequest request) {
@@ -43,7 +45,8 @@ public class ChatBotController {
 		String timezone = request.timezone();
 		LocalDateTime userTime = TimezoneHelper.convertToUserTime(timezone);
 
-		ClaudeClassification task = classifyIntentPrompt.determineTask(message, timezone, userTime);
+		ClaudeClassification task = chatbotResponseCache.classify(message, timezone, userTime,
+			() -> classifyIntentPrompt.determineTask(message, timezone, userTime));
 
 		if(task == null) {
 			return ResponseEntity.ok(ChatBotResponse.defaultResponse());
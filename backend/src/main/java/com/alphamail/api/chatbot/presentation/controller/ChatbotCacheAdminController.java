@@ -0,0 +1,27 @@
+package com.alphamail.api.chatbot.presentation.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.alphamail.api.chatbot.application.dto.ChatbotCacheStats;
+import com.alphamail.api.chatbot.application.service.ChatbotResponseCache;
+
+import lombok.RequiredArgsConstructor;
+
+// 챗봇 캐시 적중률 / 절약된 응답 시간 (의도 분류, 검색 답변)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/chatbot/cache")
+public class ChatbotCacheAdminController {
+
+	private final ChatbotResponseCache chatbotResponseCache;
+
+	@GetMapping
+	public ResponseEntity<List<ChatbotCacheStats>> getStats() {
+		return ResponseEntity.ok(chatbotResponseCache.stats());
+	}
+}
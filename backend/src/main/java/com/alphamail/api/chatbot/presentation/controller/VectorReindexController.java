@@ -0,0 +1,35 @@
+package com.alphamail.api.chatbot.presentation.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.alphamail.api.chatbot.application.dto.VectorReindexStatus;
+import com.alphamail.api.chatbot.application.service.VectorReindexService;
+
+import lombok.RequiredArgsConstructor;
+
+// 벡터 스토어 전체 재색인 (견적/발주/일정)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/vectors/reindex")
+public class VectorReindexController {
+
+	private final VectorReindexService vectorReindexService;
+
+	// 이미 실행 중이면 새로 시작하지 않고 현재 상태를 돌려줌
+	@PostMapping
+	public ResponseEntity<VectorReindexStatus> reindex(@RequestParam(required = false) List<String> types) {
+		return ResponseEntity.accepted().body(vectorReindexService.start(types));
+	}
+
+	@GetMapping
+	public ResponseEntity<VectorReindexStatus> getStatus() {
+		return ResponseEntity.ok(vectorReindexService.status());
+	}
+}
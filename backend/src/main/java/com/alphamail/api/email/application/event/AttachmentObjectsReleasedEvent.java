@@ -0,0 +1,7 @@
+package com.alphamail.api.email.application.event;
+
+import java.util.List;
+
+// 더 이상 어떤 메일도 참조하지 않는 첨부파일 S3 키 (커밋 후 한 번에 삭제)
+public record AttachmentObjectsReleasedEvent(List<String> s3Keys) {
+}
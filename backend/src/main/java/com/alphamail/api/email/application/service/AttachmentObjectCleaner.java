@@ -0,0 +1,37 @@
+package com.alphamail.api.email.application.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.alphamail.api.email.application.event.AttachmentObjectsReleasedEvent;
+import com.alphamail.api.global.s3.service.S3Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 영구 삭제된 메일의 첨부파일 객체를 S3에서 정리
+ * - 롤백되면 메일이 남아 있으므로 커밋 이후에만 삭제
+ * - 실패해도 응답에는 영향 없음 (남은 객체는 고아로 남을 뿐 조회 경로가 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttachmentObjectCleaner {
+
+	private final S3Service s3Service;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onReleased(AttachmentObjectsReleasedEvent event) {
+		if (event.s3Keys().isEmpty()) {
+			return;
+		}
+		try {
+			s3Service.deleteFiles(event.s3Keys());
+			log.info("첨부파일 S3 객체 일괄 삭제 - {}개", event.s3Keys().size());
+		} catch (RuntimeException e) {
+			log.error("첨부파일 S3 객체 일괄 삭제 실패 - {}개", event.s3Keys().size(), e);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.alphamail.api.email.application.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.alphamail.api.email.domain.repository.EmailSearchIndexRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 색인 백필 잡
+ * 색인 도입 전에 저장된 메일(또는 색인이 빠진 메일)을 id 순으로 나눠서 email_search_documents에 채웁니다.
+ * 새 메일은 저장 트랜잭션 안에서 색인되므로, 한 번 훑은 구간(highWaterMark 이하)은 다시 보지 않습니다.
+ * 기준점은 메모리에만 있어서 기동 후 첫 실행만 전체를 훑습니다.
+ */
+@Service
+@Slf4j
+public class EmailSearchBackfillJob {
+
+	private final EmailSearchIndexRepository emailSearchIndexRepository;
+	private final int batchSize;
+
+	// 이 id 이하는 이미 훑음 (스케줄러 스레드 하나만 접근)
+	private int highWaterMark;
+
+	public EmailSearchBackfillJob(EmailSearchIndexRepository emailSearchIndexRepository,
+		@Value("${email.search.backfill-batch-size:500}") int batchSize) {
+		this.emailSearchIndexRepository = emailSearchIndexRepository;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(initialDelayString = "${email.search.backfill-initial-delay-ms:30000}",
+		fixedDelayString = "${email.search.backfill-interval-ms:600000}")
+	public void backfill() {
+		// 시작 시점의 최대 id까지만 책임지고, 그 뒤에 들어온 메일은 다음 실행에서 확인
+		int ceiling = emailSearchIndexRepository.findMaxEmailId();
+		if (ceiling <= highWaterMark) {
+			return;
+		}
+
+		int indexed = 0;
+		Integer lastEmailId = highWaterMark;
+
+		while (true) {
+			List<Integer> emailIds = emailSearchIndexRepository.findUnindexedEmailIds(lastEmailId, batchSize);
+			if (emailIds.isEmpty()) {
+				break;
+			}
+
+			// 배치마다 트랜잭션을 끊어서 긴 락/큰 영속성 컨텍스트를 피함
+			indexed += emailSearchIndexRepository.reindex(emailIds);
+			lastEmailId = emailIds.get(emailIds.size() - 1);
+		}
+
+		if (indexed > 0) {
+			log.info("메일 검색 색인 백필 완료 - indexed={}, scanned=({}, {}]", indexed, highWaterMark, ceiling);
+		}
+		highWaterMark = Math.max(ceiling, lastEmailId);
+	}
+}
@@ -1,122 +1,75 @@
 package com.alphamail.api.email.application.service;
 
-import com.alphamail.api.email.application.usecase.SaveEmailUseCase;
+import com.alphamail.api.email.application.usecase.DirectUploadAttachmentUseCase;
+import com.alphamail.api.email.application.usecase.QueueEmailUseCase;
 import com.alphamail.api.email.application.usecase.SaveRecentEmailUseCase;
 import com.alphamail.api.email.application.usecase.SaveSendAttachmentUseCase;
-import com.alphamail.api.email.application.usecase.SendEmailUseCase;
-import com.alphamail.api.email.application.usecase.UpdateEmailUseCase;
-import com.alphamail.api.email.application.usecase.ai.EmailVectorUseCase;
 import com.alphamail.api.email.domain.entity.Email;
-import com.alphamail.api.email.domain.entity.EmailStatus;
-import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.entity.EmailAttachment;
+import com.alphamail.api.email.domain.repository.EmailThreadRepository;
 import com.alphamail.api.email.domain.valueobject.ThreadId;
 import com.alphamail.api.email.presentation.dto.SendEmailRequest;
-import com.alphamail.api.email.presentation.dto.VectorDBRequest;
+import com.alphamail.api.email.presentation.dto.UploadedAttachmentRequest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
-	private final SaveEmailUseCase saveEmailUseCase;
-	private final SendEmailUseCase sendEmailUseCase;
-	private final UpdateEmailUseCase updateEmailUseCase;
-	private final EmailVectorUseCase emailVectorUseCase;
+	private final QueueEmailUseCase queueEmailUseCase;
 	private final SaveSendAttachmentUseCase saveSendAttachmentUseCase;
-	private final EmailRepository emailRepository;
+	private final DirectUploadAttachmentUseCase directUploadAttachmentUseCase;
+	private final EmailThreadRepository emailThreadRepository;
 	private final SaveRecentEmailUseCase saveRecentEmailUseCase;
 
-	@Transactional
-	public void sendEmail(SendEmailRequest request, List<MultipartFile> attachments, Integer userId) {
-
-		if (request.recipients() != null && !request.recipients().isEmpty()) {
-			for (String recipient : request.recipients()) {
-				saveRecentEmailUseCase.execute(userId, recipient, "");
-			}
-		}
-
-		String threadId = null;
-
-		// 답장인 경우 원본 이메일의 스레드 ID 찾기
-		if (request.inReplyTo() != null && !request.inReplyTo().isEmpty()) {
-			log.info("inReplyTo에서 원본 이메일 찾기: {}", request.inReplyTo());
-
-			List<Email> originals = emailRepository.findAllByMessageId(request.inReplyTo());
-			if (originals != null && !originals.isEmpty()) {
-				Email originalEmail = originals.get(0);
-				if (originalEmail != null && originalEmail.getThreadId() != null) {
-					threadId = originalEmail.getThreadId();
-					log.info("원본 이메일에서 스레드 ID 찾음: {}", threadId);
-				}
-			}
-		}
-
-		if (threadId != null) {
-			saveVectorAsync(request, userId, threadId);
-		}
-
-		Email email = saveEmailUseCase.execute(request, userId);
-
-		// 답장인 경우 원본 스레드 ID 설정
-		if (threadId != null) {
-			emailRepository.updateThreadId(email.getEmailId(), threadId);
-			// 객체 내의 스레드 ID도 업데이트
-			email = email.toBuilder().threadId(threadId).build();
-		}
+	// 발송 대기열에 넣고 바로 반환 - 실제 SES 발송/Message-ID 갱신/벡터 저장은 OutboundEmailDispatcher가 처리
+	// uploadedFiles: presigned URL로 이미 S3에 올린 첨부파일 (multipart 첨부와 함께 써도 됨)
+	public void sendEmail(SendEmailRequest request, List<MultipartFile> attachments,
+		List<UploadedAttachmentRequest> uploadedFiles, Integer userId) {
 
+		// 첨부파일 업로드를 먼저 시작해두고 최근 수신자/스레드 조회와 겹쳐서 진행
 		//request 체크 빈 배열이 들어올 가능성이 있다.
+		CompletableFuture<List<EmailAttachment>> uploads = CompletableFuture.completedFuture(List.of());
 		if (attachments != null && !attachments.isEmpty()
 			&& request.attachments() != null && !request.attachments().isEmpty()
 			&& attachments.size() == request.attachments().size()) {
-			saveSendAttachmentUseCase.execute(attachments, email);
+			uploads = saveSendAttachmentUseCase.uploadAsync(attachments);
 		}
 
-		try {
-			String sesResponseId = sendEmailUseCase.execute(email, attachments);
-			emailRepository.updateSesMessageId(email.getEmailId(), sesResponseId);
+		List<EmailAttachment> directUploads = directUploadAttachmentUseCase.resolveUploaded(userId, uploadedFiles);
 
-			//ses-message-id가 실제 message-id의 도메인 주소 앞 부분과 일치해서 message-id를 ses-message-id를 통해 저장해주기
-			String actualMessageId = "<" + sesResponseId + "@ap-northeast-2.amazonses.com>";
+		saveRecentEmailUseCase.execute(userId, request.recipients());
 
-			// 새로운 이메일인 경우(답장이 아닌 경우)에만 메시지 ID로 스레드 ID 계산
-			if (threadId == null) {
-				// 메시지 ID로부터 스레드 ID 계산
-				ThreadId calculatedThreadId = ThreadId.fromEmailHeaders(
-					null,
-					null,
-					actualMessageId
-				);
-				threadId = calculatedThreadId.getValue();
-				log.info("새 이메일 메시지 ID에서 스레드 ID 계산: {}", threadId);
+		// 답장인 경우 원본 이메일의 스레드 ID 찾기 (Message-ID 매핑 인덱스 조회)
+		String threadId = emailThreadRepository.findThreadIdByReferenceChain(userId,
+			ThreadId.referenceChain(request.references(), request.inReplyTo())).orElse(null);
 
-				saveVectorAsync(request, userId, threadId);
-			}
+		List<EmailAttachment> allAttachments = new ArrayList<>(directUploads);
+		allAttachments.addAll(awaitUploads(uploads));
 
-			emailRepository.updateMessageIdThreadIdAndStatus(
-				email.getEmailId(),
-				actualMessageId,
-				threadId,
-				EmailStatus.SENT
-			);
+		Email email = queueEmailUseCase.execute(request, userId, threadId, allAttachments);
+		log.info("메일 발송 대기열 등록 - emailId={}, threadId={}", email.getEmailId(), threadId);
+	}
 
-		} catch (Exception e) {
-			updateEmailUseCase.execute(email.getEmailId(), EmailStatus.FAILED);
+	private List<EmailAttachment> awaitUploads(CompletableFuture<List<EmailAttachment>> uploads) {
+		try {
+			return uploads.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
 			throw e;
 		}
 	}
 
-	private void saveVectorAsync(SendEmailRequest request, Integer userId, String threadId) {
-		emailVectorUseCase.execute(VectorDBRequest.fromSendEmailRequest(request), userId, threadId)
-			.onErrorContinue((error, item) -> log.warn("벡터 저장 실패 : {}", item, error))
-			.subscribe();
-	}
-
 }
@@ -0,0 +1,51 @@
+package com.alphamail.api.email.application.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.alphamail.api.email.domain.repository.EmailThreadRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스레드 요약 백필 잡
+ * email_threads 도입 전에 저장된 메일의 스레드 요약과 Message-ID 매핑을 id 순으로 채웁니다.
+ */
+@Service
+@Slf4j
+public class EmailThreadBackfillJob {
+
+	private final EmailThreadRepository emailThreadRepository;
+	private final int batchSize;
+
+	public EmailThreadBackfillJob(EmailThreadRepository emailThreadRepository,
+		@Value("${email.thread.backfill-batch-size:500}") int batchSize) {
+		this.emailThreadRepository = emailThreadRepository;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(initialDelayString = "${email.thread.backfill-initial-delay-ms:45000}",
+		fixedDelayString = "${email.thread.backfill-interval-ms:600000}")
+	public void backfill() {
+		int scanned = 0;
+		Integer lastEmailId = 0;
+
+		while (true) {
+			List<Integer> emailIds = emailThreadRepository.findUnthreadedEmailIds(lastEmailId, batchSize);
+			if (emailIds.isEmpty()) {
+				break;
+			}
+
+			emailThreadRepository.refreshByEmailIds(emailIds);
+			scanned += emailIds.size();
+			lastEmailId = emailIds.get(emailIds.size() - 1);
+		}
+
+		if (scanned > 0) {
+			log.info("메일 스레드 요약 백필 완료 - emails={}", scanned);
+		}
+	}
+}
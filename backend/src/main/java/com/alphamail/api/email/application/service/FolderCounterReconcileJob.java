@@ -0,0 +1,91 @@
+package com.alphamail.api.email.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.alphamail.api.email.domain.entity.EmailFolder;
+import com.alphamail.api.email.domain.repository.EmailFolderCounterRepository;
+import com.alphamail.api.email.domain.repository.EmailFolderRepository;
+import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * email_folder_counters 재집계 잡
+ * 실제 emails 집계와 비교해서 어긋난 카운터를 고치고, 카운터가 없는 폴더(기존 데이터)는 새로 만듭니다.
+ */
+@Service
+@Slf4j
+public class FolderCounterReconcileJob {
+
+	private final EmailFolderRepository emailFolderRepository;
+	private final EmailFolderCounterRepository emailFolderCounterRepository;
+	private final EmailRepository emailRepository;
+	private final int batchSize;
+
+	public FolderCounterReconcileJob(EmailFolderRepository emailFolderRepository,
+		EmailFolderCounterRepository emailFolderCounterRepository,
+		EmailRepository emailRepository,
+		@Value("${email.folder-counter.reconcile-batch-size:500}") int batchSize) {
+		this.emailFolderRepository = emailFolderRepository;
+		this.emailFolderCounterRepository = emailFolderCounterRepository;
+		this.emailRepository = emailRepository;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(initialDelayString = "${email.folder-counter.reconcile-initial-delay-ms:60000}",
+		fixedDelayString = "${email.folder-counter.reconcile-interval-ms:3600000}")
+	public void reconcile() {
+		int created = 0;
+		int repaired = 0;
+		int skipped = 0;
+		Integer lastFolderId = 0;
+
+		while (true) {
+			List<EmailFolder> folders = emailFolderRepository.findAllAfterId(lastFolderId, batchSize);
+			if (folders.isEmpty()) {
+				break;
+			}
+
+			List<Integer> folderIds = folders.stream()
+				.map(EmailFolder::getEmailFolderId)
+				.collect(Collectors.toList());
+
+			// 일괄 비교로 후보만 고르고, 생성/수정은 폴더별로 그 시점의 집계를 다시 읽어서 반영
+			Map<Integer, FolderMailCount> stored = emailFolderCounterRepository.findAllByFolderIds(folderIds);
+			Map<Integer, FolderMailCount> actual = emailRepository.countByFolderIds(folderIds);
+
+			for (EmailFolder folder : folders) {
+				Integer folderId = folder.getEmailFolderId();
+				FolderMailCount actualCount = actual.getOrDefault(folderId, FolderMailCount.empty());
+				FolderMailCount storedCount = stored.get(folderId);
+
+				if (storedCount == null) {
+					if (emailFolderCounterRepository.createFromEmails(folderId)) {
+						created++;
+					}
+				} else if (!storedCount.equals(actualCount)) {
+					Optional<FolderMailCount> drifted = emailFolderCounterRepository.recount(folderId);
+					if (drifted.isPresent()) {
+						log.warn("폴더 카운터 불일치 수정: folderId={}, stored={}", folderId, drifted.get());
+						repaired++;
+					} else {
+						// 비교 후 반영된 증감으로 이미 맞춰짐
+						skipped++;
+					}
+				}
+			}
+
+			lastFolderId = folderIds.get(folderIds.size() - 1);
+		}
+
+		log.info("폴더 카운터 재집계 완료 - created={}, repaired={}, skipped={}", created, repaired, skipped);
+	}
+}
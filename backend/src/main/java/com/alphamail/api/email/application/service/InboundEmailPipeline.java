@@ -0,0 +1,392 @@
+package com.alphamail.api.email.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.entity.InboundDeadLetter;
+import com.alphamail.api.email.domain.entity.InboundEmailEnvelope;
+import com.alphamail.api.email.domain.entity.InboundEmailFormat;
+import com.alphamail.api.email.domain.entity.InboundEmailStage;
+import com.alphamail.api.email.domain.entity.InboundEmailStatus;
+import com.alphamail.api.email.domain.port.RawEmailParserPort;
+import com.alphamail.api.email.domain.repository.InboundDeadLetterRepository;
+import com.alphamail.api.email.domain.repository.InboundDedupRepository;
+import com.alphamail.api.email.domain.repository.InboundEmailEnvelopeRepository;
+import com.alphamail.api.email.domain.valueobject.ParsedInboundEmail;
+import com.alphamail.api.email.presentation.dto.AttachmentRequest;
+import com.alphamail.api.email.presentation.dto.RawEmailRequest;
+import com.alphamail.api.email.presentation.dto.ReceiveEmailRequest;
+import com.alphamail.common.exception.BadRequestException;
+import com.alphamail.common.exception.ErrorMessage;
+import com.alphamail.common.exception.InternalServerException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+/**
+ * 수신 메일 적재 파이프라인
+ *
+ * 1. accept   : 원본 요청(JSON 또는 S3 원본 key)을 inbound_email_envelopes에 저장하고 바로 반환 (컨트롤러는 202 응답)
+ *               (수신자, Message-ID)로 이미 접수된 재전송은 봉투도 만들지 않고 버림
+ * 2. PERSIST  : 스케줄러가 PENDING 봉투를 워커 풀의 여유만큼만 선점해서 메일/첨부파일 저장
+ *               메일 저장과 봉투 완료(DONE)는 한 트랜잭션 -> 완료 기록이 실패하면 메일도 남지 않음
+ *               이미 저장된 메일이면(빠른 경로를 통과한 중복) 저장/사이드카 없이 완료 처리
+ *               PROCESSING에 멈춘 봉투는 시도 횟수를 올려 다시 대기열로, max-attempts에 닿으면 DEAD
+ * 3. VECTOR / OCR / MCP : 단계별 동시성 제한과 유한 큐를 가진 사이드카 호출, 재시도 후 실패 시 dead-letter 기록
+ */
+@Service
+@Slf4j
+public class InboundEmailPipeline {
+
+	private static final int MAX_ERROR_LENGTH = 1000;
+
+	private final InboundEmailEnvelopeRepository inboundEmailEnvelopeRepository;
+	private final InboundDeadLetterRepository inboundDeadLetterRepository;
+	private final InboundDedupRepository inboundDedupRepository;
+	private final ReceiveEmailService receiveEmailService;
+	private final RawEmailParserPort rawEmailParserPort;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long retryBackoffMs;
+	private final long staleTimeoutMs;
+
+	private final ThreadPoolExecutor persistExecutor;
+	private final SidecarStage vectorStage;
+	private final SidecarStage ocrStage;
+	private final SidecarStage mcpStage;
+
+	private final AtomicLong persistedCount = new AtomicLong();
+	private final AtomicLong persistFailedCount = new AtomicLong();
+	private final AtomicLong acceptedCount = new AtomicLong();
+	private final AtomicLong duplicateAcceptCount = new AtomicLong();
+	private final AtomicLong duplicatePersistCount = new AtomicLong();
+
+	public InboundEmailPipeline(InboundEmailEnvelopeRepository inboundEmailEnvelopeRepository,
+		InboundDeadLetterRepository inboundDeadLetterRepository,
+		InboundDedupRepository inboundDedupRepository,
+		ReceiveEmailService receiveEmailService,
+		RawEmailParserPort rawEmailParserPort,
+		ObjectMapper objectMapper,
+		PlatformTransactionManager transactionManager,
+		@Value("${email.inbound.batch-size:50}") int batchSize,
+		@Value("${email.inbound.max-attempts:5}") int maxAttempts,
+		@Value("${email.inbound.retry-backoff-ms:1000}") long retryBackoffMs,
+		@Value("${email.inbound.stale-timeout-ms:600000}") long staleTimeoutMs,
+		@Value("${email.inbound.persist.concurrency:4}") int persistConcurrency,
+		@Value("${email.inbound.persist.queue-capacity:100}") int persistQueueCapacity,
+		@Value("${email.inbound.sidecar.queue-capacity:500}") int sidecarQueueCapacity,
+		@Value("${email.inbound.sidecar.max-retries:3}") int sidecarMaxRetries,
+		@Value("${email.inbound.vector.concurrency:2}") int vectorConcurrency,
+		@Value("${email.inbound.ocr.concurrency:1}") int ocrConcurrency,
+		@Value("${email.inbound.mcp.concurrency:2}") int mcpConcurrency) {
+		this.inboundEmailEnvelopeRepository = inboundEmailEnvelopeRepository;
+		this.inboundDeadLetterRepository = inboundDeadLetterRepository;
+		this.inboundDedupRepository = inboundDedupRepository;
+		this.receiveEmailService = receiveEmailService;
+		this.rawEmailParserPort = rawEmailParserPort;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.retryBackoffMs = retryBackoffMs;
+		this.staleTimeoutMs = staleTimeoutMs;
+
+		AtomicInteger threadSeq = new AtomicInteger();
+		this.persistExecutor = new ThreadPoolExecutor(persistConcurrency, persistConcurrency,
+			60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(persistQueueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "inbound-persist-" + threadSeq.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+
+		Duration sidecarBackoff = Duration.ofMillis(retryBackoffMs);
+		this.vectorStage = new SidecarStage(InboundEmailStage.VECTOR, vectorConcurrency, sidecarQueueCapacity,
+			sidecarMaxRetries, sidecarBackoff);
+		this.ocrStage = new SidecarStage(InboundEmailStage.OCR, ocrConcurrency, sidecarQueueCapacity,
+			sidecarMaxRetries, sidecarBackoff);
+		this.mcpStage = new SidecarStage(InboundEmailStage.MCP, mcpConcurrency, sidecarQueueCapacity,
+			sidecarMaxRetries, sidecarBackoff);
+	}
+
+	// 중복 재전송이면 empty (컨트롤러는 똑같이 202 -> Lambda가 더 재시도하지 않음)
+	public Optional<InboundEmailEnvelope> accept(ReceiveEmailRequest request) {
+		return enqueue(request.actualRecipient(), request.messageId(), request, InboundEmailFormat.JSON);
+	}
+
+	// 원본 key만 접수 - 큰 본문/첨부가 요청 JSON을 거치지 않고, 파싱은 PERSIST 워커가 담당
+	public Optional<InboundEmailEnvelope> acceptRaw(RawEmailRequest request) {
+		if (request.s3Key() == null || request.s3Key().isBlank()) {
+			throw new BadRequestException(ErrorMessage.INVALID_INPUT);
+		}
+		return enqueue(request.actualRecipient(), request.messageId(), request, InboundEmailFormat.RAW_MIME);
+	}
+
+	private Optional<InboundEmailEnvelope> enqueue(String recipient, String messageId, Object request,
+		InboundEmailFormat format) {
+		boolean dedupable = messageId != null && !messageId.isBlank() && recipient != null;
+		// Redis 장애(empty)면 그대로 접수하고 PERSIST 단계의 DB 확인에 맡김
+		if (dedupable && !inboundDedupRepository.markIfAbsent(recipient, messageId).orElse(true)) {
+			duplicateAcceptCount.incrementAndGet();
+			log.info("중복 수신 메일 무시: messageId={}, recipient={}", messageId, recipient);
+			return Optional.empty();
+		}
+
+		try {
+			String payload = objectMapper.writeValueAsString(request);
+			InboundEmailEnvelope saved = inboundEmailEnvelopeRepository.save(
+				InboundEmailEnvelope.accept(messageId, payload, format));
+			acceptedCount.incrementAndGet();
+			log.info("수신 메일 접수: envelopeId={}, messageId={}, format={}", saved.getEnvelopeId(), messageId,
+				format);
+			return Optional.of(saved);
+		} catch (JsonProcessingException e) {
+			releaseDedup(recipient, messageId, dedupable);
+			log.error("수신 메일 직렬화 실패: messageId={}", messageId, e);
+			throw new InternalServerException(ErrorMessage.INTERNAL_SERVER_ERROR);
+		} catch (RuntimeException e) {
+			// 봉투 저장 실패 -> Lambda 재시도가 중복으로 걸러지지 않도록 표시 해제
+			releaseDedup(recipient, messageId, dedupable);
+			throw e;
+		}
+	}
+
+	// 워커 큐에 남은 자리만큼만 선점 -> 버스트가 와도 DB에 쌓이고 워커는 일정 속도로 소화
+	@Scheduled(fixedDelayString = "${email.inbound.poll-interval-ms:200}")
+	public void drain() {
+		int capacity = persistExecutor.getQueue().remainingCapacity();
+		if (capacity <= 0) {
+			return;
+		}
+
+		List<InboundEmailEnvelope> claimed = inboundEmailEnvelopeRepository.claimPending(
+			Math.min(batchSize, capacity));
+		for (InboundEmailEnvelope envelope : claimed) {
+			persistExecutor.execute(() -> persist(envelope));
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${email.inbound.stale-check-interval-ms:60000}")
+	public void requeueStale() {
+		List<InboundEmailEnvelope> stale = inboundEmailEnvelopeRepository.requeueStale(
+			LocalDateTime.now().minusNanos(staleTimeoutMs * 1_000_000), maxAttempts,
+			"처리 중 멈춤 (stale-timeout " + staleTimeoutMs + "ms 초과)");
+		if (stale.isEmpty()) {
+			return;
+		}
+
+		int dead = 0;
+		for (InboundEmailEnvelope envelope : stale) {
+			if (envelope.getStatus() == InboundEmailStatus.DEAD) {
+				dead++;
+				deadLetter(envelope.getEnvelopeId(), null, InboundEmailStage.PERSIST, envelope.getLastError());
+			}
+		}
+		log.warn("처리 중 멈춘 수신 메일 {}건 - 재대기열 {}건, 시도 횟수 소진으로 DEAD {}건", stale.size(),
+			stale.size() - dead, dead);
+	}
+
+	@Scheduled(fixedDelayString = "${email.inbound.stats-interval-ms:60000}")
+	public void logStats() {
+		long duplicates = duplicateAcceptCount.get() + duplicatePersistCount.get();
+		long received = acceptedCount.get() + duplicateAcceptCount.get();
+		double dedupRate = received == 0 ? 0.0 : (double)duplicates / received;
+		log.info("수신 파이프라인 - accepted={}, duplicates(accept={}, persist={}, rate={}), persisted={}, "
+				+ "persistFailed={}, persistQueue={}, vector={}, ocr={}, mcp={}",
+			acceptedCount.get(), duplicateAcceptCount.get(), duplicatePersistCount.get(),
+			String.format("%.3f", dedupRate), persistedCount.get(), persistFailedCount.get(),
+			persistExecutor.getQueue().size(), vectorStage, ocrStage, mcpStage);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		persistExecutor.shutdown();
+		vectorStage.close();
+		ocrStage.close();
+		mcpStage.close();
+	}
+
+	private void persist(InboundEmailEnvelope envelope) {
+		try {
+			ParsedInboundEmail parsed = readEnvelope(envelope);
+			if (parsed.isDuplicate()) {
+				skipDuplicate(envelope, parsed.duplicateEmailId());
+				return;
+			}
+			ReceiveEmailRequest request = parsed.request();
+
+			Email savedEmail;
+			try {
+				// 완료 기록까지 한 트랜잭션 (따로 커밋하면 완료 기록만 실패했을 때 requeueStale이 저장된 메일을 다시 처리함)
+				savedEmail = transactionTemplate.execute(status -> {
+					Email saved = receiveEmailService.persist(request);
+					inboundEmailEnvelopeRepository.markDone(envelope.getEnvelopeId(), saved.getEmailId());
+					return saved;
+				});
+			} catch (DataIntegrityViolationException e) {
+				// 같은 메일을 다른 워커가 먼저 커밋 -> 유니크 인덱스 위반, 다른 제약 위반이면 일반 실패로 처리
+				Optional<Integer> winner = receiveEmailService.findDuplicate(request);
+				if (winner.isEmpty()) {
+					throw e;
+				}
+				skipDuplicate(envelope, winner.get());
+				return;
+			}
+			persistedCount.incrementAndGet();
+
+			Long envelopeId = envelope.getEnvelopeId();
+			Integer emailId = savedEmail.getEmailId();
+			vectorStage.submit(envelopeId, emailId, () -> receiveEmailService.requestVector(request, savedEmail));
+			for (AttachmentRequest attachment : receiveEmailService.findOcrTargets(request)) {
+				ocrStage.submit(envelopeId, emailId, () -> receiveEmailService.requestOcr(attachment, savedEmail));
+			}
+			mcpStage.submit(envelopeId, emailId, () -> receiveEmailService.requestMcp(request, savedEmail));
+		} catch (Exception e) {
+			persistFailedCount.incrementAndGet();
+			handlePersistFailure(envelope, e);
+		}
+	}
+
+	private void skipDuplicate(InboundEmailEnvelope envelope, Integer existingEmailId) {
+		duplicatePersistCount.incrementAndGet();
+		log.info("이미 저장된 수신 메일 - 저장/사이드카 생략: envelopeId={}, emailId={}", envelope.getEnvelopeId(),
+			existingEmailId);
+		inboundEmailEnvelopeRepository.markDone(envelope.getEnvelopeId(), existingEmailId);
+	}
+
+	private void releaseDedup(String recipient, String messageId, boolean dedupable) {
+		if (dedupable) {
+			inboundDedupRepository.release(recipient, messageId);
+		}
+	}
+
+	// RAW_MIME 봉투는 여기서 S3 원본을 파싱 (헤더로 재전송 여부를 먼저 보고, 아니면 첨부를 S3로 올림)
+	// 이후 단계는 JSON과 동일
+	private ParsedInboundEmail readEnvelope(InboundEmailEnvelope envelope) throws JsonProcessingException {
+		if (envelope.isRawMime()) {
+			RawEmailRequest raw = objectMapper.readValue(envelope.getPayload(), RawEmailRequest.class);
+			return rawEmailParserPort.parse(raw.s3Key(), raw.actualRecipient(), receiveEmailService::findDuplicate);
+		}
+		ReceiveEmailRequest request = objectMapper.readValue(envelope.getPayload(), ReceiveEmailRequest.class);
+		return receiveEmailService.findDuplicate(request)
+			.map(ParsedInboundEmail::duplicate)
+			.orElseGet(() -> ParsedInboundEmail.of(request));
+	}
+
+	private void handlePersistFailure(InboundEmailEnvelope envelope, Exception error) {
+		int attempts = envelope.nextAttempt();
+		String reason = truncate(error.toString());
+
+		try {
+			if (attempts >= maxAttempts) {
+				log.error("수신 메일 저장 최종 실패: envelopeId={}, attempts={}", envelope.getEnvelopeId(), attempts,
+					error);
+				inboundEmailEnvelopeRepository.markDead(envelope.getEnvelopeId(), attempts, reason);
+				deadLetter(envelope.getEnvelopeId(), null, InboundEmailStage.PERSIST, reason);
+				return;
+			}
+
+			// 지수 백오프: backoff * 2^(attempts - 1)
+			long delayMs = retryBackoffMs << Math.min(attempts - 1, 16);
+			log.warn("수신 메일 저장 실패, {}ms 후 재시도: envelopeId={}, attempts={}", delayMs,
+				envelope.getEnvelopeId(), attempts, error);
+			inboundEmailEnvelopeRepository.markRetry(envelope.getEnvelopeId(), attempts,
+				LocalDateTime.now().plusNanos(delayMs * 1_000_000), reason);
+		} catch (Exception e) {
+			// 상태 갱신까지 실패하면 PROCESSING으로 남고 requeueStale이 다시 살림
+			log.error("수신 메일 실패 상태 기록 실패: envelopeId={}", envelope.getEnvelopeId(), e);
+		}
+	}
+
+	private void deadLetter(Long envelopeId, Integer emailId, InboundEmailStage stage, String reason) {
+		try {
+			inboundDeadLetterRepository.save(InboundDeadLetter.of(envelopeId, emailId, stage, reason));
+		} catch (Exception e) {
+			log.error("dead-letter 기록 실패: envelopeId={}, stage={}", envelopeId, stage, e);
+		}
+	}
+
+	private static String truncate(String message) {
+		if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+			return message;
+		}
+		return message.substring(0, MAX_ERROR_LENGTH);
+	}
+
+	private record SidecarTask(Long envelopeId, Integer emailId, Supplier<Mono<?>> call) {
+	}
+
+	/**
+	 * 사이드카(rag/ocr/mcp) 호출 단계
+	 * 유한 큐 + flatMap 동시성 제한으로 사이드카에 들어가는 요청 수를 고정하고,
+	 * 큐가 가득 차거나 재시도를 모두 소진하면 dead-letter에 남깁니다.
+	 */
+	private final class SidecarStage {
+		private final InboundEmailStage stage;
+		private final Sinks.Many<SidecarTask> sink;
+		private final AtomicLong succeeded = new AtomicLong();
+		private final AtomicLong failed = new AtomicLong();
+		private final AtomicLong rejected = new AtomicLong();
+
+		private SidecarStage(InboundEmailStage stage, int concurrency, int queueCapacity, int maxRetries,
+			Duration backoff) {
+			this.stage = stage;
+			this.sink = Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(queueCapacity));
+			this.sink.asFlux()
+				.flatMap(task -> Mono.defer(task.call())
+					.retryWhen(Retry.backoff(maxRetries, backoff))
+					.doOnSuccess(result -> succeeded.incrementAndGet())
+					.then()
+					.onErrorResume(error -> {
+						failed.incrementAndGet();
+						log.warn("{} 단계 최종 실패: emailId={}", stage, task.emailId(), error);
+						deadLetter(task.envelopeId(), task.emailId(), stage, truncate(error.toString()));
+						return Mono.empty();
+					}), concurrency)
+				.subscribe();
+		}
+
+		// 여러 persist 워커가 동시에 넣으므로 직렬화
+		private synchronized void submit(Long envelopeId, Integer emailId, Supplier<Mono<?>> call) {
+			Sinks.EmitResult result = sink.tryEmitNext(new SidecarTask(envelopeId, emailId, call));
+			if (result.isFailure()) {
+				rejected.incrementAndGet();
+				log.warn("{} 단계 큐 포화로 거부: emailId={}, result={}", stage, emailId, result);
+				deadLetter(envelopeId, emailId, stage, "queue rejected: " + result);
+			}
+		}
+
+		private synchronized void close() {
+			sink.tryEmitComplete();
+		}
+
+		@Override
+		public String toString() {
+			return "{ok=" + succeeded.get() + ", failed=" + failed.get() + ", rejected=" + rejected.get() + "}";
+		}
+	}
+}
@@ -0,0 +1,309 @@
+package com.alphamail.api.email.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alphamail.api.email.application.usecase.SendEmailUseCase;
+import com.alphamail.api.email.application.usecase.ai.EmailVectorUseCase;
+import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.entity.EmailAttachment;
+import com.alphamail.api.email.domain.entity.EmailStatus;
+import com.alphamail.api.email.domain.entity.OutboundEmail;
+import com.alphamail.api.email.domain.port.EmailSenderPort;
+import com.alphamail.api.email.domain.repository.EmailAttachmentRepository;
+import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.repository.OutboundEmailRepository;
+import com.alphamail.api.email.domain.valueobject.ThreadId;
+import com.alphamail.api.email.presentation.dto.VectorDBRequest;
+import com.alphamail.common.exception.ErrorMessage;
+import com.alphamail.common.exception.ServiceUnavailableException;
+import com.alphamail.common.resilience.TokenBucket;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 발송 메일 디스패처
+ *
+ * 1. EmailService가 메일을 QUEUED로 저장하고 outbound_emails에 넣은 뒤 바로 반환
+ * 2. 스케줄러가 워커 큐에 남은 자리만큼 QUEUED/RETRYING 항목을 SENDING으로 선점
+ * 3. 워커는 토큰 버킷(계정 SES 초당 발송 한도)에서 토큰을 받은 뒤 발송하고 SENT/Message-ID/스레드를 기록
+ * 4. SES 한도 초과 응답이면 버킷을 잠시 멈추고 시도 횟수 대신 한도 초과 횟수(max-throttles)를 세며 다시 대기
+ *    일일 한도 초과면 quota-backoff 동안 새 선점을 멈추고 메일도 그때까지 보류, 그 외 오류는 지수 백오프 후 FAILED
+ */
+@Service
+@Slf4j
+public class OutboundEmailDispatcher {
+
+	private static final int MAX_ERROR_LENGTH = 1000;
+	// 한도 조회도 설정도 없을 때 (SES 샌드박스 기본값)
+	private static final double DEFAULT_SEND_RATE = 1;
+	// SES 응답 ID + 이 도메인이 실제 수신자가 받는 Message-ID
+	private static final String SES_MESSAGE_ID_DOMAIN = "@ap-northeast-2.amazonses.com>";
+
+	private final OutboundEmailRepository outboundEmailRepository;
+	private final EmailRepository emailRepository;
+	private final EmailAttachmentRepository emailAttachmentRepository;
+	private final SendEmailUseCase sendEmailUseCase;
+	private final EmailVectorUseCase emailVectorUseCase;
+	private final TransactionTemplate transactionTemplate;
+
+	private final int batchSize;
+	private final int maxAttempts;
+	private final int maxThrottles;
+	private final long retryBackoffMs;
+	private final long throttleBackoffMs;
+	private final long quotaBackoffMs;
+	private final long staleTimeoutMs;
+
+	private final TokenBucket tokenBucket;
+	private final double sendRate;
+	private final ThreadPoolExecutor sendExecutor;
+	// 일일 한도 초과 - 이 시각(nanoTime)까지 새로 선점하지 않음
+	private volatile long quotaResumeAt = System.nanoTime();
+
+	private final AtomicLong sentCount = new AtomicLong();
+	private final AtomicLong throttledCount = new AtomicLong();
+	private final AtomicLong retriedCount = new AtomicLong();
+	private final AtomicLong failedCount = new AtomicLong();
+
+	public OutboundEmailDispatcher(OutboundEmailRepository outboundEmailRepository,
+		EmailRepository emailRepository,
+		EmailAttachmentRepository emailAttachmentRepository,
+		SendEmailUseCase sendEmailUseCase,
+		EmailVectorUseCase emailVectorUseCase,
+		EmailSenderPort emailSenderPort,
+		PlatformTransactionManager transactionManager,
+		@Value("${email.outbound.batch-size:50}") int batchSize,
+		@Value("${email.outbound.max-attempts:5}") int maxAttempts,
+		@Value("${email.outbound.max-throttles:100}") int maxThrottles,
+		@Value("${email.outbound.retry-backoff-ms:2000}") long retryBackoffMs,
+		@Value("${email.outbound.throttle-backoff-ms:1000}") long throttleBackoffMs,
+		@Value("${email.outbound.quota-backoff-ms:900000}") long quotaBackoffMs,
+		@Value("${email.outbound.stale-timeout-ms:600000}") long staleTimeoutMs,
+		@Value("${email.outbound.rate-per-second:0}") double ratePerSecond,
+		@Value("${email.outbound.burst:0}") double burst,
+		@Value("${email.outbound.concurrency:4}") int concurrency,
+		@Value("${email.outbound.queue-capacity:100}") int queueCapacity) {
+		this.outboundEmailRepository = outboundEmailRepository;
+		this.emailRepository = emailRepository;
+		this.emailAttachmentRepository = emailAttachmentRepository;
+		this.sendEmailUseCase = sendEmailUseCase;
+		this.emailVectorUseCase = emailVectorUseCase;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.maxThrottles = maxThrottles;
+		this.retryBackoffMs = retryBackoffMs;
+		this.throttleBackoffMs = throttleBackoffMs;
+		this.quotaBackoffMs = quotaBackoffMs;
+		this.staleTimeoutMs = staleTimeoutMs;
+
+		// 0이면 계정 한도(GetSendQuota)를 그대로 사용
+		this.sendRate = ratePerSecond > 0 ? ratePerSecond : emailSenderPort.maxSendRate().orElse(DEFAULT_SEND_RATE);
+		this.tokenBucket = new TokenBucket(sendRate, Math.max(1, burst > 0 ? burst : sendRate));
+		log.info("발송 디스패처 - rate={}/s, concurrency={}", sendRate, concurrency);
+
+		AtomicInteger threadSeq = new AtomicInteger();
+		this.sendExecutor = new ThreadPoolExecutor(concurrency, concurrency,
+			60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "outbound-send-" + threadSeq.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+	}
+
+	// 워커 큐에 남은 자리만큼만 선점 -> 나머지는 DB에서 QUEUED로 기다림
+	@Scheduled(fixedDelayString = "${email.outbound.poll-interval-ms:200}")
+	public void drain() {
+		if (System.nanoTime() - quotaResumeAt < 0) {
+			return;
+		}
+		int capacity = sendExecutor.getQueue().remainingCapacity();
+		if (capacity <= 0) {
+			return;
+		}
+
+		List<OutboundEmail> claimed = outboundEmailRepository.claimQueued(Math.min(batchSize, capacity));
+		for (OutboundEmail outboundEmail : claimed) {
+			sendExecutor.execute(() -> dispatch(outboundEmail));
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${email.outbound.stale-check-interval-ms:60000}")
+	public void requeueStale() {
+		int requeued = outboundEmailRepository.requeueStale(
+			LocalDateTime.now().minusNanos(staleTimeoutMs * 1_000_000));
+		if (requeued > 0) {
+			log.warn("발송 중 멈춘 메일 {}건을 재대기열에 넣음", requeued);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${email.outbound.stats-interval-ms:60000}")
+	public void logStats() {
+		log.info("발송 디스패처 - sent={}, throttled={}, retried={}, failed={}, sendQueue={}, rate={}/s, tokens={}",
+			sentCount.get(), throttledCount.get(), retriedCount.get(), failedCount.get(),
+			sendExecutor.getQueue().size(), sendRate, String.format("%.1f", tokenBucket.availablePermits()));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		sendExecutor.shutdownNow();
+	}
+
+	private void dispatch(OutboundEmail outboundEmail) {
+		try {
+			tokenBucket.acquire();
+		} catch (InterruptedException e) {
+			// 종료 중 - SENDING으로 남은 항목은 requeueStale이 다시 살림
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		Email email;
+		String sesMessageId;
+		try {
+			email = emailRepository.findByIdAndUserId(outboundEmail.getEmailId(), outboundEmail.getUserId())
+				.orElse(null);
+			if (email == null) {
+				// 대기 중에 메일이 삭제됨
+				failedCount.incrementAndGet();
+				outboundEmailRepository.markFailed(outboundEmail, outboundEmail.nextAttempt(), "email not found");
+				return;
+			}
+			sesMessageId = sendEmailUseCase.execute(email, findAttachments(email));
+		} catch (ServiceUnavailableException e) {
+			throttledCount.incrementAndGet();
+			handleThrottled(outboundEmail, e);
+			return;
+		} catch (Exception e) {
+			handleFailure(outboundEmail, e);
+			return;
+		}
+
+		// 여기부터는 이미 발송된 메일 - 어떤 실패든 재발송으로 이어지면 안 됨
+		// SES id를 먼저 남겨 두면 완료 처리 중 워커가 죽어도 requeueStale이 SENT로 마무리함
+		sentCount.incrementAndGet();
+		try {
+			outboundEmailRepository.recordSesMessageId(outboundEmail.getOutboundId(), sesMessageId);
+			complete(outboundEmail, email, sesMessageId);
+		} catch (Exception e) {
+			log.error("메일은 발송됐지만 완료 처리 실패 - 상태만 SENT로 기록: emailId={}, sesMessageId={}",
+				email.getEmailId(), sesMessageId, e);
+			markSentWithoutDetails(outboundEmail, sesMessageId);
+		}
+	}
+
+	private void markSentWithoutDetails(OutboundEmail outboundEmail, String sesMessageId) {
+		try {
+			outboundEmailRepository.markSentWithoutDetails(outboundEmail, sesMessageId);
+		} catch (Exception e) {
+			// 이것도 실패하면 SENDING으로 남음 - SES id가 기록됐으면 requeueStale이 SENT로, 아니면 재발송될 수 있음
+			log.error("발송된 메일 상태 기록 실패: outboundId={}, sesMessageId={}", outboundEmail.getOutboundId(),
+				sesMessageId, e);
+		}
+	}
+
+	private List<EmailAttachment> findAttachments(Email email) {
+		if (!Boolean.TRUE.equals(email.getHasAttachment())) {
+			return List.of();
+		}
+		return emailAttachmentRepository.findAllByEmailId(email.getEmailId());
+	}
+
+	private void complete(OutboundEmail outboundEmail, Email email, String sesMessageId) {
+		//ses-message-id가 실제 message-id의 도메인 주소 앞 부분과 일치해서 message-id를 ses-message-id를 통해 저장해주기
+		String actualMessageId = "<" + sesMessageId + SES_MESSAGE_ID_DOMAIN;
+
+		// 새로운 이메일인 경우(답장이 아닌 경우)에만 메시지 ID로 스레드 ID 계산
+		String threadId = email.hasValidThreadId()
+			? email.getThreadId()
+			: ThreadId.fromEmailHeaders(null, null, actualMessageId).getValue();
+
+		transactionTemplate.executeWithoutResult(status -> {
+			emailRepository.updateSesMessageId(email.getEmailId(), sesMessageId);
+			emailRepository.updateMessageIdThreadIdAndStatus(email.getEmailId(), actualMessageId, threadId,
+				EmailStatus.SENT);
+			outboundEmailRepository.markSent(outboundEmail.getOutboundId());
+		});
+
+		// 실제로 발송된 메일만 벡터 DB에 저장
+		emailVectorUseCase.execute(VectorDBRequest.fromSentEmail(email), email.getUserId(), threadId)
+			.onErrorContinue((error, item) -> log.warn("벡터 저장 실패 : {}", item, error))
+			.subscribe();
+	}
+
+	// 한도 초과는 메일 문제가 아니므로 시도 횟수 대신 한도 초과 횟수를 세고, 버킷을 멈춰 다른 워커도 같이 쉬게 함
+	// 한도 초과 횟수에도 상한을 둬서 한도가 풀리지 않는 계정에서 영원히 재시도하지 않도록 함
+	// 일일 한도(24시간 이동 창)는 초 단위로 다시 두드려도 소용없음 -> quota-backoff 동안 선점을 멈추고 메일도 보류
+	// 버킷은 짧게만 멈춤 (길게 멈추면 이미 선점한 메일이 stale-timeout을 넘겨 중복 발송될 수 있음)
+	private void handleThrottled(OutboundEmail outboundEmail, ServiceUnavailableException error) {
+		boolean dailyQuota = error.getErrorMessage() == ErrorMessage.EMAIL_SEND_QUOTA_EXCEEDED;
+		long backoffMs = dailyQuota ? quotaBackoffMs : throttleBackoffMs;
+		tokenBucket.pause(Duration.ofMillis(throttleBackoffMs));
+		if (dailyQuota) {
+			quotaResumeAt = System.nanoTime() + backoffMs * 1_000_000;
+		}
+
+		int throttles = outboundEmail.nextThrottle();
+		String reason = truncate(error.toString());
+		try {
+			if (throttles >= maxThrottles) {
+				failedCount.incrementAndGet();
+				log.error("메일 발송 한도 초과가 계속되어 최종 실패: emailId={}, throttles={}",
+					outboundEmail.getEmailId(), throttles);
+				outboundEmailRepository.markFailed(outboundEmail, outboundEmail.getAttempts(), reason);
+				return;
+			}
+			outboundEmailRepository.markThrottled(outboundEmail, throttles,
+				LocalDateTime.now().plusNanos(backoffMs * 1_000_000), reason);
+		} catch (Exception e) {
+			log.error("발송 한도 초과 상태 기록 실패: outboundId={}", outboundEmail.getOutboundId(), e);
+		}
+	}
+
+	private void handleFailure(OutboundEmail outboundEmail, Exception error) {
+		int attempts = outboundEmail.nextAttempt();
+		String reason = truncate(error.toString());
+
+		try {
+			if (attempts >= maxAttempts) {
+				failedCount.incrementAndGet();
+				log.error("메일 발송 최종 실패: emailId={}, attempts={}", outboundEmail.getEmailId(), attempts, error);
+				outboundEmailRepository.markFailed(outboundEmail, attempts, reason);
+				return;
+			}
+
+			// 지수 백오프: backoff * 2^(attempts - 1)
+			retriedCount.incrementAndGet();
+			long delayMs = retryBackoffMs << Math.min(attempts - 1, 16);
+			log.warn("메일 발송 실패, {}ms 후 재시도: emailId={}, attempts={}", delayMs, outboundEmail.getEmailId(),
+				attempts, error);
+			outboundEmailRepository.markRetry(outboundEmail, attempts,
+				LocalDateTime.now().plusNanos(delayMs * 1_000_000), reason);
+		} catch (Exception e) {
+			// 상태 갱신까지 실패하면 SENDING으로 남고 requeueStale이 다시 살림
+			log.error("메일 발송 실패 상태 기록 실패: outboundId={}", outboundEmail.getOutboundId(), e);
+		}
+	}
+
+	private static String truncate(String message) {
+		if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+			return message;
+		}
+		return message.substring(0, MAX_ERROR_LENGTH);
+	}
+}
@@ -0,0 +1,162 @@
+package com.alphamail.api.email.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.repository.PendingReadRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽음 처리 write-behind
+ *
+ * 1. 상세 조회는 UPDATE 없이 (userId -> emailId -> folderId)로 Redis 대기열에 기록만
+ * 2. 주기마다 사용자별로 모아 updateReadStatus(IN 목록) 한 번 -> 폴더 카운터/스레드도 실제 바뀐 건수로 갱신
+ * 3. 반영 전까지 목록 읽음 표시와 폴더 읽은 수는 대기열에 남은 항목으로 보정 (read-your-writes)
+ * 대기열이 Redis에 있으므로 어느 인스턴스로 요청이 가도 같은 보정값이 나오고 재시작해도 유실되지 않음
+ * 같은 사용자는 사용자 단위 락으로 한 인스턴스만 반영
+ * 안 읽음 처리(discard)는 반영을 기다리지 않음 - 반영이 UPDATE로 행 락을 잡은 뒤 반영 중 목록을 다시 확인해
+ * 그 사이 빠진 메일이 있으면 롤백 후 남은 것만 다시 씀 (확인 이후의 안 읽음 UPDATE는 행 락에서 기다렸다가 마지막에 적용)
+ */
+@Slf4j
+@Component
+public class ReadStatusTracker {
+
+	private final EmailRepository emailRepository;
+	private final PendingReadRepository pendingReadRepository;
+	private final TransactionTemplate transactionTemplate;
+	// 대기열 장애 시 바로 반영 - 상세 조회(readOnly 트랜잭션)에 합류하면 UPDATE가 거부되므로 별도 트랜잭션
+	private final TransactionTemplate fallbackTransactionTemplate;
+	private final int batchSize;
+	private final int usersPerFlush;
+
+	private final AtomicLong flushedCount = new AtomicLong();
+
+	public ReadStatusTracker(EmailRepository emailRepository,
+		PendingReadRepository pendingReadRepository,
+		PlatformTransactionManager transactionManager,
+		@Value("${email.read-tracker.batch-size:500}") int batchSize,
+		@Value("${email.read-tracker.users-per-flush:200}") int usersPerFlush) {
+		this.emailRepository = emailRepository;
+		this.pendingReadRepository = pendingReadRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.fallbackTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.fallbackTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.batchSize = batchSize;
+		this.usersPerFlush = usersPerFlush;
+	}
+
+	public void markRead(Integer userId, Integer emailId, Integer folderId) {
+		if (!pendingReadRepository.add(userId, emailId, folderId)) {
+			// 대기열 장애 - 미루지 않고 바로 반영
+			fallbackTransactionTemplate.executeWithoutResult(
+				status -> emailRepository.updateReadStatus(List.of(emailId), userId, true));
+		}
+	}
+
+	// 안 읽음으로 되돌린 메일은 뒤늦게 읽음으로 덮어쓰지 않도록 대기/반영 중 항목에서 제외
+	public void discard(Integer userId, Collection<Integer> emailIds) {
+		pendingReadRepository.remove(userId, emailIds);
+	}
+
+	public Set<Integer> pendingEmailIds(Integer userId) {
+		return pendingReadRepository.findAll(userId).keySet();
+	}
+
+	// 폴더별 반영 대기 중인 읽음 수
+	public Map<Integer, Integer> pendingReadCounts(Integer userId) {
+		Map<Integer, Integer> counts = new HashMap<>();
+		pendingReadRepository.findAll(userId).values().forEach(folderId -> counts.merge(folderId, 1, Integer::sum));
+		return counts;
+	}
+
+	@Scheduled(fixedDelayString = "${email.read-tracker.flush-interval-ms:300}")
+	public void flush() {
+		for (Integer userId : pendingReadRepository.popUsers(usersPerFlush)) {
+			try {
+				flush(userId);
+			} catch (RuntimeException e) {
+				log.warn("읽음 표시 반영 실패 - 다음 주기에 재시도: userId={}", userId, e);
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${email.read-tracker.stats-interval-ms:300000}")
+	public void logStats() {
+		log.info("읽음 표시 write-behind - 대기 사용자={}, 누적 반영={}",
+			pendingReadRepository.countPendingUsers(), flushedCount.get());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flush();
+	}
+
+	private void flush(Integer userId) {
+		if (!pendingReadRepository.lockFlush(userId)) {
+			// 다른 인스턴스가 반영 중 - 그 사이 들어온 대기분은 다음 주기에
+			pendingReadRepository.requeueUser(userId);
+			return;
+		}
+		try {
+			Map<Integer, Integer> batch = pendingReadRepository.beginFlush(userId);
+			if (batch.isEmpty()) {
+				pendingReadRepository.completeFlush(userId);
+				return;
+			}
+			try {
+				List<Integer> emailIds = new ArrayList<>(batch.keySet());
+				int changed = 0;
+				for (int from = 0; from < emailIds.size(); from += batchSize) {
+					List<Integer> chunk = emailIds.subList(from, Math.min(from + batchSize, emailIds.size()));
+					changed += updateRead(userId, chunk);
+				}
+				pendingReadRepository.completeFlush(userId);
+				flushedCount.addAndGet(changed);
+				log.debug("읽음 표시 반영 - userId={}, 요청={}, 변경={}", userId, emailIds.size(), changed);
+			} catch (RuntimeException e) {
+				// 이미 읽음인 메일은 UPDATE 조건에서 빠지므로 전체를 다시 넣어도 중복 집계 없음
+				pendingReadRepository.abortFlush(userId);
+				throw e;
+			}
+		} finally {
+			pendingReadRepository.unlockFlush(userId);
+		}
+	}
+
+	// UPDATE로 행 락을 잡은 뒤 반영 중 목록을 다시 확인, 그 사이 안 읽음 처리로 빠진 메일이 있으면 롤백하고 남은 것만 다시
+	private int updateRead(Integer userId, List<Integer> emailIds) {
+		List<Integer> targets = emailIds;
+		while (!targets.isEmpty()) {
+			List<Integer> attempt = targets;
+			Integer updated = transactionTemplate.execute(status -> {
+				int count = emailRepository.updateReadStatus(attempt, userId, true);
+				if (pendingReadRepository.findFlushing(userId).containsAll(attempt)) {
+					return count;
+				}
+				status.setRollbackOnly();
+				return null;
+			});
+			if (updated != null) {
+				return updated;
+			}
+			Set<Integer> flushing = pendingReadRepository.findFlushing(userId);
+			targets = attempt.stream().filter(flushing::contains).toList();
+		}
+		return 0;
+	}
+}
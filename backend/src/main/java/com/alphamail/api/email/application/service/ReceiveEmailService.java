@@ -1,23 +1,27 @@
 package com.alphamail.api.email.application.service;
 
-import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 
 import com.alphamail.api.assistants.application.usecase.client.CreateTemporaryClientUseCase;
 import com.alphamail.api.email.application.usecase.ai.EmailMCPUseCase;
 import com.alphamail.api.email.application.usecase.ai.EmailVectorUseCase;
+import com.alphamail.api.email.domain.entity.EmailMCP;
 import com.alphamail.api.email.domain.entity.EmailOCR;
+import com.alphamail.api.email.domain.entity.EmailVector;
 import com.alphamail.api.email.domain.repository.EmailOCRRespository;
 import com.alphamail.api.email.presentation.dto.AttachmentRequest;
 import com.alphamail.api.email.presentation.dto.VectorDBRequest;
 import com.alphamail.api.global.s3.service.S3Service;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.alphamail.api.email.domain.entity.Email;
 import com.alphamail.api.email.domain.entity.EmailAttachment;
 import com.alphamail.api.email.domain.repository.EmailAttachmentRepository;
 import com.alphamail.api.email.domain.repository.EmailFolderRepository;
 import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.repository.EmailThreadRepository;
 import com.alphamail.api.email.domain.valueobject.ThreadId;
 import com.alphamail.api.email.presentation.dto.ReceiveEmailRequest;
 import com.alphamail.api.user.application.port.LoadUserPort;
@@ -25,15 +29,20 @@ import com.alphamail.api.user.domain.valueobject.UserId;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * 수신 메일 처리의 각 단계를 담당합니다.
+ * 단계 실행 순서/동시성/재시도는 {@link InboundEmailPipeline}이 관리합니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReceiveEmailService {
 
 	private final EmailRepository emailRepository;
+	private final EmailThreadRepository emailThreadRepository;
 	private final LoadUserPort loadUserPort;
 	private final EmailFolderRepository emailFolderRepository;
 	private final EmailAttachmentRepository emailAttachmentRepository;
@@ -43,119 +52,88 @@ public class ReceiveEmailService {
 	private final EmailVectorUseCase emailVectorUseCase;
 	private final CreateTemporaryClientUseCase createTemporaryClientUseCase;
 
-	public void excute(ReceiveEmailRequest request) {
+	// PERSIST 단계 - 메일 본문과 첨부파일 메타데이터를 한 트랜잭션으로 저장
+	@Transactional
+	public Email persist(ReceiveEmailRequest request) {
 		log.info("이메일 수신 시작 - messageId: {}, inReplyTo: {}, references: {}",
 				request.messageId(), request.inReplyTo(), request.references());
 
 		UserId userId = loadUserPort.loadUserIdByEmail(request.actualRecipient());
 		Integer folderId = emailFolderRepository.getInboxFolderId(userId.getValue());
 
-		String threadId = resolveThreadId(request);
-
-		emailVectorUseCase.execute(VectorDBRequest.fromReceiveEmailRequest(request), userId.getValue(), threadId)
-				.onErrorContinue((error, item) -> {
-					log.warn("벡터 저장 실패 : {}", item, error);
-				})
-				.subscribe();
+		String threadId = resolveThreadId(request, userId.getValue());
 
 		Email email = Email.createForReceiving(request, userId.getValue(), folderId, threadId);
 		Email savedEmail = emailRepository.save(email);
 		log.info("이메일 저장 완료: emailId={}", savedEmail.getEmailId());
 
-		Mono.fromRunnable(() -> {
-			try {
-				List<AttachmentRequest> ocrTargets = request.attachments().stream()
-						.filter(att -> isBusinessLicense(att.filename()) && isSupportedFileType(att.contentType()))
-						.toList();
-
-				Flux.fromIterable(ocrTargets)
-						.concatMap(attachment -> {
-							try {
-								InputStream fileStream = s3Service.downloadFile(attachment.s3Key());
-								return emailOCRRespository.registOCR(fileStream, attachment.filename(),
-												attachment.contentType().split("/")[1], userId.getValue().toString())
-										.doOnNext(emailOCR -> {
-											log.info("OCR 호출 성공 : {}", emailOCR.toString());
-											if (emailOCR.success()) {
-												createTemporaryClientUseCase.execute(
-														EmailOCR.toTemporaryClientRequest(
-																emailOCR, savedEmail.getEmailId(), savedEmail.getSender(), attachment.s3Key()
-														),
-														userId.getValue()
-												);
-											}
-										})
-										.onErrorResume(error -> {
-											log.warn("OCR 호출 실패", error);
-											return Mono.empty(); // 에러 무시
-										});
-							} catch (Exception e) {
-								log.error("첨부파일 OCR 처리 중 오류 발생", e);
-								return Mono.empty();
-							}
-						})
-						.then()  // 전체 흐름 완료 기다리기
-						.subscribe();
-			} catch (Exception e) {
-				log.error("첨부파일 처리 중 오류 발생", e);
-			}
-		}).subscribe();
-
-		Flux.just(request)
-				.flatMap(req -> emailMCPUseCase.execute(req, savedEmail.getEmailId())
-						.onErrorContinue((error, item) -> {
-							log.warn("MCP 호출 실패 : {}", item, error);
-						}), 2)
-				.subscribe();
-
 		// 첨부파일 DB 저장
 		List<EmailAttachment> emailAttachmentList = EmailAttachment.createAttachments(
 				request.attachments(), savedEmail.getEmailId());
 		if (!emailAttachmentList.isEmpty()) {
 			emailAttachmentRepository.saveAll(emailAttachmentList);
 		}
+
+		return savedEmail;
 	}
-	private String resolveThreadId(ReceiveEmailRequest request) {
-		if (request.inReplyTo() != null && !request.inReplyTo().isEmpty()) {
-			log.info("inReplyTo에서 원본 이메일 찾기: {}", request.inReplyTo());
-			List<Email> originals = emailRepository.findAllByMessageId(request.inReplyTo());
-			if (originals != null && !originals.isEmpty()) {
-				Email firstEmail = originals.get(0);
-				if (firstEmail.getThreadId() != null) {
-					log.info("원본 이메일에서 스레드 ID 찾음: {}", firstEmail.getThreadId());
-					return firstEmail.getThreadId();
-				}
-			}
+
+	// 같은 수신자에게 같은 Message-ID로 이미 저장된 메일 (재전송 판별용)
+	@Transactional(readOnly = true)
+	public Optional<Integer> findDuplicate(ReceiveEmailRequest request) {
+		if (request.messageId() == null || request.messageId().isBlank()) {
+			return Optional.empty();
 		}
-		return ThreadId.fromEmailHeaders(request.references(), request.inReplyTo(), request.messageId()).getValue();
+		UserId userId = loadUserPort.loadUserIdByEmail(request.actualRecipient());
+		return emailRepository.findReceivedEmailIdByMessageId(userId.getValue(), request.messageId());
+	}
+
+	// VECTOR 단계
+	public Mono<EmailVector> requestVector(ReceiveEmailRequest request, Email savedEmail) {
+		return emailVectorUseCase.execute(VectorDBRequest.fromReceiveEmailRequest(request),
+				savedEmail.getUserId(), savedEmail.getThreadId());
 	}
 
-	private void processAttachments(List<AttachmentRequest> attachments, Email savedEmail, UserId userId) {
-		if (attachments == null || attachments.isEmpty()) return;
-		for (AttachmentRequest attachment :  attachments) {
-			if (isBusinessLicense(attachment.filename()) && isSupportedFileType(attachment.contentType())) {
-				try {
-					InputStream downloadFile = s3Service.downloadFile(attachment.s3Key());
-					emailOCRRespository.registOCR(downloadFile, attachment.filename(), attachment.contentType().split("/")[1],userId.getValue().toString())
-							.onErrorContinue((error, item) -> {
-								log.warn("OCR 호출 실패 : {}", item,error);
-							})
-							.subscribe(emailOCR -> {
-								log.info("OCR 호출 성공 : {}", emailOCR.toString());
-								if (emailOCR.success()) {
-									createTemporaryClientUseCase.execute(
-											EmailOCR.toTemporaryClientRequest(
-													emailOCR, savedEmail.getEmailId(), savedEmail.getSender(), attachment.s3Key()
-											),
-											userId.getValue()
-									);
-								}
-							});
-				} catch (Exception e) {
-					log.error("첨부파일 OCR 처리 중 오류 발생", e);
-				}
-			}
+	// OCR 단계 - 사업자등록증 첨부파일만 대상
+	public List<AttachmentRequest> findOcrTargets(ReceiveEmailRequest request) {
+		if (request.attachments() == null || request.attachments().isEmpty()) {
+			return List.of();
 		}
+		return request.attachments().stream()
+				.filter(att -> isBusinessLicense(att.filename()) && isSupportedFileType(att.contentType()))
+				.toList();
+	}
+
+	public Mono<EmailOCR> requestOcr(AttachmentRequest attachment, Email savedEmail) {
+		Integer userId = savedEmail.getUserId();
+		// S3 다운로드는 블로킹이라 boundedElastic에서 실행
+		return Mono.fromCallable(() -> s3Service.downloadFile(attachment.s3Key()))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(fileStream -> emailOCRRespository.registOCR(fileStream, attachment.filename(),
+						attachment.contentType().split("/")[1], userId.toString()))
+				.doOnNext(emailOCR -> {
+					log.info("OCR 호출 성공 : {}", emailOCR.toString());
+					if (emailOCR.success()) {
+						createTemporaryClientUseCase.execute(
+								EmailOCR.toTemporaryClientRequest(
+										emailOCR, savedEmail.getEmailId(), savedEmail.getSender(), attachment.s3Key()
+								),
+								userId
+						);
+					}
+				});
+	}
+
+	// MCP 단계
+	public Mono<EmailMCP> requestMcp(ReceiveEmailRequest request, Email savedEmail) {
+		return emailMCPUseCase.execute(request, savedEmail.getEmailId());
+	}
+
+	private String resolveThreadId(ReceiveEmailRequest request, Integer userId) {
+		// 답장이면 참조 체인 중 가장 가까운 조상 메일의 스레드를 따름 (중간 메일이 없어도 이어 붙음)
+		List<String> chain = ThreadId.referenceChain(request.references(), request.inReplyTo());
+		return emailThreadRepository.findThreadIdByReferenceChain(userId, chain)
+			.orElseGet(() -> ThreadId.fromEmailHeaders(request.references(), request.inReplyTo(),
+				request.messageId()).getValue());
 	}
 
 	private boolean isBusinessLicense(String filename) {
@@ -167,4 +145,3 @@ public class ReceiveEmailService {
 		return List.of("pdf", "jpg", "jpeg", "png", "tiff").contains(type);
 	}
 }
-
@@ -0,0 +1,122 @@
+package com.alphamail.api.email.application.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alphamail.api.email.domain.entity.RecentUsedEmail;
+import com.alphamail.api.email.domain.repository.PendingRecentContactRepository;
+import com.alphamail.api.email.domain.repository.RecentUsedEmailRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 수신자 사용 기록을 PostgreSQL에 비동기로 반영 (조회는 Redis, 여기는 캐시가 비었을 때의 원본)
+ * 사용자별로 (이메일 -> 마지막 사용 시각)을 Redis 대기열에 모아 두었다가 주기마다 IN 조회 한 번 + saveAll 한 트랜잭션
+ * 대기열이 Redis에 있으므로 반영 전에 인스턴스가 죽어도 유실되지 않음 (ReadStatusTracker와 같은 방식)
+ * 반영 도중 끊긴 항목은 같은 사용자의 다음 기록 때 이어서 반영 - 그 전에 pending-ttl-hours가 지나면 만료
+ */
+@Slf4j
+@Component
+public class RecentContactPersister {
+
+	private final RecentUsedEmailRepository recentUsedEmailRepository;
+	private final PendingRecentContactRepository pendingRecentContactRepository;
+	private final TransactionTemplate transactionTemplate;
+	// 대기열 장애 시 바로 반영 - 발송 트랜잭션과 묶이지 않도록 별도 트랜잭션
+	private final TransactionTemplate fallbackTransactionTemplate;
+	private final int usersPerFlush;
+
+	public RecentContactPersister(RecentUsedEmailRepository recentUsedEmailRepository,
+		PendingRecentContactRepository pendingRecentContactRepository,
+		PlatformTransactionManager transactionManager,
+		@Value("${email.recent-contacts.users-per-flush:200}") int usersPerFlush) {
+		this.recentUsedEmailRepository = recentUsedEmailRepository;
+		this.pendingRecentContactRepository = pendingRecentContactRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.fallbackTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.fallbackTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.usersPerFlush = usersPerFlush;
+	}
+
+	public void enqueue(Integer userId, Map<String, LocalDateTime> contacts) {
+		if (contacts.isEmpty() || pendingRecentContactRepository.add(userId, contacts)) {
+			return;
+		}
+		// 대기열 장애 - 미루지 않고 바로 반영, 실패해도 발송은 그대로 (조회는 Redis 캐시가 담당)
+		try {
+			fallbackTransactionTemplate.executeWithoutResult(status -> persist(userId, contacts));
+		} catch (RuntimeException e) {
+			log.warn("최근 수신자 저장 실패: userId={}, {}건", userId, contacts.size(), e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${email.recent-contacts.flush-interval-ms:1000}")
+	public void flush() {
+		for (Integer userId : pendingRecentContactRepository.popUsers(usersPerFlush)) {
+			try {
+				flush(userId);
+			} catch (RuntimeException e) {
+				log.warn("최근 수신자 저장 실패 - 다음 주기에 재시도: userId={}", userId, e);
+			}
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flush();
+	}
+
+	private void flush(Integer userId) {
+		if (!pendingRecentContactRepository.lockFlush(userId)) {
+			// 다른 인스턴스가 반영 중 - 그 사이 들어온 대기분은 다음 주기에
+			pendingRecentContactRepository.requeueUser(userId);
+			return;
+		}
+		try {
+			Map<String, LocalDateTime> batch = pendingRecentContactRepository.beginFlush(userId);
+			if (batch.isEmpty()) {
+				pendingRecentContactRepository.completeFlush(userId);
+				return;
+			}
+			try {
+				transactionTemplate.executeWithoutResult(status -> persist(userId, batch));
+				pendingRecentContactRepository.completeFlush(userId);
+			} catch (RuntimeException e) {
+				// 사용 시각을 덮어쓰는 것뿐이라 전체를 다시 넣어도 결과는 같음
+				pendingRecentContactRepository.abortFlush(userId);
+				throw e;
+			}
+		} finally {
+			pendingRecentContactRepository.unlockFlush(userId);
+		}
+	}
+
+	private void persist(Integer userId, Map<String, LocalDateTime> batch) {
+		Map<String, RecentUsedEmail> existing = recentUsedEmailRepository
+			.findAllByUserIdAndRecentEmails(userId, batch.keySet())
+			.stream()
+			.collect(Collectors.toMap(RecentUsedEmail::getRecentEmail, Function.identity(),
+				(first, duplicate) -> first));
+
+		List<RecentUsedEmail> changed = new ArrayList<>(batch.size());
+		batch.forEach((email, usedAt) -> {
+			RecentUsedEmail current = existing.get(email);
+			changed.add(current != null
+				? current.usedAt(usedAt)
+				: RecentUsedEmail.create(userId, email, "").usedAt(usedAt));
+		});
+		recentUsedEmailRepository.saveAll(changed);
+	}
+}
@@ -0,0 +1,88 @@
+package com.alphamail.api.email.application.usecase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.alphamail.api.email.domain.entity.EmailAttachment;
+import com.alphamail.api.email.presentation.dto.AttachmentUploadUrlRequest;
+import com.alphamail.api.email.presentation.dto.AttachmentUploadUrlResponse;
+import com.alphamail.api.email.presentation.dto.UploadedAttachmentRequest;
+import com.alphamail.api.global.s3.service.PresignedUrl;
+import com.alphamail.api.global.s3.service.S3ObjectInfo;
+import com.alphamail.api.global.s3.service.S3Service;
+import com.alphamail.common.exception.BadRequestException;
+import com.alphamail.common.exception.ErrorMessage;
+import com.alphamail.common.exception.ForbiddenException;
+import com.alphamail.common.exception.NotFoundException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 발송 첨부파일 직접 업로드
+ * 서버는 URL만 발급하고 파일 바이트는 브라우저 -> S3로 바로 갑니다.
+ * 발송 요청에 s3Key가 오면 본인 prefix인지, 실제로 올라왔는지, 한도 안인지 S3에서 다시 확인한 뒤 첨부로 등록합니다.
+ */
+@Slf4j
+@Service
+public class DirectUploadAttachmentUseCase {
+
+	private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+	private final S3Service s3Service;
+	private final long maxAttachmentBytes;
+
+	public DirectUploadAttachmentUseCase(S3Service s3Service,
+		@Value("${email.send.max-attachment-bytes:41943040}") long maxAttachmentBytes) {
+		this.s3Service = s3Service;
+		this.maxAttachmentBytes = maxAttachmentBytes;
+	}
+
+	public AttachmentUploadUrlResponse issueUploadUrl(Integer userId, AttachmentUploadUrlRequest request) {
+		if (request.filename() == null || request.filename().isBlank()) {
+			throw new BadRequestException(ErrorMessage.MISSING_PARAMETER);
+		}
+		// 서명에 크기를 넣을 수 없어서 여기서 한 번, 등록할 때 실제 크기로 한 번 더 확인
+		if (request.size() != null && request.size() > maxAttachmentBytes) {
+			throw new BadRequestException(ErrorMessage.FILE_TOO_LARGE);
+		}
+
+		String contentType = request.contentType() != null ? request.contentType() : DEFAULT_CONTENT_TYPE;
+		String s3Key = s3Service.createUploadKey(userId, request.filename());
+		PresignedUrl presignedUrl = s3Service.presignUpload(s3Key, contentType);
+		return new AttachmentUploadUrlResponse(s3Key, presignedUrl.url(), presignedUrl.expiresAt());
+	}
+
+	public List<EmailAttachment> resolveUploaded(Integer userId, List<UploadedAttachmentRequest> uploaded) {
+		if (uploaded == null || uploaded.isEmpty()) {
+			return List.of();
+		}
+
+		List<EmailAttachment> attachments = new ArrayList<>(uploaded.size());
+		long totalSize = 0;
+		for (UploadedAttachmentRequest file : uploaded) {
+			if (!s3Service.isUploadKeyOf(userId, file.s3Key())) {
+				throw new ForbiddenException(ErrorMessage.ACCESS_DENIED);
+			}
+			S3ObjectInfo object = s3Service.findObject(file.s3Key())
+				.orElseThrow(() -> new NotFoundException(ErrorMessage.S3AMAZON_NOT_FOUND));
+
+			totalSize += object.size();
+			if (object.size() > maxAttachmentBytes || totalSize > maxAttachmentBytes) {
+				log.warn("직접 업로드 첨부파일 한도 초과: userId={}, s3Key={}, size={}", userId, file.s3Key(),
+					object.size());
+				throw new BadRequestException(ErrorMessage.FILE_TOO_LARGE);
+			}
+
+			attachments.add(EmailAttachment.builder()
+				.name(file.filename())
+				.size(object.size())
+				.type(object.contentType() != null ? object.contentType() : DEFAULT_CONTENT_TYPE)
+				.S3Key(file.s3Key())
+				.build());
+		}
+		return attachments;
+	}
+}
@@ -1,7 +1,11 @@
 package com.alphamail.api.email.application.usecase;
 
-import java.io.InputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpRange;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,6 +13,13 @@ import com.alphamail.api.email.domain.entity.EmailAttachment;
 import com.alphamail.api.email.domain.repository.EmailAttachmentRepository;
 import com.alphamail.api.email.domain.repository.EmailRepository;
 import com.alphamail.api.email.presentation.dto.AttachmentDownloadResponse;
+import com.alphamail.api.email.presentation.dto.AttachmentDownloadResponse.Status;
+import com.alphamail.api.email.presentation.dto.AttachmentDownloadUrlResponse;
+import com.alphamail.api.global.s3.cache.S3ObjectDiskCache;
+import com.alphamail.api.global.s3.cache.S3ObjectDiskCache.CachedContent;
+import com.alphamail.api.global.s3.cache.S3ObjectDiskCache.CachedObject;
+import com.alphamail.api.global.s3.service.PresignedUrl;
+import com.alphamail.api.global.s3.service.S3ObjectContent;
 import com.alphamail.api.global.s3.service.S3Service;
 import com.alphamail.api.user.domain.valueobject.UserId;
 import com.alphamail.common.exception.ErrorMessage;
@@ -26,9 +37,153 @@ public class DownloadAttachmentUseCase {
 	private final EmailAttachmentRepository emailAttachmentRepository;
 	private final EmailRepository emailRepository;
 	private final S3Service s3Service;
+	private final S3ObjectDiskCache diskCache;
 
+	// 트랜잭션 없이 - 캐시를 채울 때 S3 전체 다운로드 동안 DB 커넥션을 잡지 않도록 (조회는 리포지토리 단위)
+	public AttachmentDownloadResponse execute(Integer emailId, Integer attachmentId, UserId userId,
+		String ifNoneMatch, String rangeHeader) {
+
+		EmailAttachment attachment = findAuthorized(emailId, attachmentId, userId);
+
+		ByteRange range = resolveRange(rangeHeader, attachment.getSize());
+		if (range == ByteRange.UNSATISFIABLE) {
+			return AttachmentDownloadResponse.builder()
+				.status(Status.RANGE_NOT_SATISFIABLE)
+				.totalSize(attachment.getSize())
+				.build();
+		}
+
+		// 4. 디스크 캐시에 있으면 S3를 부르지 않음 (캐시가 연 파일에서 바로 읽음)
+		Optional<CachedContent> cached = diskCache.open(attachment.getS3Key());
+		if (cached.isPresent()) {
+			return fromCache(attachment, cached.get(), ifNoneMatch, range);
+		}
+
+		// 5. S3 조건부/범위 GET
+		String eTagConstraint = entityTagOf(ifNoneMatch);
+		S3ObjectContent content = s3Service.openObject(attachment.getS3Key(),
+			eTagConstraint == null || "*".equals(eTagConstraint) ? eTagConstraint : "\"" + eTagConstraint + "\"",
+			range != null ? range.start() : null, range != null ? range.end() : null);
+		if (content.isNotModified()) {
+			return AttachmentDownloadResponse.builder()
+				.status(Status.NOT_MODIFIED)
+				.eTag(eTagConstraint)
+				.build();
+		}
+		log.debug("S3에서 파일 다운로드: 파일명={}, 크기={}, range={}", attachment.getName(), content.contentLength(), range);
+
+		if (range == null && diskCache.accepts(content.totalLength())) {
+			try {
+				CachedContent stored = diskCache.put(attachment.getS3Key(), content.inputStream(), content.eTag(),
+					content.lastModified(), content.contentType());
+				return fromCache(attachment, stored, null, null);
+			} catch (IOException e) {
+				// 캐시 디스크 문제는 다운로드 실패로 만들지 않음 -> 스트림이 이미 소비됐으니 S3에서 다시 받음
+				log.warn("첨부파일 디스크 캐시 저장 실패: s3Key={}", attachment.getS3Key(), e);
+				content = s3Service.openObject(attachment.getS3Key(), null, null, null);
+			}
+		}
+
+		return AttachmentDownloadResponse.builder()
+			.status(range != null ? Status.PARTIAL : Status.FULL)
+			.resource(new InputStreamResource(content.inputStream()))
+			.filename(attachment.getName())
+			.size(content.contentLength())
+			.contentType(attachment.getType())
+			.eTag(content.eTag())
+			.lastModified(content.lastModified())
+			.rangeStart(range != null ? range.start() : null)
+			.rangeEnd(range != null ? range.end() : null)
+			.totalSize(content.totalLength())
+			.build();
+	}
+
+	// 권한 확인은 같고, 파일은 서버를 거치지 않고 짧게 유효한 S3 URL로 내려받음
 	@Transactional(readOnly = true)
-	public AttachmentDownloadResponse execute(Integer emailId, Integer attachmentId, UserId userId) {
+	public AttachmentDownloadUrlResponse presign(Integer emailId, Integer attachmentId, UserId userId) {
+
+		EmailAttachment attachment = findAuthorized(emailId, attachmentId, userId);
+
+		PresignedUrl presignedUrl = s3Service.presignDownload(attachment.getS3Key(), attachment.getName(),
+			attachment.getType());
+		return new AttachmentDownloadUrlResponse(presignedUrl.url(), presignedUrl.expiresAt(), attachment.getName(),
+			attachment.getSize(), attachment.getType());
+	}
+
+	private AttachmentDownloadResponse fromCache(EmailAttachment attachment, CachedContent content,
+		String ifNoneMatch, ByteRange range) {
+		CachedObject cached = content.object();
+		if (cached.eTag() != null && cached.eTag().equals(entityTagOf(ifNoneMatch))) {
+			closeQuietly(content);
+			return AttachmentDownloadResponse.builder()
+				.status(Status.NOT_MODIFIED)
+				.eTag(cached.eTag())
+				.build();
+		}
+		// S3 경로와 같이 첫 구간만 직접 잘라서 응답 -> 스트림은 응답을 다 쓰면 닫히고 채널도 함께 닫힘
+		long start = range != null ? range.start() : 0;
+		long end = range != null ? range.end() : cached.size() - 1;
+		return AttachmentDownloadResponse.builder()
+			.status(range != null ? Status.PARTIAL : Status.FULL)
+			.resource(new InputStreamResource(content.inputStream(start, end - start + 1)))
+			.filename(attachment.getName())
+			.size(end - start + 1)
+			.contentType(attachment.getType())
+			.eTag(cached.eTag())
+			.lastModified(cached.lastModified())
+			.rangeStart(range != null ? range.start() : null)
+			.rangeEnd(range != null ? range.end() : null)
+			.totalSize(cached.size())
+			.build();
+	}
+
+	private void closeQuietly(CachedContent content) {
+		try {
+			content.close();
+		} catch (IOException e) {
+			log.warn("첨부파일 디스크 캐시 파일 닫기 실패: {}", content.object().path(), e);
+		}
+	}
+
+	// 여러 구간을 요청해도 첫 구간만 응답, 형식이 잘못됐거나 범위 밖이면 416 (Spring의 Resource 처리와 같은 기준)
+	private ByteRange resolveRange(String rangeHeader, Long size) {
+		if (rangeHeader == null || size == null || size <= 0) {
+			return null;
+		}
+		try {
+			List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+			if (ranges.isEmpty()) {
+				return null;
+			}
+			// getRangeStart는 파일 크기를 확인하지 않으므로 시작이 파일 밖인 경우를 직접 걸러냄
+			HttpRange first = ranges.get(0);
+			long start = first.getRangeStart(size);
+			long end = first.getRangeEnd(size);
+			if (start < 0 || start >= size || start > end) {
+				return ByteRange.UNSATISFIABLE;
+			}
+			return new ByteRange(start, end);
+		} catch (IllegalArgumentException e) {
+			return ByteRange.UNSATISFIABLE;
+		}
+	}
+
+	// If-None-Match의 첫 태그를 따옴표/W/ 없이 (S3 메타데이터의 ETag 형식)
+	private static String entityTagOf(String ifNoneMatch) {
+		if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+			return null;
+		}
+		String tag = ifNoneMatch.split(",")[0].trim();
+		if (tag.startsWith("W/")) {
+			tag = tag.substring(2);
+		}
+		if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+			tag = tag.substring(1, tag.length() - 1);
+		}
+		return tag;
+	}
+
+	private EmailAttachment findAuthorized(Integer emailId, Integer attachmentId, UserId userId) {
 
 		// 1. 첨부파일 조회
 		log.info("첨부파일 조회 시작: attachmentId={}", attachmentId);
@@ -46,16 +201,10 @@ public class DownloadAttachmentUseCase {
 		if (!attachment.getEmailId().equals(emailId)) {
 			throw new NotFoundException(ErrorMessage.RESOURCE_NOT_FOUND);
 		}
+		return attachment;
+	}
 
-		// 4. S3에서 파일 다운로드
-		InputStream inputStream = s3Service.downloadFile(attachment.getS3Key());
-		log.debug("S3에서 파일 다운로드 완료: 파일명={}, 크기={}", attachment.getName(), attachment.getSize());
-
-		return AttachmentDownloadResponse.builder()
-			.inputStream(inputStream)
-			.filename(attachment.getName())
-			.size(attachment.getSize())
-			.contentType(attachment.getType())
-			.build();
+	private record ByteRange(long start, long end) {
+		private static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
 	}
 }
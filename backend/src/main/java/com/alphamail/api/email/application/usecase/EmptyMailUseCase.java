@@ -1,10 +1,14 @@
 package com.alphamail.api.email.application.usecase;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.alphamail.api.email.domain.entity.EmailFolder;
-import com.alphamail.api.email.domain.repository.EmailFolderRepository;
+import com.alphamail.api.email.application.event.AttachmentObjectsReleasedEvent;
+import com.alphamail.api.email.domain.repository.EmailAttachmentRepository;
 import com.alphamail.api.email.domain.repository.EmailRepository;
 import com.alphamail.api.email.presentation.dto.EmptyTrashRequest;
 import com.alphamail.common.exception.BadRequestException;
@@ -19,6 +23,8 @@ import lombok.RequiredArgsConstructor;
 public class EmptyMailUseCase {
 
 	private final EmailRepository emailRepository;
+	private final EmailAttachmentRepository emailAttachmentRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public Integer execute(EmptyTrashRequest request, Integer userId) {
 
@@ -34,6 +40,12 @@ public class EmptyMailUseCase {
 			throw new BadRequestException(ErrorMessage.NOT_IN_TRASH_FOLDER);
 		}
 
-		return emailRepository.deleteSelectedEmails(request.mailIds(), userId);
+		// 삭제 전에 첨부 키를 모아 두고, 삭제 후에도 다른 메일이 쓰는 키는 남김
+		List<String> s3Keys = new ArrayList<>(emailAttachmentRepository.findS3KeysByEmailIds(request.mailIds()));
+		Integer deleted = emailRepository.deleteSelectedEmails(request.mailIds(), userId);
+		s3Keys.removeAll(emailAttachmentRepository.findReferencedS3Keys(s3Keys));
+		eventPublisher.publishEvent(new AttachmentObjectsReleasedEvent(s3Keys));
+
+		return deleted;
 	}
 }
@@ -0,0 +1,86 @@
+package com.alphamail.api.email.application.usecase;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alphamail.api.email.application.service.ReadStatusTracker;
+import com.alphamail.api.email.domain.entity.EmailConversation;
+import com.alphamail.api.email.domain.repository.EmailAttachmentRepository;
+import com.alphamail.api.email.domain.repository.EmailFolderCounterRepository;
+import com.alphamail.api.email.domain.repository.EmailFolderRepository;
+import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.repository.EmailThreadRepository;
+import com.alphamail.api.email.domain.valueobject.EmailCursor;
+import com.alphamail.api.email.domain.valueobject.EmailSummary;
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
+import com.alphamail.api.email.presentation.dto.ConversationListResponse;
+import com.alphamail.api.email.presentation.dto.ConversationResponse;
+import com.alphamail.api.email.presentation.dto.EmailResponse;
+
+import lombok.RequiredArgsConstructor;
+
+// 대화 모드 목록 - email_folder_threads를 마지막 활동 순 keyset으로 읽고 대표 메일만 id로 조회
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class GetConversationListUseCase {
+	private final EmailThreadRepository emailThreadRepository;
+	private final EmailRepository emailRepository;
+	private final EmailFolderRepository emailFolderRepository;
+	private final EmailAttachmentRepository emailAttachmentRepository;
+	private final EmailFolderCounterRepository emailFolderCounterRepository;
+	private final ReadStatusTracker readStatusTracker;
+
+	public ConversationListResponse execute(Integer folderId, Integer userId, String cursor, int size) {
+		String folderName = emailFolderRepository.getFolderNameById(folderId);
+		boolean isTrashFolder = "trash".equalsIgnoreCase(folderName);
+		boolean isSentFolder = "sent".equalsIgnoreCase(folderName);
+
+		// size + 1건 조회해서 다음 페이지 존재 여부 판단
+		List<EmailConversation> fetched = emailThreadRepository.findConversations(userId, folderId,
+			EmailCursor.decode(cursor), size + 1);
+		boolean hasNext = fetched.size() > size;
+		List<EmailConversation> conversations = hasNext ? fetched.subList(0, size) : fetched;
+
+		String nextCursor = null;
+		if (hasNext) {
+			EmailConversation last = conversations.get(conversations.size() - 1);
+			nextCursor = new EmailCursor(last.getLastActivityAt(), last.getLatestEmailId()).encode();
+		}
+
+		List<Integer> latestIds = conversations.stream()
+			.map(EmailConversation::getLatestEmailId)
+			.collect(Collectors.toList());
+		Set<Integer> pendingReads = readStatusTracker.pendingEmailIds(userId);
+		Map<Integer, EmailSummary> latestEmails = emailRepository.findSummariesByIds(latestIds)
+			.stream()
+			.map(email -> pendingReads.contains(email.emailId()) ? email.asRead() : email)
+			.collect(Collectors.toMap(EmailSummary::emailId, Function.identity()));
+		Map<Integer, Long> attachmentSizes = emailAttachmentRepository.getTotalSizesByEmailIds(latestIds);
+		Map<Integer, List<String>> recipients = isSentFolder
+			? emailRepository.findRecipientsByIds(latestIds)
+			: Map.of();
+
+		// 집계와 메일 삭제 사이에 대표 메일이 사라졌으면 그 줄은 건너뜀
+		List<ConversationResponse> responses = conversations.stream()
+			.filter(conversation -> latestEmails.containsKey(conversation.getLatestEmailId()))
+			.map(conversation -> ConversationResponse.from(conversation, EmailResponse.from(
+				latestEmails.get(conversation.getLatestEmailId()),
+				attachmentSizes.getOrDefault(conversation.getLatestEmailId(), 0L).intValue(),
+				isSentFolder ? recipients.getOrDefault(conversation.getLatestEmailId(), List.of()) : null,
+				isTrashFolder)))
+			.collect(Collectors.toList());
+
+		FolderMailCount folderCount = emailFolderCounterRepository.findByFolderId(folderId)
+			.orElseGet(() -> emailRepository.countByFolderIdAndUserId(folderId, userId))
+			.withPendingReads(readStatusTracker.pendingReadCounts(userId).getOrDefault(folderId, 0));
+
+		return ConversationListResponse.of(responses, folderCount, nextCursor);
+	}
+}
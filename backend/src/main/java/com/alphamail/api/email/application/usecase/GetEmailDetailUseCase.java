@@ -6,12 +6,17 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.email.application.service.ReadStatusTracker;
 import com.alphamail.api.email.domain.entity.Email;
 import com.alphamail.api.email.domain.entity.EmailAttachment;
 import com.alphamail.api.email.domain.repository.EmailAttachmentRepository;
+import com.alphamail.api.email.domain.repository.EmailBodyRepository;
 import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.repository.EmailThreadRepository;
+import com.alphamail.api.email.domain.valueobject.EmailBody;
 import com.alphamail.api.email.presentation.dto.EmailDetailResponse;
 import com.alphamail.api.email.presentation.dto.EmailThreadItem;
+import com.alphamail.api.email.presentation.dto.EmailThreadSummaryResponse;
 import com.alphamail.common.exception.ErrorMessage;
 import com.alphamail.common.exception.NotFoundException;
 
@@ -19,19 +24,24 @@ import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class GetEmailDetailUseCase {
 	private final EmailRepository emailRepository;
+	private final EmailBodyRepository emailBodyRepository;
 	private final EmailAttachmentRepository emailAttachmentRepository;
+	private final EmailThreadRepository emailThreadRepository;
+	private final ReadStatusTracker readStatusTracker;
 
 	public EmailDetailResponse execute(Integer emailId, Integer userId) {
 
-		// email 가져오기
-		Email email = emailRepository.findByIdAndUserId(emailId, userId)
+		// email 가져오기 - 헤더만, 본문은 권한 확인 후 본문 저장소에서
+		Email email = emailRepository.findHeaderByIdAndUserId(emailId, userId)
 			.orElseThrow(() -> new NotFoundException(ErrorMessage.RESOURCE_NOT_FOUND));
+		EmailBody body = emailBodyRepository.findByEmailId(emailId).orElseGet(EmailBody::empty);
 
+		// 바로 UPDATE 하지 않고 모아서 반영 (목록/카운터에는 tracker가 바로 읽음으로 보정)
 		if (email.getReadStatus() == null || !email.getReadStatus()) {
-			emailRepository.updateReadStatus(emailId, true);
+			readStatusTracker.markRead(userId, emailId, email.getFolderId());
 		}
 
 		// email 상세보기 가져오기
@@ -39,13 +49,17 @@ public class GetEmailDetailUseCase {
 
 
 		List<EmailThreadItem> threadList = Collections.emptyList();
+		EmailThreadSummaryResponse thread = null;
 		if(email.hasValidThreadId()) {
 			threadList = emailRepository.findByThreadIdAndUserId(email.getThreadId(), userId);
+			thread = emailThreadRepository.findByUserIdAndThreadId(userId, email.getThreadId())
+				.map(EmailThreadSummaryResponse::from)
+				.orElse(null);
 		}
 
 		// 읽음 표시가 필요한 경우에만 업데이트
 
-		return EmailDetailResponse.from(email, attachments, threadList);
+		return EmailDetailResponse.from(email, body, attachments, threadList, thread);
 
 	}
 }
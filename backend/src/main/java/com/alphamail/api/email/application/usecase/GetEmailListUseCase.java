@@ -1,20 +1,28 @@
 package com.alphamail.api.email.application.usecase;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.application.service.ReadStatusTracker;
 import com.alphamail.api.email.domain.repository.EmailAttachmentRepository;
+import com.alphamail.api.email.domain.repository.EmailFolderCounterRepository;
 import com.alphamail.api.email.domain.repository.EmailFolderRepository;
 import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.valueobject.EmailCursor;
+import com.alphamail.api.email.domain.valueobject.EmailSummary;
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
 import com.alphamail.api.email.presentation.dto.EmailListResponse;
 import com.alphamail.api.email.presentation.dto.EmailResponse;
 
@@ -27,6 +35,8 @@ public class GetEmailListUseCase {
 	private final EmailRepository emailRepository;
 	private final EmailFolderRepository emailFolderRepository;
 	private final EmailAttachmentRepository emailAttachmentRepository;
+	private final EmailFolderCounterRepository emailFolderCounterRepository;
+	private final ReadStatusTracker readStatusTracker;
 
 	public EmailListResponse execute(Integer folderId, Integer userId, String query, String sort, Pageable pageable) {
 
@@ -35,7 +45,7 @@ public class GetEmailListUseCase {
 		boolean isSentFolder = "sent".equalsIgnoreCase(folderName);
 		//폴더 이름(ex.보낸메일함, 받은메일함) 따라서 갖고오는 field 다름
 		String sortField;
-		if ("sent".equalsIgnoreCase(folderName)) {
+		if (isSentFolder) {
 			sortField = "sentDateTime";
 		} else {
 			sortField = "receivedDateTime";
@@ -53,49 +63,88 @@ public class GetEmailListUseCase {
 			Sort.by(direction, sortField)
 		);
 
-		Page<Email> emailPage;
+		// 폴더 전체/읽은 메일 수는 카운터 테이블에서 바로 조회 (행이 아직 없으면 집계 쿼리로 대체)
+		FolderMailCount folderCount = emailFolderCounterRepository.findByFolderId(folderId)
+			.orElseGet(() -> emailRepository.countByFolderIdAndUserId(folderId, userId))
+			.withPendingReads(readStatusTracker.pendingReadCounts(userId).getOrDefault(folderId, 0));
+
+		List<EmailSummary> emails;
+		int pageCount;
+		int currentPage;
 
 		if (StringUtils.hasText(query)) {
-			emailPage = emailRepository.searchByFolderIdAndUserId(folderId, userId, query, pageableWithSort);
+			Page<EmailSummary> emailPage = emailRepository.searchByFolderIdAndUserId(folderId, userId, query,
+				pageableWithSort);
+			emails = emailPage.getContent();
+			pageCount = emailPage.getTotalPages();
+			currentPage = emailPage.getNumber();
 		} else {
-			emailPage = emailRepository.findByFolderIdAndUserId(folderId, userId, pageableWithSort);
+			// 검색이 아니면 폴더 전체 건수로 페이지 수 계산 -> 별도 count 쿼리 없음
+			Slice<EmailSummary> emailSlice = emailRepository.findByFolderIdAndUserId(folderId, userId, pageableWithSort);
+			emails = emailSlice.getContent();
+			pageCount = folderCount.pageCount(pageableWithSort.getPageSize());
+			currentPage = emailSlice.getNumber();
 		}
 
-		int totalCount = emailRepository.countByFolderIdAndUserId(folderId, userId);
-		int readCount = emailRepository.countReadByFolderIdAndUserId(folderId, userId);
-
-		List<EmailResponse> emailResponses = emailPage.getContent().stream()
-			.map(email ->  {
-				if (isSentFolder) {
-					return new EmailResponse(
-						email.getEmailId(),
-						email.getSender(),
-						email.getSubject(),
-						email.getReceivedDateTime(),
-						email.getSentDateTime(),
-						emailAttachmentRepository.getTotalSizeByEmailId(email.getEmailId()),
-						email.getReadStatus(),
-						isTrashFolder ? email.getOriginalFolderId() : null,
-						email.getRecipients() // 수신자 정보 추가
-					);
-			} else {
-				// 받은 메일함인 경우 기존 응답 형식 유지
-					return EmailResponse.withoutRecipients(
-						email.getEmailId(),
-						email.getSender(),
-						email.getSubject(),
-						email.getReceivedDateTime(),
-						email.getSentDateTime(),
-						emailAttachmentRepository.getTotalSizeByEmailId(email.getEmailId()),
-						email.getReadStatus(),
-						isTrashFolder ? email.getOriginalFolderId() : null
-					);
-			}
-		})
+		return EmailListResponse.of(toResponses(emails, userId, isSentFolder, isTrashFolder), folderCount, pageCount,
+			currentPage);
+	}
+
+	// keyset 방식 - OFFSET 없이 (정렬 날짜, emailId) 커서 다음부터 조회
+	public EmailListResponse executeByCursor(Integer folderId, Integer userId, String sort, String cursor,
+		int size) {
+
+		String folderName = emailFolderRepository.getFolderNameById(folderId);
+		boolean isTrashFolder = "trash".equalsIgnoreCase(folderName);
+		boolean isSentFolder = "sent".equalsIgnoreCase(folderName);
+		String sortField = isSentFolder ? "sentDateTime" : "receivedDateTime";
+
+		Sort.Direction direction = "asc".equalsIgnoreCase(sort)
+			? Sort.Direction.ASC
+			: Sort.Direction.DESC;
+
+		// size + 1건 조회해서 다음 페이지 존재 여부 판단
+		List<EmailSummary> fetched = emailRepository.findByFolderIdAndUserIdAfter(folderId, userId,
+			EmailCursor.decode(cursor), sortField, direction, size + 1);
+		boolean hasNext = fetched.size() > size;
+		List<EmailSummary> emails = hasNext ? fetched.subList(0, size) : fetched;
+
+		String nextCursor = null;
+		if (hasNext) {
+			EmailSummary last = emails.get(emails.size() - 1);
+			LocalDateTime lastDate = isSentFolder ? last.sentDateTime() : last.receivedDateTime();
+			nextCursor = new EmailCursor(lastDate, last.emailId()).encode();
+		}
+
+		FolderMailCount folderCount = emailFolderCounterRepository.findByFolderId(folderId)
+			.orElseGet(() -> emailRepository.countByFolderIdAndUserId(folderId, userId))
+			.withPendingReads(readStatusTracker.pendingReadCounts(userId).getOrDefault(folderId, 0));
+
+		return EmailListResponse.ofCursor(toResponses(emails, userId, isSentFolder, isTrashFolder), folderCount,
+			nextCursor);
+	}
+
+	private List<EmailResponse> toResponses(List<EmailSummary> emails, Integer userId, boolean isSentFolder,
+		boolean isTrashFolder) {
+		// 페이지 내 메일들의 첨부 용량을 GROUP BY 한 번으로 조회
+		List<Integer> emailIds = emails.stream()
+			.map(EmailSummary::emailId)
 			.collect(Collectors.toList());
+		Map<Integer, Long> attachmentSizes = emailAttachmentRepository.getTotalSizesByEmailIds(emailIds);
+		// 수신자 배열은 보낸메일함일 때만 IN 조회 한 번
+		Map<Integer, List<String>> recipients = isSentFolder
+			? emailRepository.findRecipientsByIds(emailIds)
+			: Map.of();
+		Set<Integer> pendingReads = readStatusTracker.pendingEmailIds(userId);
 
-		return new EmailListResponse(emailResponses, totalCount, readCount, emailPage.getTotalPages(),
-			emailPage.getNumber());
+		return emails.stream()
+			.map(email -> pendingReads.contains(email.emailId()) ? email.asRead() : email)
+			.map(email -> EmailResponse.from(
+				email,
+				attachmentSizes.getOrDefault(email.emailId(), 0L).intValue(),
+				isSentFolder ? recipients.getOrDefault(email.emailId(), List.of()) : null,
+				isTrashFolder))
+			.collect(Collectors.toList());
 	}
 
 }
@@ -1,13 +1,19 @@
 package com.alphamail.api.email.application.usecase;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.email.application.service.ReadStatusTracker;
 import com.alphamail.api.email.domain.entity.EmailFolder;
+import com.alphamail.api.email.domain.repository.EmailFolderCounterRepository;
 import com.alphamail.api.email.domain.repository.EmailFolderRepository;
+import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
 import com.alphamail.api.email.presentation.dto.FolderResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -17,14 +23,35 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class GetFolderUseCase {
 	private final EmailFolderRepository emailFolderRepository;
+	private final EmailFolderCounterRepository emailFolderCounterRepository;
+	private final EmailRepository emailRepository;
+	private final ReadStatusTracker readStatusTracker;
 
 	public List<FolderResponse> execute(Integer userId) {
 		List<EmailFolder> folders = emailFolderRepository.findAllByUserId(userId);
 
+		List<Integer> folderIds = folders.stream()
+			.map(EmailFolder::getEmailFolderId)
+			.collect(Collectors.toList());
+
+		Map<Integer, FolderMailCount> counts = new HashMap<>(
+			emailFolderCounterRepository.findAllByFolderIds(folderIds));
+
+		// 카운터가 아직 없는 폴더만 집계 쿼리로 보충
+		List<Integer> missing = folderIds.stream()
+			.filter(id -> !counts.containsKey(id))
+			.collect(Collectors.toList());
+		if (!missing.isEmpty()) {
+			counts.putAll(emailRepository.countByFolderIds(missing));
+		}
+
+		Map<Integer, Integer> pendingReads = readStatusTracker.pendingReadCounts(userId);
+
 		return folders.stream()
-			.map(folder -> new FolderResponse(
-				folder.getEmailFolderId(),
-				folder.getEmailFolderName()
+			.map(folder -> FolderResponse.of(
+				folder,
+				counts.getOrDefault(folder.getEmailFolderId(), FolderMailCount.empty())
+					.withPendingReads(pendingReads.getOrDefault(folder.getEmailFolderId(), 0))
 			))
 			.collect(Collectors.toList());
 	}
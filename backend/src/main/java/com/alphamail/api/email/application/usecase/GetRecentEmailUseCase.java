@@ -1,26 +1,43 @@
 package com.alphamail.api.email.application.usecase;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.alphamail.api.email.domain.entity.RecentUsedEmail;
+import com.alphamail.api.email.domain.repository.RecentContactCacheRepository;
 import com.alphamail.api.email.domain.repository.RecentUsedEmailRepository;
 import com.alphamail.api.email.presentation.dto.RecentEmailListResponse;
 import com.alphamail.api.email.presentation.dto.RecentEmailResponse;
-import lombok.RequiredArgsConstructor;
 
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class GetRecentEmailUseCase {
 
+	private static final int RECENT_LIMIT = 10;
+
+	private final RecentContactCacheRepository recentContactCacheRepository;
 	private final RecentUsedEmailRepository recentUsedEmailRepository;
+	private final int maxSize;
+
+	public GetRecentEmailUseCase(RecentContactCacheRepository recentContactCacheRepository,
+		RecentUsedEmailRepository recentUsedEmailRepository,
+		@Value("${email.recent-contacts.max-size:50}") int maxSize) {
+		this.recentContactCacheRepository = recentContactCacheRepository;
+		this.recentUsedEmailRepository = recentUsedEmailRepository;
+		this.maxSize = maxSize;
+	}
 
 	public RecentEmailListResponse execute(Integer userId) {
-		List<RecentUsedEmail> emails = recentUsedEmailRepository.findTop10ByUserId(userId);
+		// 평소에는 ZREVRANGE 한 번
+		Optional<List<RecentUsedEmail>> cached = recentContactCacheRepository.findRecent(userId, RECENT_LIMIT);
+		List<RecentUsedEmail> emails = cached.filter(list -> !list.isEmpty())
+			.orElseGet(() -> loadFromDatabase(userId, cached.isPresent()));
 
 		List<RecentEmailResponse> responseList = emails.stream()
 			.map(RecentEmailResponse::from)
@@ -28,4 +45,18 @@ public class GetRecentEmailUseCase {
 
 		return RecentEmailListResponse.from(responseList);
 	}
+
+	// 캐시가 비어 있으면(만료/최초) DB에서 읽고 캐시를 채움, 캐시 장애면 DB만
+	private List<RecentUsedEmail> loadFromDatabase(Integer userId, boolean cacheAvailable) {
+		if (!cacheAvailable) {
+			return recentUsedEmailRepository.findTop10ByUserId(userId);
+		}
+
+		List<RecentUsedEmail> recent = recentUsedEmailRepository.findRecentByUserId(userId, maxSize);
+		Map<String, LocalDateTime> contacts = new LinkedHashMap<>();
+		recent.forEach(email -> contacts.putIfAbsent(email.getRecentEmail(), email.getLastUpdatedTime()));
+		recentContactCacheRepository.addAll(userId, contacts);
+
+		return recent.subList(0, Math.min(RECENT_LIMIT, recent.size()));
+	}
 }
@@ -0,0 +1,41 @@
+package com.alphamail.api.email.application.usecase;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alphamail.api.email.domain.entity.EmailFolder;
+import com.alphamail.api.email.domain.repository.EmailFolderRepository;
+import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.presentation.dto.MoveMailsRequest;
+import com.alphamail.common.exception.BadRequestException;
+import com.alphamail.common.exception.ErrorMessage;
+import com.alphamail.common.exception.ForbiddenException;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MoveMailsUseCase {
+
+	private final EmailFolderRepository emailFolderRepository;
+	private final EmailRepository emailRepository;
+
+	public void execute(MoveMailsRequest request, Integer userId) {
+
+		if (request.mailList() == null || request.mailList().isEmpty() || request.folderId() == null) {
+			throw new BadRequestException(ErrorMessage.INVALID_INPUT);
+		}
+
+		if (!emailRepository.validateEmailOwnership(request.mailList(), userId)) {
+			throw new ForbiddenException(ErrorMessage.ACCESS_DENIED);
+		}
+
+		EmailFolder folder = emailFolderRepository.findById(request.folderId());
+		if (folder == null || !userId.equals(folder.getUserId())) {
+			throw new ForbiddenException(ErrorMessage.ACCESS_DENIED);
+		}
+
+		emailRepository.updateFolder(request.mailList(), folder.getEmailFolderId());
+	}
+}
@@ -0,0 +1,38 @@
+package com.alphamail.api.email.application.usecase;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.entity.EmailAttachment;
+import com.alphamail.api.email.domain.entity.OutboundEmail;
+import com.alphamail.api.email.domain.repository.OutboundEmailRepository;
+import com.alphamail.api.email.presentation.dto.SendEmailRequest;
+
+import lombok.RequiredArgsConstructor;
+
+// 메일(QUEUED) + 첨부파일 행 + 발송 대기열 항목을 한 트랜잭션으로 저장 -> 커밋되면 디스패처가 발송
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class QueueEmailUseCase {
+
+	private final SaveEmailUseCase saveEmailUseCase;
+	private final SaveSendAttachmentUseCase saveSendAttachmentUseCase;
+	private final OutboundEmailRepository outboundEmailRepository;
+
+	public Email execute(SendEmailRequest request, Integer userId, String threadId,
+		List<EmailAttachment> uploadedAttachments) {
+
+		Email email = saveEmailUseCase.execute(request, userId, threadId, !uploadedAttachments.isEmpty());
+
+		if (!uploadedAttachments.isEmpty()) {
+			saveSendAttachmentUseCase.execute(uploadedAttachments, email);
+		}
+
+		outboundEmailRepository.save(OutboundEmail.queue(email.getEmailId(), userId));
+		return email;
+	}
+}
@@ -1,13 +1,11 @@
 package com.alphamail.api.email.application.usecase;
 
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.alphamail.api.email.domain.entity.Email;
 import com.alphamail.api.email.domain.repository.EmailRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -43,49 +41,13 @@ public class RestoreToOriginUseCase {
 			return false;
 		}
 
-		int successCount = 0;
-		int failedCount = 0;
-
+		// 메일마다 조회/UPDATE 하지 않고 originalFolderId 기준 UPDATE 한 번 (카운터도 폴더쌍별로 한 번에)
 		try {
-			for (Integer emailId : emailIds) {
-				try {
-					log.debug("Processing email ID: {}", emailId);
-					Optional<Email> emailOptional = emailRepository.findByIdAndUserId(emailId, userId);
-
-					if (emailOptional.isEmpty()) {
-						log.warn("Email not found or not owned by user. EmailId: {}, UserId: {}", emailId, userId);
-						failedCount++;
-						continue;
-					}
-
-					Email email = emailOptional.get();
-					Integer originalFolderId = email.getOriginalFolderId();
-
-					if (originalFolderId == null) {
-						log.warn("Original folder ID is null for email: {}", emailId);
-						failedCount++;
-						continue;
-					}
-
-					log.debug("Restoring email: {} to original folder: {}", emailId, originalFolderId);
-					emailRepository.updateFolder(List.of(emailId), originalFolderId);
-					successCount++;
-					log.debug("Successfully restored email: {} to folder: {}", emailId, originalFolderId);
-
-				} catch (DataAccessException e) {
-					log.error("Database error while processing email ID {}: {}", emailId, e.getMessage(), e);
-					failedCount++;
-				} catch (Exception e) {
-					log.error("Unexpected error while processing email ID {}: {}", emailId, e.getMessage(), e);
-					failedCount++;
-				}
-			}
-
-			log.info("Email restoration completed. Success: {}, Failed: {}", successCount, failedCount);
-			return successCount > 0; // 하나 이상 성공했으면 true 반환
-
-		} catch (Exception e) {
-			log.error("Critical error during email restoration process: {}", e.getMessage(), e);
+			int restored = emailRepository.restoreToOriginalFolders(emailIds, userId);
+			log.info("Email restoration completed. Restored: {}, Skipped: {}", restored, emailIds.size() - restored);
+			return restored > 0; // 하나 이상 성공했으면 true 반환
+		} catch (DataAccessException e) {
+			log.error("Database error during email restoration: {}", e.getMessage(), e);
 			return false;
 		}
 	}
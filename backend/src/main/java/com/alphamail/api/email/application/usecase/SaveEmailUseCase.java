@@ -22,10 +22,11 @@ public class SaveEmailUseCase {
 	private final EmailRepository emailRepository;
 	private final EmailFolderRepository emailFolderRepository;
 
-	public Email execute(SendEmailRequest request, Integer userId) {
+	// 답장이면 원본 스레드 ID로 바로 저장 (새 메일은 발송 후 Message-ID로 계산)
+	public Email execute(SendEmailRequest request, Integer userId, String threadId, boolean hasAttachment) {
 
 		Integer sentFolderId = emailFolderRepository.getSentFolderId(userId);
-		Email email = Email.createForSending(request, userId, sentFolderId );
+		Email email = Email.createForSending(request, userId, sentFolderId, threadId, hasAttachment);
 		return emailRepository.save(email);
 
 	}
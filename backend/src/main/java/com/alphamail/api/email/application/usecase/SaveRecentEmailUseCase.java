@@ -1,31 +1,55 @@
 package com.alphamail.api.email.application.usecase;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.email.application.service.RecentContactPersister;
 import com.alphamail.api.email.domain.entity.RecentUsedEmail;
+import com.alphamail.api.email.domain.repository.RecentContactCacheRepository;
 import com.alphamail.api.email.domain.repository.RecentUsedEmailRepository;
-import lombok.RequiredArgsConstructor;
 
 @Service
-@RequiredArgsConstructor
 public class SaveRecentEmailUseCase {
+	private final RecentContactCacheRepository recentContactCacheRepository;
 	private final RecentUsedEmailRepository recentUsedEmailRepository;
+	private final RecentContactPersister recentContactPersister;
+	private final int maxSize;
 
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public void execute(Integer userId, String email, String owner) {
-		// 이미 존재하면 timestamp만 업데이트
-		Optional<RecentUsedEmail> existingEmail =
-			recentUsedEmailRepository.findByUserIdAndRecentEmail(userId, email);
-
-		if (existingEmail.isPresent()) {
-			recentUsedEmailRepository.save(existingEmail.get().updateLastUsedTime());
-		} else {
-			RecentUsedEmail newRecentEmail = RecentUsedEmail.create(userId, email, owner);
-			recentUsedEmailRepository.save(newRecentEmail);
+	public SaveRecentEmailUseCase(RecentContactCacheRepository recentContactCacheRepository,
+		RecentUsedEmailRepository recentUsedEmailRepository,
+		RecentContactPersister recentContactPersister,
+		@Value("${email.recent-contacts.max-size:50}") int maxSize) {
+		this.recentContactCacheRepository = recentContactCacheRepository;
+		this.recentUsedEmailRepository = recentUsedEmailRepository;
+		this.recentContactPersister = recentContactPersister;
+		this.maxSize = maxSize;
+	}
+
+	// 수신자 전체를 Redis ZADD 한 번으로 기록, DB 반영은 RecentContactPersister가 모아서 처리
+	public void execute(Integer userId, List<String> emails) {
+		if (emails == null || emails.isEmpty()) {
+			return;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		Map<String, LocalDateTime> used = new LinkedHashMap<>();
+		emails.forEach(email -> used.put(email, now));
+
+		// 캐시가 없는 사용자는 DB 기록으로 먼저 채움 -> 새 수신자만 남아 이전 기록이 가려지지 않도록
+		Map<String, LocalDateTime> contacts = new LinkedHashMap<>();
+		if (!recentContactCacheRepository.exists(userId).orElse(true)) {
+			for (RecentUsedEmail recent : recentUsedEmailRepository.findRecentByUserId(userId, maxSize)) {
+				contacts.put(recent.getRecentEmail(), recent.getLastUpdatedTime());
+			}
 		}
+		contacts.putAll(used);
+
+		recentContactCacheRepository.addAll(userId, contacts);
+		recentContactPersister.enqueue(userId, used);
 	}
-}
\ No newline at end of file
+}
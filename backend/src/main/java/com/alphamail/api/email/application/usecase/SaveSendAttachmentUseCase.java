@@ -1,8 +1,7 @@
 package com.alphamail.api.email.application.usecase;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -21,25 +20,33 @@ public class SaveSendAttachmentUseCase {
 	private final EmailAttachmentRepository emailAttachmentRepository;
 	private final S3Service s3Service;
 
-	public List<EmailAttachment> execute(List<MultipartFile> files, Email email) {
-
-		Iterator<MultipartFile> fileIterator = files.iterator();
+	// 요청이 끝나면 MultipartFile 임시 파일이 사라지므로 발송 대기열에 넣기 전에 S3에 먼저 올림 (DB 트랜잭션 밖)
+	// 파일마다 동시에 올리고, 호출한 쪽은 기다리는 동안 다른 준비 작업을 할 수 있음
+	public CompletableFuture<List<EmailAttachment>> uploadAsync(List<MultipartFile> files) {
+
+		List<CompletableFuture<EmailAttachment>> uploads = files.stream()
+			.map(file -> s3Service.uploadFileAsync(file)
+				.thenApply(s3Key -> EmailAttachment.builder()
+					.name(file.getOriginalFilename())
+					.size(file.getSize())
+					.type(file.getContentType())
+					.S3Key(s3Key)
+					.build()))
+			.toList();
+
+		return CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+			.thenApply(done -> uploads.stream()
+				.map(CompletableFuture::join)
+				.toList());
+	}
 
-		List<EmailAttachment> attachmentsToSave = new ArrayList<>();
+	public List<EmailAttachment> execute(List<EmailAttachment> uploaded, Email email) {
 
-		while (fileIterator.hasNext()) {
-			MultipartFile file = fileIterator.next();
-			String s3Key = s3Service.uploadFile(file);
-			EmailAttachment attachment = EmailAttachment.builder()
+		List<EmailAttachment> attachmentsToSave = uploaded.stream()
+			.map(attachment -> attachment.toBuilder()
 				.emailId(email.getEmailId())
-				.name(file.getOriginalFilename())
-				.size(file.getSize())
-				.type(file.getContentType())
-				.S3Key(s3Key)
-				.build();
-
-			attachmentsToSave.add(attachment);
-		}
+				.build())
+			.toList();
 
 		emailAttachmentRepository.saveAll(attachmentsToSave);
 
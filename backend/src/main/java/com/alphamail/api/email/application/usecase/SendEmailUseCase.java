@@ -3,9 +3,9 @@ package com.alphamail.api.email.application.usecase;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.entity.EmailAttachment;
 import com.alphamail.api.email.domain.port.EmailSenderPort;
 
 import lombok.RequiredArgsConstructor;
@@ -15,7 +15,7 @@ import lombok.RequiredArgsConstructor;
 public class SendEmailUseCase {
 	private final EmailSenderPort emailSenderPort;
 
-	public String execute(Email email, List<MultipartFile> multipartFilesAttachments) {
-		return emailSenderPort.send(email, multipartFilesAttachments);
+	public String execute(Email email, List<EmailAttachment> attachments) {
+		return emailSenderPort.send(email, attachments);
 	}
 }
@@ -0,0 +1,39 @@
+package com.alphamail.api.email.application.usecase;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alphamail.api.email.application.service.ReadStatusTracker;
+import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.presentation.dto.UpdateReadStatusRequest;
+import com.alphamail.common.exception.BadRequestException;
+import com.alphamail.common.exception.ErrorMessage;
+import com.alphamail.common.exception.ForbiddenException;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UpdateReadStatusUseCase {
+
+	private final EmailRepository emailRepository;
+	private final ReadStatusTracker readStatusTracker;
+
+	// 선택한 메일 전체를 읽음/안 읽음으로, 실제로 바뀐 건수 반환
+	public int execute(UpdateReadStatusRequest request, Integer userId) {
+
+		if (request.mailList() == null || request.mailList().isEmpty() || request.read() == null) {
+			throw new BadRequestException(ErrorMessage.INVALID_INPUT);
+		}
+
+		if (!emailRepository.validateEmailOwnership(request.mailList(), userId)) {
+			throw new ForbiddenException(ErrorMessage.ACCESS_DENIED);
+		}
+
+		if (!request.read()) {
+			readStatusTracker.discard(userId, request.mailList());
+		}
+		return emailRepository.updateReadStatus(request.mailList(), userId, request.read());
+	}
+}
@@ -43,8 +43,10 @@ public class Email {
 	private EmailStatus emailStatus; // SENT, FAILED, RETRYING
 	private Integer originalFolderId;
 
-	// 발송용 이메일 생성 정적 팩토리 메서드
-	public static Email createForSending(SendEmailRequest request, Integer userId, Integer sentFolderId) {
+	// 발송용 이메일 생성 정적 팩토리 메서드 (발송 대기열에 넣는 시점의 상태)
+	// 첨부 여부는 실제로 저장된 첨부파일 기준 (직접 업로드분은 request.attachments에 없음)
+	public static Email createForSending(SendEmailRequest request, Integer userId, Integer sentFolderId,
+		String threadId, boolean hasAttachment) {
 
 		return Email.builder()
 			.folderId(sentFolderId)
@@ -56,12 +58,12 @@ public class Email {
 			.bodyText(request.bodyText())
 			.bodyHtml(request.bodyHtml())
 			.sentDateTime(LocalDateTime.now())
-			.hasAttachment(request.attachments() != null && !request.attachments().isEmpty())
+			.hasAttachment(hasAttachment)
 			.inReplyTo(request.inReplyTo())
 			.references(request.references())
-			.threadId(null)
+			.threadId(threadId)
 			.emailType(EmailType.SENT)
-			.emailStatus(EmailStatus.RETRYING)
+			.emailStatus(EmailStatus.QUEUED)
 			.build();
 	}
 
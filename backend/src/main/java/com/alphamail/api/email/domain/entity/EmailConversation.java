@@ -0,0 +1,25 @@
+package com.alphamail.api.email.domain.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 폴더 안의 대화(스레드) 한 줄
+ * 스레드 중 해당 폴더에 있는 메일만 집계합니다. (받은편지함의 대화 = 받은편지함에 있는 메일들)
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EmailConversation {
+	private Integer folderId;
+	private String threadId;
+	private Integer messageCount;
+	private Integer unreadCount;
+	private Boolean hasAttachment;
+	private Integer latestEmailId;
+	private LocalDateTime lastActivityAt;
+}
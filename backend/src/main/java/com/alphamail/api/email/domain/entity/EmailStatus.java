@@ -1,6 +1,9 @@
 package com.alphamail.api.email.domain.entity;
 
+// 발송 메일: QUEUED -> SENDING -> SENT, 실패 시 RETRYING -> SENDING ... -> FAILED
 public enum EmailStatus {
+	QUEUED,
+	SENDING,
 	SENT,
 	FAILED,
 	RETRYING,
@@ -0,0 +1,28 @@
+package com.alphamail.api.email.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자별 메일 스레드 요약
+ * 스레드에 속한 메일이 추가/삭제/읽음 처리될 때마다 emails에서 다시 집계해서 email_threads에 유지합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EmailThread {
+	private Integer userId;
+	private String threadId;
+	private String subject;
+	private List<String> participants;
+	private Integer messageCount;
+	private Integer unreadCount;
+	private Boolean hasAttachment;
+	private Integer latestEmailId;
+	private LocalDateTime lastActivityAt;
+}
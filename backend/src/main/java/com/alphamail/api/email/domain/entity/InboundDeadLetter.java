@@ -0,0 +1,32 @@
+package com.alphamail.api.email.domain.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+public class InboundDeadLetter {
+	private Long deadLetterId;
+	private Long envelopeId;
+	private Integer emailId;
+	private InboundEmailStage stage;
+	private String reason;
+	private LocalDateTime createdAt;
+
+	public static InboundDeadLetter of(Long envelopeId, Integer emailId, InboundEmailStage stage, String reason) {
+		return InboundDeadLetter.builder()
+			.envelopeId(envelopeId)
+			.emailId(emailId)
+			.stage(stage)
+			.reason(reason)
+			.createdAt(LocalDateTime.now())
+			.build();
+	}
+}
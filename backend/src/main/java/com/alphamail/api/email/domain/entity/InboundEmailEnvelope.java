@@ -0,0 +1,53 @@
+package com.alphamail.api.email.domain.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Lambda가 보낸 수신 메일 원본(JSON)을 그대로 보관하는 봉투
+ * 저장 후 바로 202를 응답하고, 실제 메일 저장/AI 처리는 파이프라인 워커가 이어서 처리합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString(exclude = "payload")
+public class InboundEmailEnvelope {
+	private Long envelopeId;
+	private String messageId;
+	private String payload;
+	private InboundEmailFormat format;
+	private InboundEmailStatus status;
+	private Integer attempts;
+	private Integer emailId;
+	private String lastError;
+	private LocalDateTime nextAttemptAt;
+	private LocalDateTime claimedAt;
+	private LocalDateTime createdAt;
+
+	public static InboundEmailEnvelope accept(String messageId, String payload, InboundEmailFormat format) {
+		LocalDateTime now = LocalDateTime.now();
+		return InboundEmailEnvelope.builder()
+			.messageId(messageId)
+			.payload(payload)
+			.format(format)
+			.status(InboundEmailStatus.PENDING)
+			.attempts(0)
+			.nextAttemptAt(now)
+			.createdAt(now)
+			.build();
+	}
+
+	// 형식 컬럼이 생기기 전에 쌓인 봉투(null)는 모두 JSON
+	public boolean isRawMime() {
+		return format == InboundEmailFormat.RAW_MIME;
+	}
+
+	public int nextAttempt() {
+		return attempts == null ? 1 : attempts + 1;
+	}
+}
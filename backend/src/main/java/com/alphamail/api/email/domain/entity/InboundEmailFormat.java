@@ -0,0 +1,8 @@
+package com.alphamail.api.email.domain.entity;
+
+public enum InboundEmailFormat {
+	// Lambda가 파싱한 ReceiveEmailRequest JSON
+	JSON,
+	// S3에 저장된 RFC 822 원본의 key만 받음 (파싱은 PERSIST 단계에서)
+	RAW_MIME
+}
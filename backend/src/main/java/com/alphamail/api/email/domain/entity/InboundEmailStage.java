@@ -0,0 +1,8 @@
+package com.alphamail.api.email.domain.entity;
+
+public enum InboundEmailStage {
+	PERSIST,
+	VECTOR,
+	OCR,
+	MCP
+}
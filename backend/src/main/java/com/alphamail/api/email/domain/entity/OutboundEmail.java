@@ -0,0 +1,55 @@
+package com.alphamail.api.email.domain.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 발송 대기열 항목
+ * 요청 스레드는 메일/첨부파일을 저장하고 이 항목만 남긴 뒤 바로 반환하고,
+ * 실제 SES 발송은 OutboundEmailDispatcher가 계정 발송 속도에 맞춰 처리합니다.
+ * 상태는 메일과 같은 EmailStatus를 씁니다. (QUEUED/RETRYING 대기, SENDING 선점, SENT/FAILED 종료)
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+public class OutboundEmail {
+	private Long outboundId;
+	private Integer emailId;
+	private Integer userId;
+	private EmailStatus status;
+	private Integer attempts;
+	// SES 한도 초과로 되돌린 횟수 - 시도 횟수와 따로 세고 더 큰 한도를 씀
+	private Integer throttles;
+	private String lastError;
+	private String sesMessageId;
+	private LocalDateTime nextAttemptAt;
+	private LocalDateTime claimedAt;
+	private LocalDateTime createdAt;
+
+	public static OutboundEmail queue(Integer emailId, Integer userId) {
+		LocalDateTime now = LocalDateTime.now();
+		return OutboundEmail.builder()
+			.emailId(emailId)
+			.userId(userId)
+			.status(EmailStatus.QUEUED)
+			.attempts(0)
+			.throttles(0)
+			.nextAttemptAt(now)
+			.createdAt(now)
+			.build();
+	}
+
+	public int nextAttempt() {
+		return attempts == null ? 1 : attempts + 1;
+	}
+
+	public int nextThrottle() {
+		return throttles == null ? 1 : throttles + 1;
+	}
+}
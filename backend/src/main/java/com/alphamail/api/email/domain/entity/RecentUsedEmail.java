@@ -26,6 +26,12 @@ public class RecentUsedEmail {
 			.build();
 	}
 
+	public RecentUsedEmail usedAt(LocalDateTime usedAt) {
+		return this.toBuilder()
+			.lastUpdatedTime(usedAt)
+			.build();
+	}
+
 	public RecentUsedEmail updateLastUsedTime() {
 		return this.toBuilder()
 			.lastUpdatedTime(LocalDateTime.now())
@@ -1,13 +1,16 @@
 package com.alphamail.api.email.domain.port;
 
 import java.util.List;
-
-import org.springframework.web.multipart.MultipartFile;
+import java.util.OptionalDouble;
 
 import com.alphamail.api.email.domain.entity.Email;
 import com.alphamail.api.email.domain.entity.EmailAttachment;
 
 public interface EmailSenderPort {
 
-	String send(Email email, List<MultipartFile> multipartFiles);
+	// 첨부파일은 S3에 올라간 것을 읽어서 붙임, 발송 한도 초과는 ServiceUnavailableException
+	String send(Email email, List<EmailAttachment> attachments);
+
+	// 초당 최대 발송 수 (조회할 수 없으면 empty)
+	OptionalDouble maxSendRate();
 }
@@ -0,0 +1,16 @@
+package com.alphamail.api.email.domain.port;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.alphamail.api.email.domain.valueobject.ParsedInboundEmail;
+import com.alphamail.api.email.presentation.dto.ReceiveEmailRequest;
+
+public interface RawEmailParserPort {
+
+	// S3의 RFC 822 원본을 읽어 수신 요청으로 변환, 첨부파일은 파싱하면서 S3에 올리고 key만 담음
+	// 같은 원본은 항상 같은 첨부 key를 쓰므로 재시도해도 객체가 늘어나지 않음
+	// 헤더만 채운 요청(본문/첨부 없음)으로 duplicateFinder를 먼저 호출 -> 이미 저장된 메일이면 첨부를 올리지 않고 그 emailId 반환
+	ParsedInboundEmail parse(String rawS3Key, String actualRecipient,
+		Function<ReceiveEmailRequest, Optional<Integer>> duplicateFinder);
+}
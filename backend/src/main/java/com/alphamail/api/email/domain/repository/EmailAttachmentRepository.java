@@ -1,6 +1,7 @@
 package com.alphamail.api.email.domain.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.alphamail.api.email.domain.entity.EmailAttachment;
@@ -10,9 +11,17 @@ public interface EmailAttachmentRepository {
 
 	Integer getTotalSizeByEmailId(Integer emailId);
 
+	// 목록 화면용 - 한 페이지의 메일별 첨부 용량을 한 번에 조회 (첨부 없는 메일은 key 없음)
+	Map<Integer, Long> getTotalSizesByEmailIds(List<Integer> emailIds);
+
 	List<EmailAttachment> findAllByEmailId(Integer emailId);
 
 	Optional<EmailAttachment> findById(Integer attachmentId);
 
+	List<String> findS3KeysByEmailIds(List<Integer> emailIds);
+
+	// 주어진 키 중 아직 첨부파일 행이나 거래처 사업자등록증이 참조하는 키 (S3에서 지우면 안 됨)
+	List<String> findReferencedS3Keys(List<String> s3Keys);
+
 	Void saveAll(List<EmailAttachment> emailAttachmentList);
 }
@@ -0,0 +1,11 @@
+package com.alphamail.api.email.domain.repository;
+
+import java.util.Optional;
+
+import com.alphamail.api.email.domain.valueobject.EmailBody;
+
+// 본문(TEXT 컬럼)만 따로 읽는 저장소 - 목록/헤더 조회에는 본문이 실리지 않음
+public interface EmailBodyRepository {
+
+	Optional<EmailBody> findByEmailId(Integer emailId);
+}
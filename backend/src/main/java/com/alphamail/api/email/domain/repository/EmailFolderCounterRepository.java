@@ -0,0 +1,24 @@
+package com.alphamail.api.email.domain.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
+
+public interface EmailFolderCounterRepository {
+
+	Optional<FolderMailCount> findByFolderId(Integer folderId);
+
+	Map<Integer, FolderMailCount> findAllByFolderIds(List<Integer> folderIds);
+
+	void increment(Integer folderId, int totalDelta, int readDelta);
+
+	void initialize(Integer folderId, Integer userId, FolderMailCount count);
+
+	// 현재 emails 집계로 카운터 행 생성 (이미 있으면 false)
+	boolean createFromEmails(Integer folderId);
+
+	// 행을 잠그고 다시 집계해서 어긋났으면 고침 -> 고쳤으면 고치기 전 값
+	Optional<FolderMailCount> recount(Integer folderId);
+}
@@ -22,4 +22,7 @@ public interface EmailFolderRepository {
 
 	List<EmailFolder> saveAll(List<EmailFolder> emailFolders);
 
+	// 전체 폴더를 id 순으로 끊어 읽기 (재집계 잡용)
+	List<EmailFolder> findAllAfterId(Integer lastFolderId, int limit);
+
 }
@@ -1,13 +1,19 @@
 package com.alphamail.api.email.domain.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import com.alphamail.api.email.domain.entity.Email;
 import com.alphamail.api.email.domain.entity.EmailStatus;
+import com.alphamail.api.email.domain.valueobject.EmailCursor;
+import com.alphamail.api.email.domain.valueobject.EmailSummary;
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
 import com.alphamail.api.email.presentation.dto.EmailThreadItem;
 
 public interface EmailRepository {
@@ -15,16 +21,34 @@ public interface EmailRepository {
 
 	Email updateStatus(Integer emailId, EmailStatus status);
 
-	Page<Email> findByFolderIdAndUserId(Integer folderId, Integer userId, Pageable pageable);
+	// 목록 조회는 본문 없는 EmailSummary로
+	Slice<EmailSummary> findByFolderIdAndUserId(Integer folderId, Integer userId, Pageable pageable);
 
-	Page<Email> searchByFolderIdAndUserId(Integer folderId, Integer userId, String query, Pageable pageable);
+	// cursor 다음부터 최대 limit건 (cursor가 null이면 처음부터)
+	List<EmailSummary> findByFolderIdAndUserIdAfter(Integer folderId, Integer userId, EmailCursor cursor,
+		String sortField, Sort.Direction direction, int limit);
 
-	int countByFolderIdAndUserId(Integer folderId, Integer userId);
+	Page<EmailSummary> searchByFolderIdAndUserId(Integer folderId, Integer userId, String query, Pageable pageable);
 
-	int countReadByFolderIdAndUserId(Integer folderId, Integer userId);
+	FolderMailCount countByFolderIdAndUserId(Integer folderId, Integer userId);
+
+	// 카운터 행이 없는 폴더의 대체 조회 / 재집계용 (GROUP BY 한 번)
+	Map<Integer, FolderMailCount> countByFolderIds(List<Integer> folderIds);
+
+	// 순서는 보장하지 않음
+	List<Email> findAllByIds(List<Integer> emailIds);
+
+	// 순서는 보장하지 않음
+	List<EmailSummary> findSummariesByIds(List<Integer> emailIds);
+
+	// 수신자 배열이 필요한 목록(보낸메일함)에서만
+	Map<Integer, List<String>> findRecipientsByIds(List<Integer> emailIds);
 
 	Optional<Email> findByIdAndUserId(Integer emailId, Integer userId);
 
+	// 본문(bodyText/bodyHtml)은 비어 있음 -> EmailBodyRepository에서 따로
+	Optional<Email> findHeaderByIdAndUserId(Integer emailId, Integer userId);
+
 	void updateFolder(List<Integer> integers, Integer emailFolderId);
 
 	boolean validateEmailOwnership(List<Integer> emailIds, Integer userId);
@@ -41,12 +65,19 @@ public interface EmailRepository {
 
 	Email findByMessageId(String messageId);
 
-	List<Email> findAllByMessageId(String messageId);
+	// 같은 사용자가 같은 Message-ID로 이미 받은 메일
+	Optional<Integer> findReceivedEmailIdByMessageId(Integer userId, String messageId);
 
 	Integer deleteSelectedEmails(List<Integer> emailsIds, Integer userId);
 
+	// originalFolderId가 있는 메일만 UPDATE 한 번으로 복원, 복원된 건수 반환
+	int restoreToOriginalFolders(List<Integer> emailIds, Integer userId);
+
 	boolean areAllEmailsInTrash(List<Integer> emailIds, Integer userId);
 
 	void updateReadStatus(Integer emailId, Boolean readStatus);
 
+	// 읽음 여부가 실제로 바뀐 건수 반환
+	int updateReadStatus(List<Integer> emailIds, Integer userId, Boolean readStatus);
+
 }
@@ -0,0 +1,21 @@
+package com.alphamail.api.email.domain.repository;
+
+import java.util.List;
+
+import com.alphamail.api.email.domain.entity.Email;
+
+public interface EmailSearchIndexRepository {
+
+	void index(Email email);
+
+	// 기존 메일 백필용 - id로 다시 읽어서 색인
+	int reindex(List<Integer> emailIds);
+
+	void deleteByEmailIds(List<Integer> emailIds);
+
+	// 아직 색인되지 않은 메일 id (afterId 이후, id 오름차순)
+	List<Integer> findUnindexedEmailIds(Integer afterId, int limit);
+
+	// 메일이 없으면 0
+	int findMaxEmailId();
+}
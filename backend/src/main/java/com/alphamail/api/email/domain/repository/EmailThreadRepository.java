@@ -0,0 +1,34 @@
+package com.alphamail.api.email.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.alphamail.api.email.domain.entity.EmailConversation;
+import com.alphamail.api.email.domain.entity.EmailThread;
+import com.alphamail.api.email.domain.valueobject.EmailCursor;
+import com.alphamail.api.email.domain.valueobject.EmailThreadKey;
+
+public interface EmailThreadRepository {
+
+	// 참조 체인(오래된 순, 꺾쇠 없는 id) 중 사용자가 가진 가장 가까운 조상 메일의 스레드
+	Optional<String> findThreadIdByReferenceChain(Integer userId, List<String> chain);
+
+	Optional<EmailThread> findByUserIdAndThreadId(Integer userId, String threadId);
+
+	// 폴더의 대화 목록, 마지막 활동 시각 내림차순 (cursor가 null이면 처음부터)
+	List<EmailConversation> findConversations(Integer userId, Integer folderId, EmailCursor cursor, int limit);
+
+	List<EmailThreadKey> findThreadKeysByEmailIds(List<Integer> emailIds);
+
+	// 스레드 요약과 Message-ID 매핑을 emails 기준으로 다시 맞춤 (메일이 없으면 요약 삭제)
+	void refresh(Collection<EmailThreadKey> keys);
+
+	// 영구 삭제 후 refresh - 지워진 메일의 Message-ID 매핑도 함께 삭제
+	void purge(Collection<EmailThreadKey> keys);
+
+	void refreshByEmailIds(List<Integer> emailIds);
+
+	// 스레드 요약이 아직 없는 메일 (백필용)
+	List<Integer> findUnthreadedEmailIds(Integer afterId, int limit);
+}
@@ -0,0 +1,8 @@
+package com.alphamail.api.email.domain.repository;
+
+import com.alphamail.api.email.domain.entity.InboundDeadLetter;
+
+public interface InboundDeadLetterRepository {
+
+	InboundDeadLetter save(InboundDeadLetter deadLetter);
+}
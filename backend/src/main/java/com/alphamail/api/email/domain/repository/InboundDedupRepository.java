@@ -0,0 +1,16 @@
+package com.alphamail.api.email.domain.repository;
+
+import java.util.Optional;
+
+/**
+ * 수신 메일 중복 접수 필터 (수신자 주소 + Message-ID)
+ * DB 유니크 인덱스 앞단의 빠른 경로라서 저장소 장애 시에는 판단하지 않고 empty를 반환합니다.
+ */
+public interface InboundDedupRepository {
+
+	// 처음 보는 메일이면 표시하고 true, 이미 접수된 메일이면 false
+	Optional<Boolean> markIfAbsent(String recipient, String messageId);
+
+	// 접수 자체가 실패했을 때 표시를 지워 재전송이 다시 들어올 수 있게 함
+	void release(String recipient, String messageId);
+}
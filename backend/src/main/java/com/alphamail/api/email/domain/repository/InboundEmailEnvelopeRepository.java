@@ -0,0 +1,24 @@
+package com.alphamail.api.email.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.alphamail.api.email.domain.entity.InboundEmailEnvelope;
+
+public interface InboundEmailEnvelopeRepository {
+
+	InboundEmailEnvelope save(InboundEmailEnvelope envelope);
+
+	// PENDING 봉투를 최대 limit개까지 PROCESSING으로 선점 (다른 인스턴스와 겹치지 않음)
+	List<InboundEmailEnvelope> claimPending(int limit);
+
+	void markDone(Long envelopeId, Integer emailId);
+
+	void markRetry(Long envelopeId, int attempts, LocalDateTime nextAttemptAt, String lastError);
+
+	void markDead(Long envelopeId, int attempts, String lastError);
+
+	// 워커가 죽어서 PROCESSING에 멈춘 봉투의 시도 횟수를 올려 PENDING으로 돌리고, maxAttempts에 닿으면 DEAD
+	// 바뀐 상태로 반환 (DEAD는 호출 측에서 dead-letter 기록)
+	List<InboundEmailEnvelope> requeueStale(LocalDateTime claimedBefore, int maxAttempts, String lastError);
+}
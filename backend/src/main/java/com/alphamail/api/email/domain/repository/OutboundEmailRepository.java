@@ -0,0 +1,32 @@
+package com.alphamail.api.email.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.alphamail.api.email.domain.entity.OutboundEmail;
+
+public interface OutboundEmailRepository {
+
+	OutboundEmail save(OutboundEmail outboundEmail);
+
+	// QUEUED/RETRYING 중 시간이 된 항목을 최대 limit개까지 SENDING으로 선점 (메일 상태도 함께 변경)
+	List<OutboundEmail> claimQueued(int limit);
+
+	void markSent(Long outboundId);
+
+	// SES 접수 직후 기록 - 이후 단계가 실패해도 이 항목은 재발송 대상이 되지 않음
+	void recordSesMessageId(Long outboundId, String sesMessageId);
+
+	// 발송 완료 처리(messageId/스레드 갱신)가 실패했을 때 상태만이라도 SENT로 고정
+	void markSentWithoutDetails(OutboundEmail outboundEmail, String sesMessageId);
+
+	void markRetry(OutboundEmail outboundEmail, int attempts, LocalDateTime nextAttemptAt, String lastError);
+
+	// SES 한도 초과 - 시도 횟수는 그대로 두고 한도 초과 횟수만 기록
+	void markThrottled(OutboundEmail outboundEmail, int throttles, LocalDateTime nextAttemptAt, String lastError);
+
+	void markFailed(OutboundEmail outboundEmail, int attempts, String lastError);
+
+	// 워커가 죽어서 SENDING에 멈춘 항목을 다시 QUEUED로 돌림 (SES가 이미 접수한 항목은 SENT로 마무리)
+	int requeueStale(LocalDateTime claimedBefore);
+}
@@ -0,0 +1,46 @@
+package com.alphamail.api.email.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 아직 DB에 반영되지 않은 읽음 표시 (userId -> emailId -> folderId)
+ * 모든 인스턴스가 같은 저장소를 보므로 어느 인스턴스에서 조회해도 같은 보정값이 나옵니다.
+ */
+public interface PendingReadRepository {
+
+	// 저장소 장애면 false -> 호출 측이 바로 DB에 반영
+	boolean add(Integer userId, Integer emailId, Integer folderId);
+
+	// 대기 중 + 반영 중인 항목 (장애면 빈 맵)
+	Map<Integer, Integer> findAll(Integer userId);
+
+	// 대기/반영 중 항목에서 제거 (기다리지 않음 - 이미 쓰고 있는 반영은 findFlushing으로 다시 확인하고 뺌)
+	void remove(Integer userId, Collection<Integer> emailIds);
+
+	// 반영할 항목이 있는 사용자를 최대 limit명 꺼냄
+	List<Integer> popUsers(int limit);
+
+	// 사용자 단위 반영 락 (다른 인스턴스가 같은 사용자를 동시에 반영하지 않도록)
+	boolean lockFlush(Integer userId);
+
+	void unlockFlush(Integer userId);
+
+	// 대기분을 반영 중으로 옮기고 그 내용을 반환 (락을 쥔 상태에서만 호출)
+	Map<Integer, Integer> beginFlush(Integer userId);
+
+	// 반영 중 항목 중 아직 제거되지 않은 emailId (장애면 예외 -> 반영 실패로 처리)
+	Set<Integer> findFlushing(Integer userId);
+
+	void completeFlush(Integer userId);
+
+	// 반영 실패 - 반영 중 항목을 대기분으로 되돌림
+	void abortFlush(Integer userId);
+
+	// 다른 인스턴스가 반영 중이라 이번에 못 한 사용자를 다시 대기 목록에
+	void requeueUser(Integer userId);
+
+	long countPendingUsers();
+}
@@ -0,0 +1,34 @@
+package com.alphamail.api.email.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아직 DB에 반영되지 않은 최근 수신자 사용 기록 (userId -> 이메일 -> 마지막 사용 시각)
+ * 인스턴스 밖 저장소라 반영 전에 인스턴스가 죽어도 기록이 남습니다.
+ */
+public interface PendingRecentContactRepository {
+
+	// 저장소 장애면 false -> 호출 측이 바로 DB에 반영
+	boolean add(Integer userId, Map<String, LocalDateTime> contacts);
+
+	// 반영할 항목이 있는 사용자를 최대 limit명 꺼냄
+	List<Integer> popUsers(int limit);
+
+	// 사용자 단위 반영 락 (다른 인스턴스가 같은 사용자를 동시에 반영하지 않도록)
+	boolean lockFlush(Integer userId);
+
+	void unlockFlush(Integer userId);
+
+	// 대기분을 반영 중으로 옮기고 그 내용을 반환 (락을 쥔 상태에서만 호출)
+	Map<String, LocalDateTime> beginFlush(Integer userId);
+
+	void completeFlush(Integer userId);
+
+	// 반영 실패 - 반영 중 항목을 대기분으로 되돌림 (그 사이 더 최근에 쓴 이메일은 그대로)
+	void abortFlush(Integer userId);
+
+	// 다른 인스턴스가 반영 중이라 이번에 못 한 사용자를 다시 대기 목록에
+	void requeueUser(Integer userId);
+}
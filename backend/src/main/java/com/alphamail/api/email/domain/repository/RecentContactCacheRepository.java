@@ -0,0 +1,20 @@
+package com.alphamail.api.email.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.alphamail.api.email.domain.entity.RecentUsedEmail;
+
+// 최근 수신자 캐시 (마지막 사용 시각 순) - 원본은 RecentUsedEmailRepository
+public interface RecentContactCacheRepository {
+
+	// 캐시 장애면 empty
+	Optional<Boolean> exists(Integer userId);
+
+	void addAll(Integer userId, Map<String, LocalDateTime> contacts);
+
+	// 최근 사용 순, 캐시 장애면 empty
+	Optional<List<RecentUsedEmail>> findRecent(Integer userId, int limit);
+}
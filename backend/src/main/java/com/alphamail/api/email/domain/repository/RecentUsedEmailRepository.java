@@ -1,5 +1,6 @@
 package com.alphamail.api.email.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,7 +10,14 @@ public interface RecentUsedEmailRepository {
 
 	List<RecentUsedEmail> findTop10ByUserId(Integer userId);
 
+	// 최근 사용 순 limit건 (캐시 채우기용)
+	List<RecentUsedEmail> findRecentByUserId(Integer userId, int limit);
+
+	List<RecentUsedEmail> findAllByUserIdAndRecentEmails(Integer userId, Collection<String> emails);
+
 	Optional<RecentUsedEmail> findByUserIdAndRecentEmail(Integer userId, String email);
 
 	RecentUsedEmail save(RecentUsedEmail recentUsedEmail);
+
+	void saveAll(List<RecentUsedEmail> recentUsedEmails);
 }
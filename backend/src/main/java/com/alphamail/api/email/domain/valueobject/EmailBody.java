@@ -0,0 +1,10 @@
+package com.alphamail.api.email.domain.valueobject;
+
+public record EmailBody(
+	String bodyText,
+	String bodyHtml
+) {
+	public static EmailBody empty() {
+		return new EmailBody(null, null);
+	}
+}
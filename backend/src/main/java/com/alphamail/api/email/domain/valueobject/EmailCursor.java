@@ -0,0 +1,53 @@
+package com.alphamail.api.email.domain.valueobject;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.alphamail.common.exception.BadRequestException;
+import com.alphamail.common.exception.ErrorMessage;
+
+/**
+ * 메일 목록 keyset 페이지네이션 커서 (정렬 날짜, emailId)
+ * 날짜가 없는 메일(ex. 휴지통의 보낸 메일)은 날짜 있는 메일 뒤에 emailId 순으로 이어진다.
+ * 클라이언트에는 Base64 URL 문자열로만 전달한다.
+ */
+public record EmailCursor(
+	LocalDateTime date,
+	Integer emailId
+) {
+
+	private static final String SEPARATOR = "|";
+
+	public boolean isNullDatePhase() {
+		return date == null;
+	}
+
+	public String encode() {
+		String raw = (date != null ? date.toString() : "") + SEPARATOR + emailId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 빈 문자열이면 첫 페이지
+	public static EmailCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separatorIndex = raw.indexOf(SEPARATOR);
+			if (separatorIndex < 0) {
+				throw new BadRequestException(ErrorMessage.INVALID_PARAMETER);
+			}
+
+			String datePart = raw.substring(0, separatorIndex);
+			LocalDateTime date = datePart.isEmpty() ? null : LocalDateTime.parse(datePart);
+			Integer emailId = Integer.valueOf(raw.substring(separatorIndex + 1));
+			return new EmailCursor(date, emailId);
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new BadRequestException(ErrorMessage.INVALID_PARAMETER);
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.alphamail.api.email.domain.valueobject;
+
+import java.time.LocalDateTime;
+
+// 목록 화면용 읽기 모델 - 본문/수신자 배열 없이 헤더 컬럼만 (수신자는 보낸메일함에서만 따로 조회)
+public record EmailSummary(
+	Integer emailId,
+	String sender,
+	String subject,
+	LocalDateTime receivedDateTime,
+	LocalDateTime sentDateTime,
+	Boolean readStatus,
+	Integer originalFolderId
+) {
+
+	public EmailSummary asRead() {
+		return new EmailSummary(emailId, sender, subject, receivedDateTime, sentDateTime, true, originalFolderId);
+	}
+}
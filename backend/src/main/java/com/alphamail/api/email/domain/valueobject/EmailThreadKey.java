@@ -0,0 +1,7 @@
+package com.alphamail.api.email.domain.valueobject;
+
+public record EmailThreadKey(
+	Integer userId,
+	String threadId
+) {
+}
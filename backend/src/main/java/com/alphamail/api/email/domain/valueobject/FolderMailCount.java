@@ -0,0 +1,31 @@
+package com.alphamail.api.email.domain.valueobject;
+
+public record FolderMailCount(
+	int totalCount,
+	int readCount
+) {
+
+	public static FolderMailCount empty() {
+		return new FolderMailCount(0, 0);
+	}
+
+	// 아직 DB에 반영되지 않은 읽음 표시를 더한 값 (전체 수를 넘지 않게)
+	public FolderMailCount withPendingReads(int pendingReads) {
+		if (pendingReads <= 0) {
+			return this;
+		}
+		return new FolderMailCount(totalCount, Math.min(totalCount, readCount + pendingReads));
+	}
+
+	public int unreadCount() {
+		return totalCount - readCount;
+	}
+
+	// Page.getTotalPages()와 같은 규칙 (0건이면 0페이지)
+	public int pageCount(int pageSize) {
+		if (pageSize <= 0) {
+			return 1;
+		}
+		return (int)Math.ceil((double)totalCount / (double)pageSize);
+	}
+}
@@ -0,0 +1,22 @@
+package com.alphamail.api.email.domain.valueobject;
+
+import com.alphamail.api.email.presentation.dto.ReceiveEmailRequest;
+
+// 수신 봉투를 읽은 결과 - 이미 저장된 메일이면 request 없이 기존 emailId만
+public record ParsedInboundEmail(
+	ReceiveEmailRequest request,
+	Integer duplicateEmailId
+) {
+
+	public static ParsedInboundEmail of(ReceiveEmailRequest request) {
+		return new ParsedInboundEmail(request, null);
+	}
+
+	public static ParsedInboundEmail duplicate(Integer existingEmailId) {
+		return new ParsedInboundEmail(null, existingEmailId);
+	}
+
+	public boolean isDuplicate() {
+		return duplicateEmailId != null;
+	}
+}
@@ -1,9 +1,10 @@
 package com.alphamail.api.email.domain.valueobject;
 
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import com.alphamail.common.util.MessageIdParser;
 
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
@@ -19,79 +20,55 @@ public class ThreadId {
 
 	//공통 설정 쓰레드 아이디 -  3가지 케이스
 	public static ThreadId fromEmailHeaders(String references, String inReplyTo, String currMessageId) {
-		log.info("ThreadId 계산 시작 - references: {}, inReplyTo: {}, currMessageId: {}",
-			references, inReplyTo, currMessageId);
-
 		//1. 메일 2번 이상 오갔을 떄 - references의 첫 message-id로 설정
-		if(references !=null && !references.isEmpty()) {
-			String firstMessageId = extractFirstMessageId(references);
-			log.info("References에서 추출한 첫 번째 메시지 ID: {}", firstMessageId);
-
-			if(firstMessageId != null) {
-				String threadIdValue = extractIdFromMessageId(firstMessageId);
-				log.info("References 기반 스레드 ID 생성: {}", threadIdValue);
-				return new ThreadId(threadIdValue);
-			}
+		String rootId = MessageIdParser.first(references);
+		if (rootId != null) {
+			return of("references", rootId);
 		}
 
 		//2. 우리 서비스에서 첫 답장을 할 때 - 답장 대상 이메일의 message-id로 설정
-		if(inReplyTo !=null && !inReplyTo.isEmpty()) {
-			String threadIdValue = extractIdFromMessageId(inReplyTo);
-			log.info("InReplyTo 기반 스레드 ID 생성: {}", threadIdValue);
-			return new ThreadId(threadIdValue);
+		if (inReplyTo != null && !inReplyTo.isEmpty()) {
+			return of("inReplyTo", idOrRaw(inReplyTo));
 		}
-		
-		
+
 		//3. 우리가 아예 첫 스타트를 끊을 때 - 우리의 message-id로 설정
-		if(currMessageId != null && !currMessageId.isEmpty()) {
-			String threadIdValue = extractIdFromMessageId(currMessageId);
-			log.info("CurrentMessageId 기반 스레드 ID 생성: {}", threadIdValue);
-			return new ThreadId(threadIdValue);
-		}else {
-			ThreadId threadId = generate();
-			log.info("새로운 랜덤 스레드 ID 생성: {}", threadId.getValue());
-			return threadId;
+		if (currMessageId != null && !currMessageId.isEmpty()) {
+			return of("messageId", idOrRaw(currMessageId));
 		}
-	}
-
-	private static ThreadId generate() {
 		return new ThreadId(UUID.randomUUID().toString());
 	}
 
-	private static String extractFirstMessageId(String references) {
-		if (references == null || references.isEmpty()) {
-			return null;
-		}
-
-		Pattern pattern = Pattern.compile("<([^>]+)>");
-		Matcher matcher = pattern.matcher(references);
-
-		if (matcher.find()) {
-			return matcher.group(0);
+	// 스레드 복구용 전체 참조 체인 (가장 오래된 메일부터, In-Reply-To가 빠져 있으면 마지막에 추가)
+	public static List<String> referenceChain(String references, String inReplyTo) {
+		List<String> chain = MessageIdParser.all(references);
+		String parentId = MessageIdParser.first(inReplyTo);
+		if (parentId != null && !chain.contains(parentId)) {
+			chain.add(parentId);
 		}
+		return chain;
+	}
 
-		return null;
+	private static ThreadId of(String source, String messageId) {
+		// 같은 Message-ID면 항상 같은 스레드 ID (이름 기반 UUID)
+		String value = UUID.nameUUIDFromBytes(messageId.getBytes(StandardCharsets.UTF_8)).toString();
+		log.debug("스레드 ID 계산 - source={}, threadId={}", source, value);
+		return new ThreadId(value);
 	}
 
-	private static String extractIdFromMessageId(String emailId) {
-		if (emailId == null || emailId.isEmpty()) {
-			return UUID.randomUUID().toString();
+	// 꺾쇠로 감싼 id가 없으면(비표준 헤더) 기존처럼 꺾쇠만 지운 전체 값을 사용
+	private static String idOrRaw(String header) {
+		String id = MessageIdParser.first(header);
+		if (id != null) {
+			return id;
 		}
-
-		String cleanId = emailId.replaceAll("[<>]", "").trim();
-		log.info("정리된 ID: {}", cleanId);
-
-		try {
-			String result = UUID.nameUUIDFromBytes(cleanId.getBytes("UTF-8")).toString();
-			log.info("변환된 스레드 ID: {}", result);
-			return result;
-		} catch (UnsupportedEncodingException e) {
-			// UTF-8은 항상 지원되므로 이 예외는 발생하지 않아야 함
-			log.error("UTF-8 인코딩 지원 안 됨", e);
-			String result = UUID.nameUUIDFromBytes(cleanId.getBytes()).toString();
-			log.info("변환된 스레드 ID (기본 인코딩): {}", result);
-			return result;
+		StringBuilder builder = new StringBuilder(header.length());
+		for (int i = 0; i < header.length(); i++) {
+			char ch = header.charAt(i);
+			if (ch != '<' && ch != '>') {
+				builder.append(ch);
+			}
 		}
+		return builder.toString().trim();
 	}
 
 }
@@ -1,23 +1,31 @@
 package com.alphamail.api.email.infrastructure.adapter;
 
-import java.io.ByteArrayOutputStream;
-import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Locale;
+import java.util.OptionalDouble;
 import java.util.Properties;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
 import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.entity.EmailAttachment;
 import com.alphamail.api.email.domain.port.EmailSenderPort;
+import com.alphamail.api.email.infrastructure.mime.RawMimeWriter;
+import com.alphamail.api.email.infrastructure.mime.S3AttachmentDataSource;
+import com.alphamail.api.global.s3.service.S3Service;
 import com.alphamail.common.exception.ErrorMessage;
 import com.alphamail.common.exception.InternalServerException;
+import com.alphamail.common.exception.ServiceUnavailableException;
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.simpleemail.AmazonSimpleEmailService;
+import com.amazonaws.services.simpleemail.model.GetSendQuotaRequest;
 import com.amazonaws.services.simpleemail.model.MessageRejectedException;
 import com.amazonaws.services.simpleemail.model.RawMessage;
 import com.amazonaws.services.simpleemail.model.SendRawEmailRequest;
 
 import com.amazonaws.services.simpleemail.model.SendRawEmailResult;
+import jakarta.activation.DataHandler;
 import jakarta.mail.Message;
 import jakarta.mail.Session;
 import jakarta.mail.internet.InternetAddress;
@@ -28,14 +36,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
+@ConditionalOnProperty(name = "email.sender.type", havingValue = "ses", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class EmailSenderPortImpl implements EmailSenderPort {
 
+	// SES 속도/일일 한도 초과 응답 코드
+	private static final String THROTTLING_ERROR_CODE = "Throttling";
+	// 일일 한도 초과는 같은 코드에 메시지로만 구분됨 ("Daily message quota exceeded.")
+	private static final String DAILY_QUOTA_MESSAGE = "daily message quota";
+
 	private final AmazonSimpleEmailService sesClient;
+	private final RawMimeWriter rawMimeWriter;
+	private final S3Service s3Service;
 
 	@Override
-	public String send(Email email, List<MultipartFile> multipartFiles) {
+	public String send(Email email, List<EmailAttachment> attachments) {
 		// AWS SES 사용한 이메일 발송 구현
 
 		try {
@@ -93,7 +109,7 @@ public class EmailSenderPortImpl implements EmailSenderPort {
 			}
 
 			// 첨부 파일 처리
-			if (email.getHasAttachment() && multipartFiles != null && !multipartFiles.isEmpty()) {
+			if (email.getHasAttachment() && attachments != null && !attachments.isEmpty()) {
 				// 1. 본문을 contentPart로 래핑
 				MimeBodyPart contentPart = new MimeBodyPart();
 				contentPart.setContent(multipart);
@@ -102,14 +118,17 @@ public class EmailSenderPortImpl implements EmailSenderPort {
 				MimeMultipart mixedMultipart = new MimeMultipart("mixed");
 				mixedMultipart.addBodyPart(contentPart); // 본문 추가
 
-				// 3. 각 MultipartFile을 첨부파일로 추가
-				for (MultipartFile file : multipartFiles) {
+				// 3. S3에 올려둔 첨부파일을 추가
+				for (EmailAttachment attachment : attachments) {
+					// byte[]로 읽지 않고 쓰는 시점에 S3 스트림을 base64로 인코딩
 					MimeBodyPart attachmentPart = new MimeBodyPart();
-					attachmentPart.setFileName(file.getOriginalFilename());
-					attachmentPart.setContent(file.getBytes(), file.getContentType());
-					attachmentPart.setHeader("Content-Type", file.getContentType());
+					attachmentPart.setDataHandler(new DataHandler(new S3AttachmentDataSource(attachment, s3Service)));
+					attachmentPart.setFileName(attachment.getName());
+					attachmentPart.setHeader("Content-Type", attachment.getType());
+					// 인코딩을 정해두면 인코딩 판단용으로 파일을 한 번 더 읽지 않음
+					attachmentPart.setHeader("Content-Transfer-Encoding", "base64");
 					attachmentPart.setHeader("Content-Disposition",
-						"attachment; filename=\"" + file.getOriginalFilename() + "\"");
+						"attachment; filename=\"" + attachment.getName() + "\"");
 
 					mixedMultipart.addBodyPart(attachmentPart);
 				}
@@ -121,10 +140,9 @@ public class EmailSenderPortImpl implements EmailSenderPort {
 				message.setContent(multipart);
 			}
 
-			// RawMessage로 변환
-			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-			message.writeTo(outputStream);
-			RawMessage rawMessage = new RawMessage(ByteBuffer.wrap(outputStream.toByteArray()));
+			// RawMessage로 변환 - 예상 크기로 잡은 버퍼(또는 임시 파일 mmap)에 한 번만 씀
+			RawMessage rawMessage = new RawMessage(rawMimeWriter.write(message, textSize(email),
+				attachmentSize(email, attachments)));
 
 			// SendRawEmail 요청 생성 및 전송
 			SendRawEmailRequest rawRequest = new SendRawEmailRequest()
@@ -139,11 +157,56 @@ public class EmailSenderPortImpl implements EmailSenderPort {
 			// 로그 추가
 			log.error("SES 메시지 거부: {}", e.getMessage(), e);
 			throw new InternalServerException(ErrorMessage.FILE_UPLOAD_FAIL);
+		} catch (AmazonServiceException e) {
+			if (THROTTLING_ERROR_CODE.equals(e.getErrorCode())) {
+				// 발송 대기열이 속도를 낮추고 다시 시도하도록 따로 구분
+				log.warn("SES 발송 한도 초과: {}", e.getErrorMessage());
+				throw new ServiceUnavailableException(isDailyQuota(e)
+					? ErrorMessage.EMAIL_SEND_QUOTA_EXCEEDED
+					: ErrorMessage.EMAIL_SEND_THROTTLED);
+			}
+			log.error("SES 발송 오류: {}", e.getMessage(), e);
+			throw new InternalServerException(ErrorMessage.INTERNAL_SERVER_ERROR);
 		} catch (Exception e) {
 			// 로그 추가
 			log.error("이메일 발송 오류: {}", e.getMessage(), e);
 			throw new InternalServerException(ErrorMessage.INTERNAL_SERVER_ERROR);
 		}
 	}
-}
 
+	// 계정의 초당 최대 발송 수 (GetSendQuota), 권한이 없거나 실패하면 설정값을 쓰도록 empty
+	@Override
+	public OptionalDouble maxSendRate() {
+		try {
+			return OptionalDouble.of(sesClient.getSendQuota(new GetSendQuotaRequest()).getMaxSendRate());
+		} catch (Exception e) {
+			log.warn("SES 발송 한도 조회 실패: {}", e.getMessage());
+			return OptionalDouble.empty();
+		}
+	}
+
+	private static boolean isDailyQuota(AmazonServiceException exception) {
+		String message = exception.getErrorMessage();
+		return message != null && message.toLowerCase(Locale.ROOT).contains(DAILY_QUOTA_MESSAGE);
+	}
+
+	private long textSize(Email email) {
+		long size = 0;
+		if (email.getBodyText() != null) {
+			size += email.getBodyText().length();
+		}
+		if (email.getBodyHtml() != null) {
+			size += email.getBodyHtml().length();
+		}
+		return size * 3; // UTF-8 최대 3바이트
+	}
+
+	private long attachmentSize(Email email, List<EmailAttachment> attachments) {
+		if (!email.getHasAttachment() || attachments == null) {
+			return 0;
+		}
+		return attachments.stream()
+			.mapToLong(attachment -> attachment.getSize() != null ? attachment.getSize() : 0)
+			.sum();
+	}
+}
@@ -0,0 +1,105 @@
+package com.alphamail.api.email.infrastructure.adapter;
+
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.entity.EmailAttachment;
+import com.alphamail.api.email.domain.port.EmailSenderPort;
+import com.alphamail.common.exception.ErrorMessage;
+import com.alphamail.common.exception.InternalServerException;
+import com.alphamail.common.exception.ServiceUnavailableException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬/부하 테스트용 발송기 (email.sender.type=fake)
+ * SES를 호출하지 않고 지연만 흉내 내며, 초당 max-send-rate를 넘으면 SES처럼 한도 초과로 거절합니다.
+ * daily-quota가 0보다 크면 누적 발송 수가 그만큼 찬 뒤로는 일일 한도 초과로 거절합니다.
+ * 발송 대기열의 처리량과 속도 제한 동작을 AWS 없이 측정할 수 있습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "email.sender.type", havingValue = "fake")
+public class FakeEmailSenderPort implements EmailSenderPort {
+
+	private final long latencyMs;
+	private final double maxSendRate;
+	private final double failureRate;
+	private final long dailyQuota;
+
+	private final AtomicLong sent = new AtomicLong();
+	private final AtomicLong throttled = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+
+	// 1초 단위 고정 창 (SES 한도 판정과 비슷한 정도면 충분)
+	private long windowSecond;
+	private int windowCount;
+
+	public FakeEmailSenderPort(@Value("${email.sender.fake.latency-ms:50}") long latencyMs,
+		@Value("${email.sender.fake.max-send-rate:14}") double maxSendRate,
+		@Value("${email.sender.fake.failure-rate:0}") double failureRate,
+		@Value("${email.sender.fake.daily-quota:0}") long dailyQuota) {
+		this.latencyMs = latencyMs;
+		this.maxSendRate = maxSendRate;
+		this.failureRate = failureRate;
+		this.dailyQuota = dailyQuota;
+		log.warn("가짜 메일 발송기 사용 중 - 실제 메일은 발송되지 않습니다 (latency={}ms, maxSendRate={}/s)", latencyMs,
+			maxSendRate);
+	}
+
+	@Override
+	public String send(Email email, List<EmailAttachment> attachments) {
+		if (dailyQuota > 0 && sent.get() >= dailyQuota) {
+			throttled.incrementAndGet();
+			throw new ServiceUnavailableException(ErrorMessage.EMAIL_SEND_QUOTA_EXCEEDED);
+		}
+		if (!tryAcquireWindow()) {
+			throttled.incrementAndGet();
+			throw new ServiceUnavailableException(ErrorMessage.EMAIL_SEND_THROTTLED);
+		}
+
+		try {
+			TimeUnit.MILLISECONDS.sleep(latencyMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InternalServerException(ErrorMessage.INTERNAL_SERVER_ERROR);
+		}
+
+		if (failureRate > 0 && Math.random() < failureRate) {
+			failed.incrementAndGet();
+			throw new InternalServerException(ErrorMessage.INTERNAL_SERVER_ERROR);
+		}
+
+		long count = sent.incrementAndGet();
+		if (count % 1000 == 0) {
+			log.info("가짜 발송기 - sent={}, throttled={}, failed={}", count, throttled.get(), failed.get());
+		}
+		return "fake-" + UUID.randomUUID();
+	}
+
+	@Override
+	public OptionalDouble maxSendRate() {
+		return OptionalDouble.of(maxSendRate);
+	}
+
+	private synchronized boolean tryAcquireWindow() {
+		long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+		if (second != windowSecond) {
+			windowSecond = second;
+			windowCount = 0;
+		}
+		if (windowCount >= maxSendRate) {
+			return false;
+		}
+		windowCount++;
+		return true;
+	}
+}
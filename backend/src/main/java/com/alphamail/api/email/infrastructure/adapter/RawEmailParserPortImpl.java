@@ -0,0 +1,260 @@
+package com.alphamail.api.email.infrastructure.adapter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.alphamail.api.email.domain.port.RawEmailParserPort;
+import com.alphamail.api.email.domain.valueobject.ParsedInboundEmail;
+import com.alphamail.api.email.presentation.dto.AttachmentRequest;
+import com.alphamail.api.email.presentation.dto.ReceiveEmailRequest;
+import com.alphamail.api.global.s3.service.S3Service;
+
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.Session;
+import jakarta.mail.internet.ContentType;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeUtility;
+import jakarta.mail.util.SharedFileInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * S3의 수신 원본(RFC 822)을 임시 파일로 받아 파싱
+ * - SharedFileInputStream 위의 MimeMessage는 각 파트를 파일 구간(offset)으로만 가리키고 내용을 복사하지 않음
+ * - 첨부는 getInputStream()으로 base64 등을 풀면서 S3로 바로 흘려보냄 (힙에는 업로드 파트 버퍼 하나만)
+ * - 텍스트/HTML 본문만 문자열로 읽음
+ */
+@Slf4j
+@Component
+public class RawEmailParserPortImpl implements RawEmailParserPort {
+
+	private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+	private static final Pattern SAFE_EXTENSION = Pattern.compile("[A-Za-z0-9]{1,10}");
+
+	private final S3Service s3Service;
+	private final Session session = Session.getInstance(new Properties());
+	private final Path spillDirectory;
+	private final String attachmentPrefix;
+
+	public RawEmailParserPortImpl(S3Service s3Service,
+		@Value("${email.inbound.raw.spill-dir:${java.io.tmpdir}}") String spillDirectory,
+		@Value("${email.inbound.raw.attachment-prefix:receivedAttachments/}") String attachmentPrefix) {
+		this.s3Service = s3Service;
+		this.spillDirectory = Path.of(spillDirectory);
+		this.attachmentPrefix = attachmentPrefix;
+	}
+
+	@Override
+	public ParsedInboundEmail parse(String rawS3Key, String actualRecipient,
+		Function<ReceiveEmailRequest, Optional<Integer>> duplicateFinder) {
+		long startedAt = System.nanoTime();
+		Path file = null;
+		try {
+			file = download(rawS3Key);
+			long rawBytes = Files.size(file);
+
+			ParsedBody body = new ParsedBody(attachmentPrefix
+				+ UUID.nameUUIDFromBytes(rawS3Key.getBytes(StandardCharsets.UTF_8)) + "/");
+			ReceiveEmailRequest request;
+			try (SharedFileInputStream in = new SharedFileInputStream(file.toFile())) {
+				// 헤더는 생성 시 읽히고 본문은 getContent() 때 읽힘 -> 재전송이면 첨부를 올리기 전에 끝냄
+				MimeMessage message = new MimeMessage(session, in);
+				Optional<Integer> duplicate = duplicateFinder.apply(toRequest(message, body, actualRecipient));
+				if (duplicate.isPresent()) {
+					log.info("수신 원본이 이미 저장된 메일 - 첨부 업로드 생략: key={}, emailId={}", rawS3Key,
+						duplicate.get());
+					return ParsedInboundEmail.duplicate(duplicate.get());
+				}
+				collect(message, body);
+				request = toRequest(message, body, actualRecipient);
+			}
+
+			long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+			log.info("수신 원본 파싱 완료 - key={}, rawBytes={}, attachments={}, attachmentBytes={}, elapsed={}ms",
+				rawS3Key, rawBytes, body.attachments.size(), body.attachmentBytes, elapsedMs);
+			return ParsedInboundEmail.of(request);
+		} catch (IOException e) {
+			throw new UncheckedIOException("수신 원본 읽기 실패: " + rawS3Key, e);
+		} catch (MessagingException e) {
+			throw new IllegalStateException("수신 원본 MIME 파싱 실패: " + rawS3Key, e);
+		} finally {
+			deleteQuietly(file);
+		}
+	}
+
+	// S3 스트림을 그대로 두고 파싱하면 파트마다 앞으로만 읽어야 해서 첨부 업로드와 본문 읽기를 섞을 수 없음
+	private Path download(String rawS3Key) throws IOException {
+		Files.createDirectories(spillDirectory);
+		Path file = Files.createTempFile(spillDirectory, "inbound-", ".eml");
+		try (InputStream content = s3Service.downloadFile(rawS3Key)) {
+			Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+			return file;
+		} catch (IOException | RuntimeException e) {
+			deleteQuietly(file);
+			throw e;
+		}
+	}
+
+	private void collect(Part part, ParsedBody body) throws MessagingException, IOException {
+		if (part.isMimeType("multipart/*")) {
+			Multipart multipart = (Multipart)part.getContent();
+			for (int i = 0; i < multipart.getCount(); i++) {
+				collect(multipart.getBodyPart(i), body);
+			}
+			return;
+		}
+
+		if (!isAttachment(part)) {
+			if (part.isMimeType("text/plain") && body.text == null) {
+				body.text = (String)part.getContent();
+				return;
+			}
+			if (part.isMimeType("text/html") && body.html == null) {
+				body.html = (String)part.getContent();
+				return;
+			}
+		}
+		uploadAttachment(part, body);
+	}
+
+	// 파일명이 있거나 attachment로 지정된 파트, 본문으로 쓸 수 없는 타입은 모두 첨부로 취급
+	private boolean isAttachment(Part part) throws MessagingException {
+		return Part.ATTACHMENT.equalsIgnoreCase(part.getDisposition())
+			|| part.getFileName() != null
+			|| !(part.isMimeType("text/plain") || part.isMimeType("text/html"));
+	}
+
+	private void uploadAttachment(Part part, ParsedBody body) throws MessagingException, IOException {
+		int index = body.attachments.size();
+		String filename = filenameOf(part, index);
+		String contentType = baseTypeOf(part);
+		String s3Key = body.keyPrefix + index + extension(filename);
+
+		long size = s3Service.uploadStream(s3Key, part.getInputStream(), contentType);
+		body.attachmentBytes += size;
+		body.attachments.add(new AttachmentRequest(filename, contentType, size, s3Key));
+	}
+
+	private ReceiveEmailRequest toRequest(MimeMessage message, ParsedBody body, String actualRecipient)
+		throws MessagingException {
+		List<String> to = addressesOf(message.getRecipients(Message.RecipientType.TO));
+		String recipient = actualRecipient != null ? actualRecipient : to.stream().findFirst().orElse(null);
+		Address[] from = message.getFrom();
+
+		return new ReceiveEmailRequest(
+			from != null && from.length > 0 ? addressOf(from[0]) : null,
+			to,
+			message.getSubject(),
+			body.text,
+			body.html,
+			message.getMessageID(),
+			toDateTime(message.getSentDate()),
+			recipient,
+			body.attachments,
+			headerOf(message, "In-Reply-To"),
+			headerOf(message, "References"));
+	}
+
+	private List<String> addressesOf(Address[] addresses) {
+		List<String> result = new ArrayList<>();
+		if (addresses != null) {
+			for (Address address : addresses) {
+				result.add(addressOf(address));
+			}
+		}
+		return result;
+	}
+
+	private String addressOf(Address address) {
+		return address instanceof InternetAddress internetAddress ? internetAddress.getAddress() : address.toString();
+	}
+
+	private String headerOf(MimeMessage message, String name) throws MessagingException {
+		String value = message.getHeader(name, " ");
+		return value != null ? MimeUtility.unfold(value).trim() : null;
+	}
+
+	private LocalDateTime toDateTime(Date sentDate) {
+		return sentDate != null
+			? LocalDateTime.ofInstant(sentDate.toInstant(), ZoneId.systemDefault())
+			: LocalDateTime.now();
+	}
+
+	private String filenameOf(Part part, int index) throws MessagingException {
+		String filename = part.getFileName();
+		if (filename == null || filename.isBlank()) {
+			return "attachment-" + (index + 1);
+		}
+		try {
+			// RFC 2047 인코딩(=?UTF-8?B?...?=)으로 온 한글 파일명
+			return MimeUtility.decodeText(filename);
+		} catch (IOException e) {
+			return filename;
+		}
+	}
+
+	private String baseTypeOf(Part part) {
+		try {
+			return new ContentType(part.getContentType()).getBaseType().toLowerCase(Locale.ROOT);
+		} catch (MessagingException | RuntimeException e) {
+			return DEFAULT_CONTENT_TYPE;
+		}
+	}
+
+	// 파일명은 보낸 사람이 정하므로 key에는 영숫자 확장자만 붙임 (경로 구분자, 공백 등 차단)
+	private String extension(String filename) {
+		int dot = filename.lastIndexOf('.');
+		if (dot < 0) {
+			return "";
+		}
+		String extension = filename.substring(dot + 1);
+		return SAFE_EXTENSION.matcher(extension).matches() ? "." + extension : "";
+	}
+
+	private void deleteQuietly(Path file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.warn("수신 원본 임시 파일 삭제 실패: {}", file, e);
+		}
+	}
+
+	private static final class ParsedBody {
+		private final String keyPrefix;
+		private final List<AttachmentRequest> attachments = new ArrayList<>();
+		private long attachmentBytes;
+		private String text;
+		private String html;
+
+		private ParsedBody(String keyPrefix) {
+			this.keyPrefix = keyPrefix;
+		}
+	}
+}
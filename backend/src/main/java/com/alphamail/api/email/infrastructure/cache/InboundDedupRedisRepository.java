@@ -0,0 +1,75 @@
+package com.alphamail.api.email.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.alphamail.api.email.domain.repository.InboundDedupRepository;
+import com.alphamail.common.cache.NearCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SET NX EX 한 번으로 "처음 본 메일인지" 판단
+ * - Lambda 재시도는 보통 같은 인스턴스로 곧바로 다시 오므로 로컬 near-cache에서 먼저 걸러 Redis 왕복도 생략
+ * - Message-ID는 길이 제한이 없어서 키에는 이름 기반 UUID만 사용
+ */
+@Slf4j
+@Repository
+public class InboundDedupRedisRepository implements InboundDedupRepository {
+
+	private static final String KEY_PREFIX = "inbound-dedup:";
+	private static final String MARK = "1";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final NearCache<Boolean> nearCache;
+	private final Duration ttl;
+
+	public InboundDedupRedisRepository(RedisTemplate<String, String> redisTemplate,
+		@Value("${email.inbound.dedup.ttl-hours:24}") long ttlHours,
+		@Value("${email.inbound.dedup.near-cache-size:10000}") int nearCacheSize) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = Duration.ofHours(ttlHours);
+		this.nearCache = new NearCache<>(nearCacheSize, ttl);
+	}
+
+	@Override
+	public Optional<Boolean> markIfAbsent(String recipient, String messageId) {
+		String key = key(recipient, messageId);
+		if (nearCache.get(key) != null) {
+			return Optional.of(false);
+		}
+
+		try {
+			boolean absent = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, MARK, ttl));
+			nearCache.put(key, Boolean.TRUE);
+			return Optional.of(absent);
+		} catch (DataAccessException e) {
+			log.warn("수신 메일 중복 확인 실패: messageId={} ({})", messageId, e.toString());
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public void release(String recipient, String messageId) {
+		String key = key(recipient, messageId);
+		nearCache.remove(key);
+		try {
+			redisTemplate.delete(key);
+		} catch (DataAccessException e) {
+			log.warn("수신 메일 중복 표시 해제 실패: messageId={} ({})", messageId, e.toString());
+		}
+	}
+
+	private String key(String recipient, String messageId) {
+		String identity = recipient.toLowerCase(Locale.ROOT) + "\n" + messageId;
+		return KEY_PREFIX + UUID.nameUUIDFromBytes(identity.getBytes(StandardCharsets.UTF_8));
+	}
+}
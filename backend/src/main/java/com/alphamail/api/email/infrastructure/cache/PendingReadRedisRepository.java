@@ -0,0 +1,228 @@
+package com.alphamail.api.email.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.alphamail.api.email.domain.repository.PendingReadRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽음 표시 대기열 (Redis)
+ * - read-pending:users       반영할 항목이 있는 사용자 SET
+ * - read-pending:{userId}    대기 중 HASH (emailId -> folderId)
+ * - read-flushing:{userId}   반영 중 HASH (대기 HASH를 RENAME 해서 만듦 -> 옮기는 사이 빠지는 항목 없음)
+ * - read-flush-lock:{userId} 반영 락, 반영 트랜잭션 커밋까지 유지 (반영끼리만 배타 - 안 읽음 처리는 기다리지 않음)
+ * 해시 키/값을 문자열로 저장해야 해서 기본 RedisTemplate(해시는 JDK 직렬화) 대신 StringRedisTemplate 사용
+ */
+@Slf4j
+@Repository
+public class PendingReadRedisRepository implements PendingReadRepository {
+
+	private static final String USERS_KEY = "read-pending:users";
+	private static final String PENDING_PREFIX = "read-pending:";
+	private static final String FLUSHING_PREFIX = "read-flushing:";
+	private static final String LOCK_PREFIX = "read-flush-lock:";
+
+	// 내가 잡은 락만 지움 (TTL로 풀린 뒤 다른 인스턴스가 잡은 락을 지우지 않도록)
+	private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final Duration lockTtl;
+	private final Duration pendingTtl;
+	private final String lockOwner = UUID.randomUUID().toString();
+
+	public PendingReadRedisRepository(RedisConnectionFactory connectionFactory,
+		@Value("${email.read-tracker.lock-ttl-ms:30000}") long lockTtlMs,
+		@Value("${email.read-tracker.pending-ttl-hours:24}") long pendingTtlHours) {
+		this.redisTemplate = new StringRedisTemplate(connectionFactory);
+		this.lockTtl = Duration.ofMillis(lockTtlMs);
+		this.pendingTtl = Duration.ofHours(pendingTtlHours);
+	}
+
+	@Override
+	public boolean add(Integer userId, Integer emailId, Integer folderId) {
+		String pendingKey = pendingKey(userId);
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+					ops.opsForHash().put(pendingKey, emailId.toString(), folderId.toString());
+					ops.expire(pendingKey, pendingTtl);
+					ops.opsForSet().add(USERS_KEY, userId.toString());
+					return null;
+				}
+			});
+			return true;
+		} catch (DataAccessException e) {
+			log.warn("읽음 표시 대기열 기록 실패: userId={}, emailId={} ({})", userId, emailId, e.toString());
+			return false;
+		}
+	}
+
+	@Override
+	public Map<Integer, Integer> findAll(Integer userId) {
+		String flushingKey = flushingKey(userId);
+		String pendingKey = pendingKey(userId);
+		try {
+			List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+					ops.opsForHash().entries(flushingKey);
+					ops.opsForHash().entries(pendingKey);
+					return null;
+				}
+			});
+			Map<Integer, Integer> emailFolders = new HashMap<>();
+			results.forEach(result -> putAll(emailFolders, (Map<?, ?>)result));
+			return emailFolders;
+		} catch (DataAccessException e) {
+			log.warn("읽음 표시 대기열 조회 실패: userId={} ({})", userId, e.toString());
+			return Map.of();
+		}
+	}
+
+	@Override
+	public void remove(Integer userId, Collection<Integer> emailIds) {
+		if (emailIds.isEmpty()) {
+			return;
+		}
+		Object[] fields = emailIds.stream().map(String::valueOf).toArray();
+		try {
+			redisTemplate.opsForHash().delete(pendingKey(userId), fields);
+			redisTemplate.opsForHash().delete(flushingKey(userId), fields);
+		} catch (DataAccessException e) {
+			log.warn("읽음 표시 대기열 제거 실패: userId={} ({})", userId, e.toString());
+		}
+	}
+
+	@Override
+	public List<Integer> popUsers(int limit) {
+		try {
+			List<String> userIds = redisTemplate.opsForSet().pop(USERS_KEY, limit);
+			List<Integer> result = new ArrayList<>();
+			if (userIds != null) {
+				userIds.forEach(userId -> result.add(Integer.valueOf(userId)));
+			}
+			return result;
+		} catch (DataAccessException e) {
+			log.warn("읽음 표시 대기 사용자 조회 실패 ({})", e.toString());
+			return List.of();
+		}
+	}
+
+	@Override
+	public boolean lockFlush(Integer userId) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey(userId), lockOwner, lockTtl));
+	}
+
+	@Override
+	public void unlockFlush(Integer userId) {
+		redisTemplate.execute(UNLOCK, List.of(lockKey(userId)), lockOwner);
+	}
+
+	@Override
+	public Map<Integer, Integer> beginFlush(Integer userId) {
+		String pendingKey = pendingKey(userId);
+		String flushingKey = flushingKey(userId);
+
+		// 지난 반영이 중간에 끊겨 남은 항목부터 처리, 새 대기분은 다음 주기에
+		if (Boolean.TRUE.equals(redisTemplate.hasKey(flushingKey))) {
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(pendingKey))) {
+				requeueUser(userId);
+			}
+			return entries(flushingKey);
+		}
+		if (!Boolean.TRUE.equals(redisTemplate.hasKey(pendingKey))) {
+			return Map.of();
+		}
+		redisTemplate.rename(pendingKey, flushingKey);
+		return entries(flushingKey);
+	}
+
+	@Override
+	public Set<Integer> findFlushing(Integer userId) {
+		return entries(flushingKey(userId)).keySet();
+	}
+
+	@Override
+	public void completeFlush(Integer userId) {
+		redisTemplate.delete(flushingKey(userId));
+	}
+
+	@Override
+	public void abortFlush(Integer userId) {
+		String flushingKey = flushingKey(userId);
+		String pendingKey = pendingKey(userId);
+		// 반영 중 제거(remove)된 항목은 이미 빠져 있으므로 다시 읽어서 되돌림
+		Map<Object, Object> remaining = redisTemplate.opsForHash().entries(flushingKey);
+		if (!remaining.isEmpty()) {
+			redisTemplate.opsForHash().putAll(pendingKey, remaining);
+			redisTemplate.expire(pendingKey, pendingTtl);
+			requeueUser(userId);
+		}
+		redisTemplate.delete(flushingKey);
+	}
+
+	@Override
+	public void requeueUser(Integer userId) {
+		redisTemplate.opsForSet().add(USERS_KEY, userId.toString());
+	}
+
+	@Override
+	public long countPendingUsers() {
+		try {
+			Long size = redisTemplate.opsForSet().size(USERS_KEY);
+			return size != null ? size : 0;
+		} catch (DataAccessException e) {
+			return -1;
+		}
+	}
+
+	private Map<Integer, Integer> entries(String key) {
+		Map<Integer, Integer> emailFolders = new HashMap<>();
+		putAll(emailFolders, redisTemplate.opsForHash().entries(key));
+		return emailFolders;
+	}
+
+	private void putAll(Map<Integer, Integer> target, Map<?, ?> source) {
+		if (source != null) {
+			source.forEach((emailId, folderId) ->
+				target.put(Integer.valueOf(emailId.toString()), Integer.valueOf(folderId.toString())));
+		}
+	}
+
+	private String pendingKey(Integer userId) {
+		return PENDING_PREFIX + userId;
+	}
+
+	private String flushingKey(Integer userId) {
+		return FLUSHING_PREFIX + userId;
+	}
+
+	private String lockKey(Integer userId) {
+		return LOCK_PREFIX + userId;
+	}
+}
@@ -0,0 +1,183 @@
+package com.alphamail.api.email.infrastructure.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.alphamail.api.email.domain.repository.PendingRecentContactRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 수신자 DB 반영 대기열 (Redis) - 구조는 PendingReadRedisRepository와 같음
+ * - recent-pending:users       반영할 항목이 있는 사용자 SET
+ * - recent-pending:{userId}    대기 중 HASH (이메일 -> 마지막 사용 시각 epoch ms)
+ * - recent-flushing:{userId}   반영 중 HASH (대기 HASH를 RENAME 해서 만듦)
+ * - recent-flush-lock:{userId} 반영 락, 반영 트랜잭션 커밋까지 유지
+ */
+@Slf4j
+@Repository
+public class PendingRecentContactRedisRepository implements PendingRecentContactRepository {
+
+	private static final String USERS_KEY = "recent-pending:users";
+	private static final String PENDING_PREFIX = "recent-pending:";
+	private static final String FLUSHING_PREFIX = "recent-flushing:";
+	private static final String LOCK_PREFIX = "recent-flush-lock:";
+
+	// 내가 잡은 락만 지움 (TTL로 풀린 뒤 다른 인스턴스가 잡은 락을 지우지 않도록)
+	private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final Duration lockTtl;
+	private final Duration pendingTtl;
+	private final String lockOwner = UUID.randomUUID().toString();
+
+	public PendingRecentContactRedisRepository(RedisConnectionFactory connectionFactory,
+		@Value("${email.recent-contacts.lock-ttl-ms:30000}") long lockTtlMs,
+		@Value("${email.recent-contacts.pending-ttl-hours:24}") long pendingTtlHours) {
+		this.redisTemplate = new StringRedisTemplate(connectionFactory);
+		this.lockTtl = Duration.ofMillis(lockTtlMs);
+		this.pendingTtl = Duration.ofHours(pendingTtlHours);
+	}
+
+	// 같은 이메일은 나중에 쓴 시각으로 덮어씀 (발송 시각이 곧 기록 시각이라 뒤에 온 쪽이 최신)
+	@Override
+	public boolean add(Integer userId, Map<String, LocalDateTime> contacts) {
+		if (contacts.isEmpty()) {
+			return true;
+		}
+		String pendingKey = pendingKey(userId);
+		Map<String, String> fields = new HashMap<>();
+		contacts.forEach((email, usedAt) -> fields.put(email, String.valueOf(toEpochMilli(usedAt))));
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+					ops.opsForHash().putAll(pendingKey, fields);
+					ops.expire(pendingKey, pendingTtl);
+					ops.opsForSet().add(USERS_KEY, userId.toString());
+					return null;
+				}
+			});
+			return true;
+		} catch (DataAccessException e) {
+			log.warn("최근 수신자 대기열 기록 실패: userId={}, {}건 ({})", userId, contacts.size(), e.toString());
+			return false;
+		}
+	}
+
+	@Override
+	public List<Integer> popUsers(int limit) {
+		try {
+			List<String> userIds = redisTemplate.opsForSet().pop(USERS_KEY, limit);
+			List<Integer> result = new ArrayList<>();
+			if (userIds != null) {
+				userIds.forEach(userId -> result.add(Integer.valueOf(userId)));
+			}
+			return result;
+		} catch (DataAccessException e) {
+			log.warn("최근 수신자 대기 사용자 조회 실패 ({})", e.toString());
+			return List.of();
+		}
+	}
+
+	@Override
+	public boolean lockFlush(Integer userId) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey(userId), lockOwner, lockTtl));
+	}
+
+	@Override
+	public void unlockFlush(Integer userId) {
+		redisTemplate.execute(UNLOCK, List.of(lockKey(userId)), lockOwner);
+	}
+
+	@Override
+	public Map<String, LocalDateTime> beginFlush(Integer userId) {
+		String pendingKey = pendingKey(userId);
+		String flushingKey = flushingKey(userId);
+
+		// 지난 반영이 중간에 끊겨(인스턴스 종료 등) 남은 항목부터 처리, 새 대기분은 다음 주기에
+		if (Boolean.TRUE.equals(redisTemplate.hasKey(flushingKey))) {
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(pendingKey))) {
+				requeueUser(userId);
+			}
+			return entries(flushingKey);
+		}
+		if (!Boolean.TRUE.equals(redisTemplate.hasKey(pendingKey))) {
+			return Map.of();
+		}
+		redisTemplate.rename(pendingKey, flushingKey);
+		return entries(flushingKey);
+	}
+
+	@Override
+	public void completeFlush(Integer userId) {
+		redisTemplate.delete(flushingKey(userId));
+	}
+
+	@Override
+	public void abortFlush(Integer userId) {
+		String flushingKey = flushingKey(userId);
+		String pendingKey = pendingKey(userId);
+		Map<Object, Object> remaining = redisTemplate.opsForHash().entries(flushingKey);
+		if (!remaining.isEmpty()) {
+			// 반영 중에 새로 쓴 이메일은 더 최근 시각이므로 없는 것만 되돌림
+			remaining.forEach((email, usedAt) -> redisTemplate.opsForHash().putIfAbsent(pendingKey, email, usedAt));
+			redisTemplate.expire(pendingKey, pendingTtl);
+			requeueUser(userId);
+		}
+		redisTemplate.delete(flushingKey);
+	}
+
+	@Override
+	public void requeueUser(Integer userId) {
+		redisTemplate.opsForSet().add(USERS_KEY, userId.toString());
+	}
+
+	private Map<String, LocalDateTime> entries(String key) {
+		Map<String, LocalDateTime> contacts = new HashMap<>();
+		redisTemplate.opsForHash().entries(key).forEach((email, usedAt) ->
+			contacts.put(email.toString(), toDateTime(Long.parseLong(usedAt.toString()))));
+		return contacts;
+	}
+
+	private long toEpochMilli(LocalDateTime usedAt) {
+		return usedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private LocalDateTime toDateTime(long epochMilli) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+	}
+
+	private String pendingKey(Integer userId) {
+		return PENDING_PREFIX + userId;
+	}
+
+	private String flushingKey(Integer userId) {
+		return FLUSHING_PREFIX + userId;
+	}
+
+	private String lockKey(Integer userId) {
+		return LOCK_PREFIX + userId;
+	}
+}
@@ -0,0 +1,121 @@
+package com.alphamail.api.email.infrastructure.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+import com.alphamail.api.email.domain.entity.RecentUsedEmail;
+import com.alphamail.api.email.domain.repository.RecentContactCacheRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 sorted set (member=이메일, score=마지막 사용 시각 epoch ms)
+ * - 발송 한 번에 ZADD 여러 건 + 크기 제한 + TTL 갱신을 파이프라인 한 번으로
+ * - 조회는 ZREVRANGE 한 번
+ */
+@Slf4j
+@Repository
+public class RecentContactRedisRepository implements RecentContactCacheRepository {
+
+	private static final String KEY_PREFIX = "recent-contacts:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final int maxSize;
+	private final Duration ttl;
+
+	public RecentContactRedisRepository(RedisTemplate<String, String> redisTemplate,
+		@Value("${email.recent-contacts.max-size:50}") int maxSize,
+		@Value("${email.recent-contacts.ttl-days:30}") long ttlDays) {
+		this.redisTemplate = redisTemplate;
+		this.maxSize = maxSize;
+		this.ttl = Duration.ofDays(ttlDays);
+	}
+
+	@Override
+	public Optional<Boolean> exists(Integer userId) {
+		try {
+			return Optional.of(Boolean.TRUE.equals(redisTemplate.hasKey(key(userId))));
+		} catch (DataAccessException e) {
+			log.warn("최근 수신자 캐시 조회 실패: userId={} ({})", userId, e.toString());
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public void addAll(Integer userId, Map<String, LocalDateTime> contacts) {
+		if (contacts.isEmpty()) {
+			return;
+		}
+		String key = key(userId);
+		Set<TypedTuple<String>> tuples = new HashSet<>();
+		contacts.forEach((email, usedAt) -> tuples.add(new DefaultTypedTuple<>(email, toScore(usedAt))));
+
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+					ops.opsForZSet().add(key, tuples);
+					// 점수가 낮은(오래된) 쪽부터 잘라 최근 maxSize개만 유지
+					ops.opsForZSet().removeRange(key, 0, -(maxSize + 1L));
+					ops.expire(key, ttl);
+					return null;
+				}
+			});
+		} catch (DataAccessException e) {
+			log.warn("최근 수신자 캐시 저장 실패: userId={} ({})", userId, e.toString());
+		}
+	}
+
+	@Override
+	public Optional<List<RecentUsedEmail>> findRecent(Integer userId, int limit) {
+		try {
+			Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+				.reverseRangeWithScores(key(userId), 0, limit - 1L);
+			if (tuples == null) {
+				return Optional.of(List.of());
+			}
+			return Optional.of(tuples.stream()
+				.map(tuple -> RecentUsedEmail.builder()
+					.userId(userId)
+					.recentEmail(tuple.getValue())
+					.emailOwner("")
+					.lastUpdatedTime(toDateTime(tuple.getScore()))
+					.build())
+				.toList());
+		} catch (DataAccessException e) {
+			log.warn("최근 수신자 캐시 조회 실패: userId={} ({})", userId, e.toString());
+			return Optional.empty();
+		}
+	}
+
+	private String key(Integer userId) {
+		return KEY_PREFIX + userId;
+	}
+
+	private double toScore(LocalDateTime usedAt) {
+		return usedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private LocalDateTime toDateTime(Double score) {
+		long epochMilli = score != null ? score.longValue() : 0L;
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+	}
+}
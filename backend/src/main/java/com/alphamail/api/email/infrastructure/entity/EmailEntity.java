@@ -20,6 +20,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -31,7 +32,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "emails")
+@Table(name = "emails", indexes = {
+	@Index(name = "idx_emails_user_folder_received", columnList = "user_id, folder_id, received_date_time, email_id"),
+	@Index(name = "idx_emails_user_folder_sent", columnList = "user_id, folder_id, sent_date_time, email_id"),
+	@Index(name = "idx_emails_user_thread", columnList = "user_id, thread_id")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,36 @@
+package com.alphamail.api.email.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 폴더별 전체/읽은 메일 수 비정규화 테이블 (emails 변경과 같은 트랜잭션에서 증감)
+@Entity
+@Table(name = "email_folder_counters", indexes = {
+	@Index(name = "idx_email_folder_counters_user", columnList = "user_id")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class EmailFolderCounterEntity {
+
+	@Id
+	@Column(name = "folder_id")
+	private Integer folderId;
+
+	@Column(name = "user_id", nullable = false)
+	private Integer userId;
+
+	@Column(nullable = false)
+	private Integer totalCount;
+
+	@Column(nullable = false)
+	private Integer readCount;
+}
@@ -0,0 +1,59 @@
+package com.alphamail.api.email.infrastructure.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 폴더별 대화 목록 (스레드 재집계 때 폴더 단위로 다시 채움) -> 대화 모드 목록은 이 테이블만 keyset으로 읽는다
+@Entity
+@Table(name = "email_folder_threads",
+	uniqueConstraints = @UniqueConstraint(name = "uk_email_folder_threads_folder_thread",
+		columnNames = {"folder_id", "thread_id"}),
+	indexes = @Index(name = "idx_email_folder_threads_user_folder_activity",
+		columnList = "user_id, folder_id, last_activity_at, latest_email_id"))
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class EmailFolderThreadEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long emailFolderThreadId;
+
+	@Column(name = "user_id", nullable = false)
+	private Integer userId;
+
+	@Column(name = "folder_id", nullable = false)
+	private Integer folderId;
+
+	@Column(name = "thread_id", nullable = false, length = 100)
+	private String threadId;
+
+	@Column(nullable = false)
+	private Integer messageCount;
+
+	@Column(nullable = false)
+	private Integer unreadCount;
+
+	@Column(nullable = false)
+	private Boolean hasAttachment;
+
+	@Column(name = "latest_email_id", nullable = false)
+	private Integer latestEmailId;
+
+	// 날짜가 전혀 없는 대화는 1970-01-01로 채워서 맨 뒤로 (keyset 정렬 키에 null이 없도록)
+	@Column(name = "last_activity_at", nullable = false)
+	private LocalDateTime lastActivityAt;
+}
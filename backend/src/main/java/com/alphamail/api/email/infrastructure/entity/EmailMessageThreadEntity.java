@@ -0,0 +1,43 @@
+package com.alphamail.api.email.infrastructure.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Message-ID -> 스레드 매핑 (답장의 In-Reply-To로 원본 스레드를 찾을 때 사용)
+// 휴지통으로 옮겨도 남겨둠 -> 이후 답장도 같은 스레드로 묶임, 영구 삭제하면 함께 지움
+@Entity
+@Table(name = "email_message_threads",
+	uniqueConstraints = @UniqueConstraint(name = "uk_email_message_threads_user_message",
+		columnNames = {"user_id", "message_id"}))
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class EmailMessageThreadEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long emailMessageThreadId;
+
+	@Column(name = "user_id", nullable = false)
+	private Integer userId;
+
+	@Column(name = "message_id", nullable = false)
+	private String messageId;
+
+	@Column(name = "thread_id", nullable = false, length = 100)
+	private String threadId;
+
+	private LocalDateTime createdAt;
+}
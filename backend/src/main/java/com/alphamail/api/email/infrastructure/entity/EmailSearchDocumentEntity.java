@@ -0,0 +1,33 @@
+package com.alphamail.api.email.infrastructure.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 메일 전문 검색 색인 (제목 A, 보낸사람 B, 받는사람 C, 본문 D 가중치 tsvector)
+// document 컬럼 GIN 인덱스는 EmailSearchIndexInitializer가 만든다 (JPA @Index로는 GIN 지정 불가)
+@Entity
+@Table(name = "email_search_documents")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class EmailSearchDocumentEntity {
+
+	@Id
+	@Column(name = "email_id")
+	private Integer emailId;
+
+	@Column(columnDefinition = "tsvector", insertable = false, updatable = false)
+	private String document;
+
+	@Column(nullable = false)
+	private LocalDateTime indexedAt;
+}
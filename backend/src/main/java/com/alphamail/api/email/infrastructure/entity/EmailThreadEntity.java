@@ -0,0 +1,65 @@
+package com.alphamail.api.email.infrastructure.entity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자별 스레드 요약 (emails에서 스레드 단위로 재집계해서 upsert)
+@Entity
+@Table(name = "email_threads",
+	uniqueConstraints = @UniqueConstraint(name = "uk_email_threads_user_thread",
+		columnNames = {"user_id", "thread_id"}),
+	indexes = @Index(name = "idx_email_threads_user_activity", columnList = "user_id, last_activity_at"))
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class EmailThreadEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long emailThreadId;
+
+	@Column(name = "user_id", nullable = false)
+	private Integer userId;
+
+	@Column(name = "thread_id", nullable = false, length = 100)
+	private String threadId;
+
+	private String subject;
+
+	@Column(columnDefinition = "text[]")
+	@JdbcTypeCode(SqlTypes.ARRAY)
+	private List<String> participants;
+
+	@Column(nullable = false)
+	private Integer messageCount;
+
+	@Column(nullable = false)
+	private Integer unreadCount;
+
+	@Column(nullable = false)
+	private Boolean hasAttachment;
+
+	private Integer latestEmailId;
+
+	@Column(name = "last_activity_at")
+	private LocalDateTime lastActivityAt;
+
+	private LocalDateTime updatedAt;
+}
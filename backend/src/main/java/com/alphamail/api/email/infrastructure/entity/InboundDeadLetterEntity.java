@@ -0,0 +1,46 @@
+package com.alphamail.api.email.infrastructure.entity;
+
+import java.time.LocalDateTime;
+
+import com.alphamail.api.email.domain.entity.InboundEmailStage;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "inbound_email_dead_letters")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class InboundDeadLetterEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long deadLetterId;
+
+	@Column(nullable = false)
+	private Long envelopeId;
+
+	private Integer emailId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20, nullable = false)
+	private InboundEmailStage stage;
+
+	@Column(columnDefinition = "text")
+	private String reason;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+}
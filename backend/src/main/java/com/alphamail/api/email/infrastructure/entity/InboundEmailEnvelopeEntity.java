@@ -0,0 +1,64 @@
+package com.alphamail.api.email.infrastructure.entity;
+
+import java.time.LocalDateTime;
+
+import com.alphamail.api.email.domain.entity.InboundEmailFormat;
+import com.alphamail.api.email.domain.entity.InboundEmailStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "inbound_email_envelopes", indexes = {
+	@Index(name = "idx_inbound_envelope_status_next", columnList = "status, next_attempt_at")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class InboundEmailEnvelopeEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long envelopeId;
+
+	private String messageId;
+
+	@Column(columnDefinition = "text", nullable = false)
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private InboundEmailFormat format;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20, nullable = false)
+	private InboundEmailStatus status;
+
+	@Column(nullable = false)
+	private Integer attempts;
+
+	private Integer emailId;
+
+	@Column(columnDefinition = "text")
+	private String lastError;
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	private LocalDateTime claimedAt;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+}
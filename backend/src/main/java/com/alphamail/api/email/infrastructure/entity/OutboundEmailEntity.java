@@ -0,0 +1,66 @@
+package com.alphamail.api.email.infrastructure.entity;
+
+import java.time.LocalDateTime;
+
+import com.alphamail.api.email.domain.entity.EmailStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "outbound_emails", indexes = {
+	@Index(name = "idx_outbound_email_status_next", columnList = "status, next_attempt_at"),
+	@Index(name = "idx_outbound_email_email_id", columnList = "email_id")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class OutboundEmailEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long outboundId;
+
+	@Column(nullable = false)
+	private Integer emailId;
+
+	@Column(nullable = false)
+	private Integer userId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 30, nullable = false)
+	private EmailStatus status;
+
+	@Column(nullable = false)
+	private Integer attempts;
+
+	// 기존 행에도 컬럼을 추가할 수 있도록 기본값 0
+	@Column(nullable = false, columnDefinition = "integer default 0")
+	private Integer throttles;
+
+	@Column(columnDefinition = "text")
+	private String lastError;
+
+	// SES가 접수한 뒤에만 채워짐 -> 값이 있으면 다시 보내면 안 됨
+	private String sesMessageId;
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	private LocalDateTime claimedAt;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+}
@@ -4,7 +4,10 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.valueobject.EmailSummary;
 import com.alphamail.api.email.infrastructure.entity.EmailEntity;
+import com.alphamail.api.email.infrastructure.projection.EmailHeaderView;
+import com.alphamail.api.email.infrastructure.projection.EmailSummaryView;
 import com.alphamail.common.mapper.EntityReferenceFinder;
 
 @Mapper(componentModel = "spring", uses = {EntityReferenceFinder.class})
@@ -14,6 +17,13 @@ public interface EmailMapper {
 	@Mapping(target = "userId", source = "user.userId")
 	Email toDomain(EmailEntity emailEntity);
 
+	// 헤더만 읽은 경우 - 본문은 EmailBodyRepository
+	@Mapping(target = "bodyText", ignore = true)
+	@Mapping(target = "bodyHtml", ignore = true)
+	Email toDomain(EmailHeaderView headerView);
+
+	EmailSummary toSummary(EmailSummaryView summaryView);
+
 	@Mapping(target = "folder", source = "folderId", qualifiedByName = "toFolderEntity")
 	@Mapping(target = "user", source = "userId", qualifiedByName = "toUserEntity")
 	EmailEntity toEntity(Email email);
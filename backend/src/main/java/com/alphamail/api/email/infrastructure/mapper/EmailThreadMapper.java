@@ -0,0 +1,38 @@
+package com.alphamail.api.email.infrastructure.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.alphamail.api.email.domain.entity.EmailConversation;
+import com.alphamail.api.email.domain.entity.EmailThread;
+import com.alphamail.api.email.infrastructure.entity.EmailFolderThreadEntity;
+import com.alphamail.api.email.infrastructure.entity.EmailThreadEntity;
+
+@Component
+public class EmailThreadMapper {
+
+	public EmailThread toDomain(EmailThreadEntity entity) {
+		return EmailThread.builder()
+			.userId(entity.getUserId())
+			.threadId(entity.getThreadId())
+			.subject(entity.getSubject())
+			.participants(entity.getParticipants())
+			.messageCount(entity.getMessageCount())
+			.unreadCount(entity.getUnreadCount())
+			.hasAttachment(entity.getHasAttachment())
+			.latestEmailId(entity.getLatestEmailId())
+			.lastActivityAt(entity.getLastActivityAt())
+			.build();
+	}
+
+	public EmailConversation toConversation(EmailFolderThreadEntity entity) {
+		return EmailConversation.builder()
+			.folderId(entity.getFolderId())
+			.threadId(entity.getThreadId())
+			.messageCount(entity.getMessageCount())
+			.unreadCount(entity.getUnreadCount())
+			.hasAttachment(entity.getHasAttachment())
+			.latestEmailId(entity.getLatestEmailId())
+			.lastActivityAt(entity.getLastActivityAt())
+			.build();
+	}
+}
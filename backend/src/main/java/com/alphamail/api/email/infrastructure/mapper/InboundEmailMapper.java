@@ -0,0 +1,82 @@
+package com.alphamail.api.email.infrastructure.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.alphamail.api.email.domain.entity.InboundDeadLetter;
+import com.alphamail.api.email.domain.entity.InboundEmailEnvelope;
+import com.alphamail.api.email.infrastructure.entity.InboundDeadLetterEntity;
+import com.alphamail.api.email.infrastructure.entity.InboundEmailEnvelopeEntity;
+
+@Component
+public class InboundEmailMapper {
+
+	public InboundEmailEnvelope toDomain(InboundEmailEnvelopeEntity entity) {
+		if (entity == null) {
+			return null;
+		}
+
+		return InboundEmailEnvelope.builder()
+			.envelopeId(entity.getEnvelopeId())
+			.messageId(entity.getMessageId())
+			.payload(entity.getPayload())
+			.format(entity.getFormat())
+			.status(entity.getStatus())
+			.attempts(entity.getAttempts())
+			.emailId(entity.getEmailId())
+			.lastError(entity.getLastError())
+			.nextAttemptAt(entity.getNextAttemptAt())
+			.claimedAt(entity.getClaimedAt())
+			.createdAt(entity.getCreatedAt())
+			.build();
+	}
+
+	public InboundEmailEnvelopeEntity toEntity(InboundEmailEnvelope domain) {
+		if (domain == null) {
+			return null;
+		}
+
+		return InboundEmailEnvelopeEntity.builder()
+			.envelopeId(domain.getEnvelopeId())
+			.messageId(domain.getMessageId())
+			.payload(domain.getPayload())
+			.format(domain.getFormat())
+			.status(domain.getStatus())
+			.attempts(domain.getAttempts())
+			.emailId(domain.getEmailId())
+			.lastError(domain.getLastError())
+			.nextAttemptAt(domain.getNextAttemptAt())
+			.claimedAt(domain.getClaimedAt())
+			.createdAt(domain.getCreatedAt())
+			.build();
+	}
+
+	public InboundDeadLetter toDomain(InboundDeadLetterEntity entity) {
+		if (entity == null) {
+			return null;
+		}
+
+		return InboundDeadLetter.builder()
+			.deadLetterId(entity.getDeadLetterId())
+			.envelopeId(entity.getEnvelopeId())
+			.emailId(entity.getEmailId())
+			.stage(entity.getStage())
+			.reason(entity.getReason())
+			.createdAt(entity.getCreatedAt())
+			.build();
+	}
+
+	public InboundDeadLetterEntity toEntity(InboundDeadLetter domain) {
+		if (domain == null) {
+			return null;
+		}
+
+		return InboundDeadLetterEntity.builder()
+			.deadLetterId(domain.getDeadLetterId())
+			.envelopeId(domain.getEnvelopeId())
+			.emailId(domain.getEmailId())
+			.stage(domain.getStage())
+			.reason(domain.getReason())
+			.createdAt(domain.getCreatedAt())
+			.build();
+	}
+}
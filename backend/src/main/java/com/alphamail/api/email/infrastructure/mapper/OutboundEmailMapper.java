@@ -0,0 +1,50 @@
+package com.alphamail.api.email.infrastructure.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.alphamail.api.email.domain.entity.OutboundEmail;
+import com.alphamail.api.email.infrastructure.entity.OutboundEmailEntity;
+
+@Component
+public class OutboundEmailMapper {
+
+	public OutboundEmail toDomain(OutboundEmailEntity entity) {
+		if (entity == null) {
+			return null;
+		}
+
+		return OutboundEmail.builder()
+			.outboundId(entity.getOutboundId())
+			.emailId(entity.getEmailId())
+			.userId(entity.getUserId())
+			.status(entity.getStatus())
+			.attempts(entity.getAttempts())
+			.throttles(entity.getThrottles())
+			.lastError(entity.getLastError())
+			.sesMessageId(entity.getSesMessageId())
+			.nextAttemptAt(entity.getNextAttemptAt())
+			.claimedAt(entity.getClaimedAt())
+			.createdAt(entity.getCreatedAt())
+			.build();
+	}
+
+	public OutboundEmailEntity toEntity(OutboundEmail domain) {
+		if (domain == null) {
+			return null;
+		}
+
+		return OutboundEmailEntity.builder()
+			.outboundId(domain.getOutboundId())
+			.emailId(domain.getEmailId())
+			.userId(domain.getUserId())
+			.status(domain.getStatus())
+			.attempts(domain.getAttempts())
+			.throttles(domain.getThrottles())
+			.lastError(domain.getLastError())
+			.sesMessageId(domain.getSesMessageId())
+			.nextAttemptAt(domain.getNextAttemptAt())
+			.claimedAt(domain.getClaimedAt())
+			.createdAt(domain.getCreatedAt())
+			.build();
+	}
+}
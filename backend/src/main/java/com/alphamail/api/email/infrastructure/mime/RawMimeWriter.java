@@ -0,0 +1,127 @@
+package com.alphamail.api.email.infrastructure.mime;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MimeMessage를 SES RawMessage용 ByteBuffer 하나로 직렬화
+ * 첨부는 쓰는 순간 base64로 인코딩되어 버퍼로 바로 들어가고, ByteArrayOutputStream 확장/toByteArray 복사가 없습니다.
+ * - 예상 크기가 in-memory-limit 이하: 예상 크기로 미리 잡은 힙 버퍼 (발송마다 direct 메모리를 잡지 않도록)
+ * - 그보다 크면: 임시 파일에 쓰고 mmap (파일은 매핑 직후 삭제)
+ * 단, AWS SDK v1의 RawMessage 마샬러는 요청을 만들 때 이 버퍼를 byte[]로 한 번 복사한 뒤 base64 문자열로 다시 만듭니다.
+ * 그래서 전송 중에는 힙에 메시지 크기만큼의 사본과 그 base64(약 4/3배)가 따로 올라갑니다.
+ * 여기서 줄이는 것은 그 앞단의 중간 복사뿐입니다.
+ */
+@Slf4j
+@Component
+public class RawMimeWriter {
+
+	// base64는 3바이트 -> 4글자, 76글자마다 CRLF
+	private static final double BASE64_RATIO = 4.0 / 3.0 * 78.0 / 76.0;
+	private static final int HEADER_ALLOWANCE = 16 * 1024;
+
+	private final long inMemoryLimitBytes;
+	private final Path spillDirectory;
+
+	public RawMimeWriter(@Value("${email.send.in-memory-limit-bytes:8388608}") long inMemoryLimitBytes,
+		@Value("${email.send.spill-dir:${java.io.tmpdir}}") String spillDirectory) {
+		this.inMemoryLimitBytes = inMemoryLimitBytes;
+		this.spillDirectory = Path.of(spillDirectory);
+	}
+
+	// textBytes: 본문(텍스트/HTML) 원본 크기, attachmentBytes: 첨부 원본 크기 합
+	public ByteBuffer write(MimeMessage message, long textBytes, long attachmentBytes)
+		throws IOException, MessagingException {
+		long estimated = estimateSize(textBytes, attachmentBytes);
+		if (estimated <= inMemoryLimitBytes) {
+			return writeToMemory(message, (int)estimated);
+		}
+		return writeToSpillFile(message);
+	}
+
+	private ByteBuffer writeToMemory(MimeMessage message, int estimated) throws IOException, MessagingException {
+		PresizedByteArrayOutputStream out = new PresizedByteArrayOutputStream(estimated);
+		message.writeTo(out);
+		return out.toReadableBuffer();
+	}
+
+	private ByteBuffer writeToSpillFile(MimeMessage message) throws IOException, MessagingException {
+		Files.createDirectories(spillDirectory);
+		Path file = Files.createTempFile(spillDirectory, "mime-", ".eml");
+		try {
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024)) {
+				message.writeTo(out);
+			}
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				// 매핑은 채널을 닫아도 유지됨
+				return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+		} finally {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				log.warn("MIME 임시 파일 삭제 실패: {}", file, e);
+			}
+		}
+	}
+
+	// 본문은 quoted-printable/멀티바이트로 커질 수 있어 넉넉하게 2배
+	private static long estimateSize(long textBytes, long attachmentBytes) {
+		return HEADER_ALLOWANCE + textBytes * 2 + (long)Math.ceil(attachmentBytes * BASE64_RATIO);
+	}
+
+	// 예상 크기로 미리 잡은 힙 배열에 씀, 모자라면 1.5배로 키움 (보통은 한 번도 안 키움)
+	private static class PresizedByteArrayOutputStream extends OutputStream {
+		private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+		private byte[] bytes;
+		private int count;
+
+		private PresizedByteArrayOutputStream(int capacity) {
+			this.bytes = new byte[Math.max(capacity, 1024)];
+		}
+
+		@Override
+		public void write(int value) {
+			ensureCapacity(1);
+			bytes[count++] = (byte)value;
+		}
+
+		@Override
+		public void write(byte[] source, int offset, int length) {
+			ensureCapacity(length);
+			System.arraycopy(source, offset, bytes, count, length);
+			count += length;
+		}
+
+		private void ensureCapacity(int additional) {
+			if (bytes.length - count >= additional) {
+				return;
+			}
+			long required = (long)count + additional;
+			if (required > MAX_CAPACITY) {
+				throw new OutOfMemoryError("MIME 버퍼 한도 초과: " + required);
+			}
+			int capacity = (int)Math.min(MAX_CAPACITY, Math.max(required, bytes.length + (long)bytes.length / 2));
+			bytes = Arrays.copyOf(bytes, capacity);
+		}
+
+		private ByteBuffer toReadableBuffer() {
+			return ByteBuffer.wrap(bytes, 0, count);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.alphamail.api.email.infrastructure.mime;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.alphamail.api.email.domain.entity.EmailAttachment;
+import com.alphamail.api.global.s3.service.S3Service;
+
+import jakarta.activation.DataSource;
+
+// 발송 시점에 S3 객체를 스트림으로 열어 base64로 바로 인코딩 (파일 전체를 메모리에 올리지 않음)
+public class S3AttachmentDataSource implements DataSource {
+
+	private final EmailAttachment attachment;
+	private final S3Service s3Service;
+
+	public S3AttachmentDataSource(EmailAttachment attachment, S3Service s3Service) {
+		this.attachment = attachment;
+		this.s3Service = s3Service;
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		return s3Service.downloadFile(attachment.getS3Key());
+	}
+
+	@Override
+	public OutputStream getOutputStream() {
+		throw new UnsupportedOperationException("읽기 전용 데이터 소스입니다.");
+	}
+
+	@Override
+	public String getContentType() {
+		return attachment.getType() != null ? attachment.getType() : "application/octet-stream";
+	}
+
+	@Override
+	public String getName() {
+		return attachment.getName();
+	}
+}
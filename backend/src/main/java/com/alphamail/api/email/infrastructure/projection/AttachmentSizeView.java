@@ -0,0 +1,8 @@
+package com.alphamail.api.email.infrastructure.projection;
+
+// 메일별 첨부파일 총 용량 (GROUP BY email_id 결과)
+public interface AttachmentSizeView {
+	Integer getEmailId();
+
+	Long getTotalSize();
+}
@@ -0,0 +1,7 @@
+package com.alphamail.api.email.infrastructure.projection;
+
+public interface EmailBodyView {
+	String getBodyText();
+
+	String getBodyHtml();
+}
@@ -0,0 +1,48 @@
+package com.alphamail.api.email.infrastructure.projection;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.alphamail.api.email.domain.entity.EmailStatus;
+import com.alphamail.api.email.domain.entity.EmailType;
+
+// 상세 화면용 - 본문을 뺀 나머지 컬럼 (본문은 EmailBodyRepository로 따로)
+public interface EmailHeaderView {
+	Integer getEmailId();
+
+	Integer getFolderId();
+
+	Integer getUserId();
+
+	String getMessageId();
+
+	String getSesMessageId();
+
+	String getSender();
+
+	List<String> getRecipients();
+
+	String getSubject();
+
+	LocalDateTime getReceivedDateTime();
+
+	LocalDateTime getSentDateTime();
+
+	Boolean getReadStatus();
+
+	Boolean getHasAttachment();
+
+	String getInReplyTo();
+
+	String getReferences();
+
+	String getThreadId();
+
+	String getFilePath();
+
+	EmailType getEmailType();
+
+	EmailStatus getEmailStatus();
+
+	Integer getOriginalFolderId();
+}
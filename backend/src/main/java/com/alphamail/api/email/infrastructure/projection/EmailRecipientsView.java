@@ -0,0 +1,9 @@
+package com.alphamail.api.email.infrastructure.projection;
+
+import java.util.List;
+
+public interface EmailRecipientsView {
+	Integer getEmailId();
+
+	List<String> getRecipients();
+}
@@ -0,0 +1,20 @@
+package com.alphamail.api.email.infrastructure.projection;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 - 이 컬럼들만 SELECT 됨 (bodyText/bodyHtml/recipients 제외)
+public interface EmailSummaryView {
+	Integer getEmailId();
+
+	String getSender();
+
+	String getSubject();
+
+	LocalDateTime getReceivedDateTime();
+
+	LocalDateTime getSentDateTime();
+
+	Boolean getReadStatus();
+
+	Integer getOriginalFolderId();
+}
@@ -0,0 +1,8 @@
+package com.alphamail.api.email.infrastructure.projection;
+
+// 메일이 속한 (사용자, 스레드)
+public interface EmailThreadKeyView {
+	Integer getUserId();
+
+	String getThreadId();
+}
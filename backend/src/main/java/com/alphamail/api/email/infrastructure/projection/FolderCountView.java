@@ -0,0 +1,8 @@
+package com.alphamail.api.email.infrastructure.projection;
+
+// 폴더의 전체/읽은 메일 수 (한 번의 집계 쿼리 결과)
+public interface FolderCountView {
+	Long getTotalCount();
+
+	Long getReadCount();
+}
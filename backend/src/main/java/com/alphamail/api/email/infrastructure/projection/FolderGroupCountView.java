@@ -0,0 +1,10 @@
+package com.alphamail.api.email.infrastructure.projection;
+
+// 폴더별 전체/읽은 메일 수 (GROUP BY folder_id 결과)
+public interface FolderGroupCountView {
+	Integer getFolderId();
+
+	Long getTotalCount();
+
+	Long getReadCount();
+}
@@ -0,0 +1,12 @@
+package com.alphamail.api.email.infrastructure.projection;
+
+// 폴더 간 이동 건수 (GROUP BY 현재 폴더, 옮겨갈 폴더 결과)
+public interface FolderMoveCountView {
+	Integer getFromFolderId();
+
+	Integer getToFolderId();
+
+	Long getTotalCount();
+
+	Long getReadCount();
+}
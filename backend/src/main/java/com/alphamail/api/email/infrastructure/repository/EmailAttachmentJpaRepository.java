@@ -3,14 +3,35 @@ package com.alphamail.api.email.infrastructure.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.alphamail.api.email.infrastructure.entity.EmailAttachmentEntity;
+import com.alphamail.api.email.infrastructure.projection.AttachmentSizeView;
 
 public interface EmailAttachmentJpaRepository extends JpaRepository<EmailAttachmentEntity, Integer> {
 
 	@Query("SELECT SUM(e.size) FROM EmailAttachmentEntity e WHERE e.email.emailId = :emailId")
 	Integer sumSizeByEmailId(Integer emailId);
 
+	@Query("SELECT e.email.emailId AS emailId, SUM(e.size) AS totalSize FROM EmailAttachmentEntity e "
+		+ "WHERE e.email.emailId IN :emailIds GROUP BY e.email.emailId")
+	List<AttachmentSizeView> sumSizeGroupByEmailIds(@Param("emailIds") List<Integer> emailIds);
+
 	List<EmailAttachmentEntity> findAllByEmail_EmailId(Integer emailId);
+
+	@Query("SELECT a.S3Key FROM EmailAttachmentEntity a WHERE a.email.emailId IN :emailIds")
+	List<String> findS3KeysByEmailIds(@Param("emailIds") List<Integer> emailIds);
+
+	// 같은 S3 객체를 다른 메일이 아직 참조하는지
+	// OCR로 등록된 거래처(임시 포함)의 사업자등록증도 수신 첨부 객체를 그대로 가리키므로 함께 확인
+	@Query("SELECT a.S3Key FROM EmailAttachmentEntity a WHERE a.S3Key IN :s3Keys "
+		+ "UNION SELECT c.businessLicense FROM ClientEntity c WHERE c.businessLicense IN :s3Keys "
+		+ "UNION SELECT t.businessLicense FROM TemporaryClientEntity t WHERE t.businessLicense IN :s3Keys")
+	List<String> findReferencedS3Keys(@Param("s3Keys") List<String> s3Keys);
+
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM EmailAttachmentEntity a WHERE a.email.emailId IN :emailIds")
+	int deleteByEmailIds(@Param("emailIds") List<Integer> emailIds);
 }
@@ -1,6 +1,7 @@
 package com.alphamail.api.email.infrastructure.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -10,6 +11,7 @@ import com.alphamail.api.email.domain.entity.EmailAttachment;
 import com.alphamail.api.email.domain.repository.EmailAttachmentRepository;
 import com.alphamail.api.email.infrastructure.entity.EmailAttachmentEntity;
 import com.alphamail.api.email.infrastructure.mapper.EmailAttachmentMapper;
+import com.alphamail.api.email.infrastructure.projection.AttachmentSizeView;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +28,18 @@ public class EmailAttachmentRepositoryImpl implements EmailAttachmentRepository
 		return totalSize != null ? totalSize : 0;
 	}
 
+	@Override
+	public Map<Integer, Long> getTotalSizesByEmailIds(List<Integer> emailIds) {
+		if (emailIds == null || emailIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return emailAttachmentJpaRepository.sumSizeGroupByEmailIds(emailIds)
+			.stream()
+			.filter(view -> view.getTotalSize() != null)
+			.collect(Collectors.toMap(AttachmentSizeView::getEmailId, AttachmentSizeView::getTotalSize));
+	}
+
 	@Override
 	public List<EmailAttachment> findAllByEmailId(Integer emailId) {
 		return emailAttachmentJpaRepository.findAllByEmail_EmailId(emailId)
@@ -40,6 +54,22 @@ public class EmailAttachmentRepositoryImpl implements EmailAttachmentRepository
 		return emailAttachmentJpaRepository.findById(attachmentId).map(emailAttachmentMapper::toDomain);
 	}
 
+	@Override
+	public List<String> findS3KeysByEmailIds(List<Integer> emailIds) {
+		if (emailIds == null || emailIds.isEmpty()) {
+			return List.of();
+		}
+		return emailAttachmentJpaRepository.findS3KeysByEmailIds(emailIds);
+	}
+
+	@Override
+	public List<String> findReferencedS3Keys(List<String> s3Keys) {
+		if (s3Keys == null || s3Keys.isEmpty()) {
+			return List.of();
+		}
+		return emailAttachmentJpaRepository.findReferencedS3Keys(s3Keys);
+	}
+
 	@Override
 	public Void saveAll(List<EmailAttachment> emailAttachmentList) {
 		if (emailAttachmentList == null || emailAttachmentList.isEmpty()) {
@@ -0,0 +1,23 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import com.alphamail.api.email.domain.repository.EmailBodyRepository;
+import com.alphamail.api.email.domain.valueobject.EmailBody;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class EmailBodyRepositoryImpl implements EmailBodyRepository {
+
+	private final EmailJpaRepository emailJpaRepository;
+
+	@Override
+	public Optional<EmailBody> findByEmailId(Integer emailId) {
+		return emailJpaRepository.findBodyByEmailId(emailId)
+			.map(view -> new EmailBody(view.getBodyText(), view.getBodyHtml()));
+	}
+}
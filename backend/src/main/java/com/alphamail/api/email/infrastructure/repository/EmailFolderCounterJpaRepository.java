@@ -0,0 +1,62 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.alphamail.api.email.infrastructure.entity.EmailFolderCounterEntity;
+import com.alphamail.api.email.infrastructure.projection.FolderCountView;
+
+public interface EmailFolderCounterJpaRepository extends JpaRepository<EmailFolderCounterEntity, Integer> {
+
+	List<EmailFolderCounterEntity> findAllByFolderIdIn(List<Integer> folderIds);
+
+	// 행이 없으면 0 -> 호출 쪽에서 insertFromEmails로 행을 만든다
+	@Modifying
+	@Query("UPDATE EmailFolderCounterEntity c "
+		+ "SET c.totalCount = c.totalCount + :totalDelta, c.readCount = c.readCount + :readDelta "
+		+ "WHERE c.folderId = :folderId")
+	int addDelta(@Param("folderId") Integer folderId,
+		@Param("totalDelta") int totalDelta,
+		@Param("readDelta") int readDelta);
+
+	@Modifying
+	@Query(value = "INSERT INTO email_folder_counters (folder_id, user_id, total_count, read_count) "
+		+ "VALUES (:folderId, :userId, :totalCount, :readCount) "
+		+ "ON CONFLICT (folder_id) DO NOTHING", nativeQuery = true)
+	int insertIfAbsent(@Param("folderId") Integer folderId,
+		@Param("userId") Integer userId,
+		@Param("totalCount") int totalCount,
+		@Param("readCount") int readCount);
+
+	// 넣는 시점의 emails 집계로 행 생성 (같은 트랜잭션의 아직 커밋 안 된 변경도 포함), 이미 있으면 0
+	@Modifying
+	@Query(value = "INSERT INTO email_folder_counters (folder_id, user_id, total_count, read_count) "
+		+ "SELECT f.email_folder_id, f.user_id, "
+		+ "(SELECT COUNT(*) FROM emails e WHERE e.folder_id = f.email_folder_id), "
+		+ "(SELECT COUNT(*) FROM emails e WHERE e.folder_id = f.email_folder_id AND e.read_status = true) "
+		+ "FROM email_folders f WHERE f.email_folder_id = :folderId "
+		+ "ON CONFLICT (folder_id) DO NOTHING", nativeQuery = true)
+	int insertFromEmails(@Param("folderId") Integer folderId);
+
+	// 행 잠금 -> 잠금을 기다린 뒤의 집계에는 이 카운터를 건드린 트랜잭션의 메일 변경이 모두 보임
+	@Query(value = "SELECT * FROM email_folder_counters WHERE folder_id = :folderId FOR UPDATE",
+		nativeQuery = true)
+	Optional<EmailFolderCounterEntity> findByIdForUpdate(@Param("folderId") Integer folderId);
+
+	@Query("SELECT COUNT(e) AS totalCount, "
+		+ "COALESCE(SUM(CASE WHEN e.readStatus = true THEN 1 ELSE 0 END), 0) AS readCount "
+		+ "FROM EmailEntity e WHERE e.folder.emailFolderId = :folderId")
+	FolderCountView countEmails(@Param("folderId") Integer folderId);
+
+	@Modifying
+	@Query("UPDATE EmailFolderCounterEntity c SET c.totalCount = :totalCount, c.readCount = :readCount "
+		+ "WHERE c.folderId = :folderId")
+	int overwrite(@Param("folderId") Integer folderId,
+		@Param("totalCount") int totalCount,
+		@Param("readCount") int readCount);
+}
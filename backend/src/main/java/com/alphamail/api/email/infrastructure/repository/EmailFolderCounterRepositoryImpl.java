@@ -0,0 +1,93 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alphamail.api.email.domain.repository.EmailFolderCounterRepository;
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
+import com.alphamail.api.email.infrastructure.entity.EmailFolderCounterEntity;
+import com.alphamail.api.email.infrastructure.projection.FolderCountView;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class EmailFolderCounterRepositoryImpl implements EmailFolderCounterRepository {
+
+	private final EmailFolderCounterJpaRepository emailFolderCounterJpaRepository;
+
+	@Override
+	public Optional<FolderMailCount> findByFolderId(Integer folderId) {
+		return emailFolderCounterJpaRepository.findById(folderId)
+			.map(this::toCount);
+	}
+
+	@Override
+	public Map<Integer, FolderMailCount> findAllByFolderIds(List<Integer> folderIds) {
+		if (folderIds == null || folderIds.isEmpty()) {
+			return Map.of();
+		}
+		return emailFolderCounterJpaRepository.findAllByFolderIdIn(folderIds)
+			.stream()
+			.collect(Collectors.toMap(EmailFolderCounterEntity::getFolderId, this::toCount));
+	}
+
+	// 메일 변경과 같은 트랜잭션에서만 호출 -> 한쪽만 커밋되어 카운터가 어긋나는 일이 없도록 트랜잭션 밖 호출은 예외
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void increment(Integer folderId, int totalDelta, int readDelta) {
+		if (folderId == null || (totalDelta == 0 && readDelta == 0)) {
+			return;
+		}
+		if (emailFolderCounterJpaRepository.addDelta(folderId, totalDelta, readDelta) > 0) {
+			return;
+		}
+		// 카운터 행이 없는 폴더(재집계 전 기존 폴더) -> 이번 변경까지 반영된 집계로 행을 만들고 증감은 건너뜀
+		emailFolderCounterJpaRepository.flush();
+		if (emailFolderCounterJpaRepository.insertFromEmails(folderId) == 0) {
+			// 다른 트랜잭션이 먼저 만듦 -> 그 집계에는 커밋 전인 이번 변경이 빠져 있으니 증감을 더함
+			emailFolderCounterJpaRepository.addDelta(folderId, totalDelta, readDelta);
+		}
+	}
+
+	@Override
+	@Transactional
+	public void initialize(Integer folderId, Integer userId, FolderMailCount count) {
+		emailFolderCounterJpaRepository.insertIfAbsent(folderId, userId, count.totalCount(), count.readCount());
+	}
+
+	@Override
+	@Transactional
+	public boolean createFromEmails(Integer folderId) {
+		return emailFolderCounterJpaRepository.insertFromEmails(folderId) > 0;
+	}
+
+	// 행을 잠근 뒤 집계해서 덮어씀 -> 미리 읽어둔 집계로 덮어쓰다 그 사이 증감을 잃는 일이 없음
+	@Override
+	@Transactional
+	public Optional<FolderMailCount> recount(Integer folderId) {
+		Optional<EmailFolderCounterEntity> locked = emailFolderCounterJpaRepository.findByIdForUpdate(folderId);
+		if (locked.isEmpty()) {
+			return Optional.empty();
+		}
+		FolderMailCount stored = toCount(locked.get());
+		FolderCountView view = emailFolderCounterJpaRepository.countEmails(folderId);
+		FolderMailCount actual = new FolderMailCount(view.getTotalCount().intValue(),
+			view.getReadCount().intValue());
+		if (stored.equals(actual)) {
+			return Optional.empty();
+		}
+		emailFolderCounterJpaRepository.overwrite(folderId, actual.totalCount(), actual.readCount());
+		return Optional.of(stored);
+	}
+
+	private FolderMailCount toCount(EmailFolderCounterEntity entity) {
+		return new FolderMailCount(entity.getTotalCount(), entity.getReadCount());
+	}
+}
@@ -2,6 +2,7 @@ package com.alphamail.api.email.infrastructure.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.alphamail.api.email.infrastructure.entity.EmailFolderEntity;
@@ -10,4 +11,7 @@ public interface EmailFolderJpaRepository extends JpaRepository<EmailFolderEntit
 	EmailFolderEntity findByUser_UserIdAndName(Integer userId, String name);
 
 	List<EmailFolderEntity> findAllByUser_UserId(Integer userId);
+
+	List<EmailFolderEntity> findByEmailFolderIdGreaterThanOrderByEmailFolderIdAsc(Integer emailFolderId,
+		Pageable pageable);
 }
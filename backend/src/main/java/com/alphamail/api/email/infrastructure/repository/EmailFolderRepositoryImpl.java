@@ -3,10 +3,13 @@ package com.alphamail.api.email.infrastructure.repository;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import com.alphamail.api.email.domain.entity.EmailFolder;
+import com.alphamail.api.email.domain.repository.EmailFolderCounterRepository;
 import com.alphamail.api.email.domain.repository.EmailFolderRepository;
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
 import com.alphamail.api.email.infrastructure.entity.EmailFolderEntity;
 import com.alphamail.api.email.infrastructure.mapper.EmailFolderMapper;
 
@@ -18,6 +21,7 @@ public class EmailFolderRepositoryImpl implements EmailFolderRepository {
 
 	private final EmailFolderJpaRepository emailFolderJpaRepository;
 	private final EmailFolderMapper emailFolderMapper;
+	private final EmailFolderCounterRepository emailFolderCounterRepository;
 
 	@Override
 	public Integer getSentFolderId(Integer userId) {
@@ -56,7 +60,10 @@ public class EmailFolderRepositoryImpl implements EmailFolderRepository {
 	@Override
 	public EmailFolder save(EmailFolder emailFolder) {
 		EmailFolderEntity savedEntity = emailFolderJpaRepository.save(emailFolderMapper.toEntity(emailFolder));
-		return emailFolderMapper.toDomain(savedEntity);
+		EmailFolder saved = emailFolderMapper.toDomain(savedEntity);
+		// 새 폴더는 0건에서 시작하므로 카운터를 바로 만들어 둔다
+		emailFolderCounterRepository.initialize(saved.getEmailFolderId(), saved.getUserId(), FolderMailCount.empty());
+		return saved;
 	}
 
 	@Override
@@ -67,7 +74,19 @@ public class EmailFolderRepositoryImpl implements EmailFolderRepository {
 
 		List<EmailFolderEntity> savedEntities = emailFolderJpaRepository.saveAll(entities);
 
-		return savedEntities.stream()
+		List<EmailFolder> saved = savedEntities.stream()
+			.map(emailFolderMapper::toDomain)
+			.collect(Collectors.toList());
+		saved.forEach(folder -> emailFolderCounterRepository.initialize(folder.getEmailFolderId(), folder.getUserId(),
+			FolderMailCount.empty()));
+		return saved;
+	}
+
+	@Override
+	public List<EmailFolder> findAllAfterId(Integer lastFolderId, int limit) {
+		return emailFolderJpaRepository.findByEmailFolderIdGreaterThanOrderByEmailFolderIdAsc(lastFolderId,
+				PageRequest.of(0, limit))
+			.stream()
 			.map(emailFolderMapper::toDomain)
 			.collect(Collectors.toList());
 	}
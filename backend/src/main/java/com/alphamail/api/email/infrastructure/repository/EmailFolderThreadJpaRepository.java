@@ -0,0 +1,39 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.alphamail.api.email.infrastructure.entity.EmailFolderThreadEntity;
+
+public interface EmailFolderThreadJpaRepository extends JpaRepository<EmailFolderThreadEntity, Long> {
+
+	// (user_id, folder_id, last_activity_at, latest_email_id) 인덱스 keyset 스크롤
+	Window<EmailFolderThreadEntity> findByUserIdAndFolderId(Integer userId, Integer folderId,
+		ScrollPosition position, Sort sort, Limit limit);
+
+	@Modifying
+	@Query(value = "DELETE FROM email_folder_threads f USING " + EmailThreadJpaRepository.THREAD_KEYS + " "
+		+ "WHERE f.user_id = k.user_id AND f.thread_id = k.thread_id", nativeQuery = true)
+	int deleteByThreads(@Param("keys") String keys);
+
+	@Modifying
+	@Query(value = "INSERT INTO email_folder_threads (user_id, folder_id, thread_id, message_count, unread_count, "
+		+ "has_attachment, latest_email_id, last_activity_at) "
+		+ "SELECT e.user_id, e.folder_id, e.thread_id, "
+		+ "COUNT(*), "
+		+ "COUNT(*) FILTER (WHERE e.read_status IS NOT TRUE), "
+		+ "BOOL_OR(e.has_attachment), "
+		+ "(ARRAY_AGG(e.email_id ORDER BY COALESCE(e.sent_date_time, e.received_date_time) DESC NULLS LAST, "
+		+ "e.email_id DESC))[1], "
+		+ "COALESCE(MAX(COALESCE(e.sent_date_time, e.received_date_time)), TIMESTAMP '1970-01-01 00:00:00') "
+		+ "FROM (SELECT DISTINCT k.user_id, k.thread_id FROM " + EmailThreadJpaRepository.THREAD_KEYS + ") AS t "
+		+ "JOIN emails e ON e.user_id = t.user_id AND e.thread_id = t.thread_id "
+		+ "GROUP BY e.user_id, e.folder_id, e.thread_id", nativeQuery = true)
+	int insertFromEmails(@Param("keys") String keys);
+}
@@ -5,8 +5,13 @@ import java.util.Optional;
 
 import javax.swing.text.html.Option;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,21 +19,118 @@ import org.springframework.data.repository.query.Param;
 
 import com.alphamail.api.email.domain.entity.Email;
 import com.alphamail.api.email.domain.entity.EmailStatus;
+import com.alphamail.api.email.domain.entity.EmailType;
 import com.alphamail.api.email.infrastructure.entity.EmailEntity;
+import com.alphamail.api.email.infrastructure.projection.EmailBodyView;
+import com.alphamail.api.email.infrastructure.projection.EmailHeaderView;
+import com.alphamail.api.email.infrastructure.projection.EmailRecipientsView;
+import com.alphamail.api.email.infrastructure.projection.EmailSummaryView;
+import com.alphamail.api.email.infrastructure.projection.EmailThreadKeyView;
+import com.alphamail.api.email.infrastructure.projection.FolderCountView;
+import com.alphamail.api.email.infrastructure.projection.FolderGroupCountView;
+import com.alphamail.api.email.infrastructure.projection.FolderMoveCountView;
 import com.alphamail.api.email.presentation.dto.EmailThreadItem;
 import com.alphamail.api.user.infrastructure.entity.UserEntity;
 import io.lettuce.core.Value;
 
 public interface EmailJpaRepository extends JpaRepository<EmailEntity, Integer> {
 
-	Page<EmailEntity> findByFolder_EmailFolderIdAndUser_UserId(Integer folderId, Integer userId, Pageable pageable);
-
-	Integer countByFolder_EmailFolderIdAndUser_UserId(Integer folderId, Integer userId);
+	// 목록 조회는 모두 EmailSummaryView 프로젝션 -> 본문 TEXT/수신자 배열 컬럼을 읽지 않음
+	// 전체 건수는 countFolder로 따로 구하므로 Page 대신 Slice (count 쿼리 생략)
+	// 파생 쿼리는 Sort의 NULLS LAST를 적용하지 못해 JPQL로 (keyset 방식과 같은 순서를 위해)
+	@Query("SELECT e.emailId AS emailId, e.sender AS sender, e.subject AS subject, "
+		+ "e.receivedDateTime AS receivedDateTime, e.sentDateTime AS sentDateTime, e.readStatus AS readStatus, "
+		+ "e.originalFolderId AS originalFolderId "
+		+ "FROM EmailEntity e WHERE e.folder.emailFolderId = :folderId AND e.user.userId = :userId")
+	Slice<EmailSummaryView> findSliceByFolder_EmailFolderIdAndUser_UserId(@Param("folderId") Integer folderId,
+		@Param("userId") Integer userId, Pageable pageable);
+
+	// keyset 스크롤 - 날짜가 있는 메일 / 없는 메일을 나눠서 (user_id, folder_id, 날짜, email_id) 인덱스를 탄다
+	Window<EmailSummaryView> findByFolder_EmailFolderIdAndUser_UserIdAndReceivedDateTimeIsNotNull(Integer folderId,
+		Integer userId, ScrollPosition position, Sort sort, Limit limit);
+
+	Window<EmailSummaryView> findByFolder_EmailFolderIdAndUser_UserIdAndReceivedDateTimeIsNull(Integer folderId,
+		Integer userId, ScrollPosition position, Sort sort, Limit limit);
+
+	Window<EmailSummaryView> findByFolder_EmailFolderIdAndUser_UserIdAndSentDateTimeIsNotNull(Integer folderId,
+		Integer userId, ScrollPosition position, Sort sort, Limit limit);
+
+	Window<EmailSummaryView> findByFolder_EmailFolderIdAndUser_UserIdAndSentDateTimeIsNull(Integer folderId,
+		Integer userId, ScrollPosition position, Sort sort, Limit limit);
+
+	@Query("SELECT COUNT(e) AS totalCount, "
+		+ "COALESCE(SUM(CASE WHEN e.readStatus = true THEN 1 ELSE 0 END), 0) AS readCount "
+		+ "FROM EmailEntity e WHERE e.folder.emailFolderId = :folderId AND e.user.userId = :userId")
+	FolderCountView countFolder(@Param("folderId") Integer folderId, @Param("userId") Integer userId);
+
+	@Query("SELECT e.folder.emailFolderId AS folderId, COUNT(e) AS totalCount, "
+		+ "COALESCE(SUM(CASE WHEN e.readStatus = true THEN 1 ELSE 0 END), 0) AS readCount "
+		+ "FROM EmailEntity e WHERE e.folder.emailFolderId IN :folderIds GROUP BY e.folder.emailFolderId")
+	List<FolderGroupCountView> countGroupByFolderIds(@Param("folderIds") List<Integer> folderIds);
+
+	// 폴더 이동 전, 옮겨질 메일들이 원래 어느 폴더에 몇 개 있었는지
+	@Query("SELECT e.folder.emailFolderId AS folderId, COUNT(e) AS totalCount, "
+		+ "COALESCE(SUM(CASE WHEN e.readStatus = true THEN 1 ELSE 0 END), 0) AS readCount "
+		+ "FROM EmailEntity e WHERE e.emailId IN :emailIds GROUP BY e.folder.emailFolderId")
+	List<FolderGroupCountView> countGroupByFolderForEmailIds(@Param("emailIds") List<Integer> emailIds);
+
+	// 원래 폴더로 복원될 메일들의 (현재 폴더 -> 원래 폴더) 분포, 이미 원래 폴더에 있는 메일은 제외
+	@Query("SELECT e.folder.emailFolderId AS fromFolderId, e.originalFolderId AS toFolderId, COUNT(e) AS totalCount, "
+		+ "COALESCE(SUM(CASE WHEN e.readStatus = true THEN 1 ELSE 0 END), 0) AS readCount "
+		+ "FROM EmailEntity e WHERE e.emailId IN :emailIds AND e.user.userId = :userId "
+		+ "AND e.originalFolderId IS NOT NULL AND e.originalFolderId <> e.folder.emailFolderId "
+		+ "GROUP BY e.folder.emailFolderId, e.originalFolderId")
+	List<FolderMoveCountView> countRestorableGroupByFolders(@Param("emailIds") List<Integer> emailIds,
+		@Param("userId") Integer userId);
 
-	Integer countByFolder_EmailFolderIdAndUser_UserIdAndReadStatusTrue(Integer folderId, Integer userId);
+	// 읽음 여부가 실제로 바뀔 메일 수를 폴더별로 (readCount는 쓰지 않음)
+	@Query("SELECT e.folder.emailFolderId AS folderId, COUNT(e) AS totalCount, 0L AS readCount "
+		+ "FROM EmailEntity e WHERE e.emailId IN :emailIds AND e.user.userId = :userId "
+		+ "AND COALESCE(e.readStatus, false) <> :readStatus GROUP BY e.folder.emailFolderId")
+	List<FolderGroupCountView> countReadChangeGroupByFolder(@Param("emailIds") List<Integer> emailIds,
+		@Param("userId") Integer userId, @Param("readStatus") Boolean readStatus);
+
+	List<EmailSummaryView> findSummaryByEmailIdIn(List<Integer> emailIds);
+
+	// 보낸메일함 목록에서만 - 한 페이지 메일들의 수신자 배열
+	@Query("SELECT e.emailId AS emailId, e.recipients AS recipients FROM EmailEntity e WHERE e.emailId IN :emailIds")
+	List<EmailRecipientsView> findRecipientsByEmailIds(@Param("emailIds") List<Integer> emailIds);
+
+	@Query("SELECT e.emailId AS emailId, e.folder.emailFolderId AS folderId, e.user.userId AS userId, "
+		+ "e.messageId AS messageId, e.sesMessageId AS sesMessageId, e.sender AS sender, "
+		+ "e.recipients AS recipients, e.subject AS subject, e.receivedDateTime AS receivedDateTime, "
+		+ "e.sentDateTime AS sentDateTime, e.readStatus AS readStatus, e.hasAttachment AS hasAttachment, "
+		+ "e.inReplyTo AS inReplyTo, e.references AS references, e.threadId AS threadId, e.filePath AS filePath, "
+		+ "e.emailType AS emailType, e.emailStatus AS emailStatus, e.originalFolderId AS originalFolderId "
+		+ "FROM EmailEntity e WHERE e.emailId = :emailId AND e.user.userId = :userId")
+	Optional<EmailHeaderView> findHeaderByEmailIdAndUserId(@Param("emailId") Integer emailId,
+		@Param("userId") Integer userId);
 
-	Page<EmailEntity> findByFolder_EmailFolderIdAndUser_UserIdAndSubjectContaining(
-		Integer folderId, Integer userId, String query, Pageable pageable);
+	@Query("SELECT e.bodyText AS bodyText, e.bodyHtml AS bodyHtml FROM EmailEntity e WHERE e.emailId = :emailId")
+	Optional<EmailBodyView> findBodyByEmailId(@Param("emailId") Integer emailId);
+
+	@Query("SELECT e.folder.emailFolderId FROM EmailEntity e WHERE e.emailId = :emailId")
+	Integer findFolderIdByEmailId(@Param("emailId") Integer emailId);
+
+	// 제목/보낸사람/받는사람/본문 전문 검색 (email_search_documents GIN 인덱스), 관련도 -> 최신순
+	@Query(value = "SELECT e.email_id AS \"emailId\", e.sender AS \"sender\", e.subject AS \"subject\", "
+		+ "e.received_date_time AS \"receivedDateTime\", e.sent_date_time AS \"sentDateTime\", "
+		+ "e.read_status AS \"readStatus\", e.original_folder_id AS \"originalFolderId\" "
+		+ "FROM emails e "
+		+ "JOIN email_search_documents d ON d.email_id = e.email_id "
+		+ "WHERE e.user_id = :userId AND e.folder_id = :folderId "
+		+ "AND d.document @@ to_tsquery('simple', :tsQuery) "
+		+ "ORDER BY ts_rank_cd(d.document, to_tsquery('simple', :tsQuery)) DESC, "
+		+ "COALESCE(e.received_date_time, e.sent_date_time) DESC NULLS LAST, e.email_id DESC",
+		countQuery = "SELECT COUNT(*) FROM emails e "
+			+ "JOIN email_search_documents d ON d.email_id = e.email_id "
+			+ "WHERE e.user_id = :userId AND e.folder_id = :folderId "
+			+ "AND d.document @@ to_tsquery('simple', :tsQuery)",
+		nativeQuery = true)
+	Page<EmailSummaryView> searchFullText(@Param("folderId") Integer folderId,
+		@Param("userId") Integer userId,
+		@Param("tsQuery") String tsQuery,
+		Pageable pageable);
 
 	List<EmailEntity> user(UserEntity user);
 
@@ -42,6 +144,18 @@ public interface EmailJpaRepository extends JpaRepository<EmailEntity, Integer>
 		+ "WHERE e.emailId IN :emailIds")
 	void updateFolderByEmailIds(@Param("emailIds") List<Integer> emailIds, @Param("folderId") Integer folderId);
 
+	@Modifying(clearAutomatically = true)
+	@Query(value = "UPDATE emails SET folder_id = original_folder_id "
+		+ "WHERE email_id IN (:emailIds) AND user_id = :userId "
+		+ "AND original_folder_id IS NOT NULL AND original_folder_id <> folder_id",
+		nativeQuery = true)
+	int restoreToOriginalFolders(@Param("emailIds") List<Integer> emailIds, @Param("userId") Integer userId);
+
+	// 첨부파일은 EmailAttachmentJpaRepository.deleteByEmailIds로 먼저 지워야 함 (orphanRemoval을 타지 않음)
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM EmailEntity e WHERE e.emailId IN :emailIds AND e.user.userId = :userId")
+	int deleteByEmailIdsAndUserId(@Param("emailIds") List<Integer> emailIds, @Param("userId") Integer userId);
+
 	long countByEmailIdInAndUser_UserId(List<Integer> emailIds, Integer userId);
 
 	Boolean existsByEmailIdAndUser_UserId(Integer emailId, Integer userId);
@@ -54,7 +168,17 @@ public interface EmailJpaRepository extends JpaRepository<EmailEntity, Integer>
 	List<EmailEntity> findAllWithAttachmentsByFolderIdAndUserId(@Param("folderId") Integer folderId,
 		@Param("userId") Integer userId);
 
-	List<EmailEntity> findByThreadIdAndUserUserIdOrderByReceivedDateTimeAsc(String threadId, Integer userId);
+	// 스레드 목록은 화면에 필요한 컬럼만, 폴더 이름은 조인으로 한 번에 (user_id, thread_id) 인덱스
+	@Query("SELECT new com.alphamail.api.email.presentation.dto.EmailThreadItem("
+		+ "e.emailId, e.sender, e.subject, COALESCE(e.sentDateTime, e.receivedDateTime), e.originalFolderId, f.name) "
+		+ "FROM EmailEntity e JOIN e.folder f "
+		+ "WHERE e.user.userId = :userId AND e.threadId = :threadId "
+		+ "ORDER BY e.receivedDateTime ASC")
+	List<EmailThreadItem> findThreadItems(@Param("threadId") String threadId, @Param("userId") Integer userId);
+
+	@Query("SELECT DISTINCT e.user.userId AS userId, e.threadId AS threadId FROM EmailEntity e "
+		+ "WHERE e.emailId IN :emailIds AND e.threadId IS NOT NULL")
+	List<EmailThreadKeyView> findThreadKeysByEmailIds(@Param("emailIds") List<Integer> emailIds);
 
 	@Modifying(clearAutomatically = true)
 	@Query("UPDATE EmailEntity e SET e.sesMessageId = :sesMessageId "
@@ -70,17 +194,35 @@ public interface EmailJpaRepository extends JpaRepository<EmailEntity, Integer>
 		@Param("threadId") String threadId,
 		@Param("status") EmailStatus status);
 
+	// 발송 대기열 상태 전이용 (스레드 요약에는 상태가 없으므로 스레드 갱신 불필요)
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE EmailEntity e SET e.emailStatus = :status WHERE e.emailId IN :emailIds")
+	void updateStatusByIds(@Param("emailIds") List<Integer> emailIds, @Param("status") EmailStatus status);
+
 	@Modifying(clearAutomatically = true)
 	@Query("UPDATE EmailEntity e SET e.threadId = :threadId WHERE e.emailId = :emailId")
 	void updateThreadId(@Param("emailId") Integer emailId, @Param("threadId") String threadId);
 
 	Optional<EmailEntity> findByMessageId(String messageId);
 
+	// 유니크 인덱스(uk_emails_user_received_message_id)를 그대로 타는 중복 수신 확인
+	@Query("SELECT MIN(e.emailId) FROM EmailEntity e "
+		+ "WHERE e.user.userId = :userId AND e.messageId = :messageId AND e.emailType = :emailType")
+	Integer findEmailIdByUserIdAndMessageIdAndType(@Param("userId") Integer userId,
+		@Param("messageId") String messageId, @Param("emailType") EmailType emailType);
+
 	long countByEmailIdInAndUser_UserIdAndFolder_Name(List<Integer> emailIds, Integer userId, String trash);
 
+	// 읽음 여부가 실제로 바뀐 경우에만 1을 반환 (null은 안 읽음으로 취급)
 	@Modifying
-	@Query("UPDATE EmailEntity e SET e.readStatus = :readStatus WHERE e.emailId = :emailId")
-	void updateReadStatusById(@Param("emailId") Integer emailId, @Param("readStatus") Boolean readStatus);
+	@Query("UPDATE EmailEntity e SET e.readStatus = :readStatus "
+		+ "WHERE e.emailId = :emailId AND COALESCE(e.readStatus, false) <> :readStatus")
+	int updateReadStatusById(@Param("emailId") Integer emailId, @Param("readStatus") Boolean readStatus);
 
-	List<EmailEntity> findAllByMessageId(String messageId);
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE EmailEntity e SET e.readStatus = :readStatus "
+		+ "WHERE e.emailId IN :emailIds AND e.user.userId = :userId "
+		+ "AND COALESCE(e.readStatus, false) <> :readStatus")
+	int updateReadStatusByIds(@Param("emailIds") List<Integer> emailIds, @Param("userId") Integer userId,
+		@Param("readStatus") Boolean readStatus);
 }
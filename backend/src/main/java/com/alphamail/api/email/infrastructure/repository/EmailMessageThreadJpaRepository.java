@@ -0,0 +1,34 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.alphamail.api.email.infrastructure.entity.EmailMessageThreadEntity;
+
+public interface EmailMessageThreadJpaRepository extends JpaRepository<EmailMessageThreadEntity, Long> {
+
+	List<EmailMessageThreadEntity> findAllByUserIdAndMessageIdIn(Integer userId, List<String> messageIds);
+
+	// 같은 사용자가 같은 Message-ID를 두 통 가질 수 있음(자기 자신에게 보낸 메일) -> DISTINCT ON으로 한 건만
+	@Modifying
+	@Query(value = "INSERT INTO email_message_threads (user_id, message_id, thread_id, created_at) "
+		+ "SELECT DISTINCT ON (e.user_id, e.message_id) e.user_id, e.message_id, e.thread_id, now() "
+		+ "FROM (SELECT DISTINCT k.user_id, k.thread_id FROM " + EmailThreadJpaRepository.THREAD_KEYS + ") AS t "
+		+ "JOIN emails e ON e.user_id = t.user_id AND e.thread_id = t.thread_id "
+		+ "WHERE e.message_id IS NOT NULL "
+		+ "ORDER BY e.user_id, e.message_id, e.email_id "
+		+ "ON CONFLICT (user_id, message_id) DO UPDATE SET thread_id = EXCLUDED.thread_id", nativeQuery = true)
+	int upsertFromEmails(@Param("keys") String keys);
+
+	// 영구 삭제 후 - 스레드에 같은 Message-ID의 메일이 남지 않은 매핑 (idx_emails_user_thread로 확인)
+	@Modifying
+	@Query(value = "DELETE FROM email_message_threads m USING " + EmailThreadJpaRepository.THREAD_KEYS + " "
+		+ "WHERE m.user_id = k.user_id AND m.thread_id = k.thread_id "
+		+ "AND NOT EXISTS (SELECT 1 FROM emails e WHERE e.user_id = m.user_id AND e.thread_id = m.thread_id "
+		+ "AND e.message_id = m.message_id)", nativeQuery = true)
+	int deleteWithoutEmails(@Param("keys") String keys);
+}
@@ -1,36 +1,75 @@
 package com.alphamail.api.email.infrastructure.repository;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.alphamail.api.email.domain.entity.Email;
 import com.alphamail.api.email.domain.entity.EmailStatus;
+import com.alphamail.api.email.domain.entity.EmailType;
+import com.alphamail.api.email.domain.repository.EmailFolderCounterRepository;
 import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.repository.EmailSearchIndexRepository;
+import com.alphamail.api.email.domain.repository.EmailThreadRepository;
+import com.alphamail.api.email.domain.valueobject.EmailCursor;
+import com.alphamail.api.email.domain.valueobject.EmailSummary;
+import com.alphamail.api.email.domain.valueobject.EmailThreadKey;
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
 import com.alphamail.api.email.infrastructure.entity.EmailEntity;
 import com.alphamail.api.email.infrastructure.mapper.EmailMapper;
+import com.alphamail.api.email.infrastructure.projection.EmailRecipientsView;
+import com.alphamail.api.email.infrastructure.projection.EmailSummaryView;
+import com.alphamail.api.email.infrastructure.projection.FolderCountView;
+import com.alphamail.api.email.infrastructure.projection.FolderGroupCountView;
+import com.alphamail.api.email.infrastructure.projection.FolderMoveCountView;
 import com.alphamail.api.email.presentation.dto.EmailThreadItem;
+import com.alphamail.common.util.NgramTokenizer;
 
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class EmailRepositoryImpl implements EmailRepository {
+	private static final String SENT_DATE_FIELD = "sentDateTime";
+	private static final String EMAIL_ID_FIELD = "emailId";
+
 	private final EmailJpaRepository emailJpaRepository;
+	private final EmailAttachmentJpaRepository emailAttachmentJpaRepository;
 	private final EmailMapper emailMapper;
+	private final EmailFolderCounterRepository emailFolderCounterRepository;
+	private final EmailSearchIndexRepository emailSearchIndexRepository;
+	private final EmailThreadRepository emailThreadRepository;
 
 	@Override
 	public Email save(Email email) {
+		boolean isNew = email.getEmailId() == null;
 		EmailEntity entity = emailMapper.toEntity(email);
 		EmailEntity savedEntity = emailJpaRepository.save(entity);
 
-		return emailMapper.toDomain(savedEntity);
+		Email saved = emailMapper.toDomain(savedEntity);
+		if (isNew) {
+			emailFolderCounterRepository.increment(email.getFolderId(), 1, isRead(email.getReadStatus()) ? 1 : 0);
+			// 같은 트랜잭션에서 검색 색인 -> 저장 직후부터 검색됨
+			emailSearchIndexRepository.index(saved);
+			if (saved.getThreadId() != null) {
+				emailThreadRepository.refresh(List.of(new EmailThreadKey(saved.getUserId(), saved.getThreadId())));
+			}
+		}
+
+		return saved;
 	}
 
 	@Override
@@ -44,13 +83,56 @@ public class EmailRepositoryImpl implements EmailRepository {
 	}
 
 	@Override
-	public int countByFolderIdAndUserId(Integer folderId, Integer userId) {
-		return (int)emailJpaRepository.countByFolder_EmailFolderIdAndUser_UserId(folderId, userId);
+	public FolderMailCount countByFolderIdAndUserId(Integer folderId, Integer userId) {
+		FolderCountView view = emailJpaRepository.countFolder(folderId, userId);
+		if (view == null || view.getTotalCount() == null) {
+			return FolderMailCount.empty();
+		}
+		return new FolderMailCount(view.getTotalCount().intValue(),
+			view.getReadCount() != null ? view.getReadCount().intValue() : 0);
+	}
+
+	@Override
+	public Map<Integer, FolderMailCount> countByFolderIds(List<Integer> folderIds) {
+		if (folderIds == null || folderIds.isEmpty()) {
+			return Map.of();
+		}
+		return emailJpaRepository.countGroupByFolderIds(folderIds)
+			.stream()
+			.collect(Collectors.toMap(FolderGroupCountView::getFolderId, this::toFolderMailCount));
+	}
+
+	@Override
+	public List<Email> findAllByIds(List<Integer> emailIds) {
+		if (emailIds == null || emailIds.isEmpty()) {
+			return List.of();
+		}
+		return emailJpaRepository.findAllById(emailIds)
+			.stream()
+			.map(emailMapper::toDomain)
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	public List<EmailSummary> findSummariesByIds(List<Integer> emailIds) {
+		if (emailIds == null || emailIds.isEmpty()) {
+			return List.of();
+		}
+		return emailJpaRepository.findSummaryByEmailIdIn(emailIds)
+			.stream()
+			.map(emailMapper::toSummary)
+			.collect(Collectors.toList());
 	}
 
 	@Override
-	public int countReadByFolderIdAndUserId(Integer folderId, Integer userId) {
-		return (int)emailJpaRepository.countByFolder_EmailFolderIdAndUser_UserIdAndReadStatusTrue(folderId, userId);
+	public Map<Integer, List<String>> findRecipientsByIds(List<Integer> emailIds) {
+		if (emailIds == null || emailIds.isEmpty()) {
+			return Map.of();
+		}
+		return emailJpaRepository.findRecipientsByEmailIds(emailIds)
+			.stream()
+			.filter(view -> view.getRecipients() != null)
+			.collect(Collectors.toMap(EmailRecipientsView::getEmailId, EmailRecipientsView::getRecipients));
 	}
 
 	@Override
@@ -60,10 +142,35 @@ public class EmailRepositoryImpl implements EmailRepository {
 
 	}
 
+	@Override
+	public Optional<Email> findHeaderByIdAndUserId(Integer emailId, Integer userId) {
+		return emailJpaRepository.findHeaderByEmailIdAndUserId(emailId, userId)
+			.map(emailMapper::toDomain);
+	}
+
 	@Override
 	public void updateFolder(List<Integer> emailIds, Integer folderId) {
+		if (emailIds == null || emailIds.isEmpty()) {
+			return;
+		}
+
+		// 이동 전 폴더별 분포를 구해서 카운터를 같은 트랜잭션에서 옮긴다
+		List<FolderGroupCountView> sources = emailJpaRepository.countGroupByFolderForEmailIds(emailIds);
 		emailJpaRepository.updateFolderByEmailIds(emailIds, folderId);
 
+		int movedTotal = 0;
+		int movedRead = 0;
+		for (FolderGroupCountView source : sources) {
+			if (folderId.equals(source.getFolderId())) {
+				continue;
+			}
+			FolderMailCount moved = toFolderMailCount(source);
+			emailFolderCounterRepository.increment(source.getFolderId(), -moved.totalCount(), -moved.readCount());
+			movedTotal += moved.totalCount();
+			movedRead += moved.readCount();
+		}
+		emailFolderCounterRepository.increment(folderId, movedTotal, movedRead);
+		emailThreadRepository.refreshByEmailIds(emailIds);
 	}
 
 	@Override
@@ -80,18 +187,7 @@ public class EmailRepositoryImpl implements EmailRepository {
 
 	@Override
 	public List<EmailThreadItem> findByThreadIdAndUserId(String threadId, Integer userId) {
-
-		return emailJpaRepository.findByThreadIdAndUserUserIdOrderByReceivedDateTimeAsc(threadId, userId)
-			.stream()
-			.map(entity -> new EmailThreadItem(
-				entity.getEmailId(),
-				entity.getSender(),
-				entity.getSubject(),
-				entity.getSentDateTime() != null ? entity.getSentDateTime() : entity.getReceivedDateTime(),
-				entity.getOriginalFolderId(),
-				entity.getFolder().getName()
-			))
-			.collect(Collectors.toList());
+		return emailJpaRepository.findThreadItems(threadId, userId);
 	}
 
 	@Override
@@ -102,12 +198,16 @@ public class EmailRepositoryImpl implements EmailRepository {
 	@Override
 	public void updateMessageIdThreadIdAndStatus(Integer emailId, String messageId, String threadId,
 		EmailStatus status) {
+		List<EmailThreadKey> previous = emailThreadRepository.findThreadKeysByEmailIds(List.of(emailId));
 		emailJpaRepository.updateMessageIdThreadIdAndStatus(emailId, messageId, threadId, status);
+		refreshThreads(previous, List.of(emailId));
 	}
 
 	@Override
 	public void updateThreadId(Integer emailId, String threadId) {
+		List<EmailThreadKey> previous = emailThreadRepository.findThreadKeysByEmailIds(List.of(emailId));
 		emailJpaRepository.updateThreadId(emailId, threadId);
+		refreshThreads(previous, List.of(emailId));
 	}
 
 	@Override
@@ -118,28 +218,54 @@ public class EmailRepositoryImpl implements EmailRepository {
 	}
 
 	@Override
-	public List<Email> findAllByMessageId(String messageId) {
-		return emailJpaRepository.findAllByMessageId(messageId)
-			.stream()
-			.map(emailMapper::toDomain)
-			.collect(Collectors.toList());
+	public Optional<Integer> findReceivedEmailIdByMessageId(Integer userId, String messageId) {
+		return Optional.ofNullable(
+			emailJpaRepository.findEmailIdByUserIdAndMessageIdAndType(userId, messageId, EmailType.RECEIVED));
 	}
 
 	@Override
 	public Integer deleteSelectedEmails(List<Integer> emailIds, Integer userId) {
-		int count = 0;
-		for (Integer emailId : emailIds) {
-			Optional<EmailEntity> emailEntity = emailJpaRepository.findByEmailIdAndUser_UserId(emailId, userId);
-			if (emailEntity.isPresent()) {
-				EmailEntity email = emailEntity.get();
-				email.getAttachments().clear(); // orphanRemoval 트리거
-				emailJpaRepository.delete(email);
-				count++;
-			}
+		if (emailIds == null || emailIds.isEmpty()) {
+			return 0;
 		}
+
+		// 엔티티를 하나씩 읽어 지우지 않고 첨부 -> 메일 순서로 DELETE 두 번, 카운터는 삭제 전 폴더별 분포로
+		List<EmailThreadKey> threads = emailThreadRepository.findThreadKeysByEmailIds(emailIds);
+		List<FolderGroupCountView> folders = emailJpaRepository.countGroupByFolderForEmailIds(emailIds);
+
+		emailAttachmentJpaRepository.deleteByEmailIds(emailIds);
+		int count = emailJpaRepository.deleteByEmailIdsAndUserId(emailIds, userId);
+
+		for (FolderGroupCountView folder : folders) {
+			FolderMailCount deleted = toFolderMailCount(folder);
+			emailFolderCounterRepository.increment(folder.getFolderId(), -deleted.totalCount(), -deleted.readCount());
+		}
+		emailSearchIndexRepository.deleteByEmailIds(emailIds);
+		emailThreadRepository.purge(threads);
 		return count;
 	}
 
+	@Override
+	public int restoreToOriginalFolders(List<Integer> emailIds, Integer userId) {
+		if (emailIds == null || emailIds.isEmpty()) {
+			return 0;
+		}
+
+		List<FolderMoveCountView> moves = emailJpaRepository.countRestorableGroupByFolders(emailIds, userId);
+		int restored = emailJpaRepository.restoreToOriginalFolders(emailIds, userId);
+
+		for (FolderMoveCountView move : moves) {
+			int total = move.getTotalCount().intValue();
+			int read = move.getReadCount() != null ? move.getReadCount().intValue() : 0;
+			emailFolderCounterRepository.increment(move.getFromFolderId(), -total, -read);
+			emailFolderCounterRepository.increment(move.getToFolderId(), total, read);
+		}
+		if (restored > 0) {
+			emailThreadRepository.refreshByEmailIds(emailIds);
+		}
+		return restored;
+	}
+
 	@Override
 	public boolean areAllEmailsInTrash(List<Integer> emailIds, Integer userId) {
 		if (emailIds.isEmpty()) {
@@ -152,24 +278,121 @@ public class EmailRepositoryImpl implements EmailRepository {
 
 	@Override
 	public void updateReadStatus(Integer emailId, Boolean readStatus) {
-		emailJpaRepository.updateReadStatusById(emailId, readStatus);
+		Integer folderId = emailJpaRepository.findFolderIdByEmailId(emailId);
+		int changed = emailJpaRepository.updateReadStatusById(emailId, isRead(readStatus));
+		if (changed > 0) {
+			emailFolderCounterRepository.increment(folderId, 0, isRead(readStatus) ? 1 : -1);
+			emailThreadRepository.refreshByEmailIds(List.of(emailId));
+		}
+	}
+
+	@Override
+	public int updateReadStatus(List<Integer> emailIds, Integer userId, Boolean readStatus) {
+		if (emailIds == null || emailIds.isEmpty()) {
+			return 0;
+		}
+
+		boolean read = isRead(readStatus);
+		List<FolderGroupCountView> changes = emailJpaRepository.countReadChangeGroupByFolder(emailIds, userId, read);
+		int changed = emailJpaRepository.updateReadStatusByIds(emailIds, userId, read);
+
+		for (FolderGroupCountView change : changes) {
+			int delta = change.getTotalCount().intValue();
+			emailFolderCounterRepository.increment(change.getFolderId(), 0, read ? delta : -delta);
+		}
+		if (changed > 0) {
+			emailThreadRepository.refreshByEmailIds(emailIds);
+		}
+		return changed;
+	}
+
+	@Override
+	public Slice<EmailSummary> findByFolderIdAndUserId(Integer folderId, Integer userId, Pageable pageable) {
+		Slice<EmailSummaryView> summaries = emailJpaRepository.findSliceByFolder_EmailFolderIdAndUser_UserId(
+			folderId, userId, withListOrder(pageable));
+
+		return summaries.map(emailMapper::toSummary);
 	}
 
 	@Override
-	public Page<Email> findByFolderIdAndUserId(Integer folderId, Integer userId, Pageable pageable) {
-		Page<EmailEntity> emailEntities = emailJpaRepository.findByFolder_EmailFolderIdAndUser_UserId(folderId, userId,
-			pageable);
+	public List<EmailSummary> findByFolderIdAndUserIdAfter(Integer folderId, Integer userId, EmailCursor cursor,
+		String sortField, Sort.Direction direction, int limit) {
+		boolean bySentDate = SENT_DATE_FIELD.equals(sortField);
+		List<EmailSummaryView> entities = new ArrayList<>(limit);
+
+		// 1단계: 날짜가 있는 메일 (날짜, emailId) 순
+		if (cursor == null || !cursor.isNullDatePhase()) {
+			ScrollPosition position = cursor == null
+				? ScrollPosition.keyset()
+				: ScrollPosition.forward(Map.of(sortField, cursor.date(), EMAIL_ID_FIELD, cursor.emailId()));
+			Sort sort = Sort.by(direction, sortField, EMAIL_ID_FIELD);
+
+			entities.addAll(bySentDate
+				? emailJpaRepository.findByFolder_EmailFolderIdAndUser_UserIdAndSentDateTimeIsNotNull(
+					folderId, userId, position, sort, Limit.of(limit)).getContent()
+				: emailJpaRepository.findByFolder_EmailFolderIdAndUser_UserIdAndReceivedDateTimeIsNotNull(
+					folderId, userId, position, sort, Limit.of(limit)).getContent());
+		}
+
+		// 2단계: 날짜가 없는 메일은 emailId 순으로 뒤에 이어 붙임
+		int remaining = limit - entities.size();
+		if (remaining > 0) {
+			ScrollPosition position = cursor != null && cursor.isNullDatePhase()
+				? ScrollPosition.forward(Map.of(EMAIL_ID_FIELD, cursor.emailId()))
+				: ScrollPosition.keyset();
+			Sort sort = Sort.by(direction, EMAIL_ID_FIELD);
+
+			entities.addAll(bySentDate
+				? emailJpaRepository.findByFolder_EmailFolderIdAndUser_UserIdAndSentDateTimeIsNull(
+					folderId, userId, position, sort, Limit.of(remaining)).getContent()
+				: emailJpaRepository.findByFolder_EmailFolderIdAndUser_UserIdAndReceivedDateTimeIsNull(
+					folderId, userId, position, sort, Limit.of(remaining)).getContent());
+		}
 
-		return emailEntities.map(emailMapper::toDomain);
+		return entities.stream()
+			.map(emailMapper::toSummary)
+			.collect(Collectors.toList());
 	}
 
 	@Override
-	public Page<Email> searchByFolderIdAndUserId(Integer folderId, Integer userId, String query, Pageable pageable) {
-		Page<EmailEntity> emailEntities = emailJpaRepository
-			.findByFolder_EmailFolderIdAndUser_UserIdAndSubjectContaining(
-				folderId, userId, query, pageable);
+	public Page<EmailSummary> searchByFolderIdAndUserId(Integer folderId, Integer userId, String query,
+		Pageable pageable) {
+		String tsQuery = NgramTokenizer.toPrefixQuery(query);
+		if (tsQuery.isEmpty()) {
+			return Page.empty(pageable);
+		}
+
+		// 정렬은 관련도 순으로 쿼리에 고정 -> Pageable의 정렬은 버린다
+		Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+		Page<EmailSummaryView> summaries = emailJpaRepository.searchFullText(folderId, userId, tsQuery, unsorted);
+
+		return summaries.map(emailMapper::toSummary);
+	}
+
+	// 페이지 번호 방식도 keyset 방식과 같은 순서 - 날짜 없는 메일은 방향과 관계없이 뒤로, 같은 날짜는 emailId 순
+	private Pageable withListOrder(Pageable pageable) {
+		Sort.Order dateOrder = pageable.getSort().stream().findFirst().orElse(null);
+		if (dateOrder == null) {
+			return pageable;
+		}
+		return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+			Sort.by(dateOrder.nullsLast(), new Sort.Order(dateOrder.getDirection(), EMAIL_ID_FIELD)));
+	}
+
+	// 스레드가 바뀐 메일은 이전 스레드와 새 스레드를 모두 재집계
+	private void refreshThreads(List<EmailThreadKey> previous, List<Integer> emailIds) {
+		List<EmailThreadKey> keys = new ArrayList<>(previous);
+		keys.addAll(emailThreadRepository.findThreadKeysByEmailIds(emailIds));
+		emailThreadRepository.refresh(keys);
+	}
+
+	private FolderMailCount toFolderMailCount(FolderGroupCountView view) {
+		return new FolderMailCount(view.getTotalCount().intValue(),
+			view.getReadCount() != null ? view.getReadCount().intValue() : 0);
+	}
 
-		return emailEntities.map(emailMapper::toDomain);
+	private boolean isRead(Boolean readStatus) {
+		return Boolean.TRUE.equals(readStatus);
 	}
 
 }
@@ -0,0 +1,42 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.alphamail.api.email.infrastructure.entity.EmailSearchDocumentEntity;
+
+public interface EmailSearchDocumentJpaRepository extends JpaRepository<EmailSearchDocumentEntity, Integer> {
+
+	// 인자는 NgramTokenizer로 미리 자른 토큰을 공백으로 이은 문자열
+	@Modifying
+	@Query(value = "INSERT INTO email_search_documents (email_id, document, indexed_at) "
+		+ "VALUES (:emailId, "
+		+ "setweight(to_tsvector('simple', :subject), 'A') "
+		+ "|| setweight(to_tsvector('simple', :sender), 'B') "
+		+ "|| setweight(to_tsvector('simple', :recipients), 'C') "
+		+ "|| setweight(to_tsvector('simple', :body), 'D'), now()) "
+		+ "ON CONFLICT (email_id) DO UPDATE SET document = EXCLUDED.document, indexed_at = EXCLUDED.indexed_at",
+		nativeQuery = true)
+	int upsert(@Param("emailId") Integer emailId,
+		@Param("subject") String subject,
+		@Param("sender") String sender,
+		@Param("recipients") String recipients,
+		@Param("body") String body);
+
+	@Query(value = "SELECT e.email_id FROM emails e "
+		+ "WHERE e.email_id > :afterId "
+		+ "AND NOT EXISTS (SELECT 1 FROM email_search_documents d WHERE d.email_id = e.email_id) "
+		+ "ORDER BY e.email_id LIMIT :limit", nativeQuery = true)
+	List<Integer> findUnindexedEmailIds(@Param("afterId") Integer afterId, @Param("limit") int limit);
+
+	@Query(value = "SELECT MAX(e.email_id) FROM emails e", nativeQuery = true)
+	Integer findMaxEmailId();
+
+	@Modifying
+	@Query("DELETE FROM EmailSearchDocumentEntity d WHERE d.emailId IN :emailIds")
+	int deleteByEmailIds(@Param("emailIds") List<Integer> emailIds);
+}
@@ -0,0 +1,83 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.repository.EmailSearchIndexRepository;
+import com.alphamail.api.email.infrastructure.entity.EmailEntity;
+import com.alphamail.common.util.NgramTokenizer;
+
+@Repository
+public class EmailSearchIndexRepositoryImpl implements EmailSearchIndexRepository {
+
+	private final EmailSearchDocumentJpaRepository emailSearchDocumentJpaRepository;
+	private final EmailJpaRepository emailJpaRepository;
+	private final int maxBodyChars;
+
+	public EmailSearchIndexRepositoryImpl(EmailSearchDocumentJpaRepository emailSearchDocumentJpaRepository,
+		EmailJpaRepository emailJpaRepository,
+		@Value("${email.search.max-body-chars:20000}") int maxBodyChars) {
+		this.emailSearchDocumentJpaRepository = emailSearchDocumentJpaRepository;
+		this.emailJpaRepository = emailJpaRepository;
+		this.maxBodyChars = maxBodyChars;
+	}
+
+	@Override
+	@Transactional
+	public void index(Email email) {
+		upsert(email.getEmailId(), email.getSubject(), email.getSender(), email.getRecipients(),
+			email.getBodyText());
+	}
+
+	@Override
+	@Transactional
+	public int reindex(List<Integer> emailIds) {
+		List<EmailEntity> entities = emailJpaRepository.findAllById(emailIds);
+		for (EmailEntity entity : entities) {
+			upsert(entity.getEmailId(), entity.getSubject(), entity.getSender(), entity.getRecipients(),
+				entity.getBodyText());
+		}
+		return entities.size();
+	}
+
+	@Override
+	@Transactional
+	public void deleteByEmailIds(List<Integer> emailIds) {
+		if (emailIds == null || emailIds.isEmpty()) {
+			return;
+		}
+		emailSearchDocumentJpaRepository.deleteByEmailIds(emailIds);
+	}
+
+	@Override
+	public List<Integer> findUnindexedEmailIds(Integer afterId, int limit) {
+		return emailSearchDocumentJpaRepository.findUnindexedEmailIds(afterId, limit);
+	}
+
+	@Override
+	public int findMaxEmailId() {
+		Integer maxEmailId = emailSearchDocumentJpaRepository.findMaxEmailId();
+		return maxEmailId != null ? maxEmailId : 0;
+	}
+
+	private void upsert(Integer emailId, String subject, String sender, List<String> recipients, String bodyText) {
+		// 너무 긴 본문은 앞부분만 색인 (tsvector 크기 제한 + 색인 비용)
+		String body = bodyText != null && bodyText.length() > maxBodyChars
+			? bodyText.substring(0, maxBodyChars)
+			: bodyText;
+
+		emailSearchDocumentJpaRepository.upsert(emailId,
+			toTokenText(subject),
+			toTokenText(sender),
+			toTokenText(recipients != null ? String.join(" ", recipients) : null),
+			toTokenText(body));
+	}
+
+	private String toTokenText(String text) {
+		return String.join(" ", NgramTokenizer.tokenize(text));
+	}
+}
@@ -0,0 +1,69 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.alphamail.api.email.infrastructure.entity.EmailThreadEntity;
+
+public interface EmailThreadJpaRepository extends JpaRepository<EmailThreadEntity, Long> {
+
+	Optional<EmailThreadEntity> findByUserIdAndThreadId(Integer userId, String threadId);
+
+	// 재집계 대상 (user_id, thread_id) 목록 - [{"user_id":1,"thread_id":"..."}, ...] JSON 하나로 받아 행으로 펼침
+	// 스레드 수와 관계없이 문장 수가 고정되도록 모든 재집계 쿼리가 같은 키 집합을 씀
+	String THREAD_KEYS = "jsonb_to_recordset(CAST(:keys AS jsonb)) AS k(user_id integer, thread_id text)";
+
+	// 같은 스레드를 동시에 재집계하면 서로의 미커밋 메일을 못 보고 덮어쓸 수 있음
+	// -> 트랜잭션 범위 advisory lock으로 직렬화 (다음 문장부터 먼저 커밋된 메일이 보임)
+	// 일괄 이동/삭제는 한 사용자의 스레드 수천 개를 건드림 -> 스레드마다 잡으면 공유 lock 테이블
+	// (max_locks_per_transaction)을 채우므로 사용자 단위로, 한 문장에서 user_id 순으로 잡아 교착 없음
+	@Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(hashtext('email_threads'), s.user_id) "
+		+ "FROM (SELECT DISTINCT k.user_id FROM " + THREAD_KEYS + ") AS s ORDER BY s.user_id) AS l",
+		nativeQuery = true)
+	Long lockUsers(@Param("keys") String keys);
+
+	@Modifying
+	@Query(value = "INSERT INTO email_threads (user_id, thread_id, subject, participants, message_count, "
+		+ "unread_count, has_attachment, latest_email_id, last_activity_at, updated_at) "
+		+ "SELECT e.user_id, e.thread_id, "
+		+ "(ARRAY_AGG(e.subject ORDER BY e.email_id))[1], "
+		+ "ARRAY(SELECT DISTINCT p.address FROM emails x "
+		+ "CROSS JOIN LATERAL unnest(array_prepend(x.sender, x.recipients)) AS p(address) "
+		+ "WHERE x.user_id = e.user_id AND x.thread_id = e.thread_id ORDER BY p.address LIMIT :maxParticipants), "
+		+ "COUNT(*), "
+		+ "COUNT(*) FILTER (WHERE e.read_status IS NOT TRUE), "
+		+ "BOOL_OR(e.has_attachment), "
+		+ "(ARRAY_AGG(e.email_id ORDER BY COALESCE(e.sent_date_time, e.received_date_time) DESC NULLS LAST, "
+		+ "e.email_id DESC))[1], "
+		+ "MAX(COALESCE(e.sent_date_time, e.received_date_time)), "
+		+ "now() "
+		+ "FROM (SELECT DISTINCT k.user_id, k.thread_id FROM " + THREAD_KEYS + ") AS t "
+		+ "JOIN emails e ON e.user_id = t.user_id AND e.thread_id = t.thread_id "
+		+ "GROUP BY e.user_id, e.thread_id "
+		+ "ON CONFLICT (user_id, thread_id) DO UPDATE SET "
+		+ "subject = EXCLUDED.subject, participants = EXCLUDED.participants, "
+		+ "message_count = EXCLUDED.message_count, unread_count = EXCLUDED.unread_count, "
+		+ "has_attachment = EXCLUDED.has_attachment, latest_email_id = EXCLUDED.latest_email_id, "
+		+ "last_activity_at = EXCLUDED.last_activity_at, updated_at = EXCLUDED.updated_at", nativeQuery = true)
+	int upsertFromEmails(@Param("keys") String keys, @Param("maxParticipants") int maxParticipants);
+
+	@Modifying
+	@Query(value = "DELETE FROM email_threads t USING " + THREAD_KEYS + " "
+		+ "WHERE t.user_id = k.user_id AND t.thread_id = k.thread_id "
+		+ "AND NOT EXISTS (SELECT 1 FROM emails e WHERE e.user_id = t.user_id AND e.thread_id = t.thread_id)",
+		nativeQuery = true)
+	int deleteEmpty(@Param("keys") String keys);
+
+	@Query(value = "SELECT e.email_id FROM emails e "
+		+ "WHERE e.email_id > :afterId AND e.thread_id IS NOT NULL "
+		+ "AND (NOT EXISTS (SELECT 1 FROM email_threads t WHERE t.user_id = e.user_id AND t.thread_id = e.thread_id) "
+		+ "OR NOT EXISTS (SELECT 1 FROM email_folder_threads f "
+		+ "WHERE f.folder_id = e.folder_id AND f.thread_id = e.thread_id)) "
+		+ "ORDER BY e.email_id LIMIT :limit", nativeQuery = true)
+	List<Integer> findUnthreadedEmailIds(@Param("afterId") Integer afterId, @Param("limit") int limit);
+}
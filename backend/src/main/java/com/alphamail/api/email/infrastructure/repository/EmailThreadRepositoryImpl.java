@@ -0,0 +1,186 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alphamail.api.email.domain.entity.EmailConversation;
+import com.alphamail.api.email.domain.entity.EmailThread;
+import com.alphamail.api.email.domain.repository.EmailThreadRepository;
+import com.alphamail.api.email.domain.valueobject.EmailCursor;
+import com.alphamail.api.email.domain.valueobject.EmailThreadKey;
+import com.alphamail.api.email.infrastructure.entity.EmailMessageThreadEntity;
+import com.alphamail.api.email.infrastructure.mapper.EmailThreadMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Repository
+public class EmailThreadRepositoryImpl implements EmailThreadRepository {
+	private static final String LAST_ACTIVITY_FIELD = "lastActivityAt";
+	private static final String LATEST_EMAIL_ID_FIELD = "latestEmailId";
+	private static final Comparator<EmailThreadKey> KEY_ORDER = Comparator.comparing(EmailThreadKey::userId)
+		.thenComparing(EmailThreadKey::threadId);
+
+	private final EmailThreadJpaRepository emailThreadJpaRepository;
+	private final EmailMessageThreadJpaRepository emailMessageThreadJpaRepository;
+	private final EmailFolderThreadJpaRepository emailFolderThreadJpaRepository;
+	private final EmailJpaRepository emailJpaRepository;
+	private final EmailThreadMapper emailThreadMapper;
+	private final ObjectMapper objectMapper;
+	private final int maxParticipants;
+	private final int maxChainLookup;
+
+	public EmailThreadRepositoryImpl(EmailThreadJpaRepository emailThreadJpaRepository,
+		EmailMessageThreadJpaRepository emailMessageThreadJpaRepository,
+		EmailFolderThreadJpaRepository emailFolderThreadJpaRepository,
+		EmailJpaRepository emailJpaRepository,
+		EmailThreadMapper emailThreadMapper,
+		ObjectMapper objectMapper,
+		@Value("${email.thread.max-participants:20}") int maxParticipants,
+		@Value("${email.thread.max-chain-lookup:20}") int maxChainLookup) {
+		this.emailThreadJpaRepository = emailThreadJpaRepository;
+		this.emailMessageThreadJpaRepository = emailMessageThreadJpaRepository;
+		this.emailFolderThreadJpaRepository = emailFolderThreadJpaRepository;
+		this.emailJpaRepository = emailJpaRepository;
+		this.emailThreadMapper = emailThreadMapper;
+		this.objectMapper = objectMapper;
+		this.maxParticipants = maxParticipants;
+		this.maxChainLookup = maxChainLookup;
+	}
+
+	@Override
+	public Optional<String> findThreadIdByReferenceChain(Integer userId, List<String> chain) {
+		if (chain == null || chain.isEmpty()) {
+			return Optional.empty();
+		}
+
+		// 저장된 Message-ID는 보통 꺾쇠 포함 -> 두 형태 모두 IN 조회 한 번으로
+		List<String> recent = chain.subList(Math.max(0, chain.size() - maxChainLookup), chain.size());
+		List<String> candidates = new ArrayList<>(recent.size() * 2);
+		for (String id : recent) {
+			candidates.add("<" + id + ">");
+			candidates.add(id);
+		}
+		Map<String, String> threadByMessageId = emailMessageThreadJpaRepository
+			.findAllByUserIdAndMessageIdIn(userId, candidates)
+			.stream()
+			.collect(Collectors.toMap(EmailMessageThreadEntity::getMessageId, EmailMessageThreadEntity::getThreadId,
+				(first, second) -> first));
+
+		// 가장 가까운 조상(체인 끝)부터
+		for (int i = recent.size() - 1; i >= 0; i--) {
+			String id = recent.get(i);
+			String threadId = threadByMessageId.getOrDefault("<" + id + ">", threadByMessageId.get(id));
+			if (threadId != null) {
+				return Optional.of(threadId);
+			}
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<EmailThread> findByUserIdAndThreadId(Integer userId, String threadId) {
+		return emailThreadJpaRepository.findByUserIdAndThreadId(userId, threadId)
+			.map(emailThreadMapper::toDomain);
+	}
+
+	@Override
+	public List<EmailConversation> findConversations(Integer userId, Integer folderId, EmailCursor cursor,
+		int limit) {
+		ScrollPosition position = cursor == null
+			? ScrollPosition.keyset()
+			: ScrollPosition.forward(Map.of(LAST_ACTIVITY_FIELD, cursor.date(), LATEST_EMAIL_ID_FIELD,
+				cursor.emailId()));
+		Sort sort = Sort.by(Sort.Direction.DESC, LAST_ACTIVITY_FIELD, LATEST_EMAIL_ID_FIELD);
+
+		return emailFolderThreadJpaRepository.findByUserIdAndFolderId(userId, folderId, position, sort,
+				Limit.of(limit))
+			.stream()
+			.map(emailThreadMapper::toConversation)
+			.toList();
+	}
+
+	@Override
+	public List<EmailThreadKey> findThreadKeysByEmailIds(List<Integer> emailIds) {
+		if (emailIds == null || emailIds.isEmpty()) {
+			return List.of();
+		}
+		return emailJpaRepository.findThreadKeysByEmailIds(emailIds)
+			.stream()
+			.map(view -> new EmailThreadKey(view.getUserId(), view.getThreadId()))
+			.toList();
+	}
+
+	// 건드린 스레드 수와 관계없이 고정된 문장 수로 재집계 (락 1 + 스레드 2 + 폴더별 대화 2 + Message-ID 매핑 1)
+	@Override
+	@Transactional
+	public void refresh(Collection<EmailThreadKey> keys) {
+		if (keys == null || keys.isEmpty()) {
+			return;
+		}
+		String keysJson = toKeysJson(keys);
+		if (keysJson == null) {
+			return;
+		}
+		// 아직 반영 안 된 JPA 변경(삭제 등)을 먼저 내보내야 네이티브 집계에 보임
+		emailJpaRepository.flush();
+
+		emailThreadJpaRepository.lockUsers(keysJson);
+		emailThreadJpaRepository.upsertFromEmails(keysJson, maxParticipants);
+		emailThreadJpaRepository.deleteEmpty(keysJson);
+		// 폴더별 대화는 스레드 메일 수만큼만 다시 만든다 (폴더 이동/삭제도 같이 반영)
+		emailFolderThreadJpaRepository.deleteByThreads(keysJson);
+		emailFolderThreadJpaRepository.insertFromEmails(keysJson);
+		emailMessageThreadJpaRepository.upsertFromEmails(keysJson);
+	}
+
+	@Override
+	@Transactional
+	public void purge(Collection<EmailThreadKey> keys) {
+		refresh(keys);
+		String keysJson = keys == null ? null : toKeysJson(keys);
+		if (keysJson != null) {
+			emailMessageThreadJpaRepository.deleteWithoutEmails(keysJson);
+		}
+	}
+
+	@Override
+	@Transactional
+	public void refreshByEmailIds(List<Integer> emailIds) {
+		refresh(findThreadKeysByEmailIds(emailIds));
+	}
+
+	@Override
+	public List<Integer> findUnthreadedEmailIds(Integer afterId, int limit) {
+		return emailThreadJpaRepository.findUnthreadedEmailIds(afterId, limit);
+	}
+
+	// 중복/빈 키를 빼고 (user_id, thread_id) 순으로 정렬한 JSON 배열, 남는 키가 없으면 null
+	private String toKeysJson(Collection<EmailThreadKey> keys) {
+		List<Map<String, Object>> rows = keys.stream()
+			.filter(key -> key.userId() != null && key.threadId() != null)
+			.distinct()
+			.sorted(KEY_ORDER)
+			.<Map<String, Object>>map(key -> Map.of("user_id", key.userId(), "thread_id", key.threadId()))
+			.toList();
+		if (rows.isEmpty()) {
+			return null;
+		}
+		try {
+			return objectMapper.writeValueAsString(rows);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("스레드 키 직렬화 실패", e);
+		}
+	}
+}
@@ -0,0 +1,8 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.alphamail.api.email.infrastructure.entity.InboundDeadLetterEntity;
+
+public interface InboundDeadLetterJpaRepository extends JpaRepository<InboundDeadLetterEntity, Long> {
+}
@@ -0,0 +1,25 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import org.springframework.stereotype.Repository;
+
+import com.alphamail.api.email.domain.entity.InboundDeadLetter;
+import com.alphamail.api.email.domain.repository.InboundDeadLetterRepository;
+import com.alphamail.api.email.infrastructure.entity.InboundDeadLetterEntity;
+import com.alphamail.api.email.infrastructure.mapper.InboundEmailMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class InboundDeadLetterRepositoryImpl implements InboundDeadLetterRepository {
+
+	private final InboundDeadLetterJpaRepository inboundDeadLetterJpaRepository;
+	private final InboundEmailMapper inboundEmailMapper;
+
+	@Override
+	public InboundDeadLetter save(InboundDeadLetter deadLetter) {
+		InboundDeadLetterEntity savedEntity = inboundDeadLetterJpaRepository.save(
+			inboundEmailMapper.toEntity(deadLetter));
+		return inboundEmailMapper.toDomain(savedEntity);
+	}
+}
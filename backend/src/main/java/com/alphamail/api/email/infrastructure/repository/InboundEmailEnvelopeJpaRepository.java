@@ -0,0 +1,66 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.alphamail.api.email.domain.entity.InboundEmailStatus;
+import com.alphamail.api.email.infrastructure.entity.InboundEmailEnvelopeEntity;
+
+public interface InboundEmailEnvelopeJpaRepository extends JpaRepository<InboundEmailEnvelopeEntity, Long> {
+
+	// SKIP LOCKED로 여러 인스턴스가 동시에 폴링해도 같은 봉투를 중복 선점하지 않음
+	@Query(value = "SELECT * FROM inbound_email_envelopes "
+		+ "WHERE status = 'PENDING' AND next_attempt_at <= :now "
+		+ "ORDER BY envelope_id "
+		+ "LIMIT :limit "
+		+ "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<InboundEmailEnvelopeEntity> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE InboundEmailEnvelopeEntity e SET e.status = :status, e.claimedAt = :claimedAt "
+		+ "WHERE e.envelopeId IN :envelopeIds")
+	void updateStatusByIds(@Param("envelopeIds") List<Long> envelopeIds,
+		@Param("status") InboundEmailStatus status,
+		@Param("claimedAt") LocalDateTime claimedAt);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE InboundEmailEnvelopeEntity e SET e.status = :status, e.emailId = :emailId "
+		+ "WHERE e.envelopeId = :envelopeId")
+	void updateDone(@Param("envelopeId") Long envelopeId,
+		@Param("emailId") Integer emailId,
+		@Param("status") InboundEmailStatus status);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE InboundEmailEnvelopeEntity e "
+		+ "SET e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, "
+		+ "e.lastError = :lastError "
+		+ "WHERE e.envelopeId = :envelopeId")
+	void updateFailure(@Param("envelopeId") Long envelopeId,
+		@Param("status") InboundEmailStatus status,
+		@Param("attempts") Integer attempts,
+		@Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+		@Param("lastError") String lastError);
+
+	// 워커가 죽어서 PROCESSING에 멈춘 봉투 (다른 인스턴스의 requeue와 겹치지 않도록 잠금)
+	@Query(value = "SELECT * FROM inbound_email_envelopes "
+		+ "WHERE status = 'PROCESSING' AND claimed_at < :claimedBefore "
+		+ "ORDER BY envelope_id "
+		+ "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<InboundEmailEnvelopeEntity> findStale(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+	// 멈춘 것도 시도 한 번으로 셈
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE InboundEmailEnvelopeEntity e "
+		+ "SET e.status = :status, e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, "
+		+ "e.lastError = :lastError "
+		+ "WHERE e.envelopeId IN :envelopeIds")
+	void updateStale(@Param("envelopeIds") List<Long> envelopeIds,
+		@Param("status") InboundEmailStatus status,
+		@Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+		@Param("lastError") String lastError);
+}
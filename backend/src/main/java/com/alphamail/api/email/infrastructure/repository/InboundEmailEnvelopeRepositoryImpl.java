@@ -0,0 +1,106 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alphamail.api.email.domain.entity.InboundEmailEnvelope;
+import com.alphamail.api.email.domain.entity.InboundEmailStatus;
+import com.alphamail.api.email.domain.repository.InboundEmailEnvelopeRepository;
+import com.alphamail.api.email.infrastructure.entity.InboundEmailEnvelopeEntity;
+import com.alphamail.api.email.infrastructure.mapper.InboundEmailMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class InboundEmailEnvelopeRepositoryImpl implements InboundEmailEnvelopeRepository {
+
+	private final InboundEmailEnvelopeJpaRepository inboundEmailEnvelopeJpaRepository;
+	private final InboundEmailMapper inboundEmailMapper;
+
+	@Override
+	public InboundEmailEnvelope save(InboundEmailEnvelope envelope) {
+		InboundEmailEnvelopeEntity savedEntity = inboundEmailEnvelopeJpaRepository.save(
+			inboundEmailMapper.toEntity(envelope));
+		return inboundEmailMapper.toDomain(savedEntity);
+	}
+
+	@Override
+	@Transactional
+	public List<InboundEmailEnvelope> claimPending(int limit) {
+		if (limit <= 0) {
+			return List.of();
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		List<InboundEmailEnvelopeEntity> claimable = inboundEmailEnvelopeJpaRepository.findClaimable(now, limit);
+		if (claimable.isEmpty()) {
+			return List.of();
+		}
+
+		List<Long> envelopeIds = claimable.stream()
+			.map(InboundEmailEnvelopeEntity::getEnvelopeId)
+			.collect(Collectors.toList());
+		inboundEmailEnvelopeJpaRepository.updateStatusByIds(envelopeIds, InboundEmailStatus.PROCESSING, now);
+
+		return claimable.stream()
+			.map(inboundEmailMapper::toDomain)
+			.map(envelope -> envelope.toBuilder()
+				.status(InboundEmailStatus.PROCESSING)
+				.claimedAt(now)
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	@Transactional
+	public void markDone(Long envelopeId, Integer emailId) {
+		inboundEmailEnvelopeJpaRepository.updateDone(envelopeId, emailId, InboundEmailStatus.DONE);
+	}
+
+	@Override
+	@Transactional
+	public void markRetry(Long envelopeId, int attempts, LocalDateTime nextAttemptAt, String lastError) {
+		inboundEmailEnvelopeJpaRepository.updateFailure(envelopeId, InboundEmailStatus.PENDING, attempts,
+			nextAttemptAt, lastError);
+	}
+
+	@Override
+	@Transactional
+	public void markDead(Long envelopeId, int attempts, String lastError) {
+		inboundEmailEnvelopeJpaRepository.updateFailure(envelopeId, InboundEmailStatus.DEAD, attempts,
+			LocalDateTime.now(), lastError);
+	}
+
+	@Override
+	@Transactional
+	public List<InboundEmailEnvelope> requeueStale(LocalDateTime claimedBefore, int maxAttempts, String lastError) {
+		List<InboundEmailEnvelopeEntity> stale = inboundEmailEnvelopeJpaRepository.findStale(claimedBefore);
+		if (stale.isEmpty()) {
+			return List.of();
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		List<InboundEmailEnvelope> requeued = stale.stream()
+			.map(inboundEmailMapper::toDomain)
+			.map(envelope -> envelope.toBuilder()
+				.status(envelope.nextAttempt() >= maxAttempts ? InboundEmailStatus.DEAD : InboundEmailStatus.PENDING)
+				.attempts(envelope.nextAttempt())
+				.nextAttemptAt(now)
+				.lastError(lastError)
+				.build())
+			.collect(Collectors.toList());
+
+		Map<InboundEmailStatus, List<Long>> idsByStatus = requeued.stream()
+			.collect(Collectors.groupingBy(InboundEmailEnvelope::getStatus,
+				Collectors.mapping(InboundEmailEnvelope::getEnvelopeId, Collectors.toList())));
+		idsByStatus.forEach((status, envelopeIds) ->
+			inboundEmailEnvelopeJpaRepository.updateStale(envelopeIds, status, now, lastError));
+		return requeued;
+	}
+}
@@ -0,0 +1,91 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.alphamail.api.email.domain.entity.EmailStatus;
+import com.alphamail.api.email.infrastructure.entity.OutboundEmailEntity;
+
+public interface OutboundEmailJpaRepository extends JpaRepository<OutboundEmailEntity, Long> {
+
+	// 여러 인스턴스가 동시에 폴링해도 같은 메일을 두 번 선점하지 않음 (먼저 접수된 순서대로)
+	@Query(value = "SELECT * FROM outbound_emails "
+		+ "WHERE status IN ('QUEUED', 'RETRYING') AND next_attempt_at <= :now "
+		+ "ORDER BY outbound_id "
+		+ "LIMIT :limit "
+		+ "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<OutboundEmailEntity> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE OutboundEmailEntity o SET o.status = :status, o.claimedAt = :claimedAt "
+		+ "WHERE o.outboundId IN :outboundIds")
+	void updateStatusByIds(@Param("outboundIds") List<Long> outboundIds,
+		@Param("status") EmailStatus status,
+		@Param("claimedAt") LocalDateTime claimedAt);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE OutboundEmailEntity o SET o.status = :status WHERE o.outboundId = :outboundId")
+	void updateStatus(@Param("outboundId") Long outboundId, @Param("status") EmailStatus status);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE OutboundEmailEntity o "
+		+ "SET o.status = :status, o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, "
+		+ "o.lastError = :lastError "
+		+ "WHERE o.outboundId = :outboundId")
+	void updateFailure(@Param("outboundId") Long outboundId,
+		@Param("status") EmailStatus status,
+		@Param("attempts") Integer attempts,
+		@Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+		@Param("lastError") String lastError);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE OutboundEmailEntity o "
+		+ "SET o.status = :status, o.throttles = :throttles, o.nextAttemptAt = :nextAttemptAt, "
+		+ "o.lastError = :lastError "
+		+ "WHERE o.outboundId = :outboundId")
+	void updateThrottle(@Param("outboundId") Long outboundId,
+		@Param("status") EmailStatus status,
+		@Param("throttles") Integer throttles,
+		@Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+		@Param("lastError") String lastError);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE OutboundEmailEntity o SET o.sesMessageId = :sesMessageId WHERE o.outboundId = :outboundId")
+	void updateSesMessageId(@Param("outboundId") Long outboundId, @Param("sesMessageId") String sesMessageId);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE OutboundEmailEntity o SET o.status = :status, o.sesMessageId = :sesMessageId "
+		+ "WHERE o.outboundId = :outboundId")
+	void updateStatusAndSesMessageId(@Param("outboundId") Long outboundId, @Param("status") EmailStatus status,
+		@Param("sesMessageId") String sesMessageId);
+
+	@Query("SELECT o.emailId FROM OutboundEmailEntity o "
+		+ "WHERE o.status = :sending AND o.claimedAt < :claimedBefore AND o.sesMessageId IS NULL")
+	List<Integer> findStaleEmailIds(@Param("claimedBefore") LocalDateTime claimedBefore,
+		@Param("sending") EmailStatus sending);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE OutboundEmailEntity o SET o.status = :queued "
+		+ "WHERE o.status = :sending AND o.claimedAt < :claimedBefore AND o.sesMessageId IS NULL")
+	int requeueStale(@Param("claimedBefore") LocalDateTime claimedBefore,
+		@Param("sending") EmailStatus sending,
+		@Param("queued") EmailStatus queued);
+
+	// SES가 이미 접수했는데 완료 기록 전에 멈춘 항목
+	@Query("SELECT o.emailId FROM OutboundEmailEntity o "
+		+ "WHERE o.status = :sending AND o.claimedAt < :claimedBefore AND o.sesMessageId IS NOT NULL")
+	List<Integer> findStaleAcceptedEmailIds(@Param("claimedBefore") LocalDateTime claimedBefore,
+		@Param("sending") EmailStatus sending);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE OutboundEmailEntity o SET o.status = :sent "
+		+ "WHERE o.status = :sending AND o.claimedAt < :claimedBefore AND o.sesMessageId IS NOT NULL")
+	int completeStaleAccepted(@Param("claimedBefore") LocalDateTime claimedBefore,
+		@Param("sending") EmailStatus sending,
+		@Param("sent") EmailStatus sent);
+}
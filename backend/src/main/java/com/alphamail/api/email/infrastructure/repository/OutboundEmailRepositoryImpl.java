@@ -0,0 +1,129 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alphamail.api.email.domain.entity.EmailStatus;
+import com.alphamail.api.email.domain.entity.OutboundEmail;
+import com.alphamail.api.email.domain.repository.OutboundEmailRepository;
+import com.alphamail.api.email.infrastructure.entity.OutboundEmailEntity;
+import com.alphamail.api.email.infrastructure.mapper.OutboundEmailMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboundEmailRepositoryImpl implements OutboundEmailRepository {
+
+	private final OutboundEmailJpaRepository outboundEmailJpaRepository;
+	private final EmailJpaRepository emailJpaRepository;
+	private final OutboundEmailMapper outboundEmailMapper;
+
+	@Override
+	public OutboundEmail save(OutboundEmail outboundEmail) {
+		OutboundEmailEntity savedEntity = outboundEmailJpaRepository.save(
+			outboundEmailMapper.toEntity(outboundEmail));
+		return outboundEmailMapper.toDomain(savedEntity);
+	}
+
+	@Override
+	@Transactional
+	public List<OutboundEmail> claimQueued(int limit) {
+		if (limit <= 0) {
+			return List.of();
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		List<OutboundEmailEntity> claimable = outboundEmailJpaRepository.findClaimable(now, limit);
+		if (claimable.isEmpty()) {
+			return List.of();
+		}
+
+		List<Long> outboundIds = claimable.stream()
+			.map(OutboundEmailEntity::getOutboundId)
+			.collect(Collectors.toList());
+		List<Integer> emailIds = claimable.stream()
+			.map(OutboundEmailEntity::getEmailId)
+			.collect(Collectors.toList());
+		outboundEmailJpaRepository.updateStatusByIds(outboundIds, EmailStatus.SENDING, now);
+		emailJpaRepository.updateStatusByIds(emailIds, EmailStatus.SENDING);
+
+		return claimable.stream()
+			.map(outboundEmailMapper::toDomain)
+			.map(outboundEmail -> outboundEmail.toBuilder()
+				.status(EmailStatus.SENDING)
+				.claimedAt(now)
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	// 메일 쪽 SENT 전환은 messageId/threadId와 함께 EmailRepository에서 처리
+	@Override
+	@Transactional
+	public void markSent(Long outboundId) {
+		outboundEmailJpaRepository.updateStatus(outboundId, EmailStatus.SENT);
+	}
+
+	@Override
+	@Transactional
+	public void recordSesMessageId(Long outboundId, String sesMessageId) {
+		outboundEmailJpaRepository.updateSesMessageId(outboundId, sesMessageId);
+	}
+
+	@Override
+	@Transactional
+	public void markSentWithoutDetails(OutboundEmail outboundEmail, String sesMessageId) {
+		outboundEmailJpaRepository.updateStatusAndSesMessageId(outboundEmail.getOutboundId(), EmailStatus.SENT,
+			sesMessageId);
+		emailJpaRepository.updateSesMessageId(outboundEmail.getEmailId(), sesMessageId);
+		emailJpaRepository.updateStatusByIds(List.of(outboundEmail.getEmailId()), EmailStatus.SENT);
+	}
+
+	@Override
+	@Transactional
+	public void markRetry(OutboundEmail outboundEmail, int attempts, LocalDateTime nextAttemptAt, String lastError) {
+		outboundEmailJpaRepository.updateFailure(outboundEmail.getOutboundId(), EmailStatus.RETRYING, attempts,
+			nextAttemptAt, lastError);
+		emailJpaRepository.updateStatusByIds(List.of(outboundEmail.getEmailId()), EmailStatus.RETRYING);
+	}
+
+	@Override
+	@Transactional
+	public void markThrottled(OutboundEmail outboundEmail, int throttles, LocalDateTime nextAttemptAt,
+		String lastError) {
+		outboundEmailJpaRepository.updateThrottle(outboundEmail.getOutboundId(), EmailStatus.RETRYING, throttles,
+			nextAttemptAt, lastError);
+		emailJpaRepository.updateStatusByIds(List.of(outboundEmail.getEmailId()), EmailStatus.RETRYING);
+	}
+
+	@Override
+	@Transactional
+	public void markFailed(OutboundEmail outboundEmail, int attempts, String lastError) {
+		outboundEmailJpaRepository.updateFailure(outboundEmail.getOutboundId(), EmailStatus.FAILED, attempts,
+			LocalDateTime.now(), lastError);
+		emailJpaRepository.updateStatusByIds(List.of(outboundEmail.getEmailId()), EmailStatus.FAILED);
+	}
+
+	@Override
+	@Transactional
+	public int requeueStale(LocalDateTime claimedBefore) {
+		// SES 접수 후 완료 기록 전에 멈춘 항목은 다시 보내면 수신자가 같은 메일을 두 번 받음
+		List<Integer> acceptedEmailIds = outboundEmailJpaRepository.findStaleAcceptedEmailIds(claimedBefore,
+			EmailStatus.SENDING);
+		if (!acceptedEmailIds.isEmpty()) {
+			emailJpaRepository.updateStatusByIds(acceptedEmailIds, EmailStatus.SENT);
+			outboundEmailJpaRepository.completeStaleAccepted(claimedBefore, EmailStatus.SENDING, EmailStatus.SENT);
+		}
+
+		List<Integer> emailIds = outboundEmailJpaRepository.findStaleEmailIds(claimedBefore, EmailStatus.SENDING);
+		if (emailIds.isEmpty()) {
+			return 0;
+		}
+		emailJpaRepository.updateStatusByIds(emailIds, EmailStatus.QUEUED);
+		return outboundEmailJpaRepository.requeueStale(claimedBefore, EmailStatus.SENDING, EmailStatus.QUEUED);
+	}
+}
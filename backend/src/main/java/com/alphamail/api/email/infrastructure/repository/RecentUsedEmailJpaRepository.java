@@ -1,8 +1,10 @@
 package com.alphamail.api.email.infrastructure.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.alphamail.api.email.infrastructure.entity.RecentUsedEmailEntity;
@@ -10,5 +12,10 @@ import com.alphamail.api.email.infrastructure.entity.RecentUsedEmailEntity;
 public interface RecentUsedEmailJpaRepository extends JpaRepository<RecentUsedEmailEntity, Integer> {
 
 	List<RecentUsedEmailEntity> findTop10ByUser_UserIdOrderByLastUpdatedTimeDesc(Integer userId);
+
+	List<RecentUsedEmailEntity> findByUser_UserIdOrderByLastUpdatedTimeDesc(Integer userId, Limit limit);
+
 	Optional<RecentUsedEmailEntity> findByUser_UserIdAndRecentEmail(Integer userId, String email);
+
+	List<RecentUsedEmailEntity> findByUser_UserIdAndRecentEmailIn(Integer userId, Collection<String> emails);
 }
@@ -1,9 +1,11 @@
 package com.alphamail.api.email.infrastructure.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import com.alphamail.api.email.domain.entity.RecentUsedEmail;
@@ -27,6 +29,25 @@ public class RecentUsedEmailRepositoryImpl implements RecentUsedEmailRepository
 			.collect(Collectors.toList());
 	}
 
+	@Override
+	public List<RecentUsedEmail> findRecentByUserId(Integer userId, int limit) {
+		return recentUsedEmailJpaRepository.findByUser_UserIdOrderByLastUpdatedTimeDesc(userId, Limit.of(limit))
+			.stream()
+			.map(recentUsedEmailMapper::toDomain)
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	public List<RecentUsedEmail> findAllByUserIdAndRecentEmails(Integer userId, Collection<String> emails) {
+		if (emails == null || emails.isEmpty()) {
+			return List.of();
+		}
+		return recentUsedEmailJpaRepository.findByUser_UserIdAndRecentEmailIn(userId, emails)
+			.stream()
+			.map(recentUsedEmailMapper::toDomain)
+			.collect(Collectors.toList());
+	}
+
 	@Override
 	public Optional<RecentUsedEmail> findByUserIdAndRecentEmail(Integer userId, String email) {
 		return recentUsedEmailJpaRepository.findByUser_UserIdAndRecentEmail(userId, email)
@@ -39,4 +60,14 @@ public class RecentUsedEmailRepositoryImpl implements RecentUsedEmailRepository
 		RecentUsedEmailEntity savedEntity = recentUsedEmailJpaRepository.save(entity);
 		return recentUsedEmailMapper.toDomain(savedEntity);
 	}
+
+	@Override
+	public void saveAll(List<RecentUsedEmail> recentUsedEmails) {
+		if (recentUsedEmails == null || recentUsedEmails.isEmpty()) {
+			return;
+		}
+		recentUsedEmailJpaRepository.saveAll(recentUsedEmails.stream()
+			.map(recentUsedEmailMapper::toEntity)
+			.collect(Collectors.toList()));
+	}
 }
@@ -0,0 +1,32 @@
+package com.alphamail.api.email.infrastructure.schema;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Hibernate가 테이블 생성 시 만든 enum CHECK 제약은 ddl-auto update로 갱신되지 않음
+// -> 새 상태(QUEUED/SENDING)를 넣을 수 있도록 기동 시 한 번 제거 (값 검증은 @Enumerated가 담당)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailStatusConstraintInitializer {
+
+	private static final String DROP_STATUS_CHECK = "ALTER TABLE emails "
+		+ "DROP CONSTRAINT IF EXISTS emails_email_status_check";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void dropStatusCheck() {
+		try {
+			jdbcTemplate.execute(DROP_STATUS_CHECK);
+		} catch (DataAccessException e) {
+			log.error("emails.email_status CHECK 제약 제거 실패 - QUEUED/SENDING 저장이 거부될 수 있음", e);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.alphamail.api.email.infrastructure.schema;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 같은 수신자에게 같은 Message-ID 수신 메일은 한 건만 (SES/Lambda 재전송 중복 방지의 최종 방어선)
+// 보낸 메일은 자기 자신에게 보내면 같은 Message-ID로 수신 메일이 생기므로 RECEIVED만 대상 -> 부분 인덱스라 ddl-auto로는 불가
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InboundMessageIdIndexInitializer {
+
+	private static final String CREATE_UNIQUE_INDEX = "CREATE UNIQUE INDEX IF NOT EXISTS "
+		+ "uk_emails_user_received_message_id ON emails (user_id, message_id) "
+		+ "WHERE email_type = 'RECEIVED' AND message_id IS NOT NULL";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void createIndex() {
+		try {
+			jdbcTemplate.execute(CREATE_UNIQUE_INDEX);
+		} catch (DataAccessException e) {
+			// 이미 중복 행이 있으면 생성 실패 -> 파이프라인의 사전 조회로만 중복을 거름
+			log.error("수신 메일 Message-ID 유니크 인덱스 생성 실패 - 기존 중복 수신 메일 정리 필요", e);
+		}
+	}
+}
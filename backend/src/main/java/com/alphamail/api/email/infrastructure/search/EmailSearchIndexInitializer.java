@@ -0,0 +1,32 @@
+package com.alphamail.api.email.infrastructure.search;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// ddl-auto로는 GIN 인덱스를 만들 수 없어서 기동 시 한 번 보장
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailSearchIndexInitializer {
+
+	private static final String CREATE_GIN_INDEX = "CREATE INDEX IF NOT EXISTS idx_email_search_documents_document "
+		+ "ON email_search_documents USING GIN (document)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void createIndex() {
+		try {
+			jdbcTemplate.execute(CREATE_GIN_INDEX);
+		} catch (DataAccessException e) {
+			// 인덱스가 없어도 검색은 동작 (느릴 뿐) -> 기동은 막지 않음
+			log.error("메일 검색 GIN 인덱스 생성 실패", e);
+		}
+	}
+}
@@ -4,7 +4,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -12,12 +11,14 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -27,15 +28,23 @@ import org.springframework.web.multipart.MultipartFile;
 import com.alphamail.api.email.application.service.EmailService;
 import com.alphamail.api.email.application.usecase.DeleteDetailUseCase;
 import com.alphamail.api.email.application.usecase.DeleteMailsUseCase;
+import com.alphamail.api.email.application.usecase.DirectUploadAttachmentUseCase;
 import com.alphamail.api.email.application.usecase.DownloadAttachmentUseCase;
 import com.alphamail.api.email.application.usecase.EmptyMailUseCase;
+import com.alphamail.api.email.application.usecase.GetConversationListUseCase;
 import com.alphamail.api.email.application.usecase.GetEmailDetailUseCase;
 import com.alphamail.api.email.application.usecase.GetEmailListUseCase;
 import com.alphamail.api.email.application.usecase.GetFolderUseCase;
-import com.alphamail.api.email.application.service.ReceiveEmailService;
+import com.alphamail.api.email.application.service.InboundEmailPipeline;
 import com.alphamail.api.email.application.usecase.GetRecentEmailUseCase;
+import com.alphamail.api.email.application.usecase.MoveMailsUseCase;
 import com.alphamail.api.email.application.usecase.RestoreToOriginUseCase;
+import com.alphamail.api.email.application.usecase.UpdateReadStatusUseCase;
 import com.alphamail.api.email.presentation.dto.AttachmentDownloadResponse;
+import com.alphamail.api.email.presentation.dto.AttachmentDownloadUrlResponse;
+import com.alphamail.api.email.presentation.dto.AttachmentUploadUrlRequest;
+import com.alphamail.api.email.presentation.dto.AttachmentUploadUrlResponse;
+import com.alphamail.api.email.presentation.dto.ConversationListResponse;
 import com.alphamail.api.email.presentation.dto.DeleteMailsRequest;
 import com.alphamail.api.email.presentation.dto.EmailDetailResponse;
 import com.alphamail.api.email.presentation.dto.EmailIdsRestoreRequest;
@@ -43,10 +52,14 @@ import com.alphamail.api.email.presentation.dto.EmailListResponse;
 import com.alphamail.api.email.presentation.dto.EmptyTrashRequest;
 import com.alphamail.api.email.presentation.dto.EmptyTrashResponse;
 import com.alphamail.api.email.presentation.dto.FolderResponse;
+import com.alphamail.api.email.presentation.dto.MoveMailsRequest;
+import com.alphamail.api.email.presentation.dto.RawEmailRequest;
 import com.alphamail.api.email.presentation.dto.ReceiveEmailRequest;
 import com.alphamail.api.email.presentation.dto.RecentEmailListResponse;
 import com.alphamail.api.email.presentation.dto.RecentEmailResponse;
 import com.alphamail.api.email.presentation.dto.SendEmailRequest;
+import com.alphamail.api.email.presentation.dto.UpdateReadStatusRequest;
+import com.alphamail.api.email.presentation.dto.UploadedAttachmentRequest;
 import com.alphamail.api.user.domain.valueobject.UserId;
 import com.alphamail.common.annotation.Auth;
 
@@ -61,41 +74,97 @@ public class EmailController {
 
 	private final EmailService emailService;
 	private final GetEmailListUseCase getEmailListUseCase;
+	private final GetConversationListUseCase getConversationListUseCase;
 	private final GetFolderUseCase getFolderUseCase;
 	private final GetEmailDetailUseCase getEmailDetailUseCase;
 	private final DeleteMailsUseCase deleteMailsUseCase;
 	private final DeleteDetailUseCase deleteDetailUseCase;
-	private final ReceiveEmailService receiveEmailService;
+	private final InboundEmailPipeline inboundEmailPipeline;
 	private final DownloadAttachmentUseCase downloadAttachmentUseCase;
+	private final DirectUploadAttachmentUseCase directUploadAttachmentUseCase;
 	private final EmptyMailUseCase emptyMailUseCase;
 	private final RestoreToOriginUseCase restoreToOriginUseCase;
+	private final UpdateReadStatusUseCase updateReadStatusUseCase;
+	private final MoveMailsUseCase moveMailsUseCase;
 	private final GetRecentEmailUseCase getRecentEmailUseCase;
 
 	// 실제 사용자가 첨부파일을 DownLoad하는 API
+	// Range(이어받기/부분 요청)와 If-None-Match(304)를 지원
 	@GetMapping("/{emailId}/attachments/{attachmentId}")
 	public ResponseEntity<Resource> downloadAttachment(
 		@PathVariable Integer emailId,
 		@PathVariable Integer attachmentId,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+		@RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
 		@Auth Integer userId) {
 
 		AttachmentDownloadResponse response = downloadAttachmentUseCase.execute(
-			emailId, attachmentId, UserId.of(userId)
+			emailId, attachmentId, UserId.of(userId), ifNoneMatch, range
 		);
 
-		InputStreamResource resource = new InputStreamResource(response.getInputStream());
+		switch (response.getStatus()) {
+			case NOT_MODIFIED:
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+					.eTag(response.getETag())
+					.build();
+			case RANGE_NOT_SATISFIABLE:
+				return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+					.header(HttpHeaders.CONTENT_RANGE, "bytes */" + response.getTotalSize())
+					.build();
+			default:
+				break;
+		}
 
-		return ResponseEntity.ok()
+		ResponseEntity.BodyBuilder builder = response.getStatus() == AttachmentDownloadResponse.Status.PARTIAL
+			? ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+			.header(HttpHeaders.CONTENT_RANGE, "bytes " + response.getRangeStart() + "-" + response.getRangeEnd()
+				+ "/" + response.getTotalSize())
+			: ResponseEntity.ok();
+		if (response.getETag() != null) {
+			builder.eTag(response.getETag());
+		}
+		if (response.getLastModified() != null) {
+			builder.lastModified(response.getLastModified());
+		}
+
+		return builder
 			.contentType(MediaType.parseMediaType(response.getContentType()))
 			.contentLength(response.getSize())
+			.header(HttpHeaders.ACCEPT_RANGES, "bytes")
 			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + response.getFilename() + "\"")
-			.body(resource);
+			.body(response.getResource());
+	}
+
+	// 첨부파일 presigned 다운로드 - 권한 확인 후 짧게 유효한 S3 URL만 내려주고 파일은 S3에서 직접 받음
+	@GetMapping("/{emailId}/attachments/{attachmentId}/url")
+	public ResponseEntity<AttachmentDownloadUrlResponse> getAttachmentDownloadUrl(
+		@PathVariable Integer emailId,
+		@PathVariable Integer attachmentId,
+		@Auth Integer userId) {
+		return ResponseEntity.ok(downloadAttachmentUseCase.presign(emailId, attachmentId, UserId.of(userId)));
+	}
+
+	// 발송 첨부파일 presigned 업로드 URL 발급 - 업로드 후 발송 요청의 uploadedFiles에 s3Key를 넣음
+	@PostMapping("/attachments/upload-url")
+	public ResponseEntity<AttachmentUploadUrlResponse> issueAttachmentUploadUrl(
+		@RequestBody AttachmentUploadUrlRequest request,
+		@Auth Integer userId) {
+		return ResponseEntity.ok(directUploadAttachmentUseCase.issueUploadUrl(userId, request));
 	}
 
 	//SES에서 Lambda를 통해 Springboot로 Email 수신하는 API
+	//원본만 저장하고 202 응답, 실제 저장/AI 처리는 InboundEmailPipeline 워커가 처리
 	@PostMapping("/ses")
 	public ResponseEntity<Void> receiveEmail(@RequestBody ReceiveEmailRequest receiveEmailRequest) {
-		receiveEmailService.excute(receiveEmailRequest);
-		return ResponseEntity.ok().build();
+		inboundEmailPipeline.accept(receiveEmailRequest);
+		return ResponseEntity.accepted().build();
+	}
+
+	//Lambda가 파싱하지 않고 SES가 S3에 저장한 원본 key만 넘기는 수신 API (본문/첨부는 서버에서 스트리밍 파싱)
+	@PostMapping("/ses/raw")
+	public ResponseEntity<Void> receiveRawEmail(@RequestBody RawEmailRequest rawEmailRequest) {
+		inboundEmailPipeline.acceptRaw(rawEmailRequest);
+		return ResponseEntity.accepted().build();
 	}
 
 	@PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -108,6 +177,7 @@ public class EmailController {
 		@RequestPart(value = "inReplyTo", required = false) String inReplyTo,
 		@RequestPart(value = "references", required = false) String references,
 		@RequestPart(value = "files", required = false) List<MultipartFile> attachmentFiles,
+		@RequestPart(value = "uploadedFiles", required = false) List<UploadedAttachmentRequest> uploadedFiles,
 		@Auth Integer userId) {
 
 		// null 처리
@@ -137,19 +207,32 @@ public class EmailController {
 			safeReferences,
 			attachmentInfos);
 
-		// 서비스 호출
-		emailService.sendEmail(emailRequest, attachmentFiles, userId);
-		return ResponseEntity.ok().build();
+		// 발송 대기열에 넣고 202 응답, 실제 발송은 OutboundEmailDispatcher가 처리
+		emailService.sendEmail(emailRequest, attachmentFiles, uploadedFiles, userId);
+		return ResponseEntity.accepted().build();
+	}
+
+	// 대화 모드 - 스레드당 한 줄, 마지막 활동 순 cursor 페이징 (view=conversation)
+	@GetMapping(params = "view=conversation")
+	public ResponseEntity<ConversationListResponse> getConversations(@RequestParam Integer folderId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false, defaultValue = "20") int size,
+		@Auth Integer userId) {
+		return ResponseEntity.ok(getConversationListUseCase.execute(folderId, userId, cursor, size));
 	}
 
 	@GetMapping
 	public ResponseEntity<EmailListResponse> getAllEmails(@RequestParam Integer folderId,
 		@RequestParam(required = false) String query,
 		@RequestParam(required = false, defaultValue = "desc") String sort,
+		@RequestParam(required = false) String cursor,
 		@PageableDefault(page = 0, size = 20) Pageable pageable,
 		@Auth Integer userId) {
 
-		EmailListResponse emails = getEmailListUseCase.execute(folderId, userId, query, sort, pageable);
+		// cursor 파라미터가 있으면 keyset 방식 (빈 값이면 첫 페이지), 검색은 기존 page 방식 유지
+		EmailListResponse emails = cursor != null && !StringUtils.hasText(query)
+			? getEmailListUseCase.executeByCursor(folderId, userId, sort, cursor, pageable.getPageSize())
+			: getEmailListUseCase.execute(folderId, userId, query, sort, pageable);
 
 		return ResponseEntity.ok(emails);
 
@@ -198,6 +281,20 @@ public class EmailController {
 		return ResponseEntity.ok(success);
 	}
 
+	@PatchMapping("/read")
+	public ResponseEntity<Void> updateReadStatus(@RequestBody UpdateReadStatusRequest request,
+		@Auth Integer userId) {
+		updateReadStatusUseCase.execute(request, userId);
+		return ResponseEntity.ok().build();
+	}
+
+	@PatchMapping("/folder")
+	public ResponseEntity<Void> moveMails(@RequestBody MoveMailsRequest request,
+		@Auth Integer userId) {
+		moveMailsUseCase.execute(request, userId);
+		return ResponseEntity.ok().build();
+	}
+
 	@GetMapping("/recent")
 	public ResponseEntity<RecentEmailListResponse> getRecentEmails(@Auth Integer userId) {
 		RecentEmailListResponse recentEmails = getRecentEmailUseCase.execute(userId);
@@ -1,6 +1,8 @@
 package com.alphamail.api.email.presentation.dto;
 
-import java.io.InputStream;
+import java.time.Instant;
+
+import org.springframework.core.io.Resource;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -8,8 +10,24 @@ import lombok.Getter;
 @Getter
 @Builder
 public class AttachmentDownloadResponse {
-	private InputStream inputStream;
+	private Status status;
+	private Resource resource;
 	private String filename;
 	private Long size;
 	private String contentType;
+	private String eTag;
+	private Instant lastModified;
+	// PARTIAL일 때만 (RANGE_NOT_SATISFIABLE이면 totalSize만)
+	private Long rangeStart;
+	private Long rangeEnd;
+	private Long totalSize;
+
+	public enum Status {
+		// 전체 본문 - 디스크 캐시 파일이면 Range는 Spring이 처리
+		FULL,
+		// S3 범위 GET 결과 (206)
+		PARTIAL,
+		NOT_MODIFIED,
+		RANGE_NOT_SATISFIABLE
+	}
 }
@@ -0,0 +1,12 @@
+package com.alphamail.api.email.presentation.dto;
+
+import java.time.LocalDateTime;
+
+public record AttachmentDownloadUrlResponse(
+	String downloadUrl,
+	LocalDateTime expiresAt,
+	String filename,
+	Long size,
+	String contentType
+) {
+}
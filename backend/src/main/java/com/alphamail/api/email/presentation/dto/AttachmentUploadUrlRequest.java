@@ -0,0 +1,8 @@
+package com.alphamail.api.email.presentation.dto;
+
+public record AttachmentUploadUrlRequest(
+	String filename,
+	String contentType,
+	Long size
+) {
+}
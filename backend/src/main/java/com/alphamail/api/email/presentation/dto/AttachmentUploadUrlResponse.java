@@ -0,0 +1,11 @@
+package com.alphamail.api.email.presentation.dto;
+
+import java.time.LocalDateTime;
+
+// 클라이언트는 uploadUrl로 PUT(같은 Content-Type) 후 메일 발송 시 s3Key를 uploadedFiles로 보냄
+public record AttachmentUploadUrlResponse(
+	String s3Key,
+	String uploadUrl,
+	LocalDateTime expiresAt
+) {
+}
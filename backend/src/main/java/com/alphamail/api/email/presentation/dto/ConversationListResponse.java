@@ -0,0 +1,20 @@
+package com.alphamail.api.email.presentation.dto;
+
+import java.util.List;
+
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
+
+// 대화 모드 목록 - 건수는 폴더의 메일 수 (대화 수가 아님), 마지막 페이지면 nextCursor는 null
+public record ConversationListResponse(
+	List<ConversationResponse> conversations,
+	Integer totalCount,
+	Integer readCount,
+	String nextCursor
+) {
+
+	public static ConversationListResponse of(List<ConversationResponse> conversations,
+		FolderMailCount folderCount, String nextCursor) {
+		return new ConversationListResponse(conversations, folderCount.totalCount(), folderCount.readCount(),
+			nextCursor);
+	}
+}
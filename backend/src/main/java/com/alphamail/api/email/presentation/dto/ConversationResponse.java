@@ -0,0 +1,25 @@
+package com.alphamail.api.email.presentation.dto;
+
+import java.time.LocalDateTime;
+
+import com.alphamail.api.email.domain.entity.EmailConversation;
+
+public record ConversationResponse(
+	String threadId,
+	EmailResponse latestEmail,
+	Integer messageCount,
+	Integer unreadCount,
+	Boolean hasAttachment,
+	LocalDateTime lastActivityAt
+) {
+	public static ConversationResponse from(EmailConversation conversation, EmailResponse latestEmail) {
+		return new ConversationResponse(
+			conversation.getThreadId(),
+			latestEmail,
+			conversation.getMessageCount(),
+			conversation.getUnreadCount(),
+			conversation.getHasAttachment(),
+			conversation.getLastActivityAt()
+		);
+	}
+}
@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 
 import com.alphamail.api.email.domain.entity.Email;
 import com.alphamail.api.email.domain.entity.EmailAttachment;
+import com.alphamail.api.email.domain.valueobject.EmailBody;
 
 public record EmailDetailResponse(
 	Integer id,
@@ -26,11 +27,12 @@ public record EmailDetailResponse(
 	String inReplyTo,
 	List<String> references,
 	List<EmailThreadItem> threadEmails,
+	EmailThreadSummaryResponse thread,
 	String emailType
 
 ) {
-	public static EmailDetailResponse from(Email email, List<EmailAttachment> attachments,
-		List<EmailThreadItem> threadEmails) {
+	public static EmailDetailResponse from(Email email, EmailBody body, List<EmailAttachment> attachments,
+		List<EmailThreadItem> threadEmails, EmailThreadSummaryResponse thread) {
 
 		List<EmailAttachmentResponse> attachmentResponses = attachments.stream()
 			.map(EmailAttachmentResponse::from)
@@ -43,8 +45,8 @@ public record EmailDetailResponse(
 			email.getSender(),
 			email.getRecipients(),
 			email.getSubject(),
-			email.getBodyText(),
-			email.getBodyHtml(),
+			body.bodyText(),
+			body.bodyHtml(),
 			email.getReceivedDateTime(),
 			email.getSentDateTime(),
 			email.getReadStatus(),
@@ -55,6 +57,7 @@ public record EmailDetailResponse(
 			email.getInReplyTo(),
 			referencesList,
 			threadEmails,
+			thread,
 			email.getEmailType().name()
 		);
 	}
@@ -2,11 +2,27 @@ package com.alphamail.api.email.presentation.dto;
 
 import java.util.List;
 
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
+
 public record EmailListResponse(
 	List<EmailResponse> emails,
 	Integer totalCount,
 	Integer readCount,
 	Integer pageCount,
-	Integer currentPage
+	Integer currentPage,
+	String nextCursor
 ) {
+
+	public static EmailListResponse of(List<EmailResponse> emails, FolderMailCount folderCount, int pageCount,
+		int currentPage) {
+		return new EmailListResponse(emails, folderCount.totalCount(), folderCount.readCount(), pageCount,
+			currentPage, null);
+	}
+
+	// cursor 모드 - 페이지 수 대신 다음 커서 (마지막 페이지면 null)
+	public static EmailListResponse ofCursor(List<EmailResponse> emails, FolderMailCount folderCount,
+		String nextCursor) {
+		return new EmailListResponse(emails, folderCount.totalCount(), folderCount.readCount(), null, null,
+			nextCursor);
+	}
 }
@@ -3,6 +3,7 @@ package com.alphamail.api.email.presentation.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.alphamail.api.email.domain.valueobject.EmailSummary;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 
@@ -18,6 +19,22 @@ public record EmailResponse(
 	List<String> recipients
 
 ) {
+	// 보낸메일함은 수신자 포함(recipients가 null이 아닐 때), 휴지통은 원래 폴더 포함
+	public static EmailResponse from(EmailSummary email, Integer size, List<String> recipients,
+		boolean isTrashFolder) {
+		return new EmailResponse(
+			email.emailId(),
+			email.sender(),
+			email.subject(),
+			email.receivedDateTime(),
+			email.sentDateTime(),
+			size,
+			email.readStatus(),
+			isTrashFolder ? email.originalFolderId() : null,
+			recipients
+		);
+	}
+
 	public static EmailResponse withoutRecipients(
 		Integer id,
 		String sender,
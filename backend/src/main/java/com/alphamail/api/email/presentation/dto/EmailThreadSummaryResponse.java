@@ -0,0 +1,30 @@
+package com.alphamail.api.email.presentation.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.alphamail.api.email.domain.entity.EmailThread;
+
+public record EmailThreadSummaryResponse(
+	String threadId,
+	String subject,
+	List<String> participants,
+	Integer messageCount,
+	Integer unreadCount,
+	Boolean hasAttachment,
+	Integer latestEmailId,
+	LocalDateTime lastActivityAt
+) {
+	public static EmailThreadSummaryResponse from(EmailThread thread) {
+		return new EmailThreadSummaryResponse(
+			thread.getThreadId(),
+			thread.getSubject(),
+			thread.getParticipants(),
+			thread.getMessageCount(),
+			thread.getUnreadCount(),
+			thread.getHasAttachment(),
+			thread.getLatestEmailId(),
+			thread.getLastActivityAt()
+		);
+	}
+}
@@ -1,7 +1,21 @@
 package com.alphamail.api.email.presentation.dto;
 
+import com.alphamail.api.email.domain.entity.EmailFolder;
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
+
 public record FolderResponse(
 	Integer id,
-	String folderName
+	String folderName,
+	Integer totalCount,
+	Integer unreadCount
 ) {
+
+	public static FolderResponse of(EmailFolder folder, FolderMailCount count) {
+		return new FolderResponse(
+			folder.getEmailFolderId(),
+			folder.getEmailFolderName(),
+			count.totalCount(),
+			count.unreadCount()
+		);
+	}
 }
@@ -0,0 +1,9 @@
+package com.alphamail.api.email.presentation.dto;
+
+// SES가 S3에 저장한 수신 원본 위치 (messageId는 SES 알림의 commonHeaders 값, 없으면 중복 확인은 저장 단계에서만)
+public record RawEmailRequest(
+	String s3Key,
+	String actualRecipient,
+	String messageId
+) {
+}
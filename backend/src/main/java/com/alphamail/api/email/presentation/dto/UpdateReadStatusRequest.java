@@ -0,0 +1,9 @@
+package com.alphamail.api.email.presentation.dto;
+
+import java.util.List;
+
+public record UpdateReadStatusRequest(
+	List<Integer> mailList,
+	Boolean read
+) {
+}
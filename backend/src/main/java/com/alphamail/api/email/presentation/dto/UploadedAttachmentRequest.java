@@ -0,0 +1,8 @@
+package com.alphamail.api.email.presentation.dto;
+
+// presigned URL로 이미 S3에 올린 첨부파일 (크기/타입은 서버가 S3에서 다시 확인)
+public record UploadedAttachmentRequest(
+	String s3Key,
+	String filename
+) {
+}
@@ -3,6 +3,8 @@ package com.alphamail.api.email.presentation.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.alphamail.api.email.domain.entity.Email;
+
 public record VectorDBRequest(
         String from,
         List<String> to,
@@ -20,13 +22,13 @@ public record VectorDBRequest(
                 receiveEmailRequest.subject()
         );
     }
-    public static VectorDBRequest fromSendEmailRequest(SendEmailRequest sendEmailRequest) {
+    public static VectorDBRequest fromSentEmail(Email email) {
         return new VectorDBRequest(
-          sendEmailRequest.sender(),
-          sendEmailRequest.recipients(),
-          LocalDateTime.now(),
-          sendEmailRequest.bodyHtml(),
-          sendEmailRequest.subject()
+                email.getSender(),
+                email.getRecipients(),
+                email.getSentDateTime(),
+                email.getBodyHtml(),
+                email.getSubject()
         );
     }
 }
@@ -3,6 +3,8 @@ package com.alphamail.api.erp.application.usecase.purchaseorder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.chatbot.application.service.ChatbotResponseCache;
+import com.alphamail.api.chatbot.domain.dto.DocumentTypes;
 import com.alphamail.api.erp.application.dto.RegistResultDto;
 import com.alphamail.api.erp.domain.entity.Client;
 import com.alphamail.api.erp.domain.entity.PurchaseOrder;
@@ -25,6 +27,7 @@ public class ModifyPurchaseOrderUseCase {
 	private final UserReader userReader;
 	private final GroupReader groupReader;
 	private final ClientReader clientReader;
+	private final ChatbotResponseCache chatbotResponseCache;
 
 	public RegistResultDto execute(Integer orderId, RegistPurchaseOrderRequest request) {
 		PurchaseOrder order = purchaseOrderRepository.findById(orderId).orElse(null);
@@ -67,6 +70,8 @@ public class ModifyPurchaseOrderUseCase {
 			return RegistResultDto.saveFailed();
 		}
 
+		chatbotResponseCache.invalidate(DocumentTypes.PURCHASE_ORDER, savedOrder.getCompany().getCompanyId());
+
 		return RegistResultDto.saveSuccess(savedOrder.getPurchaseOrderId());
 	}
 }
@@ -5,6 +5,8 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.chatbot.application.service.ChatbotResponseCache;
+import com.alphamail.api.chatbot.domain.dto.DocumentTypes;
 import com.alphamail.api.erp.domain.entity.PurchaseOrder;
 import com.alphamail.api.erp.domain.repository.PurchaseOrderRepository;
 import com.alphamail.api.global.dto.RemoveAllErpRequest;
@@ -17,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 public class RemoveAllPurchaseOrdersUseCase {
 
 	private final PurchaseOrderRepository purchaseOrderRepository;
+	private final ChatbotResponseCache chatbotResponseCache;
 
 	public boolean execute(List<Integer> orderIds) {
 		if (orderIds == null || orderIds.isEmpty()) {
@@ -24,6 +27,7 @@ public class RemoveAllPurchaseOrdersUseCase {
 		}
 
 		purchaseOrderRepository.deleteAllByIds(orderIds);
+		chatbotResponseCache.invalidateAll(DocumentTypes.PURCHASE_ORDER);
 		return true;
 	}
 }
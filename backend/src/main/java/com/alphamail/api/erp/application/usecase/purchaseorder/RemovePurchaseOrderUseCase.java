@@ -3,6 +3,8 @@ package com.alphamail.api.erp.application.usecase.purchaseorder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.chatbot.application.service.ChatbotResponseCache;
+import com.alphamail.api.chatbot.domain.dto.DocumentTypes;
 import com.alphamail.api.erp.domain.entity.PurchaseOrder;
 import com.alphamail.api.erp.domain.repository.PurchaseOrderRepository;
 
@@ -14,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 public class RemovePurchaseOrderUseCase {
 
 	private final PurchaseOrderRepository purchaseOrderRepository;
+	private final ChatbotResponseCache chatbotResponseCache;
 
 	public boolean execute(Integer orderId) {
 		PurchaseOrder purchaseOrder = purchaseOrderRepository.findById(orderId).orElse(null);
@@ -22,6 +25,7 @@ public class RemovePurchaseOrderUseCase {
 		}
 
 		purchaseOrderRepository.softDeleteById(orderId);
+		chatbotResponseCache.invalidate(DocumentTypes.PURCHASE_ORDER, purchaseOrder.getCompany().getCompanyId());
 		return true;
 	}
 }
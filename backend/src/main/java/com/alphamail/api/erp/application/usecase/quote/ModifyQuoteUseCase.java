@@ -3,6 +3,8 @@ package com.alphamail.api.erp.application.usecase.quote;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.chatbot.application.service.ChatbotResponseCache;
+import com.alphamail.api.chatbot.domain.dto.DocumentTypes;
 import com.alphamail.api.erp.application.dto.RegistResultDto;
 import com.alphamail.api.erp.domain.entity.Client;
 import com.alphamail.api.erp.domain.entity.Quote;
@@ -25,6 +27,7 @@ public class ModifyQuoteUseCase {
 	private final UserReader userReader;
 	private final GroupReader groupReader;
 	private final ClientReader clientReader;
+	private final ChatbotResponseCache chatbotResponseCache;
 
 	public RegistResultDto execute(Integer quoteId, RegistQuoteRequest request) {
 		Quote quote = quoteRepository.findById(quoteId).orElse(null);
@@ -67,6 +70,8 @@ public class ModifyQuoteUseCase {
 			return RegistResultDto.saveFailed();
 		}
 
+		chatbotResponseCache.invalidate(DocumentTypes.QUOTE, savedQuote.getCompany().getCompanyId());
+
 		return RegistResultDto.saveSuccess(savedQuote.getQuoteId());
 	}
 }
@@ -3,9 +3,9 @@ package com.alphamail.api.erp.application.usecase.quote;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.chatbot.application.service.VectorOutbox;
 import com.alphamail.api.chatbot.domain.common.VectorizableDocument;
 import com.alphamail.api.chatbot.infrastructure.adapter.QuoteVectorAdapter;
-import com.alphamail.api.chatbot.infrastructure.vector.VectorUpsertClient;
 import com.alphamail.api.erp.application.dto.RegistResultDto;
 import com.alphamail.api.erp.domain.entity.Client;
 import com.alphamail.api.erp.domain.entity.Quote;
@@ -31,7 +31,7 @@ public class RegistQuoteUseCase {
 	private final CompanyReader companyReader;
 	private final GroupReader groupReader;
 	private final ClientReader clientReader;
-	private final VectorUpsertClient vectorUpsertClient;
+	private final VectorOutbox vectorOutbox;
 
 	public RegistResultDto execute(RegistQuoteRequest request) {
 		User user = userReader.findById(request.userId());
@@ -50,7 +50,8 @@ public class RegistQuoteUseCase {
 		}
 
 		VectorizableDocument doc = new QuoteVectorAdapter(savedQuote);
-		vectorUpsertClient.upsert(doc);
+		// 같은 트랜잭션에 아웃박스만 남기고 실제 업서트는 커밋 후 릴레이가 전송
+		vectorOutbox.enqueue(doc);
 
 		return RegistResultDto.saveSuccess(savedQuote.getQuoteId());
 	}
@@ -5,6 +5,8 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.chatbot.application.service.ChatbotResponseCache;
+import com.alphamail.api.chatbot.domain.dto.DocumentTypes;
 import com.alphamail.api.erp.domain.repository.QuoteRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 public class RemoveAllQuotesUseCase {
 
 	private final QuoteRepository quoteRepository;
+	private final ChatbotResponseCache chatbotResponseCache;
 
 	public boolean execute(List<Integer> quoteIds) {
 		if (quoteIds == null || quoteIds.isEmpty()) {
@@ -22,6 +25,7 @@ public class RemoveAllQuotesUseCase {
 		}
 
 		quoteRepository.deleteAllByIds(quoteIds);
+		chatbotResponseCache.invalidateAll(DocumentTypes.QUOTE);
 		return true;
 	}
 }
@@ -3,6 +3,8 @@ package com.alphamail.api.erp.application.usecase.quote;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.chatbot.application.service.ChatbotResponseCache;
+import com.alphamail.api.chatbot.domain.dto.DocumentTypes;
 import com.alphamail.api.erp.domain.entity.Quote;
 import com.alphamail.api.erp.domain.repository.QuoteRepository;
 
@@ -14,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 public class RemoveQuoteUseCase {
 
 	private final QuoteRepository quoteRepository;
+	private final ChatbotResponseCache chatbotResponseCache;
 
 	public boolean execute(Integer quoteId) {
 		Quote quote = quoteRepository.findById(quoteId).orElse(null);
@@ -22,6 +25,7 @@ public class RemoveQuoteUseCase {
 		}
 
 		quoteRepository.softDeleteById(quoteId);
+		chatbotResponseCache.invalidate(DocumentTypes.QUOTE, quote.getCompany().getCompanyId());
 		return true;
 	}
 }
@@ -16,6 +16,8 @@ public interface PurchaseOrderRepository {
 
 	Optional<PurchaseOrder> findById(Integer orderId);
 
+	List<PurchaseOrder> findAllAfterId(Integer lastOrderId, int limit);
+
 	PurchaseOrder save(PurchaseOrder purchaseOrder);
 
 	void deleteAllByIds(List<Integer> orderIds);
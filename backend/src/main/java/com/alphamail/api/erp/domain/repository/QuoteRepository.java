@@ -16,6 +16,8 @@ public interface QuoteRepository {
 
 	Optional<Quote> findById(Integer quoteId);
 
+	List<Quote> findAllAfterId(Integer lastQuoteId, int limit);
+
 	Quote save(Quote quote);
 
 	void deleteAllByIds(List<Integer> quoteIds);
@@ -3,6 +3,7 @@ package com.alphamail.api.erp.infrastructure.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -22,6 +23,9 @@ public interface PurchaseOrderJpaRepository extends JpaRepository<PurchaseOrderE
 	@EntityGraph(attributePaths = {"products", "products.productEntity"})
 	Optional<PurchaseOrderEntity> findByIdAndDeletedAtIsNull(Integer orderId);
 
+	@EntityGraph(attributePaths = {"userEntity", "companyEntity", "groupEntity", "clientEntity"})
+	List<PurchaseOrderEntity> findByIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(Integer id, Limit limit);
+
 	@Modifying
 	@Transactional
 	@Query("UPDATE PurchaseOrderEntity p SET p.deletedAt = CURRENT_TIMESTAMP WHERE p.id IN :ids")
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -54,6 +55,15 @@ public class PurchaseOrderRepositoryImpl implements PurchaseOrderRepository {
 			.map(purchaseOrderMapper::toDomain);
 	}
 
+	@Override
+	public List<PurchaseOrder> findAllAfterId(Integer lastOrderId, int limit) {
+		return purchaseOrderJpaRepository.findByIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(lastOrderId,
+				Limit.of(limit))
+			.stream()
+			.map(purchaseOrderMapper::toDomain)
+			.collect(Collectors.toList());
+	}
+
 	@Override
 	public PurchaseOrder save(PurchaseOrder purchaseOrder) {
 		PurchaseOrderEntity entity = purchaseOrderMapper.toEntity(purchaseOrder);
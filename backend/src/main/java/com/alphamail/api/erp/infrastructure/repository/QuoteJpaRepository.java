@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -20,6 +22,10 @@ public interface QuoteJpaRepository extends JpaRepository<QuoteEntity, Integer>,
 
 	Optional<QuoteEntity> findByIdAndDeletedAtIsNull(Integer id);
 
+	// 벡터 재색인용 id 순 keyset 조회 (어댑터가 쓰는 연관관계는 한 번에)
+	@EntityGraph(attributePaths = {"userEntity", "companyEntity", "groupEntity", "clientEntity"})
+	List<QuoteEntity> findByIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(Integer id, Limit limit);
+
 	@Modifying
 	@Transactional
 	@Query("UPDATE QuoteEntity q SET q.deletedAt = CURRENT_TIMESTAMP WHERE q.id IN :ids")
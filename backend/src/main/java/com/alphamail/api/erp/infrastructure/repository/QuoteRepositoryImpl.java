@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -54,6 +55,14 @@ public class QuoteRepositoryImpl implements QuoteRepository {
 			.map(quoteMapper::toDomain);
 	}
 
+	@Override
+	public List<Quote> findAllAfterId(Integer lastQuoteId, int limit) {
+		return quoteJpaRepository.findByIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(lastQuoteId, Limit.of(limit))
+			.stream()
+			.map(quoteMapper::toDomain)
+			.collect(Collectors.toList());
+	}
+
 	@Override
 	public Quote save(Quote quote) {
 		QuoteEntity entity = quoteMapper.toEntity(quote);
@@ -0,0 +1,53 @@
+package com.alphamail.api.global.admin.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.alphamail.api.global.admin.dto.DependencyStatusResponse;
+import com.alphamail.common.exception.ErrorMessage;
+import com.alphamail.common.exception.NotFoundException;
+import com.alphamail.common.http.HttpClientMetrics;
+import com.alphamail.common.http.HttpTargetStats;
+import com.alphamail.common.resilience.DependencyGuard;
+import com.alphamail.common.resilience.ResilienceRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+// 외부 의존성(AI 사이드카, Claude) 서킷 브레이커/벌크헤드 상태와 HTTP 지표 조회
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/dependencies")
+public class DependencyAdminController {
+
+	private final ResilienceRegistry resilienceRegistry;
+	private final HttpClientMetrics httpClientMetrics;
+
+	@GetMapping
+	public ResponseEntity<List<DependencyStatusResponse>> getDependencies() {
+		Map<String, HttpTargetStats> httpStats = httpClientMetrics.snapshot().stream()
+			.collect(Collectors.toMap(HttpTargetStats::target, Function.identity()));
+
+		List<DependencyStatusResponse> responses = resilienceRegistry.all().stream()
+			.map(guard -> DependencyStatusResponse.of(guard, httpStats.get(guard.getName())))
+			.toList();
+		return ResponseEntity.ok(responses);
+	}
+
+	// 장애 복구 확인 후 OPEN 상태를 바로 닫을 때
+	@PostMapping("/{name}/reset")
+	public ResponseEntity<Void> resetCircuitBreaker(@PathVariable String name) {
+		DependencyGuard guard = resilienceRegistry.find(name)
+			.orElseThrow(() -> new NotFoundException(ErrorMessage.RESOURCE_NOT_FOUND));
+		guard.reset();
+		return ResponseEntity.ok().build();
+	}
+}
@@ -0,0 +1,18 @@
+package com.alphamail.api.global.admin.dto;
+
+import com.alphamail.common.http.HttpTargetStats;
+import com.alphamail.common.resilience.Bulkhead;
+import com.alphamail.common.resilience.CircuitBreaker;
+import com.alphamail.common.resilience.DependencyGuard;
+
+public record DependencyStatusResponse(
+	String name,
+	CircuitBreaker.CircuitBreakerStatus circuitBreaker,
+	Bulkhead.BulkheadStatus bulkhead,
+	HttpTargetStats http
+) {
+	public static DependencyStatusResponse of(DependencyGuard guard, HttpTargetStats http) {
+		return new DependencyStatusResponse(guard.getName(), guard.circuitBreakerStatus(), guard.bulkheadStatus(),
+			http);
+	}
+}
@@ -0,0 +1,244 @@
+package com.alphamail.api.global.s3.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자주 받는 S3 객체(첨부파일)를 로컬 디스크에 두는 LRU 캐시
+ * - 전체 용량(max-bytes)을 넘으면 가장 오래 안 쓴 파일부터 삭제
+ * - 업로드 키가 UUID라 같은 키의 내용은 바뀌지 않음 -> 재검증 없이 ETag를 함께 보관
+ * - 목록은 메모리에만 있으므로 기동 시 이 캐시가 만든 파일(s3-cache- 접두사)만 지우고 시작
+ * - 조회와 파일 열기를 eviction과 같은 잠금 안에서 -> 연 뒤에 지워져도 열린 핸들로 끝까지 읽힘 (링크만 제거)
+ */
+@Slf4j
+@Component
+public class S3ObjectDiskCache {
+
+	private static final String FILE_PREFIX = "s3-cache-";
+
+	private final boolean enabled;
+	private final Path directory;
+	private final long maxBytes;
+	private final long maxObjectBytes;
+
+	// access-order: 조회할 때마다 뒤로 이동 -> 앞쪽이 eviction 대상
+	private final LinkedHashMap<String, CachedObject> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long totalBytes;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public S3ObjectDiskCache(@Value("${aws.s3.disk-cache.enabled:false}") boolean enabled,
+		@Value("${aws.s3.disk-cache.dir:${java.io.tmpdir}/alphamail-s3-cache}") String directory,
+		@Value("${aws.s3.disk-cache.max-bytes:1073741824}") long maxBytes,
+		@Value("${aws.s3.disk-cache.max-object-bytes:52428800}") long maxObjectBytes) {
+		this.directory = Path.of(directory);
+		this.maxBytes = maxBytes;
+		this.maxObjectBytes = Math.min(maxObjectBytes, maxBytes);
+		this.enabled = enabled && prepareDirectory();
+	}
+
+	public Optional<CachedContent> open(String s3Key) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+
+		CachedContent content = null;
+		synchronized (this) {
+			CachedObject cached = entries.get(s3Key);
+			if (cached != null) {
+				content = openQuietly(cached);
+				if (content == null) {
+					// 외부에서 지워진 경우
+					remove(s3Key);
+				}
+			}
+		}
+		(content != null ? hits : misses).increment();
+		return Optional.ofNullable(content);
+	}
+
+	public boolean accepts(long size) {
+		return enabled && size >= 0 && size <= maxObjectBytes;
+	}
+
+	/**
+	 * content를 끝까지 읽어 캐시 파일로 만든 뒤 등록하고 열어서 돌려줍니다. (content는 항상 닫힘)
+	 * 임시 파일에 다 쓴 다음 이름을 바꾸므로 읽는 쪽이 덜 쓴 파일을 보는 일은 없습니다.
+	 */
+	public CachedContent put(String s3Key, InputStream content, String eTag, Instant lastModified,
+		String contentType) throws IOException {
+		Path temp = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+		long size;
+		try (content) {
+			size = Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+			Path target = directory.resolve(
+				FILE_PREFIX + UUID.nameUUIDFromBytes(s3Key.getBytes(StandardCharsets.UTF_8)) + ".bin");
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+			CachedObject cached = new CachedObject(target, size, eTag, lastModified, contentType);
+			synchronized (this) {
+				CachedObject previous = entries.put(s3Key, cached);
+				if (previous != null) {
+					// 같은 경로를 덮어썼으므로 파일은 지우지 않고 용량만 정리
+					totalBytes -= previous.size();
+				}
+				totalBytes += size;
+				evict();
+				return new CachedContent(cached, FileChannel.open(target, StandardOpenOption.READ));
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${aws.s3.disk-cache.stats-interval-ms:300000}")
+	public void logStats() {
+		if (!enabled) {
+			return;
+		}
+		synchronized (this) {
+			log.info("S3 디스크 캐시 - entries={}, bytes={}/{}, hits={}, misses={}, evictions={}", entries.size(),
+				totalBytes, maxBytes, hits.sum(), misses.sum(), evictions.sum());
+		}
+	}
+
+	// 이미 open으로 연 응답은 열린 핸들로 끝까지 읽힘
+	private void evict() {
+		Iterator<Map.Entry<String, CachedObject>> iterator = entries.entrySet().iterator();
+		while (totalBytes > maxBytes && iterator.hasNext()) {
+			CachedObject eldest = iterator.next().getValue();
+			iterator.remove();
+			totalBytes -= eldest.size();
+			evictions.increment();
+			deleteQuietly(eldest.path());
+		}
+	}
+
+	private void remove(String s3Key) {
+		CachedObject removed = entries.remove(s3Key);
+		if (removed != null) {
+			totalBytes -= removed.size();
+		}
+	}
+
+	private boolean prepareDirectory() {
+		try {
+			Files.createDirectories(directory);
+			// 설정된 디렉터리에 다른 파일이 있어도 건드리지 않음
+			try (Stream<Path> leftovers = Files.list(directory)) {
+				leftovers.filter(path -> path.getFileName().toString().startsWith(FILE_PREFIX))
+					.forEach(this::deleteQuietly);
+			}
+			return true;
+		} catch (IOException e) {
+			log.error("S3 디스크 캐시 디렉터리 준비 실패 - 캐시 없이 동작: {}", directory, e);
+			return false;
+		}
+	}
+
+	private CachedContent openQuietly(CachedObject cached) {
+		try {
+			return new CachedContent(cached, FileChannel.open(cached.path(), StandardOpenOption.READ));
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("S3 디스크 캐시 파일 삭제 실패: {}", path, e);
+		}
+	}
+
+	public record CachedObject(
+		Path path,
+		long size,
+		String eTag,
+		Instant lastModified,
+		String contentType
+	) {
+	}
+
+	/**
+	 * 열린 캐시 파일 - 다 쓰면 닫아야 함 (inputStream으로 넘긴 경우 그 스트림을 닫으면 함께 닫힘)
+	 */
+	public record CachedContent(
+		CachedObject object,
+		FileChannel channel
+	) implements Closeable {
+
+		// start부터 length바이트만 읽는 스트림 (위치 지정 읽기라 채널 위치와 무관)
+		public InputStream inputStream(long start, long length) {
+			return new RangeInputStream(channel, start, length);
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+
+	private static final class RangeInputStream extends InputStream {
+
+		private final FileChannel channel;
+		private long position;
+		private long remaining;
+
+		private RangeInputStream(FileChannel channel, long start, long length) {
+			this.channel = channel;
+			this.position = start;
+			this.remaining = length;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] single = new byte[1];
+			return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int read = channel.read(ByteBuffer.wrap(buffer, offset, (int)Math.min(length, remaining)), position);
+			if (read < 0) {
+				return -1;
+			}
+			position += read;
+			remaining -= read;
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+}
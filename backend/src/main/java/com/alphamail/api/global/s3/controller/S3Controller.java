@@ -8,13 +8,20 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.alphamail.api.erp.presentation.dto.purchaseorder.PurchaseOrderImageResponse;
+import com.alphamail.api.global.s3.service.PresignedUrl;
+import com.alphamail.api.global.s3.service.S3ObjectInfo;
 import com.alphamail.api.global.s3.service.S3Service;
+import com.alphamail.common.annotation.Auth;
+import com.alphamail.common.exception.ErrorMessage;
+import com.alphamail.common.exception.ForbiddenException;
+import com.alphamail.common.exception.NotFoundException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +32,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class S3Controller {
 
+	private static final String BUCKET_URL = "https://alphamailemailbucket.s3.ap-northeast-2.amazonaws.com/";
+
 	private final S3Service s3Service;
 
 	@PostMapping(value = "/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -50,7 +59,7 @@ public class S3Controller {
 		try {
 
 			String s3Key = s3Service.uploadFile(image);
-			String fullUrl = "https://alphamailemailbucket.s3.ap-northeast-2.amazonaws.com/" + s3Key;
+			String fullUrl = BUCKET_URL + s3Key;
 
 			log.info("[S3 Upload] 업로드 완료: s3Key={}, fullUrl={}", s3Key, fullUrl);
 			return ResponseEntity.status(HttpStatus.CREATED)
@@ -74,12 +83,73 @@ public class S3Controller {
 		}
 
 		// 파일 확장자 및 컨텐츠 타입 검증
+		String invalidReason = validateDocument(file.getContentType(), file.getOriginalFilename());
+		if (invalidReason != null) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(invalidReason);
+		}
 		String contentType = file.getContentType();
-		String originalFilename = file.getOriginalFilename();
-		String fileExtension = StringUtils.getFilenameExtension(originalFilename);
+
+		try {
+			// 기존 서비스 메서드 사용
+			String s3Key = s3Service.uploadFile(file);
+			String fileUrl = BUCKET_URL + s3Key;
+
+			log.info("[S3 Upload] 업로드 완료: fileType={}, url={}", contentType, fileUrl);
+
+			S3UploadUrl response = S3UploadUrl.builder()
+				.s3Key(fileUrl)
+				.build();
+
+			return ResponseEntity.status(HttpStatus.CREATED).body(response);
+		} catch (Exception e) {
+			log.error("[S3 Upload] 파일 업로드 실패", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+				.body("파일 업로드에 실패했습니다: " + e.getMessage());
+		}
+	}
+
+	// 문서 presigned 업로드 - 같은 형식 검증 후 URL만 발급, 파일은 브라우저가 S3로 직접 PUT
+	@PostMapping("/documents/upload-url")
+	public ResponseEntity<?> issueDocumentUploadUrl(@RequestBody S3PresignRequest request, @Auth Integer userId) {
+		String invalidReason = validateDocument(request.contentType(), request.filename());
+		if (invalidReason != null) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(invalidReason);
+		}
+
+		String s3Key = s3Service.createUploadKey(userId, request.filename());
+		PresignedUrl presignedUrl = s3Service.presignUpload(s3Key, request.contentType());
+		log.info("[S3 Presign] 업로드 URL 발급: s3Key={}, expiresAt={}", s3Key, presignedUrl.expiresAt());
+		return ResponseEntity.ok(new S3PresignResponse(s3Key, presignedUrl.url(), presignedUrl.expiresAt()));
+	}
+
+	// 직접 업로드 완료 등록 - 본인 키인지, 실제로 올라왔는지, 형식이 맞는지 S3에서 확인 후 파일 URL 반환
+	@PostMapping("/documents/complete")
+	public ResponseEntity<?> completeDocumentUpload(@RequestBody S3PresignResponse request, @Auth Integer userId) {
+		if (!s3Service.isUploadKeyOf(userId, request.s3Key())) {
+			throw new ForbiddenException(ErrorMessage.ACCESS_DENIED);
+		}
+		S3ObjectInfo object = s3Service.findObject(request.s3Key())
+			.orElseThrow(() -> new NotFoundException(ErrorMessage.S3AMAZON_NOT_FOUND));
+
+		String invalidReason = validateDocument(object.contentType(), request.s3Key());
+		if (invalidReason != null) {
+			s3Service.deleteFile(request.s3Key());
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(invalidReason);
+		}
+
+		String fileUrl = BUCKET_URL + request.s3Key();
+		log.info("[S3 Presign] 업로드 완료 등록: s3Key={}, size={}", request.s3Key(), object.size());
+		return ResponseEntity.status(HttpStatus.CREATED).body(S3UploadUrl.builder()
+			.s3Key(fileUrl)
+			.build());
+	}
+
+	// 허용: PDF, PNG, JPEG(JPG) - 문제 없으면 null, 있으면 응답 메시지
+	private String validateDocument(String contentType, String filename) {
+		String fileExtension = StringUtils.getFilenameExtension(filename);
 
 		log.debug("[S3 Upload] contentType: {}, fileName: {}, extension: {}",
-			contentType, originalFilename, fileExtension);
+			contentType, filename, fileExtension);
 
 		// 허용된 파일 형식 확인
 		boolean isValidImageType = contentType != null && (
@@ -92,8 +162,7 @@ public class S3Controller {
 
 		if (!isValidImageType && !isValidPdfType) {
 			log.warn("[S3 Upload] 허용되지 않은 파일 타입: {}", contentType);
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-				.body("파일은 PDF, PNG 또는 JPEG(JPG) 형식이어야 합니다.");
+			return "파일은 PDF, PNG 또는 JPEG(JPG) 형식이어야 합니다.";
 		}
 
 		// 파일 확장자 추가 검증
@@ -106,28 +175,10 @@ public class S3Controller {
 
 			if (!isValidExtension) {
 				log.warn("[S3 Upload] 허용되지 않은 파일 확장자: {}", fileExtension);
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-					.body("파일 확장자는 .pdf, .png, .jpg 또는 .jpeg여야 합니다.");
+				return "파일 확장자는 .pdf, .png, .jpg 또는 .jpeg여야 합니다.";
 			}
 		}
-
-		try {
-			// 기존 서비스 메서드 사용
-			String s3Key = s3Service.uploadFile(file);
-			String fileUrl = "https://alphamailemailbucket.s3.ap-northeast-2.amazonaws.com/" + s3Key;
-
-			log.info("[S3 Upload] 업로드 완료: fileType={}, url={}", contentType, fileUrl);
-
-			S3UploadUrl response = S3UploadUrl.builder()
-				.s3Key(fileUrl)
-				.build();
-
-			return ResponseEntity.status(HttpStatus.CREATED).body(response);
-		} catch (Exception e) {
-			log.error("[S3 Upload] 파일 업로드 실패", e);
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-				.body("파일 업로드에 실패했습니다: " + e.getMessage());
-		}
+		return null;
 	}
 
 }
@@ -0,0 +1,7 @@
+package com.alphamail.api.global.s3.controller;
+
+public record S3PresignRequest(
+	String filename,
+	String contentType
+) {
+}
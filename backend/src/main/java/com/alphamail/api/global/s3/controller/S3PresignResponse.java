@@ -0,0 +1,11 @@
+package com.alphamail.api.global.s3.controller;
+
+import java.time.LocalDateTime;
+
+// 발급 응답이자 완료 등록 요청 (완료 시에는 s3Key만 사용)
+public record S3PresignResponse(
+	String s3Key,
+	String uploadUrl,
+	LocalDateTime expiresAt
+) {
+}
@@ -1,34 +1,118 @@
 package com.alphamail.api.global.s3.repository;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.alphamail.api.global.s3.service.PresignedUrl;
+import com.alphamail.api.global.s3.service.S3ObjectContent;
+import com.alphamail.api.global.s3.service.S3ObjectInfo;
 import com.alphamail.api.global.s3.service.S3Service;
 import com.alphamail.common.exception.ErrorMessage;
 import com.alphamail.common.exception.NotFoundException;
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
 import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * S3 업로드/다운로드
+ * 업로드는 파일 단위 워커 풀에서 동시에 진행하고, 큰 파일은 TransferManager가 파트를 나눠 병렬로 올립니다.
+ * - 파일 동시성: aws.s3.upload.concurrency / 파트 동시성: aws.s3.upload.part-concurrency (둘 다 고정 크기 풀)
+ * - 각 풀의 대기열은 aws.s3.upload.queue-capacity까지, 가득 차면 제출한 스레드가 직접 올림 (요청 스레드에 역압)
+ * - multipart-threshold 이상인 파일은 임시 파일로 옮긴 뒤 올림 (스트림은 파트를 순서대로만 읽을 수 있어서)
+ * - 길이를 모르는 스트림(수신 원본에서 꺼낸 첨부 등)은 파트 하나 크기의 버퍼로 순서대로 올림
+ * 직접 업로드/다운로드용 presigned URL도 여기서 발급합니다. (바이트가 서버를 거치지 않음)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3ServiceImpl implements S3Service {
 
+	private static final int DELETE_BATCH_SIZE = 1000;
+	private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+	private static final Pattern SAFE_EXTENSION = Pattern.compile("[A-Za-z0-9]{1,10}");
+
 	private final AmazonS3 s3Client;
+	private final String bucketName;
+	private final long multipartThreshold;
+	private final int streamPartSize;
+	private final TransferManager transferManager;
+	private final ExecutorService uploadExecutor;
+	private final Duration uploadUrlTtl;
+	private final Duration downloadUrlTtl;
 
-	@Value("${aws.s3.bucket-name}")
-	private String bucketName;
+	public S3ServiceImpl(AmazonS3 s3Client,
+		@Value("${aws.s3.bucket-name}") String bucketName,
+		@Value("${aws.s3.upload.concurrency:4}") int concurrency,
+		@Value("${aws.s3.upload.part-concurrency:8}") int partConcurrency,
+		@Value("${aws.s3.upload.queue-capacity:100}") int queueCapacity,
+		@Value("${aws.s3.upload.multipart-threshold-bytes:16777216}") long multipartThreshold,
+		@Value("${aws.s3.upload.part-size-bytes:8388608}") long partSize,
+		@Value("${aws.s3.presign.upload-ttl-seconds:600}") long uploadUrlTtlSeconds,
+		@Value("${aws.s3.presign.download-ttl-seconds:300}") long downloadUrlTtlSeconds) {
+		this.s3Client = s3Client;
+		this.bucketName = bucketName;
+		this.multipartThreshold = multipartThreshold;
+		// S3 multipart 파트 최소 크기는 5MB
+		this.streamPartSize = Math.toIntExact(Math.max(partSize, MIN_PART_SIZE));
+		this.uploadUrlTtl = Duration.ofSeconds(uploadUrlTtlSeconds);
+		this.downloadUrlTtl = Duration.ofSeconds(downloadUrlTtlSeconds);
+		this.uploadExecutor = boundedPool(concurrency, queueCapacity, "s3-upload-");
+		ExecutorService partExecutor = boundedPool(partConcurrency, queueCapacity, "s3-upload-part-");
+		this.transferManager = TransferManagerBuilder.standard()
+			.withS3Client(s3Client)
+			.withExecutorFactory(() -> partExecutor)
+			.withMultipartUploadThreshold(multipartThreshold)
+			.withMinimumUploadPartSize(partSize)
+			.build();
+	}
 
 	@Override
 	public InputStream downloadFile(String s3Key) {
@@ -43,38 +127,300 @@ public class S3ServiceImpl implements S3Service {
 		}
 	}
 
+	@Override
+	public S3ObjectContent openObject(String s3Key, String ifNoneMatch, Long rangeStart, Long rangeEnd) {
+		GetObjectRequest request = new GetObjectRequest(bucketName, s3Key);
+		if (ifNoneMatch != null) {
+			request.setNonmatchingETagConstraints(List.of(ifNoneMatch));
+		}
+		if (rangeStart != null) {
+			request.setRange(rangeStart, rangeEnd);
+		}
+
+		S3Object s3Object;
+		try {
+			s3Object = s3Client.getObject(request);
+		} catch (AmazonServiceException e) {
+			throw new NotFoundException(ErrorMessage.S3AMAZON_NOT_FOUND);
+		}
+		// 조건이 맞지 않으면(304) SDK는 예외 대신 null을 반환
+		if (s3Object == null) {
+			return S3ObjectContent.notModified(ifNoneMatch);
+		}
+
+		ObjectMetadata metadata = s3Object.getObjectMetadata();
+		Date lastModified = metadata.getLastModified();
+		return new S3ObjectContent(s3Object.getObjectContent(), metadata.getContentLength(),
+			metadata.getInstanceLength(), metadata.getETag(), lastModified != null ? lastModified.toInstant() : null,
+			metadata.getContentType());
+	}
+
 	@Override
 	public String uploadFile(MultipartFile file) {
+		return await(uploadFileAsync(file));
+	}
+
+	@Override
+	public CompletableFuture<String> uploadFileAsync(MultipartFile file) {
+		String s3Key = "sendAttachments/" + UUID.randomUUID() + extension(file.getOriginalFilename());
+		return CompletableFuture.supplyAsync(() -> upload(file, s3Key), uploadExecutor);
+	}
+
+	// 전부 동시에 시작하고 요청 순서대로 키를 반환, 하나라도 실패하면 예외
+	@Override
+	public List<String> uploadFiles(List<MultipartFile> files) {
+		List<CompletableFuture<String>> uploads = new ArrayList<>(files.size());
+		for (MultipartFile file : files) {
+			uploads.add(uploadFileAsync(file));
+		}
+
+		List<String> uploadedKeys = new ArrayList<>(files.size());
+		for (CompletableFuture<String> upload : uploads) {
+			uploadedKeys.add(await(upload));
+		}
+		return uploadedKeys;
+	}
+
+	@Override
+	public long uploadStream(String s3Key, InputStream content, String contentType) {
+		long startedAt = System.nanoTime();
+		byte[] buffer = new byte[streamPartSize];
+		long size;
+		boolean multipart;
+		try (content) {
+			int filled = content.readNBytes(buffer, 0, buffer.length);
+			multipart = filled == buffer.length;
+			if (multipart) {
+				size = uploadParts(s3Key, content, buffer, contentType);
+			} else {
+				ObjectMetadata metadata = new ObjectMetadata();
+				metadata.setContentLength(filled);
+				metadata.setContentType(contentType);
+				s3Client.putObject(bucketName, s3Key, new ByteArrayInputStream(buffer, 0, filled), metadata);
+				size = filled;
+			}
+		} catch (IOException | AmazonClientException e) {
+			throw new RuntimeException("S3 스트림 업로드 실패", e);
+		}
+
+		long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+		log.info("S3 스트림 업로드 완료 - key={}, size={}, multipart={}, elapsed={}ms, throughput={}KB/s", s3Key,
+			size, multipart, elapsedMs, size / elapsedMs);
+		return size;
+	}
+
+	@Override
+	public String createUploadKey(Integer userId, String filename) {
+		return uploadPrefix(userId) + UUID.randomUUID() + extension(filename);
+	}
+
+	@Override
+	public boolean isUploadKeyOf(Integer userId, String s3Key) {
+		return s3Key != null && s3Key.startsWith(uploadPrefix(userId)) && !s3Key.contains("..");
+	}
+
+	@Override
+	public PresignedUrl presignUpload(String s3Key, String contentType) {
+		Date expiration = expiration(uploadUrlTtl);
+		GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, s3Key, HttpMethod.PUT)
+			.withExpiration(expiration)
+			.withContentType(contentType);
+		return toPresignedUrl(s3Client.generatePresignedUrl(request), expiration);
+	}
+
+	@Override
+	public PresignedUrl presignDownload(String s3Key, String filename, String contentType) {
+		Date expiration = expiration(downloadUrlTtl);
+		ResponseHeaderOverrides overrides = new ResponseHeaderOverrides()
+			.withContentDisposition(ContentDisposition.attachment()
+				.filename(filename, StandardCharsets.UTF_8)
+				.build()
+				.toString());
+		if (contentType != null) {
+			overrides.setContentType(contentType);
+		}
+		GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, s3Key, HttpMethod.GET)
+			.withExpiration(expiration)
+			.withResponseHeaders(overrides);
+		return toPresignedUrl(s3Client.generatePresignedUrl(request), expiration);
+	}
+
+	@Override
+	public Optional<S3ObjectInfo> findObject(String s3Key) {
 		try {
-			String originalFilename = file.getOriginalFilename();
-			String extension = "";
+			ObjectMetadata metadata = s3Client.getObjectMetadata(bucketName, s3Key);
+			return Optional.of(new S3ObjectInfo(metadata.getContentLength(), metadata.getContentType()));
+		} catch (AmazonServiceException e) {
+			if (e.getStatusCode() == 404) {
+				return Optional.empty();
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public void deleteFile(String s3Key) {
+		s3Client.deleteObject(bucketName, s3Key);
+	}
 
-			if (originalFilename != null && originalFilename.contains(".")) {
-				extension = originalFilename.substring(originalFilename.lastIndexOf('.'));
+	@Override
+	public void deleteFiles(List<String> s3Keys) {
+		for (int from = 0; from < s3Keys.size(); from += DELETE_BATCH_SIZE) {
+			List<String> chunk = s3Keys.subList(from, Math.min(from + DELETE_BATCH_SIZE, s3Keys.size()));
+			DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+				.withKeys(chunk.toArray(new String[0]))
+				.withQuiet(true);
+			try {
+				s3Client.deleteObjects(request);
+			} catch (MultiObjectDeleteException e) {
+				// 일부만 실패해도 나머지 묶음은 계속 지움
+				log.warn("S3 일괄 삭제 일부 실패 - 요청={}, 실패={}, 예: {}", chunk.size(), e.getErrors().size(),
+					e.getErrors().get(0).getKey());
 			}
+		}
+	}
 
-			String uniqueFileName = "sendAttachments/" + UUID.randomUUID() + extension;
+	@PreDestroy
+	public void shutdown() {
+		uploadExecutor.shutdownNow();
+		// s3Client는 다른 곳에서도 쓰는 빈이라 닫지 않음
+		transferManager.shutdownNow(false);
+	}
 
+	private String upload(MultipartFile file, String s3Key) {
+		long startedAt = System.nanoTime();
+		boolean multipart = file.getSize() >= multipartThreshold;
+		try {
+			if (multipart) {
+				uploadSpooled(file, s3Key);
+			} else {
+				ObjectMetadata metadata = new ObjectMetadata();
+				metadata.setContentLength(file.getSize());
+				metadata.setContentType(file.getContentType());
+				try (InputStream inputStream = file.getInputStream()) {
+					transferManager.upload(bucketName, s3Key, inputStream, metadata).waitForCompletion();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("S3 파일 업로드 중단", e);
+		} catch (IOException | AmazonClientException e) {
+			throw new RuntimeException("S3 파일 업로드 실패", e);
+		}
+
+		long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+		log.info("S3 업로드 완료 - key={}, size={}, multipart={}, elapsed={}ms, throughput={}KB/s", s3Key,
+			file.getSize(), multipart, elapsedMs, file.getSize() / elapsedMs);
+		return s3Key;
+	}
+
+	// Tomcat 임시 파일이면 transferTo가 이동(rename)만 하므로 복사 비용이 거의 없음
+	private void uploadSpooled(MultipartFile file, String s3Key) throws IOException, InterruptedException {
+		Path spooled = Files.createTempFile("s3-upload-", ".part");
+		try {
+			file.transferTo(spooled.toFile());
+			// 파일로 올리면 확장자(.part)로 Content-Type을 추측하므로 원래 타입을 지정
 			ObjectMetadata metadata = new ObjectMetadata();
-			metadata.setContentLength(file.getSize());
 			metadata.setContentType(file.getContentType());
+			transferManager.upload(new PutObjectRequest(bucketName, s3Key, spooled.toFile()).withMetadata(metadata))
+				.waitForCompletion();
+		} finally {
+			Files.deleteIfExists(spooled);
+		}
+	}
 
-			s3Client.putObject(bucketName, uniqueFileName, file.getInputStream(), metadata);
+	// buffer에는 이미 첫 파트가 차 있음, 나머지는 같은 버퍼를 재사용하며 순서대로 올림
+	private long uploadParts(String s3Key, InputStream content, byte[] buffer, String contentType)
+		throws IOException {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentType(contentType);
+		String uploadId = s3Client.initiateMultipartUpload(
+			new InitiateMultipartUploadRequest(bucketName, s3Key, metadata)).getUploadId();
 
-			return uniqueFileName;
-		} catch (IOException e) {
-			throw new RuntimeException("S3 파일 업로드 실패", e);
+		List<PartETag> partETags = new ArrayList<>();
+		long total = 0;
+		int filled = buffer.length;
+		try {
+			while (filled > 0) {
+				UploadPartRequest part = new UploadPartRequest()
+					.withBucketName(bucketName)
+					.withKey(s3Key)
+					.withUploadId(uploadId)
+					.withPartNumber(partETags.size() + 1)
+					.withInputStream(new ByteArrayInputStream(buffer, 0, filled))
+					.withPartSize(filled);
+				partETags.add(s3Client.uploadPart(part).getPartETag());
+				total += filled;
+				filled = content.readNBytes(buffer, 0, buffer.length);
+			}
+			s3Client.completeMultipartUpload(
+				new CompleteMultipartUploadRequest(bucketName, s3Key, uploadId, partETags));
+			return total;
+		} catch (IOException | RuntimeException e) {
+			// 완료되지 않은 업로드 파트는 따로 지우지 않으면 과금됨
+			s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, s3Key, uploadId));
+			throw e;
 		}
 	}
 
-	@Override
-	public List<String> uploadFiles(List<MultipartFile> files) {
-		List<String> uploadedKeys = new ArrayList<>();
+	private static String uploadPrefix(Integer userId) {
+		return "sendAttachments/" + userId + "/";
+	}
 
-		for (MultipartFile file : files) {
-			uploadedKeys.add(uploadFile(file)); // 위 단일 메서드 재사용
+	private static Date expiration(Duration ttl) {
+		return Date.from(Instant.now().plus(ttl));
+	}
+
+	private static PresignedUrl toPresignedUrl(URL url, Date expiration) {
+		return new PresignedUrl(url.toString(),
+			LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()));
+	}
+
+	// 파일명은 클라이언트가 정하므로 key에는 영숫자 확장자만 붙임 (경로 구분자, 공백 등 차단)
+	private static String extension(String originalFilename) {
+		if (originalFilename == null) {
+			return "";
+		}
+		int dot = originalFilename.lastIndexOf('.');
+		if (dot < 0) {
+			return "";
 		}
+		String extension = originalFilename.substring(dot + 1);
+		return SAFE_EXTENSION.matcher(extension).matches() ? "." + extension : "";
+	}
 
-		return uploadedKeys;
+	private static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private static ThreadPoolExecutor boundedPool(int threads, int queueCapacity, String prefix) {
+		return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), daemonThreads(prefix), callerRunsUnlessShutdown());
+	}
+
+	// CallerRunsPolicy는 종료된 풀에서 작업을 조용히 버려 supplyAsync가 끝나지 않으므로 그때는 예외
+	private static RejectedExecutionHandler callerRunsUnlessShutdown() {
+		return (task, executor) -> {
+			if (executor.isShutdown()) {
+				throw new RejectedExecutionException("S3 업로드 풀 종료됨");
+			}
+			task.run();
+		};
+	}
+
+	private static ThreadFactory daemonThreads(String prefix) {
+		AtomicInteger threadSeq = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + threadSeq.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
 	}
 }
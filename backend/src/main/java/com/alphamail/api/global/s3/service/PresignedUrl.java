@@ -0,0 +1,10 @@
+package com.alphamail.api.global.s3.service;
+
+import java.time.LocalDateTime;
+
+// 만료 시각이 지나면 S3가 거절하는 서명된 URL
+public record PresignedUrl(
+	String url,
+	LocalDateTime expiresAt
+) {
+}
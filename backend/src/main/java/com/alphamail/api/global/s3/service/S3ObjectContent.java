@@ -0,0 +1,24 @@
+package com.alphamail.api.global.s3.service;
+
+import java.io.InputStream;
+import java.time.Instant;
+
+// S3 GET 결과 - 범위 요청이면 contentLength는 그 구간 길이, totalLength는 객체 전체 길이
+public record S3ObjectContent(
+	InputStream inputStream,
+	long contentLength,
+	long totalLength,
+	String eTag,
+	Instant lastModified,
+	String contentType
+) {
+
+	// If-None-Match가 일치해서 S3가 304를 준 경우 (본문 없음)
+	public static S3ObjectContent notModified(String eTag) {
+		return new S3ObjectContent(null, 0, 0, eTag, null, null);
+	}
+
+	public boolean isNotModified() {
+		return inputStream == null;
+	}
+}
@@ -0,0 +1,8 @@
+package com.alphamail.api.global.s3.service;
+
+// HEAD로 확인한 실제 객체 정보 (클라이언트가 보낸 값 대신 사용)
+public record S3ObjectInfo(
+	long size,
+	String contentType
+) {
+}
@@ -2,13 +2,42 @@ package com.alphamail.api.global.s3.service;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.web.multipart.MultipartFile;
 
 public interface S3Service {
 	InputStream downloadFile(String s3Key);
 
+	// 조건부/범위 GET - ifNoneMatch가 현재 ETag와 같으면 본문 없이 notModified, rangeStart가 null이면 전체
+	S3ObjectContent openObject(String s3Key, String ifNoneMatch, Long rangeStart, Long rangeEnd);
+
 	String uploadFile(MultipartFile file);
 
+	// 업로드 풀에서 비동기로 올리고 S3 key로 완료 (요청이 끝나기 전에 join 해야 함 - 임시 파일이 지워짐)
+	CompletableFuture<String> uploadFileAsync(MultipartFile file);
+
 	List<String> uploadFiles(List<MultipartFile> files);
+
+	// 길이를 모르는 스트림을 파트 크기 버퍼 하나로 올림 (작으면 PUT 한 번, 크면 multipart) - 올린 바이트 수 반환
+	long uploadStream(String s3Key, InputStream content, String contentType);
+
+	// 직접 업로드용 키 - 사용자별 prefix가 붙어서 완료 등록 시 소유자를 확인할 수 있음
+	String createUploadKey(Integer userId, String filename);
+
+	boolean isUploadKeyOf(Integer userId, String s3Key);
+
+	// 브라우저가 같은 Content-Type으로 S3에 바로 PUT 하는 URL
+	PresignedUrl presignUpload(String s3Key, String contentType);
+
+	// 다운로드 시 파일명/타입을 응답 헤더로 덮어쓰는 GET URL
+	PresignedUrl presignDownload(String s3Key, String filename, String contentType);
+
+	Optional<S3ObjectInfo> findObject(String s3Key);
+
+	void deleteFile(String s3Key);
+
+	// 여러 객체를 DeleteObjects 요청 몇 번으로 삭제 (요청당 최대 1000개)
+	void deleteFiles(List<String> s3Keys);
 }
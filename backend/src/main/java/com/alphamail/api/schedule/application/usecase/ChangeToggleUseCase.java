@@ -2,6 +2,8 @@ package com.alphamail.api.schedule.application.usecase;
 
 import org.springframework.stereotype.Service;
 
+import com.alphamail.api.chatbot.application.service.ChatbotResponseCache;
+import com.alphamail.api.chatbot.domain.dto.DocumentTypes;
 import com.alphamail.api.schedule.domain.entity.Schedule;
 import com.alphamail.api.schedule.domain.repository.ScheduleRepository;
 import com.alphamail.api.schedule.presentation.dto.ChangeScheduleToggleRequest;
@@ -17,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 public class ChangeToggleUseCase {
 
 	private final ScheduleRepository scheduleRepository;
+	private final ChatbotResponseCache chatbotResponseCache;
 
 	public ToggleScheduleResponse execute(Integer scheduleId, ChangeScheduleToggleRequest request, Integer userId) {
 
@@ -25,6 +28,9 @@ public class ChangeToggleUseCase {
 
 		Schedule updatedSchedule = schedule.updateIsDone(request.isDone());
 
-		return ToggleScheduleResponse.from(scheduleRepository.save(updatedSchedule));
+		Schedule savedSchedule = scheduleRepository.save(updatedSchedule);
+		chatbotResponseCache.invalidate(DocumentTypes.SCHEDULE, userId);
+
+		return ToggleScheduleResponse.from(savedSchedule);
 	}
 }
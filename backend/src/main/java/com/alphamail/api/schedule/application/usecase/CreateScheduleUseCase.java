@@ -3,9 +3,9 @@ package com.alphamail.api.schedule.application.usecase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.chatbot.application.service.VectorOutbox;
 import com.alphamail.api.chatbot.domain.common.VectorizableDocument;
 import com.alphamail.api.chatbot.infrastructure.adapter.ScheduleVectorAdapter;
-import com.alphamail.api.chatbot.infrastructure.vector.VectorUpsertClient;
 import com.alphamail.api.schedule.domain.entity.Schedule;
 import com.alphamail.api.schedule.domain.repository.ScheduleRepository;
 import com.alphamail.api.schedule.presentation.dto.CreateScheduleRequest;
@@ -18,7 +18,7 @@ import lombok.RequiredArgsConstructor;
 public class CreateScheduleUseCase {
 
 	private final ScheduleRepository scheduleRepository;
-	private final VectorUpsertClient vectorUpsertClient;
+	private final VectorOutbox vectorOutbox;
 
 	public Schedule execute(CreateScheduleRequest request, Integer userId) {
 
@@ -27,7 +27,7 @@ public class CreateScheduleUseCase {
 		Schedule saved = scheduleRepository.save(schedule);
 
 		VectorizableDocument doc = new ScheduleVectorAdapter(saved);
-		vectorUpsertClient.upsert(doc);
+		vectorOutbox.enqueue(doc);
 
 		return saved;
 	}
@@ -3,6 +3,8 @@ package com.alphamail.api.schedule.application.usecase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.alphamail.api.chatbot.application.service.ChatbotResponseCache;
+import com.alphamail.api.chatbot.domain.dto.DocumentTypes;
 import com.alphamail.api.schedule.domain.entity.Schedule;
 import com.alphamail.api.schedule.domain.repository.ScheduleRepository;
 import com.alphamail.common.exception.ErrorMessage;
@@ -16,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class DeleteScheduleUseCase {
 	private final ScheduleRepository scheduleRepository;
+	private final ChatbotResponseCache chatbotResponseCache;
 
 	public void execute(Integer scheduleId, Integer userId) {
 
@@ -23,6 +26,7 @@ public class DeleteScheduleUseCase {
 			.orElseThrow(() -> new NotFoundException(ErrorMessage.RESOURCE_NOT_FOUND));
 
 		scheduleRepository.deleteById(scheduleId);
+		chatbotResponseCache.invalidate(DocumentTypes.SCHEDULE, userId);
 
 	}
 }
@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 
 import org.springframework.stereotype.Service;
 
+import com.alphamail.api.chatbot.application.service.ChatbotResponseCache;
+import com.alphamail.api.chatbot.domain.dto.DocumentTypes;
 import com.alphamail.api.schedule.domain.entity.Schedule;
 import com.alphamail.api.schedule.domain.repository.ScheduleRepository;
 import com.alphamail.api.schedule.presentation.dto.UpdateScheduleRequest;
@@ -18,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UpdateScheduleUseCase {
 	private final ScheduleRepository scheduleRepository;
+	private final ChatbotResponseCache chatbotResponseCache;
 
 	public UpdateScheduleResponse execute(Integer scheduleId, UpdateScheduleRequest request, Integer userId) {
 		Schedule schedule = scheduleRepository.findByIdAndUserId(scheduleId, userId)
@@ -30,8 +33,10 @@ public class UpdateScheduleUseCase {
 			request.startTime(),
 			request.endTime());
 
+		Schedule savedSchedule = scheduleRepository.save(updatedSchedule);
+		chatbotResponseCache.invalidate(DocumentTypes.SCHEDULE, userId);
 
-		return UpdateScheduleResponse.from(scheduleRepository.save(updatedSchedule));
+		return UpdateScheduleResponse.from(savedSchedule);
 
 	}
 }
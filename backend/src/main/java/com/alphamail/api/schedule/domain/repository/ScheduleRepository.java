@@ -2,6 +2,7 @@ package com.alphamail.api.schedule.domain.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -18,6 +19,8 @@ public interface ScheduleRepository {
 
 	Optional<Schedule> findByIdAndUserId(Integer scheduleId, Integer userId);
 
+	List<Schedule> findAllAfterId(Integer lastScheduleId, int limit);
+
 	Page<Schedule> findByPeriodAndKeyword(LocalDateTime starTime, LocalDateTime endTime,
 		String keyword, Integer userId, Pageable pageable);
 
@@ -3,10 +3,13 @@ package com.alphamail.api.schedule.infrastructure.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +20,9 @@ public interface ScheduleJpaRepository extends JpaRepository<ScheduleEntity, Int
 
 	Optional<ScheduleEntity> findByIdAndUserUserId(Integer scheduleId, Integer userId);
 
+	@EntityGraph(attributePaths = {"user"})
+	List<ScheduleEntity> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
+
 	@Query("SELECT s FROM ScheduleEntity s WHERE s.user.userId = :userId "
 		+ "AND NOT (s.endTime < :startTime OR s.startTime > :endTime) "
 		+ "AND s.name LIKE %:keyword%")
@@ -2,8 +2,10 @@ package com.alphamail.api.schedule.infrastructure.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
@@ -41,6 +43,14 @@ public class ScheduleRepositoryImpl implements ScheduleRepository {
 			.map(scheduleMapper::toDomain);
 	}
 
+	@Override
+	public List<Schedule> findAllAfterId(Integer lastScheduleId, int limit) {
+		return jpaRepository.findByIdGreaterThanOrderByIdAsc(lastScheduleId, Limit.of(limit))
+			.stream()
+			.map(scheduleMapper::toDomain)
+			.toList();
+	}
+
 	@Override
 	public Page<Schedule> findByPeriodAndKeyword(LocalDateTime startTime, LocalDateTime endTime,
 		String keyword, Integer userId, Pageable pageable) {
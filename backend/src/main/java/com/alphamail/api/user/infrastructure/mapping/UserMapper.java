@@ -17,7 +17,8 @@ public interface UserMapper {
 	User toDomain(UserEntity userEntity);
 
 	@Mapping(source = "id", target = "userId", qualifiedByName = "userIdToInteger")
-	@Mapping(source = "groupId", target = "group", qualifiedByName = "toGroupEntity")
+	// 그룹 id는 가입/수정 요청에서 오는 값이라 존재 확인 후 매핑
+	@Mapping(source = "groupId", target = "group", qualifiedByName = "toVerifiedGroupEntity")
 	UserEntity toEntity(User user);
 
 	@Named("integerToUserId")
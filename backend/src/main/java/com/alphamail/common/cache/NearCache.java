@@ -0,0 +1,62 @@
+package com.alphamail.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 프로세스 로컬 LRU 캐시 (항목별 만료 시간)
+ * Redis 같은 원격 캐시 앞에 두고 같은 키의 반복 조회를 네트워크 없이 처리합니다.
+ */
+public class NearCache<V> {
+
+	private final int maxEntries;
+	private final long ttlNanos;
+	private final LinkedHashMap<String, Entry<V>> entries;
+
+	public NearCache(int maxEntries, Duration ttl) {
+		this.maxEntries = maxEntries;
+		this.ttlNanos = ttl.toNanos();
+		// accessOrder = true -> 가장 오래 안 쓴 항목이 먼저 밀려남
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+				return size() > NearCache.this.maxEntries;
+			}
+		};
+	}
+
+	public synchronized V get(String key) {
+		Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt - System.nanoTime() <= 0) {
+			entries.remove(key);
+			return null;
+		}
+		return entry.value;
+	}
+
+	public synchronized void put(String key, V value) {
+		if (maxEntries <= 0) {
+			return;
+		}
+		entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+	}
+
+	public synchronized void remove(String key) {
+		entries.remove(key);
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private record Entry<V>(V value, long expiresAt) {
+	}
+}
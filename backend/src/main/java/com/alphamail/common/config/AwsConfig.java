@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Configuration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
@@ -41,12 +42,22 @@ public class AwsConfig {
 			.build();
 	}
 
+	// 비어 있으면 AWS S3, 값이 있으면 MinIO/LocalStack 같은 S3 호환 서버 (로컬 업로드 테스트용)
+	@Value("${aws.s3.endpoint:}")
+	private String s3Endpoint;
+
 	@Bean
 	public AmazonS3 s3Client() {
 
-		return AmazonS3ClientBuilder.standard()
-			.withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey)))
-			.withRegion(Regions.fromName(region))
+		AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+			.withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey)));
+
+		if (s3Endpoint.isBlank()) {
+			return builder.withRegion(Regions.fromName(region)).build();
+		}
+		// S3 호환 서버는 버킷 서브도메인을 지원하지 않는 경우가 많아서 path-style
+		return builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(s3Endpoint, region))
+			.withPathStyleAccessEnabled(true)
 			.build();
 	}
 
@@ -4,11 +4,25 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import com.alphamail.common.http.OutboundHttpClientFactory;
+
+import lombok.RequiredArgsConstructor;
+
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
 
-	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	private final OutboundHttpClientFactory outboundHttpClientFactory;
+
+	// chatbot:5001 벡터 검색/업서트
+	@Bean("chatbotRestTemplate")
+	public RestTemplate chatbotRestTemplate() {
+		return outboundHttpClientFactory.restTemplate("chatbot");
+	}
+
+	// Claude API (외부망, 응답이 길어서 타임아웃을 따로 둠)
+	@Bean("claudeRestTemplate")
+	public RestTemplate claudeRestTemplate() {
+		return outboundHttpClientFactory.restTemplate("claude");
 	}
 }
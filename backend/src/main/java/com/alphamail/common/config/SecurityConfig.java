@@ -35,9 +35,15 @@ public class SecurityConfig {
 			.sessionManagement(session -> session
 				.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.authorizeHttpRequests(auth -> auth
-				.requestMatchers("/api/login", "/api/users", "/api/mails/ses",
+				.requestMatchers("/api/login", "/api/users", "/api/mails/ses", "/api/mails/ses/raw",
 					"/api/assistants/schedules", "/api/assistants/purchase-orders",
 					"/api/assistants/quotes", "/api/ses/webhooks","/test/**").permitAll()
+				// 서킷 브레이커 강제 리셋은 모든 사용자에게 영향 -> 관리자만
+				.requestMatchers("/api/admin/dependencies/**").hasRole("ADMIN")
+				// 전체 테넌트 재색인
+				.requestMatchers("/api/admin/vectors/**").hasRole("ADMIN")
+				// 공용 답변 캐시 통계/비우기
+				.requestMatchers("/api/admin/chatbot/**").hasRole("ADMIN")
 				.anyRequest().authenticated()
 			)
 
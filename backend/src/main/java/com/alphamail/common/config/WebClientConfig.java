@@ -5,28 +5,32 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.alphamail.common.http.OutboundHttpClientFactory;
+
+import lombok.RequiredArgsConstructor;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
-    @Bean("ocrWebClient")
-    public WebClient ocrWebClient() {
-        return WebClient.builder()
-                .baseUrl("http://ocr:3000")
-                .defaultHeader("Content-Type", MediaType.MULTIPART_FORM_DATA_VALUE)
-                .build();
-    }
-
-    @Bean("mcpWebClient")
-    public WebClient mcpWebClient() {
-        return WebClient.builder()
-                .baseUrl("http://mcp-client:8001")
-                .build();
-    }
-
-    @Bean("ragWebClient")
-    public WebClient ragWebClient() {
-        return WebClient.builder()
-                .baseUrl("http://rag:5000")
-                .build();
-    }
+	private final OutboundHttpClientFactory outboundHttpClientFactory;
+
+	@Bean("ocrWebClient")
+	public WebClient ocrWebClient() {
+		return outboundHttpClientFactory.webClientBuilder("ocr")
+			.defaultHeader("Content-Type", MediaType.MULTIPART_FORM_DATA_VALUE)
+			.build();
+	}
+
+	@Bean("mcpWebClient")
+	public WebClient mcpWebClient() {
+		return outboundHttpClientFactory.webClientBuilder("mcp")
+			.build();
+	}
+
+	@Bean("ragWebClient")
+	public WebClient ragWebClient() {
+		return outboundHttpClientFactory.webClientBuilder("rag")
+			.build();
+	}
 }
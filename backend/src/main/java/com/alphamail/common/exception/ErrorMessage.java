@@ -16,6 +16,7 @@ public enum ErrorMessage {
 	DUPLICATE_ENTRY("이미 존재하는 데이터입니다"),
 	FILE_NOT_INCLUDED("파일이 포함되지 않았습니다"),
 	FILE_UPLOAD_FAIL("파일 업로드 중 오류가 발생했습니다"),
+	FILE_TOO_LARGE("첨부파일 용량이 허용 한도를 초과했습니다"),
 	NO_MAIL_SELECTED("삭제할 메일을 선택해주세요"),
 	SCHEDULE_TIME_INVALID("종료 시간은 시작 시간 이후여야 합니다"),
 	SCHEDULE_DATE_INVALID("시작일은 종료일보다 빠르거나 같아야 합니다"),
@@ -54,6 +55,11 @@ public enum ErrorMessage {
 	DATABASE_ERROR("데이터베이스 오류가 발생했습니다"),
 	UNEXPECTED_ERROR("예상치 못한 오류가 발생했습니다"),
 
+	// 503 Service Unavailable (ServiceUnavailableException)
+	EXTERNAL_SERVICE_UNAVAILABLE("외부 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요"),
+	EMAIL_SEND_THROTTLED("메일 발송 한도를 초과했습니다. 잠시 후 다시 시도해주세요"),
+	EMAIL_SEND_QUOTA_EXCEEDED("일일 메일 발송 한도를 초과했습니다. 한도가 회복된 뒤 발송됩니다"),
+
 	// ChatBot 관련
 	NO_CHATBOT_RESULT("일정 정보를 이해하지 못했어요. 다시 말씀해주시겠어요?"),
 	NO_SCHEDULE_NAME("일정명이 빠졌어요. 일정명이 무엇인가요?"),
@@ -0,0 +1,9 @@
+package com.alphamail.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends BaseException {
+	public ServiceUnavailableException(ErrorMessage errorMessage) {
+		super(HttpStatus.SERVICE_UNAVAILABLE, errorMessage);
+	}
+}
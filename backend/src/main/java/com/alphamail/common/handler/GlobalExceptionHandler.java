@@ -19,6 +19,7 @@ import com.alphamail.common.exception.ErrorMessage;
 import com.alphamail.common.exception.ForbiddenException;
 import com.alphamail.common.exception.InternalServerException;
 import com.alphamail.common.exception.NotFoundException;
+import com.alphamail.common.exception.ServiceUnavailableException;
 import com.alphamail.common.exception.UnauthorizedException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -126,6 +127,16 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 			));
 	}
 
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<FailResponse> handleServiceUnavailableException(ServiceUnavailableException ex) {
+		log.warn("외부 서비스 차단: {} ({})", ex.getMessage(), ex.getErrorMessage().name());
+		return ResponseEntity
+			.status(ex.getStatus())
+			.body(FailResponse.fail(
+				ex.getMessage()
+			));
+	}
+
 	@ExceptionHandler(ForbiddenException.class)
 	public ResponseEntity<FailResponse> handleForbiddenException(ForbiddenException ex) {
 		log.info("접근 권한 없음: {} ({})", ex.getMessage(), ex.getErrorMessage().name());
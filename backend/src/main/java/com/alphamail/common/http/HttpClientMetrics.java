@@ -0,0 +1,102 @@
+package com.alphamail.common.http;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 호출 대상별 지표 (요청 수, 실패 수, 처리 중 요청, 응답 지연, 커넥션 풀 대기 시간)
+ * 누적값이며, 주기적으로 로그를 남깁니다.
+ */
+@Slf4j
+@Component
+public class HttpClientMetrics {
+
+	private final Map<String, TargetStats> stats = new ConcurrentHashMap<>();
+
+	// 요청 시작 -> 반환값을 finish에 넘긴다
+	public long start(String target) {
+		stats(target).inFlight.incrementAndGet();
+		return System.nanoTime();
+	}
+
+	public void finish(String target, long startNanos, boolean failed) {
+		long elapsed = System.nanoTime() - startNanos;
+		TargetStats targetStats = stats(target);
+		targetStats.inFlight.decrementAndGet();
+		targetStats.requests.increment();
+		targetStats.latencyNanos.add(elapsed);
+		targetStats.maxLatencyNanos.accumulate(elapsed);
+		if (failed) {
+			targetStats.failures.increment();
+		}
+	}
+
+	// 풀에서 커넥션을 받기까지 걸린 시간 (새 커넥션이면 connect 시간 포함)
+	public void recordAcquire(String target, long nanos) {
+		TargetStats targetStats = stats(target);
+		targetStats.acquires.increment();
+		targetStats.acquireNanos.add(nanos);
+		targetStats.maxAcquireNanos.accumulate(nanos);
+	}
+
+	public List<HttpTargetStats> snapshot() {
+		return stats.entrySet().stream()
+			.map(entry -> entry.getValue().toSnapshot(entry.getKey()))
+			.sorted((a, b) -> a.target().compareTo(b.target()))
+			.toList();
+	}
+
+	@Scheduled(fixedDelayString = "${http-client.metrics-log-interval-ms:60000}")
+	public void logStats() {
+		for (HttpTargetStats snapshot : snapshot()) {
+			log.info("HTTP client [{}] requests={}, failures={}, inFlight={}, avgLatency={}ms, maxLatency={}ms, "
+					+ "avgAcquire={}ms, maxAcquire={}ms", snapshot.target(), snapshot.requests(), snapshot.failures(),
+				snapshot.inFlight(), snapshot.avgLatencyMs(), snapshot.maxLatencyMs(), snapshot.avgAcquireMs(),
+				snapshot.maxAcquireMs());
+		}
+	}
+
+	private TargetStats stats(String target) {
+		return stats.computeIfAbsent(target, key -> new TargetStats());
+	}
+
+	private static class TargetStats {
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final LongAdder requests = new LongAdder();
+		private final LongAdder failures = new LongAdder();
+		private final LongAdder latencyNanos = new LongAdder();
+		private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+		private final LongAdder acquires = new LongAdder();
+		private final LongAdder acquireNanos = new LongAdder();
+		private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+
+		private HttpTargetStats toSnapshot(String target) {
+			long requestCount = requests.sum();
+			long acquireCount = acquires.sum();
+			return new HttpTargetStats(
+				target,
+				requestCount,
+				failures.sum(),
+				inFlight.get(),
+				requestCount == 0 ? 0 : toMillis(latencyNanos.sum() / requestCount),
+				toMillis(maxLatencyNanos.get()),
+				acquireCount == 0 ? 0 : toMillis(acquireNanos.sum() / acquireCount),
+				toMillis(maxAcquireNanos.get())
+			);
+		}
+
+		private static long toMillis(long nanos) {
+			return TimeUnit.NANOSECONDS.toMillis(nanos);
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.alphamail.common.http;
+
+import java.time.Duration;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * 외부 호출 대상(ocr, rag, chatbot ...)별 커넥션 풀/타임아웃 설정
+ * http-client.targets.{name}.* 값이 없으면 http-client.defaults.* 값을 사용합니다.
+ */
+public record HttpTargetSettings(
+	String name,
+	String baseUrl,
+	int maxConnections,
+	Duration connectTimeout,
+	Duration responseTimeout,
+	Duration pendingAcquireTimeout,
+	Duration maxIdleTime,
+	Duration maxLifeTime,
+	boolean http2
+) {
+
+	private static final String TARGET_PREFIX = "http-client.targets.";
+	private static final String DEFAULT_PREFIX = "http-client.defaults.";
+
+	public static HttpTargetSettings of(Environment environment, String name) {
+		return new HttpTargetSettings(
+			name,
+			environment.getProperty(TARGET_PREFIX + name + ".base-url"),
+			getInt(environment, name, "max-connections", 50),
+			Duration.ofMillis(getInt(environment, name, "connect-timeout-ms", 2000)),
+			Duration.ofMillis(getInt(environment, name, "response-timeout-ms", 30000)),
+			Duration.ofMillis(getInt(environment, name, "pending-acquire-timeout-ms", 5000)),
+			Duration.ofMillis(getInt(environment, name, "max-idle-ms", 30000)),
+			Duration.ofMillis(getInt(environment, name, "max-life-ms", 300000)),
+			getBoolean(environment, name, "http2")
+		);
+	}
+
+	private static int getInt(Environment environment, String name, String key, int defaultValue) {
+		Integer defaults = environment.getProperty(DEFAULT_PREFIX + key, Integer.class, defaultValue);
+		return environment.getProperty(TARGET_PREFIX + name + "." + key, Integer.class, defaults);
+	}
+
+	private static boolean getBoolean(Environment environment, String name, String key) {
+		Boolean defaults = environment.getProperty(DEFAULT_PREFIX + key, Boolean.class, false);
+		return environment.getProperty(TARGET_PREFIX + name + "." + key, Boolean.class, defaults);
+	}
+}
@@ -0,0 +1,13 @@
+package com.alphamail.common.http;
+
+public record HttpTargetStats(
+	String target,
+	long requests,
+	long failures,
+	int inFlight,
+	long avgLatencyMs,
+	long maxLatencyMs,
+	long avgAcquireMs,
+	long maxAcquireMs
+) {
+}
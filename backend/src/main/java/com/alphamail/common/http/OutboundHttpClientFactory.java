@@ -0,0 +1,184 @@
+package com.alphamail.common.http;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import com.alphamail.common.resilience.DependencyGuard;
+import com.alphamail.common.resilience.ResilienceRegistry;
+
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 외부 호출(AI 사이드카, Claude) 공용 HTTP 클라이언트 팩토리
+ * 대상마다 별도 커넥션 풀을 두고 connect/응답/풀 대기 타임아웃, keep-alive, (선택) HTTP/2를 적용합니다.
+ * RestTemplate과 WebClient 모두 같은 Reactor Netty 클라이언트를 사용하고 HttpClientMetrics에 지표를 남깁니다.
+ * 모든 호출은 대상별 DependencyGuard(서킷 브레이커 + 벌크헤드)를 거칩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpClientFactory implements DisposableBean {
+
+	private final Environment environment;
+	private final HttpClientMetrics httpClientMetrics;
+	private final ResilienceRegistry resilienceRegistry;
+	private final List<ConnectionProvider> providers = new CopyOnWriteArrayList<>();
+
+	public HttpTargetSettings settings(String target) {
+		return HttpTargetSettings.of(environment, target);
+	}
+
+	public WebClient.Builder webClientBuilder(String target) {
+		HttpTargetSettings settings = settings(target);
+		WebClient.Builder builder = WebClient.builder()
+			.clientConnector(new ReactorClientHttpConnector(httpClient(settings)))
+			.filter(metricsFilter(target))
+			.filter(guardFilter(resilienceRegistry.guard(target)));
+		if (settings.baseUrl() != null) {
+			builder.baseUrl(settings.baseUrl());
+		}
+		return builder;
+	}
+
+	public RestTemplate restTemplate(String target) {
+		HttpTargetSettings settings = settings(target);
+		RestTemplate restTemplate = new RestTemplate(new ReactorClientHttpRequestFactory(httpClient(settings)));
+		restTemplate.getInterceptors().add(metricsInterceptor(target));
+		restTemplate.getInterceptors().add(guardInterceptor(resilienceRegistry.guard(target)));
+		if (settings.baseUrl() != null) {
+			// 상대 경로만 base-url 기준으로 붙고, 절대 URL은 그대로 사용됨
+			restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(settings.baseUrl()));
+		}
+		return restTemplate;
+	}
+
+	private HttpClient httpClient(HttpTargetSettings settings) {
+		ConnectionProvider provider = ConnectionProvider.builder("http-" + settings.name())
+			.maxConnections(settings.maxConnections())
+			.pendingAcquireTimeout(settings.pendingAcquireTimeout())
+			.pendingAcquireMaxCount(settings.maxConnections() * 4)
+			.maxIdleTime(settings.maxIdleTime())
+			.maxLifeTime(settings.maxLifeTime())
+			.evictInBackground(settings.maxIdleTime())
+			.build();
+		providers.add(provider);
+
+		String target = settings.name();
+		HttpClient httpClient = HttpClient.create(provider)
+			.keepAlive(true)
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int)settings.connectTimeout().toMillis())
+			.option(ChannelOption.SO_KEEPALIVE, true)
+			.responseTimeout(settings.responseTimeout())
+			.mapConnect(connection -> Mono.defer(() -> {
+				long start = System.nanoTime();
+				return connection.doOnSuccess(conn ->
+					httpClientMetrics.recordAcquire(target, System.nanoTime() - start));
+			}));
+
+		if (settings.http2()) {
+			// 평문(http://)은 h2c 업그레이드, TLS는 ALPN으로 협상 -> 서버가 지원하지 않으면 HTTP/1.1
+			boolean plainText = settings.baseUrl() != null && settings.baseUrl().startsWith("http://");
+			httpClient = httpClient.protocol(plainText ? HttpProtocol.H2C : HttpProtocol.H2, HttpProtocol.HTTP11);
+		}
+		return httpClient;
+	}
+
+	private ExchangeFilterFunction metricsFilter(String target) {
+		return (request, next) -> Mono.defer(() -> {
+			long start = httpClientMetrics.start(target);
+			AtomicBoolean finished = new AtomicBoolean();
+			return next.exchange(request)
+				.doOnSuccess(response -> {
+					if (finished.compareAndSet(false, true)) {
+						httpClientMetrics.finish(target, start, response == null || response.statusCode().isError());
+					}
+				})
+				.doOnError(e -> {
+					if (finished.compareAndSet(false, true)) {
+						httpClientMetrics.finish(target, start, true);
+					}
+				})
+				.doOnCancel(() -> {
+					if (finished.compareAndSet(false, true)) {
+						httpClientMetrics.finish(target, start, true);
+					}
+				});
+		});
+	}
+
+	// 이벤트 루프에서 실행되므로 벌크헤드는 대기 없이 판단
+	private ExchangeFilterFunction guardFilter(DependencyGuard guard) {
+		return (request, next) -> Mono.defer(() -> {
+			long start = guard.acquire(false);
+			AtomicBoolean finished = new AtomicBoolean();
+			return next.exchange(request)
+				.doOnSuccess(response -> {
+					if (finished.compareAndSet(false, true)) {
+						guard.complete(start, response == null || response.statusCode().is5xxServerError());
+					}
+				})
+				.doOnError(e -> {
+					if (finished.compareAndSet(false, true)) {
+						guard.complete(start, true);
+					}
+				})
+				.doOnCancel(() -> {
+					if (finished.compareAndSet(false, true)) {
+						guard.cancel();
+					}
+				});
+		});
+	}
+
+	private ClientHttpRequestInterceptor guardInterceptor(DependencyGuard guard) {
+		return (request, body, execution) -> {
+			long start = guard.acquire(true);
+			boolean failed = true;
+			try {
+				ClientHttpResponse response = execution.execute(request, body);
+				failed = response.getStatusCode().is5xxServerError();
+				return response;
+			} finally {
+				guard.complete(start, failed);
+			}
+		};
+	}
+
+	private ClientHttpRequestInterceptor metricsInterceptor(String target) {
+		return (request, body, execution) -> {
+			long start = httpClientMetrics.start(target);
+			boolean failed = true;
+			try {
+				ClientHttpResponse response = execution.execute(request, body);
+				failed = response.getStatusCode().isError();
+				return response;
+			} finally {
+				httpClientMetrics.finish(target, start, failed);
+			}
+		};
+	}
+
+	@Override
+	public void destroy() {
+		providers.forEach(ConnectionProvider::dispose);
+	}
+}
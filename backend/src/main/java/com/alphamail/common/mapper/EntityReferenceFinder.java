@@ -18,6 +18,11 @@ import com.alphamail.common.exception.NotFoundException;
 
 import lombok.AllArgsConstructor;
 
+/**
+ * 매퍼에서 id를 연관 엔티티로 바꿀 때 사용
+ * - toXxxEntity: getReferenceById 프록시 -> SELECT 없이 FK만 채움 (없는 id면 flush 시 FK 제약 위반)
+ * - toVerifiedGroupEntity: findById로 존재 확인 후 반환 (가입/수정 요청의 groupId처럼 404가 필요한 곳)
+ */
 @Component
 @AllArgsConstructor
 public class EntityReferenceFinder {
@@ -29,29 +34,30 @@ public class EntityReferenceFinder {
 
 	@Named("toFolderEntity")
 	public EmailFolderEntity toFolderEntity(Integer folderId) {
-		if (folderId == null) {
-			throw new IllegalArgumentException("Folder ID cannot be null");
-		}
-		return folderRepository.findById(folderId)
-			.orElseThrow(() -> new NotFoundException(ErrorMessage.RESOURCE_NOT_FOUND));
+		return folderRepository.getReferenceById(requireId(folderId, "Folder"));
 	}
 
 	@Named("toUserEntity")
 	public UserEntity toUserEntity(Integer userId) {
-		if (userId == null) {
-			throw new IllegalArgumentException("User ID cannot be null");
-		}
-		return userRepository.findById(userId)
-			.orElseThrow(() -> new NotFoundException(ErrorMessage.MEMBER_NOT_FOUND));
+		return userRepository.getReferenceById(requireId(userId, "User"));
 	}
 
 	@Named("toGroupEntity")
 	public GroupEntity toGroupEntity(Integer groupId) {
-		if (groupId == null) {
-			throw new IllegalArgumentException("Group ID cannot be null");
-		}
-		return groupRepository.findById(groupId)
+		return groupRepository.getReferenceById(requireId(groupId, "Group"));
+	}
+
+	@Named("toVerifiedGroupEntity")
+	public GroupEntity toVerifiedGroupEntity(Integer groupId) {
+		return groupRepository.findById(requireId(groupId, "Group"))
 			.orElseThrow(() -> new NotFoundException(ErrorMessage.RESOURCE_NOT_FOUND));
 	}
 
+	private Integer requireId(Integer id, String name) {
+		if (id == null) {
+			throw new IllegalArgumentException(name + " ID cannot be null");
+		}
+		return id;
+	}
+
 }
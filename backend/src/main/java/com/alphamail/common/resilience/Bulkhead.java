@@ -0,0 +1,61 @@
+package com.alphamail.common.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 호출 수 제한
+ * 한 의존성이 느려져도 그쪽 호출이 Tomcat/Hikari 스레드를 전부 잡아두지 못하게 합니다.
+ */
+public class Bulkhead {
+
+	private final int maxConcurrentCalls;
+	private final long maxWaitMillis;
+	private final Semaphore semaphore;
+	private final LongAdder rejected = new LongAdder();
+
+	public Bulkhead(ResilienceSettings settings) {
+		this.maxConcurrentCalls = settings.maxConcurrentCalls();
+		this.maxWaitMillis = settings.maxWait().toMillis();
+		this.semaphore = new Semaphore(maxConcurrentCalls);
+	}
+
+	// 동기 호출용 - maxWait까지 대기
+	public boolean tryAcquire() {
+		try {
+			return record(semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return record(false);
+		}
+	}
+
+	// 이벤트 루프(WebClient)용 - 대기 없이 즉시 판단
+	public boolean tryAcquireNow() {
+		return record(semaphore.tryAcquire());
+	}
+
+	public void release() {
+		semaphore.release();
+	}
+
+	public BulkheadStatus status() {
+		return new BulkheadStatus(maxConcurrentCalls, maxConcurrentCalls - semaphore.availablePermits(),
+			rejected.sum());
+	}
+
+	private boolean record(boolean acquired) {
+		if (!acquired) {
+			rejected.increment();
+		}
+		return acquired;
+	}
+
+	public record BulkheadStatus(
+		int maxConcurrentCalls,
+		int activeCalls,
+		long rejectedCalls
+	) {
+	}
+}
@@ -0,0 +1,146 @@
+package com.alphamail.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 건수 기반 슬라이딩 윈도우 서킷 브레이커
+ * 최근 windowSize건 중 실패(또는 느린 호출) 비율이 임계치를 넘으면 OPEN -> openDuration 동안 호출 차단
+ * -> HALF_OPEN에서 일부 호출만 흘려보내 전부 성공하면 CLOSED로 복구합니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final String name;
+	private final ResilienceSettings settings;
+	private final boolean[] window;
+	private final LongAdder notPermitted = new LongAdder();
+
+	private State state = State.CLOSED;
+	private int windowIndex;
+	private int recordedCalls;
+	private int badCalls;
+	private long openUntilMillis;
+	private int halfOpenPermits;
+	private int halfOpenSuccesses;
+
+	public CircuitBreaker(String name, ResilienceSettings settings) {
+		this.name = name;
+		this.settings = settings;
+		this.window = new boolean[settings.windowSize()];
+	}
+
+	public synchronized boolean tryAcquirePermission() {
+		if (state == State.OPEN && System.currentTimeMillis() >= openUntilMillis) {
+			transitionTo(State.HALF_OPEN);
+		}
+
+		boolean permitted = switch (state) {
+			case CLOSED -> true;
+			case OPEN -> false;
+			case HALF_OPEN -> takeHalfOpenPermit();
+		};
+		if (!permitted) {
+			notPermitted.increment();
+		}
+		return permitted;
+	}
+
+	// 결과 없이 끝난 호출(취소 등)의 HALF_OPEN 허용 건수 반납
+	public synchronized void releasePermission() {
+		if (state == State.HALF_OPEN) {
+			halfOpenPermits++;
+		}
+	}
+
+	public synchronized void onResult(boolean failed, Duration elapsed) {
+		boolean bad = failed || elapsed.compareTo(settings.slowCallThreshold()) > 0;
+
+		if (state == State.HALF_OPEN) {
+			if (bad) {
+				transitionTo(State.OPEN);
+			} else if (++halfOpenSuccesses >= settings.halfOpenCalls()) {
+				transitionTo(State.CLOSED);
+			}
+			return;
+		}
+		if (state != State.CLOSED) {
+			return;
+		}
+
+		// 링 버퍼에서 밀려나는 결과를 빼고 새 결과를 더함
+		if (recordedCalls == window.length) {
+			if (window[windowIndex]) {
+				badCalls--;
+			}
+		} else {
+			recordedCalls++;
+		}
+		window[windowIndex] = bad;
+		if (bad) {
+			badCalls++;
+		}
+		windowIndex = (windowIndex + 1) % window.length;
+
+		if (recordedCalls >= settings.minimumCalls() && failureRate() >= settings.failureRateThreshold()) {
+			transitionTo(State.OPEN);
+		}
+	}
+
+	public synchronized void reset() {
+		transitionTo(State.CLOSED);
+	}
+
+	public synchronized CircuitBreakerStatus status() {
+		return new CircuitBreakerStatus(state, recordedCalls, badCalls, failureRate(), notPermitted.sum());
+	}
+
+	private boolean takeHalfOpenPermit() {
+		if (halfOpenPermits <= 0) {
+			return false;
+		}
+		halfOpenPermits--;
+		return true;
+	}
+
+	private float failureRate() {
+		return recordedCalls == 0 ? 0 : badCalls * 100f / recordedCalls;
+	}
+
+	private void transitionTo(State next) {
+		State previous = state;
+		state = next;
+		switch (next) {
+			case OPEN -> openUntilMillis = System.currentTimeMillis() + settings.openDuration().toMillis();
+			case HALF_OPEN -> {
+				halfOpenPermits = settings.halfOpenCalls();
+				halfOpenSuccesses = 0;
+			}
+			case CLOSED -> {
+				recordedCalls = 0;
+				badCalls = 0;
+				windowIndex = 0;
+			}
+			default -> {
+			}
+		}
+		if (previous != next) {
+			log.warn("서킷 브레이커 [{}] {} -> {} (failureRate={}%)", name, previous, next, failureRate());
+		}
+	}
+
+	public record CircuitBreakerStatus(
+		State state,
+		int recordedCalls,
+		int badCalls,
+		float failureRate,
+		long notPermittedCalls
+	) {
+	}
+}
@@ -0,0 +1,61 @@
+package com.alphamail.common.resilience;
+
+import java.time.Duration;
+
+import com.alphamail.common.exception.ErrorMessage;
+import com.alphamail.common.exception.ServiceUnavailableException;
+
+import lombok.Getter;
+
+/**
+ * 한 의존성에 대한 서킷 브레이커 + 벌크헤드
+ * acquire로 호출 허가를 받고, 끝나면 반드시 complete 또는 cancel을 호출합니다.
+ */
+public class DependencyGuard {
+
+	@Getter
+	private final String name;
+	private final CircuitBreaker circuitBreaker;
+	private final Bulkhead bulkhead;
+
+	public DependencyGuard(String name, ResilienceSettings settings) {
+		this.name = name;
+		this.circuitBreaker = new CircuitBreaker(name, settings);
+		this.bulkhead = new Bulkhead(settings);
+	}
+
+	// 차단/포화 상태면 바로 ServiceUnavailableException -> 느린 의존성을 기다리며 스레드를 잡지 않음
+	public long acquire(boolean blocking) {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			throw new ServiceUnavailableException(ErrorMessage.EXTERNAL_SERVICE_UNAVAILABLE);
+		}
+		boolean acquired = blocking ? bulkhead.tryAcquire() : bulkhead.tryAcquireNow();
+		if (!acquired) {
+			circuitBreaker.releasePermission();
+			throw new ServiceUnavailableException(ErrorMessage.EXTERNAL_SERVICE_UNAVAILABLE);
+		}
+		return System.nanoTime();
+	}
+
+	public void complete(long startNanos, boolean failed) {
+		bulkhead.release();
+		circuitBreaker.onResult(failed, Duration.ofNanos(System.nanoTime() - startNanos));
+	}
+
+	public void cancel() {
+		bulkhead.release();
+		circuitBreaker.releasePermission();
+	}
+
+	public void reset() {
+		circuitBreaker.reset();
+	}
+
+	public CircuitBreaker.CircuitBreakerStatus circuitBreakerStatus() {
+		return circuitBreaker.status();
+	}
+
+	public Bulkhead.BulkheadStatus bulkheadStatus() {
+		return bulkhead.status();
+	}
+}
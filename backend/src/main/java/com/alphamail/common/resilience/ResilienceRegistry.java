@@ -0,0 +1,35 @@
+package com.alphamail.common.resilience;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// 의존성 이름별 DependencyGuard 보관 (HTTP 클라이언트 대상 이름과 같은 이름을 씀)
+@Component
+@RequiredArgsConstructor
+public class ResilienceRegistry {
+
+	private final Environment environment;
+	private final Map<String, DependencyGuard> guards = new ConcurrentHashMap<>();
+
+	public DependencyGuard guard(String name) {
+		return guards.computeIfAbsent(name, key -> new DependencyGuard(key, ResilienceSettings.of(environment, key)));
+	}
+
+	public Optional<DependencyGuard> find(String name) {
+		return Optional.ofNullable(guards.get(name));
+	}
+
+	public List<DependencyGuard> all() {
+		return guards.values().stream()
+			.sorted(Comparator.comparing(DependencyGuard::getName))
+			.toList();
+	}
+}
@@ -0,0 +1,42 @@
+package com.alphamail.common.resilience;
+
+import java.time.Duration;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * 의존성(ocr, rag, chatbot ...)별 서킷 브레이커/벌크헤드 설정
+ * resilience.targets.{name}.* 값이 없으면 resilience.defaults.* 값을 사용합니다.
+ */
+public record ResilienceSettings(
+	int windowSize,
+	int minimumCalls,
+	float failureRateThreshold,
+	Duration slowCallThreshold,
+	Duration openDuration,
+	int halfOpenCalls,
+	int maxConcurrentCalls,
+	Duration maxWait
+) {
+
+	private static final String TARGET_PREFIX = "resilience.targets.";
+	private static final String DEFAULT_PREFIX = "resilience.defaults.";
+
+	public static ResilienceSettings of(Environment environment, String name) {
+		return new ResilienceSettings(
+			getInt(environment, name, "window-size", 50),
+			getInt(environment, name, "minimum-calls", 20),
+			getInt(environment, name, "failure-rate-threshold", 50),
+			Duration.ofMillis(getInt(environment, name, "slow-call-threshold-ms", 10000)),
+			Duration.ofMillis(getInt(environment, name, "open-duration-ms", 30000)),
+			getInt(environment, name, "half-open-calls", 5),
+			getInt(environment, name, "max-concurrent-calls", 20),
+			Duration.ofMillis(getInt(environment, name, "max-wait-ms", 100))
+		);
+	}
+
+	private static int getInt(Environment environment, String name, String key, int defaultValue) {
+		Integer defaults = environment.getProperty(DEFAULT_PREFIX + key, Integer.class, defaultValue);
+		return environment.getProperty(TARGET_PREFIX + name + "." + key, Integer.class, defaults);
+	}
+}
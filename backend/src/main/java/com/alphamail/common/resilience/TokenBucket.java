@@ -0,0 +1,71 @@
+package com.alphamail.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 허용량 제한 (토큰 버킷)
+ * 토큰을 미리 예약하는 방식이라 동시에 여러 스레드가 기다려도 순서대로 간격을 두고 깨어납니다.
+ * 상대 쪽에서 속도 제한 응답을 받으면 pause로 버킷 전체를 잠시 멈출 수 있습니다.
+ */
+public class TokenBucket {
+
+	private final double permitsPerNano;
+	private final double capacity;
+
+	private double tokens;
+	// 이 시각부터 토큰이 다시 찬다 (pause 중이면 미래 시각)
+	private long refillFromNanos;
+
+	public TokenBucket(double permitsPerSecond, double capacity) {
+		if (permitsPerSecond <= 0 || capacity < 1) {
+			throw new IllegalArgumentException("permitsPerSecond > 0, capacity >= 1 이어야 합니다");
+		}
+		this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+		this.capacity = capacity;
+		this.tokens = capacity;
+		this.refillFromNanos = System.nanoTime();
+	}
+
+	// 토큰 하나를 받을 때까지 대기
+	public void acquire() throws InterruptedException {
+		long waitNanos = reserve();
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	// 토큰 하나를 예약하고 써도 되는 시각까지 남은 시간을 반환
+	public synchronized long reserve() {
+		long now = System.nanoTime();
+		refill(now);
+		tokens -= 1;
+
+		long waitNanos = Math.max(0, refillFromNanos - now);
+		if (tokens < 0) {
+			waitNanos += (long)Math.ceil(-tokens / permitsPerNano);
+		}
+		return waitNanos;
+	}
+
+	// 남은 토큰을 버리고 duration 동안 새 토큰을 주지 않음 (이미 예약한 대기자도 그만큼 밀림)
+	public synchronized void pause(Duration duration) {
+		long now = System.nanoTime();
+		refill(now);
+		tokens = Math.min(tokens, 0);
+		refillFromNanos = Math.max(refillFromNanos, now + duration.toNanos());
+	}
+
+	public synchronized double availablePermits() {
+		refill(System.nanoTime());
+		return tokens;
+	}
+
+	private void refill(long now) {
+		if (now <= refillFromNanos) {
+			return;
+		}
+		tokens = Math.min(capacity, tokens + (now - refillFromNanos) * permitsPerNano);
+		refillFromNanos = now;
+	}
+}
@@ -0,0 +1,141 @@
+package com.alphamail.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Message-ID / In-Reply-To / References 헤더 파서 (RFC 5322 msg-id)
+ * 정규식 없이 한 번 훑으면서 꺾쇠 안의 id만 꺼냅니다. 반환값에는 꺾쇠가 없습니다.
+ * - 접힌 헤더(CRLF + 공백), 쉼표 구분, 괄호 주석(중첩, \ 이스케이프)을 건너뜀
+ * - id 안에 접힘 공백이 끼어 있으면 제거, 그 외에는 substring 한 번만 할당
+ */
+public final class MessageIdParser {
+
+	private final CharSequence header;
+	private int position;
+
+	private MessageIdParser(CharSequence header) {
+		this.header = header == null ? "" : header;
+	}
+
+	// 헤더 하나를 앞에서부터 순서대로 읽는 파서 (next가 null이면 끝)
+	public static MessageIdParser of(CharSequence header) {
+		return new MessageIdParser(header);
+	}
+
+	public static String first(CharSequence header) {
+		return of(header).next();
+	}
+
+	// 등장 순서 그대로 (References면 가장 오래된 메일부터)
+	public static List<String> all(CharSequence header) {
+		List<String> ids = new ArrayList<>();
+		MessageIdParser parser = of(header);
+		for (String id = parser.next(); id != null; id = parser.next()) {
+			ids.add(id);
+		}
+		return ids;
+	}
+
+	public String next() {
+		int length = header.length();
+		while (position < length) {
+			char ch = header.charAt(position);
+			if (ch == '(') {
+				position = skipComment(position);
+			} else if (ch == '"') {
+				position = skipQuoted(position);
+			} else if (ch == '<') {
+				String id = readId(position + 1);
+				if (id != null) {
+					return id;
+				}
+			} else {
+				position++;
+			}
+		}
+		return null;
+	}
+
+	// '<' 다음부터 '>'까지, 빈 id면 null
+	private String readId(int start) {
+		int length = header.length();
+		int index = start;
+		boolean hasWhitespace = false;
+
+		while (index < length && header.charAt(index) != '>') {
+			char ch = header.charAt(index);
+			if (ch == '"') {
+				index = skipQuoted(index);
+				continue;
+			}
+			if (isWhitespace(ch)) {
+				hasWhitespace = true;
+			}
+			index++;
+		}
+
+		// 닫는 꺾쇠가 없으면 헤더 끝까지를 id로 본다
+		int end = Math.min(index, length);
+		position = end < length ? end + 1 : length;
+
+		String id = hasWhitespace ? stripWhitespace(start, end) : header.subSequence(start, end).toString();
+		return id.isEmpty() ? null : id;
+	}
+
+	private String stripWhitespace(int start, int end) {
+		StringBuilder builder = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			char ch = header.charAt(i);
+			if (!isWhitespace(ch)) {
+				builder.append(ch);
+			}
+		}
+		return builder.toString();
+	}
+
+	// 주석은 중첩될 수 있고 \로 이스케이프된 괄호는 세지 않음
+	private int skipComment(int start) {
+		int length = header.length();
+		int depth = 0;
+		int index = start;
+		while (index < length) {
+			char ch = header.charAt(index);
+			if (ch == '\\') {
+				index += 2;
+				continue;
+			}
+			if (ch == '(') {
+				depth++;
+			} else if (ch == ')') {
+				depth--;
+				if (depth == 0) {
+					return index + 1;
+				}
+			}
+			index++;
+		}
+		return length;
+	}
+
+	private int skipQuoted(int start) {
+		int length = header.length();
+		int index = start + 1;
+		while (index < length) {
+			char ch = header.charAt(index);
+			if (ch == '\\') {
+				index += 2;
+				continue;
+			}
+			if (ch == '"') {
+				return index + 1;
+			}
+			index++;
+		}
+		return length;
+	}
+
+	private static boolean isWhitespace(char ch) {
+		return ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n';
+	}
+}
@@ -0,0 +1,84 @@
+package com.alphamail.common.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 전문 검색용 토크나이저
+ * 영문/숫자는 단어 단위, 한글/한자/가나처럼 띄어쓰기로 형태소가 안 나뉘는 문자는 2-gram으로 자릅니다.
+ * (ex. "SSAFY 회의록" -> ssafy, 회의, 의록)
+ */
+public class NgramTokenizer {
+
+	private static final int GRAM_SIZE = 2;
+
+	private NgramTokenizer() {
+	}
+
+	// 문서 색인용 - 등장 순서, 중복 그대로 (빈도/위치가 랭킹에 쓰임)
+	public static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null || text.isEmpty()) {
+			return tokens;
+		}
+
+		String lower = text.toLowerCase(Locale.ROOT);
+		int runStart = -1;
+		boolean runIsCjk = false;
+
+		for (int i = 0; i < lower.length(); i++) {
+			char ch = lower.charAt(i);
+			boolean isWordChar = Character.isLetterOrDigit(ch);
+			boolean isCjk = isWordChar && isCjk(ch);
+
+			if (runStart >= 0 && (!isWordChar || isCjk != runIsCjk)) {
+				addRun(tokens, lower, runStart, i, runIsCjk);
+				runStart = -1;
+			}
+			if (isWordChar && runStart < 0) {
+				runStart = i;
+				runIsCjk = isCjk;
+			}
+		}
+		if (runStart >= 0) {
+			addRun(tokens, lower, runStart, lower.length(), runIsCjk);
+		}
+		return tokens;
+	}
+
+	// 검색어용 tsquery - 중복 제거, 영문/숫자 단어와 한 글자 한글은 접두 검색(:*)으로
+	// 토큰이 문자/숫자로만 이루어져 있어 tsquery 특수문자가 섞일 일이 없음
+	public static String toPrefixQuery(String query) {
+		if (query == null || query.isBlank()) {
+			return "";
+		}
+
+		Set<String> terms = new LinkedHashSet<>();
+		for (String token : tokenize(query)) {
+			boolean prefix = token.length() < GRAM_SIZE || !isCjk(token.charAt(0));
+			terms.add(prefix ? token + ":*" : token);
+		}
+		return String.join(" & ", terms);
+	}
+
+	private static void addRun(List<String> tokens, String text, int start, int end, boolean cjk) {
+		if (!cjk || end - start <= GRAM_SIZE) {
+			tokens.add(text.substring(start, end));
+			return;
+		}
+		for (int i = start; i + GRAM_SIZE <= end; i++) {
+			tokens.add(text.substring(i, i + GRAM_SIZE));
+		}
+	}
+
+	private static boolean isCjk(char ch) {
+		Character.UnicodeScript script = Character.UnicodeScript.of(ch);
+		return script == Character.UnicodeScript.HANGUL
+			|| script == Character.UnicodeScript.HAN
+			|| script == Character.UnicodeScript.HIRAGANA
+			|| script == Character.UnicodeScript.KATAKANA;
+	}
+}
@@ -0,0 +1,304 @@
+package com.alphamail.api.email.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.entity.InboundEmailEnvelope;
+import com.alphamail.api.email.domain.entity.InboundEmailFormat;
+import com.alphamail.api.email.domain.entity.InboundEmailStage;
+import com.alphamail.api.email.domain.entity.InboundEmailStatus;
+import com.alphamail.api.email.domain.port.RawEmailParserPort;
+import com.alphamail.api.email.domain.repository.InboundDeadLetterRepository;
+import com.alphamail.api.email.domain.repository.InboundDedupRepository;
+import com.alphamail.api.email.domain.repository.InboundEmailEnvelopeRepository;
+import com.alphamail.api.email.presentation.dto.ReceiveEmailRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+
+class InboundEmailPipelineTest {
+
+	private static final int MAX_ATTEMPTS = 5;
+	private static final int PERSIST_CONCURRENCY = 4;
+	private static final int SIDECAR_CONCURRENCY = 2;
+	private static final long PERSIST_MS = 5;
+	private static final long SIDECAR_MS = 10;
+
+	private final InMemoryEnvelopeRepository envelopeRepository = new InMemoryEnvelopeRepository();
+	private final InboundDeadLetterRepository deadLetterRepository = mock(InboundDeadLetterRepository.class);
+	private final ReceiveEmailService receiveEmailService = mock(ReceiveEmailService.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SidecarTracker vectorCalls = new SidecarTracker();
+	private final SidecarTracker mcpCalls = new SidecarTracker();
+	private final AtomicInteger persistInFlight = new AtomicInteger();
+	private final AtomicInteger maxPersistInFlight = new AtomicInteger();
+
+	private InboundEmailPipeline pipeline;
+
+	@BeforeEach
+	void setUp() {
+		given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+		AtomicInteger emailSequence = new AtomicInteger();
+		given(receiveEmailService.persist(any())).willAnswer(invocation -> {
+			maxPersistInFlight.accumulateAndGet(persistInFlight.incrementAndGet(), Math::max);
+			try {
+				TimeUnit.MILLISECONDS.sleep(PERSIST_MS);
+			} finally {
+				persistInFlight.decrementAndGet();
+			}
+			return Email.builder().emailId(emailSequence.incrementAndGet()).userId(1).build();
+		});
+		given(receiveEmailService.requestVector(any(), any())).willAnswer(invocation -> vectorCalls.call());
+		given(receiveEmailService.requestMcp(any(), any())).willAnswer(invocation -> mcpCalls.call());
+
+		pipeline = new InboundEmailPipeline(envelopeRepository, deadLetterRepository,
+			new AlwaysNewDedupRepository(), receiveEmailService, mock(RawEmailParserPort.class),
+			objectMapper, transactionManager, 50, MAX_ATTEMPTS, 10, 600_000, PERSIST_CONCURRENCY, 100, 1000, 0,
+			SIDECAR_CONCURRENCY, 1, SIDECAR_CONCURRENCY);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pipeline.shutdown();
+	}
+
+	@Test
+	@DisplayName("처리량 - 합성 요청 200건: 요청 스레드는 접수만 하고, 저장/사이드카는 정해진 동시성으로 모두 처리된다")
+	void replaysSyntheticRequests() throws Exception {
+		int total = 200;
+		List<ReceiveEmailRequest> requests = new ArrayList<>();
+		for (int i = 0; i < total; i++) {
+			requests.add(request(i));
+		}
+
+		// 이전: 요청 스레드에서 바로 저장 (사이드카 호출은 응답과 무관하게 subscribe만 하므로 제외)
+		long syncStart = System.nanoTime();
+		requests.forEach(receiveEmailService::persist);
+		double syncSeconds = (System.nanoTime() - syncStart) / 1e9;
+		maxPersistInFlight.set(0);
+
+		// 이후: 접수만 하고 반환, 스케줄러 대신 drain을 직접 돌림 (직렬화 첫 호출의 클래스 분석은 측정에서 뺌)
+		objectMapper.writeValueAsString(requests.get(0));
+		long acceptStart = System.nanoTime();
+		requests.forEach(pipeline::accept);
+		double acceptSeconds = (System.nanoTime() - acceptStart) / 1e9;
+		long drainStart = System.nanoTime();
+		long deadline = drainStart + TimeUnit.SECONDS.toNanos(30);
+		while (envelopeRepository.count(InboundEmailStatus.DONE) < total && System.nanoTime() < deadline) {
+			pipeline.drain();
+			TimeUnit.MILLISECONDS.sleep(2);
+		}
+		double persistSeconds = (System.nanoTime() - drainStart) / 1e9;
+		vectorCalls.await(total, TimeUnit.SECONDS.toNanos(30));
+		mcpCalls.await(total, TimeUnit.SECONDS.toNanos(30));
+		double pipelineSeconds = (System.nanoTime() - drainStart) / 1e9;
+
+		System.out.printf("수신 %d건 - 이전: 요청 스레드 %.2fs / 이후: 요청 스레드 %.3fs, 저장 %.2fs (%.0f건/s, 동시 %d), "
+				+ "사이드카 포함 %.2fs (동시 %d)%n",
+			total, syncSeconds, acceptSeconds, persistSeconds, total / persistSeconds, maxPersistInFlight.get(),
+			pipelineSeconds, vectorCalls.maxInFlight.get());
+
+		assertThat(envelopeRepository.count(InboundEmailStatus.DONE)).isEqualTo(total);
+		assertThat(vectorCalls.completed.get()).isEqualTo(total);
+		assertThat(mcpCalls.completed.get()).isEqualTo(total);
+		assertThat(vectorCalls.maxInFlight.get()).isLessThanOrEqualTo(SIDECAR_CONCURRENCY);
+		assertThat(mcpCalls.maxInFlight.get()).isLessThanOrEqualTo(SIDECAR_CONCURRENCY);
+		assertThat(acceptSeconds).isLessThan(syncSeconds / 4);
+		// 저장은 워커 수까지만 병렬 -> 요청 스레드에서 하나씩 저장하던 것보다 빨리 끝남
+		assertThat(maxPersistInFlight.get()).isBetween(2, PERSIST_CONCURRENCY);
+		assertThat(persistSeconds).isLessThan(syncSeconds);
+	}
+
+	@Test
+	@DisplayName("완료 기록이 실패하면 메일 저장까지 롤백하고 재시도로 돌린다")
+	void rollsBackPersistWhenMarkDoneFails() throws Exception {
+		envelopeRepository.failMarkDone = true;
+		pipeline.accept(request(1));
+
+		pipeline.drain();
+		awaitStatus(InboundEmailStatus.PENDING, 1);
+
+		verify(transactionManager).rollback(any());
+		verify(transactionManager, never()).commit(any());
+		InboundEmailEnvelope envelope = envelopeRepository.only();
+		assertThat(envelope.getAttempts()).isEqualTo(1);
+		assertThat(envelope.getEmailId()).isNull();
+		verify(receiveEmailService, never()).requestVector(any(), any());
+	}
+
+	@Test
+	@DisplayName("멈춘 봉투 재대기열 - 시도 횟수를 올리고, 마지막 시도였던 봉투는 dead-letter에 남긴다")
+	void deadLettersStaleEnvelopesAtLimit() {
+		Long retried = envelopeRepository.stale(0);
+		Long exhausted = envelopeRepository.stale(MAX_ATTEMPTS - 1);
+
+		pipeline.requeueStale();
+
+		assertThat(envelopeRepository.rows.get(retried).getStatus()).isEqualTo(InboundEmailStatus.PENDING);
+		assertThat(envelopeRepository.rows.get(retried).getAttempts()).isEqualTo(1);
+		assertThat(envelopeRepository.rows.get(exhausted).getStatus()).isEqualTo(InboundEmailStatus.DEAD);
+		verify(deadLetterRepository).save(argThat(deadLetter -> deadLetter.getEnvelopeId().equals(exhausted)
+			&& deadLetter.getStage() == InboundEmailStage.PERSIST));
+		verify(deadLetterRepository, never()).save(argThat(deadLetter -> deadLetter.getEnvelopeId().equals(retried)));
+	}
+
+	private void awaitStatus(InboundEmailStatus status, int count) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (envelopeRepository.count(status) < count && System.nanoTime() < deadline) {
+			TimeUnit.MILLISECONDS.sleep(5);
+		}
+	}
+
+	private static ReceiveEmailRequest request(int index) {
+		return new ReceiveEmailRequest("sender@x.com", List.of("me@alphamail.my"), "subject " + index, "body", null,
+			"<synthetic-" + index + "@x.com>", null, "me@alphamail.my", List.of(), null, null);
+	}
+
+	// 사이드카 호출 대역 - 지연 후 완료, 동시에 진행 중인 호출 수의 최댓값을 기록
+	private static class SidecarTracker {
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicInteger maxInFlight = new AtomicInteger();
+		private final AtomicInteger completed = new AtomicInteger();
+
+		private Mono<Object> call() {
+			return Mono.delay(Duration.ofMillis(SIDECAR_MS))
+				.doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+				// 완료 신호가 flatMap에 닿기 전에 빼야 다음 호출과 겹쳐 세지 않음
+				.doOnTerminate(() -> {
+					inFlight.decrementAndGet();
+					completed.incrementAndGet();
+				})
+				.then(Mono.empty());
+		}
+
+		private void await(int count, long timeoutNanos) throws InterruptedException {
+			long deadline = System.nanoTime() + timeoutNanos;
+			while (completed.get() < count && System.nanoTime() < deadline) {
+				TimeUnit.MILLISECONDS.sleep(5);
+			}
+		}
+	}
+
+	// Redis 대신 - 모든 요청을 처음 받은 것으로 처리
+	private static class AlwaysNewDedupRepository implements InboundDedupRepository {
+		@Override
+		public Optional<Boolean> markIfAbsent(String recipient, String messageId) {
+			return Optional.of(true);
+		}
+
+		@Override
+		public void release(String recipient, String messageId) {
+		}
+	}
+
+	// inbound_email_envelopes 대신 메모리 맵 (선점/상태 전이만 DB와 같게)
+	private static class InMemoryEnvelopeRepository implements InboundEmailEnvelopeRepository {
+		private final Map<Long, InboundEmailEnvelope> rows = new ConcurrentHashMap<>();
+		private final AtomicLong sequence = new AtomicLong();
+		private volatile boolean failMarkDone;
+
+		@Override
+		public InboundEmailEnvelope save(InboundEmailEnvelope envelope) {
+			InboundEmailEnvelope saved = envelope.toBuilder().envelopeId(sequence.incrementAndGet()).build();
+			rows.put(saved.getEnvelopeId(), saved);
+			return saved;
+		}
+
+		@Override
+		public synchronized List<InboundEmailEnvelope> claimPending(int limit) {
+			LocalDateTime now = LocalDateTime.now();
+			List<InboundEmailEnvelope> claimed = new ArrayList<>();
+			rows.values().stream()
+				.filter(row -> row.getStatus() == InboundEmailStatus.PENDING && !row.getNextAttemptAt().isAfter(now))
+				.sorted(Comparator.comparing(InboundEmailEnvelope::getEnvelopeId))
+				.limit(limit)
+				.forEach(row -> {
+					InboundEmailEnvelope processing = row.toBuilder()
+						.status(InboundEmailStatus.PROCESSING).claimedAt(now).build();
+					rows.put(row.getEnvelopeId(), processing);
+					claimed.add(processing);
+				});
+			return claimed;
+		}
+
+		@Override
+		public void markDone(Long envelopeId, Integer emailId) {
+			if (failMarkDone) {
+				throw new IllegalStateException("markDone failed");
+			}
+			rows.computeIfPresent(envelopeId, (id, row) -> row.toBuilder()
+				.status(InboundEmailStatus.DONE).emailId(emailId).build());
+		}
+
+		@Override
+		public void markRetry(Long envelopeId, int attempts, LocalDateTime nextAttemptAt, String lastError) {
+			rows.computeIfPresent(envelopeId, (id, row) -> row.toBuilder().status(InboundEmailStatus.PENDING)
+				.attempts(attempts).nextAttemptAt(nextAttemptAt).lastError(lastError).build());
+		}
+
+		@Override
+		public void markDead(Long envelopeId, int attempts, String lastError) {
+			rows.computeIfPresent(envelopeId, (id, row) -> row.toBuilder().status(InboundEmailStatus.DEAD)
+				.attempts(attempts).lastError(lastError).build());
+		}
+
+		@Override
+		public synchronized List<InboundEmailEnvelope> requeueStale(LocalDateTime claimedBefore, int maxAttempts,
+			String lastError) {
+			List<InboundEmailEnvelope> requeued = new ArrayList<>();
+			rows.values().stream()
+				.filter(row -> row.getStatus() == InboundEmailStatus.PROCESSING
+					&& row.getClaimedAt().isBefore(claimedBefore))
+				.forEach(row -> {
+					InboundEmailEnvelope updated = row.toBuilder()
+						.status(row.nextAttempt() >= maxAttempts ? InboundEmailStatus.DEAD : InboundEmailStatus.PENDING)
+						.attempts(row.nextAttempt()).lastError(lastError).build();
+					rows.put(row.getEnvelopeId(), updated);
+					requeued.add(updated);
+				});
+			return requeued;
+		}
+
+		private Long stale(int attempts) {
+			InboundEmailEnvelope envelope = save(InboundEmailEnvelope.accept("<m@x>", "{}", InboundEmailFormat.JSON));
+			rows.put(envelope.getEnvelopeId(), envelope.toBuilder().status(InboundEmailStatus.PROCESSING)
+				.attempts(attempts).claimedAt(LocalDateTime.now().minusHours(1)).build());
+			return envelope.getEnvelopeId();
+		}
+
+		private long count(InboundEmailStatus status) {
+			return rows.values().stream().filter(row -> row.getStatus() == status).count();
+		}
+
+		private InboundEmailEnvelope only() {
+			assertThat(rows).hasSize(1);
+			return rows.values().iterator().next();
+		}
+	}
+}
@@ -0,0 +1,235 @@
+package com.alphamail.api.email.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.alphamail.api.email.application.usecase.SendEmailUseCase;
+import com.alphamail.api.email.application.usecase.ai.EmailVectorUseCase;
+import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.entity.EmailStatus;
+import com.alphamail.api.email.domain.entity.OutboundEmail;
+import com.alphamail.api.email.domain.port.EmailSenderPort;
+import com.alphamail.api.email.domain.repository.EmailAttachmentRepository;
+import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.repository.OutboundEmailRepository;
+import com.alphamail.api.email.infrastructure.adapter.FakeEmailSenderPort;
+
+import reactor.core.publisher.Mono;
+
+class OutboundEmailDispatcherTest {
+
+	private static final Integer USER_ID = 1;
+
+	private final InMemoryOutboundEmailRepository outboundEmailRepository = new InMemoryOutboundEmailRepository();
+	private final EmailRepository emailRepository = mock(EmailRepository.class);
+	private final EmailVectorUseCase emailVectorUseCase = mock(EmailVectorUseCase.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	private OutboundEmailDispatcher dispatcher;
+
+	@AfterEach
+	void tearDown() {
+		if (dispatcher != null) {
+			dispatcher.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("처리량 - 가짜 SES(초당 40건, 지연 20ms)로 200건을 한도에 맞춰 모두 발송한다")
+	void sendsAtAccountRate() throws Exception {
+		int total = 200;
+		double rate = 40;
+		dispatcher = dispatcher(new FakeEmailSenderPort(20, rate, 0, 0), 0, 100, 0);
+		queue(total);
+
+		long start = System.nanoTime();
+		awaitSent(total, TimeUnit.SECONDS.toNanos(30));
+		double seconds = (System.nanoTime() - start) / 1e9;
+		double throughput = total / seconds;
+		System.out.printf("발송 %d건 - %.2fs, %.1f건/s (한도 %.0f건/s), 한도 초과 %d회%n", total, seconds, throughput,
+			rate, outboundEmailRepository.throttled.get());
+
+		assertThat(outboundEmailRepository.count(EmailStatus.SENT)).isEqualTo(total);
+		assertThat(outboundEmailRepository.count(EmailStatus.FAILED)).isZero();
+		// 첫 버스트(rate만큼) 뒤로는 버킷 속도를 넘지 않음
+		assertThat(throughput).isLessThan(rate * 1.5);
+		assertThat(throughput).isGreaterThan(rate * 0.7);
+	}
+
+	@Test
+	@DisplayName("한도 초과가 계속되면 시도 횟수는 그대로 두고 max-throttles에서 FAILED로 끝낸다")
+	void failsAfterMaxThrottles() throws Exception {
+		// SES 쪽 초당 0건 -> 매번 한도 초과 (디스패처 버킷은 따로 100건/s)
+		dispatcher = dispatcher(new FakeEmailSenderPort(0, 0, 0, 0), 100, 3, 0);
+		queue(1);
+
+		awaitStatus(EmailStatus.FAILED, TimeUnit.SECONDS.toNanos(10));
+
+		OutboundEmail outboundEmail = outboundEmailRepository.only();
+		assertThat(outboundEmail.getThrottles()).isEqualTo(2);
+		assertThat(outboundEmail.getAttempts()).isZero();
+	}
+
+	@Test
+	@DisplayName("일일 한도 초과면 quota-backoff 동안 메일을 보류하고 새로 선점하지 않는다")
+	void parksOnDailyQuota() throws Exception {
+		dispatcher = dispatcher(new FakeEmailSenderPort(0, 100, 0, 1), 0, 100, 60_000);
+		queue(2);
+
+		awaitSent(1, TimeUnit.SECONDS.toNanos(10));
+		awaitStatus(EmailStatus.RETRYING, TimeUnit.SECONDS.toNanos(10));
+		int claims = outboundEmailRepository.claims.get();
+		dispatcher.drain();
+
+		assertThat(outboundEmailRepository.claims.get()).isEqualTo(claims);
+		OutboundEmail parked = outboundEmailRepository.find(EmailStatus.RETRYING).get(0);
+		assertThat(parked.getAttempts()).isZero();
+		assertThat(parked.getThrottles()).isEqualTo(1);
+		assertThat(parked.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+	}
+
+	private OutboundEmailDispatcher dispatcher(EmailSenderPort emailSenderPort, double ratePerSecond,
+		int maxThrottles, long quotaBackoffMs) {
+		given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+		given(emailRepository.findByIdAndUserId(anyInt(), anyInt())).willAnswer(invocation -> Optional.of(
+			Email.builder().emailId(invocation.getArgument(0)).userId(USER_ID).hasAttachment(false).build()));
+		given(emailVectorUseCase.execute(any(), any(), any())).willReturn(Mono.empty());
+
+		return new OutboundEmailDispatcher(outboundEmailRepository, emailRepository,
+			mock(EmailAttachmentRepository.class), new SendEmailUseCase(emailSenderPort), emailVectorUseCase,
+			emailSenderPort, transactionManager, 50, 5, maxThrottles, 2000, 0, quotaBackoffMs, 600_000, ratePerSecond,
+			0, 4, 100);
+	}
+
+	private void queue(int count) {
+		for (int i = 1; i <= count; i++) {
+			outboundEmailRepository.save(OutboundEmail.queue(i, USER_ID));
+		}
+	}
+
+	// 스케줄러 대신 drain을 직접 돌림
+	private void awaitSent(int count, long timeoutNanos) throws InterruptedException {
+		long deadline = System.nanoTime() + timeoutNanos;
+		while (outboundEmailRepository.count(EmailStatus.SENT) < count && System.nanoTime() < deadline) {
+			dispatcher.drain();
+			TimeUnit.MILLISECONDS.sleep(5);
+		}
+	}
+
+	private void awaitStatus(EmailStatus status, long timeoutNanos) throws InterruptedException {
+		long deadline = System.nanoTime() + timeoutNanos;
+		while (outboundEmailRepository.count(status) == 0 && System.nanoTime() < deadline) {
+			dispatcher.drain();
+			TimeUnit.MILLISECONDS.sleep(5);
+		}
+	}
+
+	// outbound_emails 대신 메모리 맵 (선점/상태 전이만 DB와 같게)
+	private static class InMemoryOutboundEmailRepository implements OutboundEmailRepository {
+		private final Map<Long, OutboundEmail> rows = new ConcurrentHashMap<>();
+		private final AtomicLong sequence = new AtomicLong();
+		private final AtomicLong throttled = new AtomicLong();
+		private final AtomicInteger claims = new AtomicInteger();
+
+		@Override
+		public OutboundEmail save(OutboundEmail outboundEmail) {
+			OutboundEmail saved = outboundEmail.toBuilder().outboundId(sequence.incrementAndGet()).build();
+			rows.put(saved.getOutboundId(), saved);
+			return saved;
+		}
+
+		@Override
+		public synchronized List<OutboundEmail> claimQueued(int limit) {
+			LocalDateTime now = LocalDateTime.now();
+			List<OutboundEmail> claimed = new ArrayList<>();
+			rows.values().stream()
+				.filter(row -> row.getStatus() == EmailStatus.QUEUED || row.getStatus() == EmailStatus.RETRYING)
+				.filter(row -> !row.getNextAttemptAt().isAfter(now))
+				.sorted(Comparator.comparing(OutboundEmail::getOutboundId))
+				.limit(limit)
+				.forEach(row -> {
+					OutboundEmail sending = row.toBuilder().status(EmailStatus.SENDING).claimedAt(now).build();
+					rows.put(row.getOutboundId(), sending);
+					claimed.add(sending);
+				});
+			claims.addAndGet(claimed.size());
+			return claimed;
+		}
+
+		@Override
+		public void markSent(Long outboundId) {
+			rows.computeIfPresent(outboundId, (id, row) -> row.toBuilder().status(EmailStatus.SENT).build());
+		}
+
+		@Override
+		public void recordSesMessageId(Long outboundId, String sesMessageId) {
+			rows.computeIfPresent(outboundId, (id, row) -> row.toBuilder().sesMessageId(sesMessageId).build());
+		}
+
+		@Override
+		public void markSentWithoutDetails(OutboundEmail outboundEmail, String sesMessageId) {
+			markSent(outboundEmail.getOutboundId());
+		}
+
+		@Override
+		public void markRetry(OutboundEmail outboundEmail, int attempts, LocalDateTime nextAttemptAt,
+			String lastError) {
+			rows.computeIfPresent(outboundEmail.getOutboundId(), (id, row) -> row.toBuilder()
+				.status(EmailStatus.RETRYING).attempts(attempts).nextAttemptAt(nextAttemptAt).lastError(lastError)
+				.build());
+		}
+
+		@Override
+		public void markThrottled(OutboundEmail outboundEmail, int throttles, LocalDateTime nextAttemptAt,
+			String lastError) {
+			throttled.incrementAndGet();
+			rows.computeIfPresent(outboundEmail.getOutboundId(), (id, row) -> row.toBuilder()
+				.status(EmailStatus.RETRYING).throttles(throttles).nextAttemptAt(nextAttemptAt).lastError(lastError)
+				.build());
+		}
+
+		@Override
+		public void markFailed(OutboundEmail outboundEmail, int attempts, String lastError) {
+			rows.computeIfPresent(outboundEmail.getOutboundId(), (id, row) -> row.toBuilder()
+				.status(EmailStatus.FAILED).attempts(attempts).lastError(lastError).build());
+		}
+
+		@Override
+		public int requeueStale(LocalDateTime claimedBefore) {
+			return 0;
+		}
+
+		private long count(EmailStatus status) {
+			return rows.values().stream().filter(row -> row.getStatus() == status).count();
+		}
+
+		private List<OutboundEmail> find(EmailStatus status) {
+			return rows.values().stream().filter(row -> row.getStatus() == status).toList();
+		}
+
+		private OutboundEmail only() {
+			assertThat(rows).hasSize(1);
+			return rows.values().iterator().next();
+		}
+	}
+}
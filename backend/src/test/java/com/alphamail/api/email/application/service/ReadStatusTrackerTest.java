@@ -0,0 +1,123 @@
+package com.alphamail.api.email.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.domain.repository.PendingReadRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReadStatusTrackerTest {
+
+	private static final Integer USER_ID = 1;
+	private static final Integer FOLDER_ID = 10;
+
+	@Mock
+	private EmailRepository emailRepository;
+	@Mock
+	private PendingReadRepository pendingReadRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private ReadStatusTracker readStatusTracker;
+
+	@BeforeEach
+	void setUp() {
+		readStatusTracker = new ReadStatusTracker(emailRepository, pendingReadRepository, transactionManager, 500,
+			200);
+	}
+
+	@Test
+	@DisplayName("대기열 장애 시 상세 조회의 readOnly 트랜잭션에 합류하지 않고 새 쓰기 트랜잭션에서 바로 반영한다")
+	void markReadFallsBackToNewWriteTransaction() {
+		given(pendingReadRepository.add(USER_ID, 100, FOLDER_ID)).willReturn(false);
+		given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+
+		readStatusTracker.markRead(USER_ID, 100, FOLDER_ID);
+
+		ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+		verify(transactionManager).getTransaction(definition.capture());
+		assertThat(definition.getValue().getPropagationBehavior())
+			.isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		assertThat(definition.getValue().isReadOnly()).isFalse();
+		verify(emailRepository).updateReadStatus(List.of(100), USER_ID, true);
+	}
+
+	@Test
+	@DisplayName("대기열에 기록되면 트랜잭션을 열지 않는다")
+	void markReadQueuesWithoutTransaction() {
+		given(pendingReadRepository.add(USER_ID, 100, FOLDER_ID)).willReturn(true);
+
+		readStatusTracker.markRead(USER_ID, 100, FOLDER_ID);
+
+		verify(transactionManager, never()).getTransaction(any());
+		verify(emailRepository, never()).updateReadStatus(anyList(), anyInt(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("반영 도중 안 읽음 처리로 빠진 메일이 있으면 롤백하고 남은 메일만 다시 읽음으로 쓴다")
+	void flushSkipsEmailsDiscardedAfterSnapshot() {
+		List<SimpleTransactionStatus> statuses = new ArrayList<>();
+		given(transactionManager.getTransaction(any())).willAnswer(invocation -> {
+			SimpleTransactionStatus status = new SimpleTransactionStatus();
+			statuses.add(status);
+			return status;
+		});
+		given(pendingReadRepository.popUsers(200)).willReturn(List.of(USER_ID));
+		given(pendingReadRepository.lockFlush(USER_ID)).willReturn(true);
+		given(pendingReadRepository.beginFlush(USER_ID)).willReturn(Map.of(100, FOLDER_ID, 200, FOLDER_ID));
+		// 첫 UPDATE 뒤 확인 시점에 200번이 안 읽음 처리로 빠져 있음
+		given(pendingReadRepository.findFlushing(USER_ID)).willReturn(Set.of(100));
+		given(emailRepository.updateReadStatus(anyList(), any(), any())).willReturn(1);
+
+		readStatusTracker.flush();
+
+		ArgumentCaptor<List<Integer>> emailIds = ArgumentCaptor.captor();
+		verify(emailRepository, times(2)).updateReadStatus(emailIds.capture(), any(), any());
+		assertThat(emailIds.getAllValues().get(0)).containsExactlyInAnyOrder(100, 200);
+		assertThat(emailIds.getAllValues().get(1)).containsExactly(100);
+		assertThat(statuses).extracting(TransactionStatus::isRollbackOnly).containsExactly(true, false);
+		verify(pendingReadRepository).completeFlush(USER_ID);
+		verify(pendingReadRepository, never()).abortFlush(USER_ID);
+		verify(pendingReadRepository).unlockFlush(USER_ID);
+	}
+
+	@Test
+	@DisplayName("반영 중 항목이 모두 안 읽음 처리로 빠지면 다시 쓰지 않는다")
+	void flushWritesNothingWhenAllDiscarded() {
+		given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+		given(pendingReadRepository.popUsers(200)).willReturn(List.of(USER_ID));
+		given(pendingReadRepository.lockFlush(USER_ID)).willReturn(true);
+		given(pendingReadRepository.beginFlush(USER_ID)).willReturn(Map.of(100, FOLDER_ID));
+		given(pendingReadRepository.findFlushing(USER_ID)).willReturn(Set.of());
+
+		readStatusTracker.flush();
+
+		verify(emailRepository, times(1)).updateReadStatus(anyList(), any(), any());
+		verify(pendingReadRepository).completeFlush(USER_ID);
+	}
+}
@@ -0,0 +1,154 @@
+package com.alphamail.api.email.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.alphamail.api.email.domain.entity.RecentUsedEmail;
+import com.alphamail.api.email.domain.repository.PendingRecentContactRepository;
+import com.alphamail.api.email.domain.repository.RecentUsedEmailRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RecentContactPersisterTest {
+
+	private static final Integer USER_ID = 1;
+	private static final String EMAIL = "friend@alphamail.com";
+	private static final LocalDateTime USED_AT = LocalDateTime.of(2025, 5, 1, 9, 0);
+
+	@Mock
+	private RecentUsedEmailRepository recentUsedEmailRepository;
+	@Mock
+	private PendingRecentContactRepository pendingRecentContactRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private RecentContactPersister recentContactPersister;
+
+	@BeforeEach
+	void setUp() {
+		recentContactPersister = new RecentContactPersister(recentUsedEmailRepository, pendingRecentContactRepository,
+			transactionManager, 200);
+	}
+
+	@Test
+	@DisplayName("대기열에 기록되면 DB에 쓰지 않는다")
+	void enqueueQueuesWithoutTransaction() {
+		given(pendingRecentContactRepository.add(USER_ID, Map.of(EMAIL, USED_AT))).willReturn(true);
+
+		recentContactPersister.enqueue(USER_ID, Map.of(EMAIL, USED_AT));
+
+		verify(transactionManager, never()).getTransaction(any());
+		verify(recentUsedEmailRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	@DisplayName("대기열 장애 시 발송 트랜잭션과 별도인 새 트랜잭션에서 바로 저장한다")
+	void enqueueFallsBackToNewTransaction() {
+		given(pendingRecentContactRepository.add(USER_ID, Map.of(EMAIL, USED_AT))).willReturn(false);
+		given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+
+		recentContactPersister.enqueue(USER_ID, Map.of(EMAIL, USED_AT));
+
+		ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+		verify(transactionManager).getTransaction(definition.capture());
+		assertThat(definition.getValue().getPropagationBehavior())
+			.isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		assertThat(savedContacts()).singleElement().satisfies(contact -> {
+			assertThat(contact.getRecentEmail()).isEqualTo(EMAIL);
+			assertThat(contact.getLastUpdatedTime()).isEqualTo(USED_AT);
+		});
+	}
+
+	@Test
+	@DisplayName("바로 저장도 실패하면 로그만 남기고 발송은 계속된다")
+	void enqueueFallbackFailureDoesNotPropagate() {
+		given(pendingRecentContactRepository.add(USER_ID, Map.of(EMAIL, USED_AT))).willReturn(false);
+		given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+		willThrow(new IllegalStateException("db down")).given(recentUsedEmailRepository).saveAll(anyList());
+
+		recentContactPersister.enqueue(USER_ID, Map.of(EMAIL, USED_AT));
+
+		verify(recentUsedEmailRepository).saveAll(anyList());
+	}
+
+	@Test
+	@DisplayName("반영은 락 -> 반영 중으로 이동 -> 기존 행은 사용 시각만 갱신해 저장 -> 완료 -> 락 해제 순서")
+	void flushPersistsAndCompletes() {
+		RecentUsedEmail existing = RecentUsedEmail.create(USER_ID, EMAIL, "친구").usedAt(USED_AT.minusDays(1));
+		given(pendingRecentContactRepository.popUsers(200)).willReturn(List.of(USER_ID));
+		given(pendingRecentContactRepository.lockFlush(USER_ID)).willReturn(true);
+		given(pendingRecentContactRepository.beginFlush(USER_ID)).willReturn(Map.of(EMAIL, USED_AT));
+		given(recentUsedEmailRepository.findAllByUserIdAndRecentEmails(USER_ID, Map.of(EMAIL, USED_AT).keySet()))
+			.willReturn(List.of(existing));
+		given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+
+		recentContactPersister.flush();
+
+		assertThat(savedContacts()).singleElement().satisfies(contact -> {
+			assertThat(contact.getEmailOwner()).isEqualTo("친구");
+			assertThat(contact.getLastUpdatedTime()).isEqualTo(USED_AT);
+		});
+		InOrder order = inOrder(pendingRecentContactRepository, recentUsedEmailRepository);
+		order.verify(pendingRecentContactRepository).beginFlush(USER_ID);
+		order.verify(recentUsedEmailRepository).saveAll(anyList());
+		order.verify(pendingRecentContactRepository).completeFlush(USER_ID);
+		order.verify(pendingRecentContactRepository).unlockFlush(USER_ID);
+	}
+
+	@Test
+	@DisplayName("저장에 실패하면 반영 중 항목을 대기열로 되돌리고 락을 푼다")
+	void flushAbortsOnFailure() {
+		given(pendingRecentContactRepository.popUsers(200)).willReturn(List.of(USER_ID));
+		given(pendingRecentContactRepository.lockFlush(USER_ID)).willReturn(true);
+		given(pendingRecentContactRepository.beginFlush(USER_ID)).willReturn(Map.of(EMAIL, USED_AT));
+		given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+		willThrow(new IllegalStateException("db down")).given(recentUsedEmailRepository).saveAll(anyList());
+
+		recentContactPersister.flush();
+
+		verify(pendingRecentContactRepository).abortFlush(USER_ID);
+		verify(pendingRecentContactRepository, never()).completeFlush(USER_ID);
+		verify(pendingRecentContactRepository).unlockFlush(USER_ID);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 반영 중이면 건드리지 않고 다음 주기로 넘긴다")
+	void flushRequeuesWhenLocked() {
+		given(pendingRecentContactRepository.popUsers(200)).willReturn(List.of(USER_ID));
+		given(pendingRecentContactRepository.lockFlush(USER_ID)).willReturn(false);
+
+		recentContactPersister.flush();
+
+		verify(pendingRecentContactRepository).requeueUser(USER_ID);
+		verify(pendingRecentContactRepository, never()).beginFlush(USER_ID);
+		verify(pendingRecentContactRepository, never()).unlockFlush(USER_ID);
+	}
+
+	private List<RecentUsedEmail> savedContacts() {
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<RecentUsedEmail>> saved = ArgumentCaptor.forClass(List.class);
+		verify(recentUsedEmailRepository).saveAll(saved.capture());
+		return saved.getValue();
+	}
+}
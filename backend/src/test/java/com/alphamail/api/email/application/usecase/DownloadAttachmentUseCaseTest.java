@@ -0,0 +1,192 @@
+package com.alphamail.api.email.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.alphamail.api.email.domain.entity.EmailAttachment;
+import com.alphamail.api.email.domain.repository.EmailAttachmentRepository;
+import com.alphamail.api.email.domain.repository.EmailRepository;
+import com.alphamail.api.email.presentation.dto.AttachmentDownloadResponse;
+import com.alphamail.api.email.presentation.dto.AttachmentDownloadResponse.Status;
+import com.alphamail.api.global.s3.cache.S3ObjectDiskCache;
+import com.alphamail.api.global.s3.cache.S3ObjectDiskCache.CachedContent;
+import com.alphamail.api.global.s3.cache.S3ObjectDiskCache.CachedObject;
+import com.alphamail.api.global.s3.service.S3ObjectContent;
+import com.alphamail.api.global.s3.service.S3Service;
+import com.alphamail.api.user.domain.valueobject.UserId;
+
+@ExtendWith(MockitoExtension.class)
+class DownloadAttachmentUseCaseTest {
+
+	private static final Integer EMAIL_ID = 10;
+	private static final Integer ATTACHMENT_ID = 20;
+	private static final UserId USER_ID = UserId.of(1);
+	private static final String S3_KEY = "attachments/report.pdf";
+	private static final long SIZE = 1000;
+	private static final byte[] CONTENT = new byte[(int)SIZE];
+
+	static {
+		for (int i = 0; i < CONTENT.length; i++) {
+			CONTENT[i] = (byte)i;
+		}
+	}
+
+	@TempDir
+	private Path directory;
+
+	@Mock
+	private EmailAttachmentRepository emailAttachmentRepository;
+	@Mock
+	private EmailRepository emailRepository;
+	@Mock
+	private S3Service s3Service;
+	@Mock
+	private S3ObjectDiskCache diskCache;
+
+	@InjectMocks
+	private DownloadAttachmentUseCase downloadAttachmentUseCase;
+
+	@BeforeEach
+	void setUp() {
+		EmailAttachment attachment = EmailAttachment.builder()
+			.id(ATTACHMENT_ID)
+			.emailId(EMAIL_ID)
+			.name("report.pdf")
+			.S3Key(S3_KEY)
+			.size(SIZE)
+			.type("application/pdf")
+			.build();
+		given(emailAttachmentRepository.findById(ATTACHMENT_ID)).willReturn(Optional.of(attachment));
+		given(emailRepository.existsByIdAndUserId(EMAIL_ID, USER_ID.getValue())).willReturn(true);
+	}
+
+	@Test
+	@DisplayName("닫힌 범위는 그대로 S3 범위 GET으로")
+	void requestsClosedRange() {
+		AttachmentDownloadResponse response = downloadWithRange("bytes=0-99", 0, 99);
+
+		assertThat(response.getStatus()).isEqualTo(Status.PARTIAL);
+		assertThat(response.getRangeStart()).isZero();
+		assertThat(response.getRangeEnd()).isEqualTo(99);
+		assertThat(response.getTotalSize()).isEqualTo(SIZE);
+	}
+
+	@Test
+	@DisplayName("끝에서부터 n바이트 범위")
+	void resolvesSuffixRange() {
+		assertThat(downloadWithRange("bytes=-100", 900, 999).getStatus()).isEqualTo(Status.PARTIAL);
+	}
+
+	@Test
+	@DisplayName("끝이 파일 크기를 넘으면 마지막 바이트까지")
+	void clampsRangeEnd() {
+		assertThat(downloadWithRange("bytes=500-5000", 500, 999).getRangeEnd()).isEqualTo(999);
+	}
+
+	@Test
+	@DisplayName("여러 구간을 요청하면 첫 구간만")
+	void usesFirstOfMultipleRanges() {
+		assertThat(downloadWithRange("bytes=0-1, 5-6", 0, 1).getRangeEnd()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("파일 밖이거나 형식이 잘못된 범위는 416, S3는 부르지 않음")
+	void rejectsUnsatisfiableRanges() {
+		for (String header : new String[] {"bytes=2000-", "items=0-1", "bytes=abc"}) {
+			AttachmentDownloadResponse response = downloadAttachmentUseCase.execute(EMAIL_ID, ATTACHMENT_ID,
+				USER_ID, null, header);
+
+			assertThat(response.getStatus()).as(header).isEqualTo(Status.RANGE_NOT_SATISFIABLE);
+			assertThat(response.getTotalSize()).isEqualTo(SIZE);
+		}
+		verify(s3Service, never()).openObject(anyString(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("If-None-Match의 첫 태그를 W/ 없이 따옴표로 감싸 S3에 넘기고, 304면 따옴표 없는 ETag로 응답")
+	void forwardsFirstEntityTag() {
+		given(s3Service.openObject(S3_KEY, "\"abc\"", null, null)).willReturn(S3ObjectContent.notModified("abc"));
+
+		AttachmentDownloadResponse response = downloadAttachmentUseCase.execute(EMAIL_ID, ATTACHMENT_ID, USER_ID,
+			"W/\"abc\", \"def\"", null);
+
+		assertThat(response.getStatus()).isEqualTo(Status.NOT_MODIFIED);
+		assertThat(response.getETag()).isEqualTo("abc");
+	}
+
+	@Test
+	@DisplayName("와일드카드 태그는 그대로 넘긴다")
+	void forwardsWildcard() {
+		given(s3Service.openObject(S3_KEY, "*", null, null)).willReturn(S3ObjectContent.notModified(null));
+
+		assertThat(downloadAttachmentUseCase.execute(EMAIL_ID, ATTACHMENT_ID, USER_ID, "*", null).getStatus())
+			.isEqualTo(Status.NOT_MODIFIED);
+	}
+
+	@Test
+	@DisplayName("디스크 캐시의 ETag와 같으면 S3 없이 304, 연 파일은 닫는다")
+	void answersNotModifiedFromCache() throws Exception {
+		CachedContent cached = cachedContent();
+		given(diskCache.open(S3_KEY)).willReturn(Optional.of(cached));
+
+		AttachmentDownloadResponse response = downloadAttachmentUseCase.execute(EMAIL_ID, ATTACHMENT_ID, USER_ID,
+			"\"abc\"", "bytes=0-1");
+
+		assertThat(response.getStatus()).isEqualTo(Status.NOT_MODIFIED);
+		assertThat(cached.channel().isOpen()).isFalse();
+		verify(s3Service, never()).openObject(anyString(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("디스크 캐시에서도 첫 구간만 잘라 206으로")
+	void servesRangeFromCache() throws Exception {
+		given(diskCache.open(S3_KEY)).willReturn(Optional.of(cachedContent()));
+
+		AttachmentDownloadResponse response = downloadAttachmentUseCase.execute(EMAIL_ID, ATTACHMENT_ID, USER_ID,
+			null, "bytes=10-19");
+
+		assertThat(response.getStatus()).isEqualTo(Status.PARTIAL);
+		assertThat(response.getSize()).isEqualTo(10);
+		assertThat(response.getTotalSize()).isEqualTo(SIZE);
+		try (InputStream content = response.getResource().getInputStream()) {
+			assertThat(content.readAllBytes()).containsExactly(Arrays.copyOfRange(CONTENT, 10, 20));
+		}
+		verify(s3Service, never()).openObject(anyString(), any(), any(), any());
+	}
+
+	private CachedContent cachedContent() throws Exception {
+		Path file = Files.write(directory.resolve("cached.bin"), CONTENT);
+		return new CachedContent(new CachedObject(file, SIZE, "abc", Instant.EPOCH, "application/pdf"),
+			FileChannel.open(file, StandardOpenOption.READ));
+	}
+
+	private AttachmentDownloadResponse downloadWithRange(String rangeHeader, long start, long end) {
+		given(s3Service.openObject(S3_KEY, null, start, end)).willReturn(new S3ObjectContent(
+			new ByteArrayInputStream(new byte[(int)(end - start + 1)]), end - start + 1, SIZE, "abc", Instant.EPOCH,
+			"application/pdf"));
+		return downloadAttachmentUseCase.execute(EMAIL_ID, ATTACHMENT_ID, USER_ID, null, rangeHeader);
+	}
+}
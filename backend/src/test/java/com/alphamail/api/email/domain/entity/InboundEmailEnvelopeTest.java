@@ -0,0 +1,45 @@
+package com.alphamail.api.email.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InboundEmailEnvelopeTest {
+
+	@Test
+	@DisplayName("새 봉투는 바로 처리 대상인 PENDING, 시도 0회")
+	void acceptsAsPending() {
+		InboundEmailEnvelope envelope = InboundEmailEnvelope.accept("<a@x>", "{}", InboundEmailFormat.JSON);
+
+		assertThat(envelope.getStatus()).isEqualTo(InboundEmailStatus.PENDING);
+		assertThat(envelope.getAttempts()).isZero();
+		assertThat(envelope.getNextAttemptAt()).isEqualTo(envelope.getCreatedAt());
+		assertThat(envelope.nextAttempt()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("형식이 없던 예전 봉투는 JSON으로 취급")
+	void treatsMissingFormatAsJson() {
+		assertThat(InboundEmailEnvelope.accept("<a@x>", "{}", null).isRawMime()).isFalse();
+		assertThat(InboundEmailEnvelope.accept("<a@x>", "{}", InboundEmailFormat.RAW_MIME).isRawMime()).isTrue();
+	}
+
+	@Test
+	@DisplayName("시도 횟수가 비어 있어도 다음 시도는 1회차")
+	void countsNextAttempt() {
+		InboundEmailEnvelope envelope = InboundEmailEnvelope.accept("<a@x>", "{}", InboundEmailFormat.JSON);
+
+		assertThat(envelope.toBuilder().attempts(null).build().nextAttempt()).isEqualTo(1);
+		assertThat(envelope.toBuilder().attempts(3).build().nextAttempt()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("로그에 원본 본문을 남기지 않는다")
+	void excludesPayloadFromToString() {
+		String payload = "{\"textBody\":\"secret\"}";
+
+		assertThat(InboundEmailEnvelope.accept("<a@x>", payload, InboundEmailFormat.JSON).toString())
+			.doesNotContain("secret");
+	}
+}
@@ -0,0 +1,57 @@
+package com.alphamail.api.email.domain.valueobject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.alphamail.common.exception.BadRequestException;
+
+class EmailCursorTest {
+
+	@Test
+	@DisplayName("인코딩한 커서는 같은 값으로 복원된다")
+	void roundTrips() {
+		EmailCursor cursor = new EmailCursor(LocalDateTime.of(2025, 5, 1, 9, 30, 15, 123_000_000), 42);
+
+		String token = cursor.encode();
+
+		assertThat(token).doesNotContain("=", "+", "/");
+		assertThat(EmailCursor.decode(token)).isEqualTo(cursor);
+	}
+
+	@Test
+	@DisplayName("날짜 없는 커서는 null 날짜 구간으로 복원된다")
+	void roundTripsNullDate() {
+		EmailCursor decoded = EmailCursor.decode(new EmailCursor(null, 7).encode());
+
+		assertThat(decoded.isNullDatePhase()).isTrue();
+		assertThat(decoded.emailId()).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("빈 토큰은 첫 페이지")
+	void blankTokenMeansFirstPage() {
+		assertThat(EmailCursor.decode(null)).isNull();
+		assertThat(EmailCursor.decode(" ")).isNull();
+	}
+
+	@Test
+	@DisplayName("형식이 깨진 토큰은 400")
+	void rejectsMalformedTokens() {
+		assertThatThrownBy(() -> EmailCursor.decode("not base64!")).isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> EmailCursor.decode(encode("no-separator"))).isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> EmailCursor.decode(encode("2025-13-01T00:00|1")))
+			.isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> EmailCursor.decode(encode("|abc"))).isInstanceOf(BadRequestException.class);
+	}
+
+	private String encode(String raw) {
+		return Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
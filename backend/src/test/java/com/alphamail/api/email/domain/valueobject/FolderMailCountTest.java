@@ -0,0 +1,48 @@
+package com.alphamail.api.email.domain.valueobject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FolderMailCountTest {
+
+	@Test
+	@DisplayName("반영 대기 중인 읽음 수를 읽은 수에 더한다")
+	void addsPendingReads() {
+		FolderMailCount count = new FolderMailCount(10, 3).withPendingReads(4);
+
+		assertThat(count).isEqualTo(new FolderMailCount(10, 7));
+		assertThat(count.unreadCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("읽은 수는 전체 수를 넘지 않는다")
+	void capsAtTotal() {
+		assertThat(new FolderMailCount(5, 4).withPendingReads(3)).isEqualTo(new FolderMailCount(5, 5));
+	}
+
+	@Test
+	@DisplayName("대기분이 없으면 그대로")
+	void ignoresNonPositive() {
+		FolderMailCount count = new FolderMailCount(5, 2);
+
+		assertThat(count.withPendingReads(0)).isSameAs(count);
+		assertThat(count.withPendingReads(-1)).isSameAs(count);
+	}
+
+	@Test
+	@DisplayName("빈 폴더는 0건, 0페이지")
+	void emptyCount() {
+		assertThat(FolderMailCount.empty()).isEqualTo(new FolderMailCount(0, 0));
+		assertThat(FolderMailCount.empty().pageCount(20)).isZero();
+	}
+
+	@Test
+	@DisplayName("페이지 수는 Page.getTotalPages와 같은 규칙")
+	void countsPages() {
+		assertThat(new FolderMailCount(40, 0).pageCount(20)).isEqualTo(2);
+		assertThat(new FolderMailCount(41, 0).pageCount(20)).isEqualTo(3);
+		assertThat(new FolderMailCount(41, 0).pageCount(0)).isEqualTo(1);
+	}
+}
@@ -0,0 +1,98 @@
+package com.alphamail.api.email.domain.valueobject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThreadIdTest {
+
+	private static final int HEADER_COUNT = 1_000;
+	private static final int ROUNDS = 5;
+	private static final int ITERATIONS = 20;
+
+	private static final List<String[]> HEADERS = new ArrayList<>();
+
+	@BeforeAll
+	static void setUp() {
+		// 긴 답장 체인(References 1~40개) + In-Reply-To + Message-ID
+		for (int i = 0; i < HEADER_COUNT; i++) {
+			StringBuilder references = new StringBuilder();
+			int depth = i % 40;
+			for (int j = 0; j < depth; j++) {
+				references.append(j == 0 ? "" : "\r\n ").append("<CAF").append(i).append('-').append(j)
+					.append("=x+y/z@mail.gmail.com>");
+			}
+			HEADERS.add(new String[] {references.toString(), "<parent-" + i + "@mail.example.com>",
+				"<0100018f-" + i + "@email.amazonses.com>"});
+		}
+	}
+
+	@Test
+	@DisplayName("기존 정규식 방식과 같은 스레드 ID를 만든다")
+	void matchesLegacyThreadIds() {
+		for (String[] header : HEADERS) {
+			assertThat(ThreadId.fromEmailHeaders(header[0], header[1], header[2]).getValue())
+				.isEqualTo(legacyThreadId(header[0], header[1], header[2]));
+		}
+	}
+
+	@Test
+	@DisplayName("스레드 ID 계산 시간 - 단일 패스 파서가 기존 정규식 방식보다 빠르다")
+	void parserIsFasterThanLegacyRegex() {
+		long legacyNanos = Long.MAX_VALUE;
+		long parserNanos = Long.MAX_VALUE;
+		// 라운드마다 번갈아 재고 가장 빠른 라운드끼리 비교 (JIT 워밍업/GC 흔들림 제외)
+		for (int round = 0; round < ROUNDS; round++) {
+			legacyNanos = Math.min(legacyNanos, measure(true));
+			parserNanos = Math.min(parserNanos, measure(false));
+		}
+		System.out.printf("ThreadId %d건 x %d회 - 정규식 %.1fms, 파서 %.1fms%n", HEADER_COUNT, ITERATIONS,
+			legacyNanos / 1e6, parserNanos / 1e6);
+
+		assertThat(parserNanos).isLessThan(legacyNanos);
+	}
+
+	private static long measure(boolean legacy) {
+		int hash = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			for (String[] header : HEADERS) {
+				String value = legacy
+					? legacyThreadId(header[0], header[1], header[2])
+					: ThreadId.fromEmailHeaders(header[0], header[1], header[2]).getValue();
+				hash += value.hashCode();
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		assertThat(hash).isNotNull();
+		return elapsed;
+	}
+
+	// 파서 도입 전 ThreadId.fromEmailHeaders (호출마다 Pattern.compile, 꺾쇠 replaceAll, 로그 제외)
+	private static String legacyThreadId(String references, String inReplyTo, String currMessageId) {
+		if (references != null && !references.isEmpty()) {
+			Matcher matcher = Pattern.compile("<([^>]+)>").matcher(references);
+			if (matcher.find()) {
+				return legacyId(matcher.group(0));
+			}
+		}
+		if (inReplyTo != null && !inReplyTo.isEmpty()) {
+			return legacyId(inReplyTo);
+		}
+		return legacyId(currMessageId);
+	}
+
+	private static String legacyId(String messageId) {
+		String cleanId = messageId.replaceAll("[<>]", "").trim();
+		return UUID.nameUUIDFromBytes(cleanId.getBytes(StandardCharsets.UTF_8)).toString();
+	}
+}
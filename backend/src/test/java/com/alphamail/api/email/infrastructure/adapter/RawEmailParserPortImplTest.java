@@ -0,0 +1,234 @@
+package com.alphamail.api.email.infrastructure.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.alphamail.api.email.domain.valueobject.ParsedInboundEmail;
+import com.alphamail.api.email.presentation.dto.AttachmentRequest;
+import com.alphamail.api.email.presentation.dto.ReceiveEmailRequest;
+import com.alphamail.api.global.s3.service.S3Service;
+
+import jakarta.activation.DataHandler;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import jakarta.mail.util.ByteArrayDataSource;
+
+class RawEmailParserPortImplTest {
+
+	private static final String RAW_KEY = "inbound/raw-1";
+	private static final String RECIPIENT = "me@alphamail.my";
+
+	@TempDir
+	Path spillDirectory;
+
+	private S3Service s3Service;
+	private RawEmailParserPortImpl parser;
+
+	@BeforeEach
+	void setUp() {
+		s3Service = mock(S3Service.class);
+		parser = new RawEmailParserPortImpl(s3Service, spillDirectory.toString(), "receivedAttachments/");
+		given(s3Service.uploadStream(anyString(), any(InputStream.class), anyString())).willAnswer(invocation -> {
+			try (InputStream content = invocation.getArgument(1)) {
+				return (long)content.readAllBytes().length;
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("본문은 문자열로, 첨부는 S3로 올리고 key만 담는다")
+	void parsesBodyAndUploadsAttachments() {
+		givenRawMessage("report.pdf");
+
+		ParsedInboundEmail parsed = parser.parse(RAW_KEY, RECIPIENT, request -> Optional.empty());
+
+		ReceiveEmailRequest request = parsed.request();
+		assertThat(parsed.isDuplicate()).isFalse();
+		assertThat(request.messageId()).isEqualTo("<raw-1@sender.example>");
+		assertThat(request.actualRecipient()).isEqualTo(RECIPIENT);
+		assertThat(request.text()).contains("본문입니다");
+		assertThat(request.attachments()).singleElement().satisfies(attachment -> {
+			assertThat(attachment.filename()).isEqualTo("report.pdf");
+			assertThat(attachment.s3Key()).startsWith("receivedAttachments/").endsWith("/0.pdf");
+			assertThat(attachment.size()).isEqualTo(11);
+		});
+		assertSpillDirectoryEmpty();
+	}
+
+	@Test
+	@DisplayName("이미 저장된 메일이면 헤더만 보고 첨부는 올리지 않는다")
+	void skipsUploadsForDuplicates() {
+		givenRawMessage("report.pdf");
+		List<ReceiveEmailRequest> checked = new ArrayList<>();
+
+		ParsedInboundEmail parsed = parser.parse(RAW_KEY, RECIPIENT, request -> {
+			checked.add(request);
+			return Optional.of(42);
+		});
+
+		assertThat(parsed.isDuplicate()).isTrue();
+		assertThat(parsed.duplicateEmailId()).isEqualTo(42);
+		assertThat(checked).singleElement().satisfies(request -> {
+			assertThat(request.messageId()).isEqualTo("<raw-1@sender.example>");
+			assertThat(request.actualRecipient()).isEqualTo(RECIPIENT);
+		});
+		verify(s3Service, never()).uploadStream(anyString(), any(InputStream.class), anyString());
+		assertSpillDirectoryEmpty();
+	}
+
+	@Test
+	@DisplayName("보낸 사람이 정한 파일명에서 영숫자 확장자만 key에 쓴다")
+	void sanitizesKeyExtension() {
+		assertThat(keyFor("Report.PDF")).endsWith("/0.PDF");
+		assertThat(keyFor("evil.p/../../x")).endsWith("/0");
+		assertThat(keyFor("payload.a b")).endsWith("/0");
+		assertThat(keyFor("archive.verylongextension")).endsWith("/0");
+		assertThat(keyFor("no-extension")).endsWith("/0");
+	}
+
+	@Test
+	@DisplayName("첨부 5개(각 8MB) 메일 - 파싱 중 힙에 남는 양이 업로드 파트 버퍼 크기를 넘지 않는다")
+	void keepsHeapBoundedByPartBuffer(@TempDir Path rawDirectory) throws Exception {
+		int attachmentCount = 5;
+		int attachmentSize = 8 * 1024 * 1024;
+		int partSize = 8 * 1024 * 1024;
+		Path raw = writeRawMessage(rawDirectory.resolve("raw.eml"), attachmentCount, attachmentSize);
+		given(s3Service.downloadFile(RAW_KEY)).willAnswer(invocation -> Files.newInputStream(raw));
+
+		// S3ServiceImpl.uploadStream처럼 파트 버퍼 하나로 읽어 올리는 스텁, 파트마다 GC 후 남은 힙을 잼
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		long baseline = retainedHeap(memory);
+		AtomicLong peak = new AtomicLong();
+		given(s3Service.uploadStream(anyString(), any(InputStream.class), anyString())).willAnswer(invocation -> {
+			byte[] part = new byte[partSize];
+			long size = 0;
+			try (InputStream content = invocation.getArgument(1)) {
+				int filled;
+				while ((filled = content.readNBytes(part, 0, part.length)) > 0) {
+					size += filled;
+					peak.accumulateAndGet(retainedHeap(memory) - baseline, Math::max);
+				}
+			}
+			return size;
+		});
+
+		ParsedInboundEmail parsed = parser.parse(RAW_KEY, RECIPIENT, request -> Optional.empty());
+
+		long attachmentBytes = (long)attachmentCount * attachmentSize;
+		System.out.printf("원본 %.1fMB, 첨부 %d개 %.1fMB - 파싱 중 최대 잔류 힙 %.1fMB (파트 버퍼 %.1fMB)%n",
+			Files.size(raw) / 1048576.0, attachmentCount, attachmentBytes / 1048576.0, peak.get() / 1048576.0,
+			partSize / 1048576.0);
+
+		assertThat(parsed.request().attachments()).hasSize(attachmentCount)
+			.allSatisfy(attachment -> assertThat(attachment.size()).isEqualTo(attachmentSize));
+		// 파트 버퍼 + 디코더/파일 버퍼 여유분(4MB)까지만, 첨부 합계와는 무관
+		assertThat(peak.get()).isLessThan(partSize + 4L * 1024 * 1024);
+		assertThat(peak.get()).isLessThan(attachmentBytes / 4);
+		assertSpillDirectoryEmpty();
+	}
+
+	private long retainedHeap(MemoryMXBean memory) {
+		System.gc();
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+
+	private Path writeRawMessage(Path file, int attachmentCount, int attachmentSize) throws Exception {
+		MimeMessage message = new MimeMessage(Session.getInstance(new Properties()));
+		message.setFrom(new InternetAddress("sender@sender.example"));
+		message.setRecipients(MimeMessage.RecipientType.TO, RECIPIENT);
+		message.setSubject("attachments", "UTF-8");
+
+		MimeMultipart multipart = new MimeMultipart();
+		MimeBodyPart text = new MimeBodyPart();
+		text.setText("본문입니다", "UTF-8");
+		multipart.addBodyPart(text);
+		byte[] content = new byte[attachmentSize];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte)i;
+		}
+		for (int i = 0; i < attachmentCount; i++) {
+			MimeBodyPart attachment = new MimeBodyPart();
+			attachment.setDataHandler(new DataHandler(new ByteArrayDataSource(content, "application/octet-stream")));
+			attachment.setFileName("data-" + i + ".bin");
+			multipart.addBodyPart(attachment);
+		}
+		message.setContent(multipart);
+		try (OutputStream out = Files.newOutputStream(file)) {
+			message.writeTo(out);
+		}
+		return file;
+	}
+
+	private String keyFor(String filename) {
+		givenRawMessage(filename);
+		List<AttachmentRequest> attachments = parser.parse(RAW_KEY, RECIPIENT, request -> Optional.empty())
+			.request()
+			.attachments();
+		assertThat(attachments).hasSize(1);
+		return attachments.get(0).s3Key();
+	}
+
+	private void givenRawMessage(String filename) {
+		String raw = String.join("\r\n",
+			"From: Sender <sender@sender.example>",
+			"To: " + RECIPIENT,
+			"Subject: raw",
+			"Message-ID: <raw-1@sender.example>",
+			"MIME-Version: 1.0",
+			"Content-Type: multipart/mixed; boundary=\"b1\"",
+			"",
+			"--b1",
+			"Content-Type: text/plain; charset=UTF-8",
+			"Content-Transfer-Encoding: 8bit",
+			"",
+			"본문입니다",
+			"--b1",
+			"Content-Type: application/octet-stream; name=\"" + filename + "\"",
+			"Content-Disposition: attachment; filename=\"" + filename + "\"",
+			"Content-Transfer-Encoding: base64",
+			"",
+			"aGVsbG8gd29ybGQ=",
+			"--b1--",
+			"");
+		given(s3Service.downloadFile(RAW_KEY))
+			.willAnswer(invocation -> new ByteArrayInputStream(raw.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private void assertSpillDirectoryEmpty() {
+		try (Stream<Path> files = Files.list(spillDirectory)) {
+			assertThat(files).isEmpty();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.alphamail.api.email.infrastructure.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.entity.EmailType;
+import com.alphamail.api.email.domain.valueobject.EmailSummary;
+import com.alphamail.api.email.infrastructure.projection.EmailHeaderView;
+import com.alphamail.api.email.infrastructure.projection.EmailSummaryView;
+
+class EmailMapperTest {
+
+	private static final LocalDateTime RECEIVED = LocalDateTime.of(2025, 5, 1, 9, 0);
+
+	// 헤더/목록 매핑은 EntityReferenceFinder를 쓰지 않음
+	private final EmailMapper emailMapper = new EmailMapperImpl();
+
+	@Test
+	@DisplayName("목록 프로젝션은 헤더 컬럼만 요약으로 옮긴다")
+	void mapsSummaryView() {
+		EmailSummaryView view = mock(EmailSummaryView.class);
+		given(view.getEmailId()).willReturn(7);
+		given(view.getSender()).willReturn("a@alphamail.my");
+		given(view.getSubject()).willReturn("견적 요청");
+		given(view.getReceivedDateTime()).willReturn(RECEIVED);
+		given(view.getReadStatus()).willReturn(true);
+		given(view.getOriginalFolderId()).willReturn(2);
+
+		assertThat(emailMapper.toSummary(view))
+			.isEqualTo(new EmailSummary(7, "a@alphamail.my", "견적 요청", RECEIVED, null, true, 2));
+	}
+
+	@Test
+	@DisplayName("상세 헤더 프로젝션은 본문 없이 나머지를 채운다")
+	void mapsHeaderViewWithoutBody() {
+		EmailHeaderView view = mock(EmailHeaderView.class);
+		given(view.getEmailId()).willReturn(7);
+		given(view.getFolderId()).willReturn(1);
+		given(view.getUserId()).willReturn(3);
+		given(view.getRecipients()).willReturn(List.of("b@alphamail.my"));
+		given(view.getThreadId()).willReturn("thread-1");
+		given(view.getEmailType()).willReturn(EmailType.RECEIVED);
+
+		Email email = emailMapper.toDomain(view);
+
+		assertThat(email.getEmailId()).isEqualTo(7);
+		assertThat(email.getFolderId()).isEqualTo(1);
+		assertThat(email.getUserId()).isEqualTo(3);
+		assertThat(email.getRecipients()).containsExactly("b@alphamail.my");
+		assertThat(email.getThreadId()).isEqualTo("thread-1");
+		assertThat(email.getEmailType()).isEqualTo(EmailType.RECEIVED);
+		assertThat(email.getBodyText()).isNull();
+		assertThat(email.getBodyHtml()).isNull();
+	}
+
+	@Test
+	@DisplayName("null 프로젝션은 null")
+	void mapsNullToNull() {
+		assertThat(emailMapper.toSummary(null)).isNull();
+		assertThat(emailMapper.toDomain((EmailHeaderView)null)).isNull();
+	}
+}
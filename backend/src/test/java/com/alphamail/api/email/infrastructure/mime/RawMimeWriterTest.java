@@ -0,0 +1,144 @@
+package com.alphamail.api.email.infrastructure.mime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.sun.management.ThreadMXBean;
+
+import jakarta.activation.DataHandler;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import jakarta.mail.util.ByteArrayDataSource;
+
+class RawMimeWriterTest {
+
+	@TempDir
+	Path spillDirectory;
+
+	@Test
+	@DisplayName("한도 이하면 힙 버퍼에 writeTo와 같은 바이트를 담는다")
+	void writesToHeapBuffer() throws Exception {
+		RawMimeWriter writer = new RawMimeWriter(8 * 1024 * 1024, spillDirectory.toString());
+		MimeMessage message = message(4096);
+
+		ByteBuffer buffer = writer.write(message, 5, 4096);
+
+		assertThat(buffer.isDirect()).isFalse();
+		assertThat(bytesOf(buffer)).isEqualTo(serialize(message));
+	}
+
+	@Test
+	@DisplayName("예상 크기보다 커져도 버퍼를 키워서 모두 담는다")
+	void growsWhenEstimateIsTooSmall() throws Exception {
+		RawMimeWriter writer = new RawMimeWriter(8 * 1024 * 1024, spillDirectory.toString());
+		MimeMessage message = message(64 * 1024);
+
+		// 첨부 크기를 0으로 알려 예상 크기를 일부러 작게
+		ByteBuffer buffer = writer.write(message, 5, 0);
+
+		assertThat(bytesOf(buffer)).isEqualTo(serialize(message));
+	}
+
+	@Test
+	@DisplayName("한도를 넘으면 임시 파일을 매핑하고 파일은 바로 지운다")
+	void spillsToMappedFile() throws Exception {
+		RawMimeWriter writer = new RawMimeWriter(1024, spillDirectory.toString());
+		MimeMessage message = message(4096);
+
+		ByteBuffer buffer = writer.write(message, 5, 4096);
+
+		assertThat(buffer).isInstanceOf(MappedByteBuffer.class);
+		assertThat(bytesOf(buffer)).isEqualTo(serialize(message));
+		try (Stream<Path> files = Files.list(spillDirectory)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@ParameterizedTest(name = "첨부 {0}MB")
+	@ValueSource(ints = {1, 10, 40})
+	@DisplayName("직렬화 중 할당량 - ByteArrayOutputStream + toByteArray 방식보다 적게 할당한다")
+	void allocatesLessThanByteArrayOutputStream(int megabytes) throws Exception {
+		int attachmentSize = megabytes * 1024 * 1024;
+		MimeMessage message = message(attachmentSize);
+		// 한도를 넉넉히 잡아 힙 버퍼 경로끼리 비교 (기본 한도면 10/40MB는 임시 파일로 빠져 힙 할당이 더 적음)
+		RawMimeWriter heapWriter = new RawMimeWriter(256L * 1024 * 1024, spillDirectory.toString());
+		RawMimeWriter defaultWriter = new RawMimeWriter(8L * 1024 * 1024, spillDirectory.toString());
+		// 클래스 로딩/첫 인코딩 할당을 측정에서 빼기 위한 워밍업
+		serialize(message(1024));
+		heapWriter.write(message(1024), 5, 1024);
+
+		long legacy = allocatedBytes(() -> ByteBuffer.wrap(serialize(message)));
+		long heap = allocatedBytes(() -> heapWriter.write(message, 5, attachmentSize));
+		long defaults = allocatedBytes(() -> defaultWriter.write(message, 5, attachmentSize));
+		System.out.printf("첨부 %dMB 직렬화 할당 - 기존 %.1fMB, 힙 버퍼 %.1fMB, 기본 설정 %.1fMB%n", megabytes,
+			legacy / 1048576.0, heap / 1048576.0, defaults / 1048576.0);
+
+		// 기존: 두 배씩 키운 배열들(약 2x) + toByteArray 사본(1x), 새 방식: 예상 크기 배열 하나(1x) + 인코딩 버퍼
+		assertThat(heap).isLessThan(legacy * 2 / 3);
+		assertThat(defaults).isLessThanOrEqualTo(heap + 1024 * 1024);
+	}
+
+	private long allocatedBytes(Callable<ByteBuffer> serialization) throws Exception {
+		ThreadMXBean threads = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(threadId);
+		ByteBuffer buffer = serialization.call();
+		long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+		assertThat(buffer.remaining()).isPositive();
+		return allocated;
+	}
+
+	private MimeMessage message(int attachmentSize) throws Exception {
+		MimeMessage message = new MimeMessage(Session.getInstance(new Properties()));
+		message.setFrom(new InternetAddress("sender@alphamail.my"));
+		message.setSubject("raw mime", "UTF-8");
+
+		MimeBodyPart text = new MimeBodyPart();
+		text.setText("hello", "UTF-8");
+		MimeBodyPart attachment = new MimeBodyPart();
+		byte[] content = new byte[attachmentSize];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte)i;
+		}
+		attachment.setDataHandler(new DataHandler(new ByteArrayDataSource(content, "application/octet-stream")));
+		attachment.setFileName("data.bin");
+
+		MimeMultipart multipart = new MimeMultipart();
+		multipart.addBodyPart(text);
+		multipart.addBodyPart(attachment);
+		message.setContent(multipart);
+		// 두 번 직렬화해도 Message-ID/경계가 같도록 헤더를 먼저 확정
+		message.saveChanges();
+		return message;
+	}
+
+	private byte[] serialize(MimeMessage message) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		message.writeTo(out);
+		return out.toByteArray();
+	}
+
+	private byte[] bytesOf(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.duplicate().get(bytes);
+		return bytes;
+	}
+}
@@ -0,0 +1,108 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.alphamail.api.email.domain.valueobject.FolderMailCount;
+import com.alphamail.api.email.infrastructure.entity.EmailFolderCounterEntity;
+import com.alphamail.api.email.infrastructure.projection.FolderCountView;
+
+// insertFromEmails(INSERT ... ON CONFLICT)는 H2가 지원하지 않아 분기만 확인
+@ExtendWith(MockitoExtension.class)
+class EmailFolderCounterRepositoryImplTest {
+
+	private static final int FOLDER_ID = 1;
+
+	@Mock
+	private EmailFolderCounterJpaRepository emailFolderCounterJpaRepository;
+
+	@InjectMocks
+	private EmailFolderCounterRepositoryImpl emailFolderCounterRepository;
+
+	@Test
+	@DisplayName("카운터 행이 있으면 증감만 더한다")
+	void incrementAddsDeltaToExistingRow() {
+		given(emailFolderCounterJpaRepository.addDelta(FOLDER_ID, 1, 0)).willReturn(1);
+
+		emailFolderCounterRepository.increment(FOLDER_ID, 1, 0);
+
+		verify(emailFolderCounterJpaRepository, never()).insertFromEmails(anyInt());
+	}
+
+	@Test
+	@DisplayName("카운터 행이 없으면 변경을 flush한 뒤 집계로 행을 만들고 증감은 다시 더하지 않는다")
+	void incrementSeedsMissingRowFromEmails() {
+		given(emailFolderCounterJpaRepository.addDelta(FOLDER_ID, 1, 0)).willReturn(0);
+		given(emailFolderCounterJpaRepository.insertFromEmails(FOLDER_ID)).willReturn(1);
+
+		emailFolderCounterRepository.increment(FOLDER_ID, 1, 0);
+
+		InOrder order = inOrder(emailFolderCounterJpaRepository);
+		order.verify(emailFolderCounterJpaRepository).addDelta(FOLDER_ID, 1, 0);
+		order.verify(emailFolderCounterJpaRepository).flush();
+		order.verify(emailFolderCounterJpaRepository).insertFromEmails(FOLDER_ID);
+		order.verifyNoMoreInteractions();
+	}
+
+	@Test
+	@DisplayName("다른 트랜잭션이 먼저 행을 만들었으면 그 행에 증감을 더한다")
+	void incrementAddsDeltaWhenSeedLosesRace() {
+		given(emailFolderCounterJpaRepository.addDelta(FOLDER_ID, -2, -1)).willReturn(0, 1);
+		given(emailFolderCounterJpaRepository.insertFromEmails(FOLDER_ID)).willReturn(0);
+
+		emailFolderCounterRepository.increment(FOLDER_ID, -2, -1);
+
+		verify(emailFolderCounterJpaRepository, times(2)).addDelta(FOLDER_ID, -2, -1);
+	}
+
+	@Test
+	@DisplayName("재집계는 잠근 행과 집계가 다를 때만 덮어쓰고 고치기 전 값을 돌려준다")
+	void recountOverwritesOnlyDrift() {
+		given(emailFolderCounterJpaRepository.findByIdForUpdate(FOLDER_ID))
+			.willReturn(Optional.of(counter(5, 2)), Optional.of(counter(3, 1)));
+		given(emailFolderCounterJpaRepository.countEmails(FOLDER_ID)).willReturn(view(3, 1));
+
+		assertThat(emailFolderCounterRepository.recount(FOLDER_ID)).contains(new FolderMailCount(5, 2));
+		assertThat(emailFolderCounterRepository.recount(FOLDER_ID)).isEmpty();
+
+		verify(emailFolderCounterJpaRepository, times(1)).overwrite(FOLDER_ID, 3, 1);
+	}
+
+	private static EmailFolderCounterEntity counter(int total, int read) {
+		return EmailFolderCounterEntity.builder()
+			.folderId(FOLDER_ID)
+			.userId(1)
+			.totalCount(total)
+			.readCount(read)
+			.build();
+	}
+
+	private static FolderCountView view(long total, long read) {
+		return new FolderCountView() {
+			@Override
+			public Long getTotalCount() {
+				return total;
+			}
+
+			@Override
+			public Long getReadCount() {
+				return read;
+			}
+		};
+	}
+}
@@ -0,0 +1,120 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.alphamail.api.email.domain.repository.EmailFolderCounterRepository;
+import com.alphamail.api.email.domain.repository.EmailSearchIndexRepository;
+import com.alphamail.api.email.domain.repository.EmailThreadRepository;
+import com.alphamail.api.email.domain.valueobject.EmailCursor;
+import com.alphamail.api.email.domain.valueobject.EmailSummary;
+import com.alphamail.api.email.infrastructure.mapper.EmailMapperImpl;
+import com.alphamail.common.mapper.EntityReferenceFinder;
+
+// H2는 DEFAULT_NULL_ORDERING=HIGH -> PostgreSQL처럼 DESC에서 NULL이 먼저
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql({"/sql/h2-postgres-tables.sql", "/sql/h2-mailbox-fixture.sql"})
+@Import({EmailRepositoryImpl.class, EmailMapperImpl.class, EntityReferenceFinder.class})
+class EmailListOrderTest {
+
+	private static final int FOLDER_ID = 1;
+	private static final int USER_ID = 1;
+	private static final int PAGE_SIZE = 4;
+	private static final String SORT_FIELD = "receivedDateTime";
+
+	@Autowired
+	private EmailRepositoryImpl emailRepository;
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	@MockitoBean
+	private EmailFolderCounterRepository emailFolderCounterRepository;
+	@MockitoBean
+	private EmailSearchIndexRepository emailSearchIndexRepository;
+	@MockitoBean
+	private EmailThreadRepository emailThreadRepository;
+
+	@BeforeEach
+	void setUp() {
+		// 같은 날짜 묶음과 날짜 없는 메일이 페이지 경계에 걸치도록
+		LocalDateTime base = LocalDateTime.of(2025, 5, 1, 9, 0);
+		List<LocalDateTime> dates = new ArrayList<>();
+		dates.add(base);
+		dates.add(null);
+		dates.add(base.plusHours(1));
+		dates.add(base);
+		dates.add(null);
+		dates.add(base.plusHours(2));
+		dates.add(base.plusHours(1));
+		dates.add(null);
+		dates.add(base);
+		dates.add(base.plusHours(3));
+		for (LocalDateTime date : dates) {
+			testEntityManager.getEntityManager().createNativeQuery("INSERT INTO emails (folder_id, user_id, "
+					+ "has_attachment, read_status, received_date_time, sender, subject, recipients, email_type) "
+					+ "VALUES (:folderId, :userId, false, false, :receivedAt, 'sender@alphamail.my', 'subject', "
+					+ "ARRAY['a@x.com'], 'RECEIVED')")
+				.setParameter("folderId", FOLDER_ID)
+				.setParameter("userId", USER_ID)
+				.setParameter("receivedAt", date)
+				.executeUpdate();
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(Sort.Direction.class)
+	@DisplayName("페이지 번호 방식과 keyset 방식이 같은 순서로 메일을 돌려준다 (날짜 없는 메일은 항상 뒤)")
+	void offsetAndKeysetAgree(Sort.Direction direction) {
+		List<EmailSummary> offset = new ArrayList<>();
+		Slice<EmailSummary> slice;
+		int page = 0;
+		do {
+			slice = emailRepository.findByFolderIdAndUserId(FOLDER_ID, USER_ID,
+				PageRequest.of(page++, PAGE_SIZE, Sort.by(direction, SORT_FIELD)));
+			offset.addAll(slice.getContent());
+		} while (slice.hasNext());
+
+		List<Integer> keyset = new ArrayList<>();
+		EmailCursor cursor = null;
+		while (true) {
+			List<EmailSummary> fetched = emailRepository.findByFolderIdAndUserIdAfter(FOLDER_ID, USER_ID, cursor,
+				SORT_FIELD, direction, PAGE_SIZE);
+			fetched.forEach(summary -> keyset.add(summary.emailId()));
+			if (fetched.size() < PAGE_SIZE) {
+				break;
+			}
+			EmailSummary last = fetched.get(fetched.size() - 1);
+			cursor = new EmailCursor(last.receivedDateTime(), last.emailId());
+		}
+
+		List<Integer> offsetIds = offset.stream().map(EmailSummary::emailId).toList();
+		assertThat(offsetIds).hasSize(10).doesNotHaveDuplicates().isEqualTo(keyset);
+		List<EmailSummary> undated = offset.subList(7, 10);
+		assertThat(undated).extracting(EmailSummary::receivedDateTime).containsOnlyNulls();
+		assertThat(undated).extracting(EmailSummary::emailId).isSortedAccordingTo(direction.isAscending()
+			? Comparator.<Integer>naturalOrder()
+			: Comparator.<Integer>reverseOrder());
+	}
+}
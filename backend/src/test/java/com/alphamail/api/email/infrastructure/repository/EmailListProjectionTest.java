@@ -0,0 +1,140 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.alphamail.api.email.infrastructure.entity.EmailEntity;
+import com.alphamail.api.email.infrastructure.projection.EmailSummaryView;
+import com.alphamail.common.jpa.CapturingStatementInspector;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql({"/sql/h2-postgres-tables.sql", "/sql/h2-mailbox-fixture.sql"})
+class EmailListProjectionTest {
+
+	private static final int FOLDER_ID = 1;
+	private static final int USER_ID = 1;
+	private static final int PAGE_SIZE = 50;
+	private static final int BODY_LENGTH = 20_000;
+
+	@Autowired
+	private EmailJpaRepository emailJpaRepository;
+	@Autowired
+	private TestEntityManager testEntityManager;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		// 본문 20KB(text + html), 수신자 5명인 메일 한 페이지
+		String body = "x".repeat(BODY_LENGTH);
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			testEntityManager.getEntityManager().createNativeQuery("INSERT INTO emails (folder_id, user_id, "
+					+ "has_attachment, read_status, received_date_time, sender, subject, body_text, body_html, "
+					+ "recipients, email_type) VALUES (:folderId, :userId, false, false, "
+					+ ":receivedAt, 'sender@alphamail.my', "
+					+ ":subject, :body, :body, ARRAY['a@x.com', 'b@x.com', 'c@x.com', 'd@x.com', 'e@x.com'], "
+					+ "'RECEIVED')")
+				.setParameter("folderId", FOLDER_ID)
+				.setParameter("userId", USER_ID)
+				.setParameter("receivedAt", LocalDateTime.of(2025, 5, 1, 9, 0).plusMinutes(i))
+				.setParameter("subject", "subject " + i)
+				.setParameter("body", body)
+				.executeUpdate();
+		}
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	@DisplayName("목록 한 페이지 - 엔티티 조회 대비 읽는 컬럼/바이트가 줄고 영속성 컨텍스트에 엔티티를 올리지 않는다")
+	void listPageSelectsHeaderColumnsOnly() {
+		PageRequest page = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "receivedDateTime"));
+
+		// 이전: 엔티티 Slice (모든 컬럼)
+		Measurement before = measure(() -> testEntityManager.getEntityManager()
+			.createQuery("SELECT e FROM EmailEntity e WHERE e.folder.emailFolderId = :folderId "
+				+ "AND e.user.userId = :userId ORDER BY e.receivedDateTime DESC", EmailEntity.class)
+			.setParameter("folderId", FOLDER_ID)
+			.setParameter("userId", USER_ID)
+			.setMaxResults(PAGE_SIZE + 1)
+			.getResultList()
+			.size());
+		// 이후: EmailSummaryView 프로젝션
+		Measurement after = measure(() -> emailJpaRepository
+			.findSliceByFolder_EmailFolderIdAndUser_UserId(FOLDER_ID, USER_ID, page)
+			.getNumberOfElements());
+
+		System.out.printf("목록 %d건 - 이전: 컬럼 %d개, %,d바이트, 엔티티 로드 %d / 이후: 컬럼 %d개, %,d바이트, 엔티티 로드 %d%n",
+			PAGE_SIZE, before.columns().size(), before.bytes(), before.entityLoads(), after.columns().size(),
+			after.bytes(), after.entityLoads());
+
+		assertThat(before.rows()).isEqualTo(PAGE_SIZE);
+		assertThat(after.rows()).isEqualTo(PAGE_SIZE);
+		assertThat(after.columns()).doesNotContain("body_text", "body_html", "recipients");
+		assertThat(after.columns().size()).isLessThan(before.columns().size() / 2);
+		assertThat(after.bytes()).isLessThan(before.bytes() / 100);
+		assertThat(before.entityLoads()).isEqualTo(PAGE_SIZE);
+		assertThat(after.entityLoads()).isZero();
+	}
+
+	private Measurement measure(RowQuery query) {
+		testEntityManager.clear();
+		statistics.clear();
+		CapturingStatementInspector.clear();
+
+		int rows = query.run();
+
+		long entityLoads = statistics.getEntityLoadCount();
+		String sql = CapturingStatementInspector.statements().stream()
+			.filter(statement -> statement.toLowerCase(Locale.ROOT).startsWith("select"))
+			.findFirst()
+			.orElseThrow();
+		List<String> columns = CapturingStatementInspector.selectedColumns(sql);
+		return new Measurement(rows, columns, selectedBytes(columns), entityLoads);
+	}
+
+	// 페이지 전체 행에서 선택한 컬럼 값의 바이트 합
+	private long selectedBytes(List<String> columns) {
+		StringBuilder sum = new StringBuilder("SELECT ");
+		for (int i = 0; i < columns.size(); i++) {
+			sum.append(i == 0 ? "" : " + ")
+				.append("COALESCE(SUM(OCTET_LENGTH(CAST(").append(columns.get(i)).append(" AS VARCHAR))), 0)");
+		}
+		sum.append(" FROM emails WHERE folder_id = :folderId AND user_id = :userId");
+		Number bytes = (Number)testEntityManager.getEntityManager().createNativeQuery(sum.toString())
+			.setParameter("folderId", FOLDER_ID)
+			.setParameter("userId", USER_ID)
+			.getSingleResult();
+		return bytes.longValue();
+	}
+
+	@FunctionalInterface
+	private interface RowQuery {
+		int run();
+	}
+
+	private record Measurement(int rows, List<String> columns, long bytes, long entityLoads) {
+	}
+}
@@ -0,0 +1,58 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.alphamail.api.email.domain.valueobject.EmailThreadKey;
+import com.alphamail.api.email.infrastructure.mapper.EmailThreadMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 네이티브 문장(jsonb_to_recordset)은 H2가 지원하지 않아 호출 순서만 확인
+class EmailThreadRepositoryImplTest {
+
+	private final EmailThreadJpaRepository emailThreadJpaRepository = mock(EmailThreadJpaRepository.class);
+	private final EmailMessageThreadJpaRepository emailMessageThreadJpaRepository =
+		mock(EmailMessageThreadJpaRepository.class);
+	private final EmailFolderThreadJpaRepository emailFolderThreadJpaRepository =
+		mock(EmailFolderThreadJpaRepository.class);
+	private final EmailJpaRepository emailJpaRepository = mock(EmailJpaRepository.class);
+
+	private EmailThreadRepositoryImpl emailThreadRepository;
+
+	@BeforeEach
+	void setUp() {
+		emailThreadRepository = new EmailThreadRepositoryImpl(emailThreadJpaRepository,
+			emailMessageThreadJpaRepository, emailFolderThreadJpaRepository, emailJpaRepository,
+			mock(EmailThreadMapper.class), new ObjectMapper(), 20, 20);
+	}
+
+	@Test
+	@DisplayName("영구 삭제는 남은 메일로 매핑을 다시 맞춘 뒤 메일이 없는 Message-ID 매핑을 지운다")
+	void purgeDeletesMappingsAfterRefresh() {
+		emailThreadRepository.purge(List.of(new EmailThreadKey(1, "t1"), new EmailThreadKey(1, "t1")));
+
+		InOrder order = inOrder(emailJpaRepository, emailThreadJpaRepository, emailMessageThreadJpaRepository);
+		order.verify(emailJpaRepository).flush();
+		order.verify(emailThreadJpaRepository).upsertFromEmails(anyString(), anyInt());
+		order.verify(emailMessageThreadJpaRepository).upsertFromEmails(anyString());
+		order.verify(emailMessageThreadJpaRepository).deleteWithoutEmails(anyString());
+	}
+
+	@Test
+	@DisplayName("스레드가 없는 메일만 지웠으면 아무것도 하지 않는다")
+	void purgeSkipsEmptyKeys() {
+		emailThreadRepository.purge(List.of(new EmailThreadKey(1, null)));
+
+		verifyNoInteractions(emailMessageThreadJpaRepository, emailThreadJpaRepository);
+	}
+}
@@ -0,0 +1,91 @@
+package com.alphamail.api.email.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.alphamail.api.email.domain.entity.InboundEmailEnvelope;
+import com.alphamail.api.email.domain.entity.InboundEmailFormat;
+import com.alphamail.api.email.domain.entity.InboundEmailStatus;
+import com.alphamail.api.email.infrastructure.entity.InboundEmailEnvelopeEntity;
+import com.alphamail.api.email.infrastructure.mapper.InboundEmailMapper;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({InboundEmailEnvelopeRepositoryImpl.class, InboundEmailMapper.class})
+class InboundEmailEnvelopeRepositoryImplTest {
+
+	private static final int MAX_ATTEMPTS = 5;
+
+	@Autowired
+	private InboundEmailEnvelopeRepositoryImpl inboundEmailEnvelopeRepository;
+	@Autowired
+	private InboundEmailEnvelopeJpaRepository inboundEmailEnvelopeJpaRepository;
+
+	@Test
+	@DisplayName("멈춘 봉투는 시도 횟수를 올려 PENDING으로, 마지막 시도였으면 DEAD로 바꾸고 새로 선점된 봉투는 그대로 둔다")
+	void requeueCountsAttemptsAndDeadLettersAtLimit() throws Exception {
+		Long fresh = save(0);
+		Long exhausted = save(MAX_ATTEMPTS - 1);
+		inboundEmailEnvelopeRepository.claimPending(10);
+		Thread.sleep(5);
+		LocalDateTime cutoff = LocalDateTime.now();
+		Thread.sleep(5);
+		Long running = save(0);
+		inboundEmailEnvelopeRepository.claimPending(10);
+
+		List<InboundEmailEnvelope> stale = inboundEmailEnvelopeRepository.requeueStale(cutoff, MAX_ATTEMPTS, "stale");
+
+		assertThat(stale).extracting(InboundEmailEnvelope::getEnvelopeId).containsExactly(fresh, exhausted);
+		assertThat(stale).extracting(InboundEmailEnvelope::getStatus)
+			.containsExactly(InboundEmailStatus.PENDING, InboundEmailStatus.DEAD);
+		assertState(fresh, InboundEmailStatus.PENDING, 1);
+		assertState(exhausted, InboundEmailStatus.DEAD, MAX_ATTEMPTS);
+		assertState(running, InboundEmailStatus.PROCESSING, 0);
+		assertThat(find(fresh).getLastError()).isEqualTo("stale");
+	}
+
+	@Test
+	@DisplayName("매번 워커를 멈추게 하는 봉투는 재선점될 때마다 시도가 쌓여 max-attempts에서 DEAD가 된다")
+	void repeatedStallsEndInDead() throws Exception {
+		Long envelopeId = save(0);
+
+		for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+			assertThat(inboundEmailEnvelopeRepository.claimPending(10)).hasSize(1);
+			Thread.sleep(2);
+			inboundEmailEnvelopeRepository.requeueStale(LocalDateTime.now(), MAX_ATTEMPTS, "stale");
+			assertThat(find(envelopeId).getAttempts()).isEqualTo(attempt);
+		}
+
+		assertState(envelopeId, InboundEmailStatus.DEAD, MAX_ATTEMPTS);
+		assertThat(inboundEmailEnvelopeRepository.claimPending(10)).isEmpty();
+	}
+
+	private Long save(int attempts) {
+		InboundEmailEnvelope envelope = InboundEmailEnvelope.accept("<m@x>", "{}", InboundEmailFormat.JSON)
+			.toBuilder()
+			.attempts(attempts)
+			.build();
+		return inboundEmailEnvelopeRepository.save(envelope).getEnvelopeId();
+	}
+
+	private void assertState(Long envelopeId, InboundEmailStatus status, int attempts) {
+		InboundEmailEnvelopeEntity entity = find(envelopeId);
+		assertThat(entity.getStatus()).isEqualTo(status);
+		assertThat(entity.getAttempts()).isEqualTo(attempts);
+	}
+
+	private InboundEmailEnvelopeEntity find(Long envelopeId) {
+		return inboundEmailEnvelopeJpaRepository.findById(envelopeId).orElseThrow();
+	}
+}
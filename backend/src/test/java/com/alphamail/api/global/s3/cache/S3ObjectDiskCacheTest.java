@@ -0,0 +1,67 @@
+package com.alphamail.api.global.s3.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.alphamail.api.global.s3.cache.S3ObjectDiskCache.CachedContent;
+
+class S3ObjectDiskCacheTest {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@DisplayName("기동 시 이 캐시가 만든 파일만 지우고 설정 디렉터리의 다른 파일은 남긴다")
+	void cleansOnlyOwnFilesOnStartup() throws Exception {
+		Path unrelated = Files.writeString(directory.resolve("notes.txt"), "keep");
+		Path leftover = Files.writeString(directory.resolve("s3-cache-old.bin"), "stale");
+
+		new S3ObjectDiskCache(true, directory.toString(), 1024, 1024);
+
+		assertThat(unrelated).exists();
+		assertThat(leftover).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("열어서 넘긴 파일은 읽는 도중 eviction으로 지워져도 끝까지 읽힌다")
+	void openedContentSurvivesEviction() throws Exception {
+		S3ObjectDiskCache cache = new S3ObjectDiskCache(true, directory.toString(), 10, 10);
+		put(cache, "a", "aaaaaaaa").close();
+
+		CachedContent opened = cache.open("a").orElseThrow();
+		put(cache, "b", "bbbbbbbb").close();
+
+		assertThat(opened.object().path()).doesNotExist();
+		assertThat(cache.open("a")).isEmpty();
+		try (InputStream content = opened.inputStream(2, 4)) {
+			assertThat(new String(content.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("aaaa");
+		}
+		assertThat(opened.channel().isOpen()).isFalse();
+	}
+
+	@Test
+	@DisplayName("지정한 구간만 읽는다")
+	void readsRequestedRange() throws Exception {
+		S3ObjectDiskCache cache = new S3ObjectDiskCache(true, directory.toString(), 1024, 1024);
+
+		try (CachedContent content = put(cache, "a", "0123456789");
+			InputStream range = content.inputStream(3, 4)) {
+			assertThat(new String(range.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("3456");
+		}
+	}
+
+	private static CachedContent put(S3ObjectDiskCache cache, String s3Key, String content) throws Exception {
+		return cache.put(s3Key, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), "etag",
+			Instant.EPOCH, "text/plain");
+	}
+}
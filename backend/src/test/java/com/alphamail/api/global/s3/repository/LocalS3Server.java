@@ -0,0 +1,245 @@
+package com.alphamail.api.global.s3.repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 테스트용 S3 대역 (path-style, 인증 검사 없음)
+ * SDK가 실제로 보내는 요청(PUT, multipart 시작/파트/목록/완료/취소, GET, HEAD)만 메모리에 저장해서 응답
+ */
+class LocalS3Server implements AutoCloseable {
+
+	private static final String NAMESPACE = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+	private final HttpServer server;
+	private final ExecutorService handlers = Executors.newCachedThreadPool();
+	private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+	private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+	private final Map<String, String> uploadContentTypes = new ConcurrentHashMap<>();
+	private final AtomicInteger activeRequests = new AtomicInteger();
+	private final AtomicInteger maxActiveRequests = new AtomicInteger();
+
+	LocalS3Server() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(handlers);
+		server.start();
+	}
+
+	String endpoint() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	Optional<byte[]> object(String bucket, String key) {
+		return Optional.ofNullable(objects.get(bucket + "/" + key)).map(StoredObject::content);
+	}
+
+	Optional<String> contentType(String bucket, String key) {
+		return Optional.ofNullable(objects.get(bucket + "/" + key)).map(StoredObject::contentType);
+	}
+
+	int pendingUploads() {
+		return uploads.size();
+	}
+
+	int maxActiveRequests() {
+		return maxActiveRequests.get();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		handlers.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		int active = activeRequests.incrementAndGet();
+		maxActiveRequests.accumulateAndGet(active, Math::max);
+		try (exchange) {
+			String path = URLDecoder.decode(exchange.getRequestURI().getRawPath().substring(1),
+				StandardCharsets.UTF_8);
+			Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+			switch (exchange.getRequestMethod()) {
+				case "PUT" -> put(exchange, path, query);
+				case "POST" -> post(exchange, path, query);
+				case "GET", "HEAD" -> get(exchange, path, query);
+				case "DELETE" -> delete(exchange, path, query);
+				default -> exchange.sendResponseHeaders(405, -1);
+			}
+		} finally {
+			activeRequests.decrementAndGet();
+		}
+	}
+
+	private void put(HttpExchange exchange, String path, Map<String, String> query) throws IOException {
+		byte[] content = body(exchange);
+		String uploadId = query.get("uploadId");
+		if (uploadId != null) {
+			uploads.get(uploadId).put(Integer.parseInt(query.get("partNumber")), content);
+		} else {
+			objects.put(path, new StoredObject(content, exchange.getRequestHeaders().getFirst("Content-Type")));
+		}
+		// SDK는 PUT/파트 응답의 ETag를 보낸 내용의 MD5와 비교함
+		exchange.getResponseHeaders().set("ETag", "\"" + md5(content) + "\"");
+		exchange.sendResponseHeaders(200, -1);
+	}
+
+	private void post(HttpExchange exchange, String path, Map<String, String> query) throws IOException {
+		body(exchange);
+		String bucket = path.substring(0, path.indexOf('/'));
+		String key = path.substring(path.indexOf('/') + 1);
+		if (query.containsKey("uploads")) {
+			String uploadId = UUID.randomUUID().toString();
+			uploads.put(uploadId, new ConcurrentHashMap<>());
+			uploadContentTypes.put(uploadId, exchange.getRequestHeaders().getFirst("Content-Type"));
+			xml(exchange, "<InitiateMultipartUploadResult xmlns=\"" + NAMESPACE + "\"><Bucket>" + bucket
+				+ "</Bucket><Key>" + key + "</Key><UploadId>" + uploadId + "</UploadId>"
+				+ "</InitiateMultipartUploadResult>");
+			return;
+		}
+		String uploadId = query.get("uploadId");
+		ByteArrayOutputStream joined = new ByteArrayOutputStream();
+		for (byte[] part : new TreeMap<>(uploads.remove(uploadId)).values()) {
+			joined.writeBytes(part);
+		}
+		objects.put(path, new StoredObject(joined.toByteArray(), uploadContentTypes.remove(uploadId)));
+		xml(exchange, "<CompleteMultipartUploadResult xmlns=\"" + NAMESPACE + "\"><Bucket>" + bucket
+			+ "</Bucket><Key>" + key + "</Key><ETag>\"" + md5(joined.toByteArray()) + "-1\"</ETag>"
+			+ "</CompleteMultipartUploadResult>");
+	}
+
+	private void get(HttpExchange exchange, String path, Map<String, String> query) throws IOException {
+		if (query.containsKey("uploadId")) {
+			listParts(exchange, query.get("uploadId"));
+			return;
+		}
+		StoredObject object = objects.get(path);
+		if (object == null) {
+			byte[] error = ("<Error><Code>NoSuchKey</Code><Message>not found</Message></Error>")
+				.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "application/xml");
+			boolean head = "HEAD".equals(exchange.getRequestMethod());
+			exchange.sendResponseHeaders(404, head ? -1 : error.length);
+			if (!head) {
+				exchange.getResponseBody().write(error);
+			}
+			return;
+		}
+		exchange.getResponseHeaders().set("ETag", "\"" + md5(object.content()) + "\"");
+		if (object.contentType() != null) {
+			exchange.getResponseHeaders().set("Content-Type", object.contentType());
+		}
+		if ("HEAD".equals(exchange.getRequestMethod())) {
+			exchange.getResponseHeaders().set("Content-Length", String.valueOf(object.content().length));
+			exchange.sendResponseHeaders(200, -1);
+			return;
+		}
+		exchange.sendResponseHeaders(200, object.content().length);
+		exchange.getResponseBody().write(object.content());
+	}
+
+	// TransferManager는 병렬 파트 업로드 전에 이미 올라간 파트를 조회함
+	private void listParts(HttpExchange exchange, String uploadId) throws IOException {
+		StringBuilder parts = new StringBuilder();
+		new TreeMap<>(uploads.get(uploadId)).forEach((number, content) -> parts.append("<Part><PartNumber>")
+			.append(number).append("</PartNumber><ETag>\"").append(md5(content)).append("\"</ETag><Size>")
+			.append(content.length).append("</Size></Part>"));
+		xml(exchange, "<ListPartsResult xmlns=\"" + NAMESPACE + "\"><UploadId>" + uploadId
+			+ "</UploadId><IsTruncated>false</IsTruncated>" + parts + "</ListPartsResult>");
+	}
+
+	private void delete(HttpExchange exchange, String path, Map<String, String> query) throws IOException {
+		String uploadId = query.get("uploadId");
+		if (uploadId != null) {
+			uploads.remove(uploadId);
+			uploadContentTypes.remove(uploadId);
+		} else {
+			objects.remove(path);
+		}
+		exchange.sendResponseHeaders(204, -1);
+	}
+
+	// 서명된 스트리밍 업로드(aws-chunked)면 "크기;chunk-signature=...\r\n데이터\r\n" 조각을 풀어서 내용만 꺼냄
+	private byte[] body(HttpExchange exchange) throws IOException {
+		byte[] raw = exchange.getRequestBody().readAllBytes();
+		String sha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+		if (sha256 == null || !sha256.startsWith("STREAMING-")) {
+			return raw;
+		}
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		int position = 0;
+		while (position < raw.length) {
+			int lineEnd = indexOfCrlf(raw, position);
+			String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+			int size = Integer.parseInt(header.substring(0, header.indexOf(';')), 16);
+			if (size == 0) {
+				break;
+			}
+			content.write(raw, lineEnd + 2, size);
+			position = lineEnd + 2 + size + 2;
+		}
+		return content.toByteArray();
+	}
+
+	private static int indexOfCrlf(byte[] raw, int from) {
+		for (int i = from; i < raw.length - 1; i++) {
+			if (raw[i] == '\r' && raw[i + 1] == '\n') {
+				return i;
+			}
+		}
+		throw new IllegalStateException("잘린 aws-chunked 본문");
+	}
+
+	private static void xml(HttpExchange exchange, String body) throws IOException {
+		byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/xml");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private static Map<String, String> query(String rawQuery) {
+		Map<String, String> query = new HashMap<>();
+		if (rawQuery == null) {
+			return query;
+		}
+		for (String pair : rawQuery.split("&")) {
+			int equals = pair.indexOf('=');
+			String name = equals < 0 ? pair : pair.substring(0, equals);
+			String value = equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+			query.put(name, value);
+		}
+		return query;
+	}
+
+	private static String md5(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record StoredObject(byte[] content, String contentType) {
+	}
+}
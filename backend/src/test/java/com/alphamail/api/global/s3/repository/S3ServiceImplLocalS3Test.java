@@ -0,0 +1,155 @@
+package com.alphamail.api.global.s3.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.alphamail.common.exception.NotFoundException;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+
+/**
+ * 실제 AWS SDK 클라이언트를 로컬 S3 대역(LocalS3Server)에 붙여 요청/응답 마샬링까지 확인
+ * 클라이언트 설정은 AwsConfig의 aws.s3.endpoint 분기(path-style)와 같음
+ */
+class S3ServiceImplLocalS3Test {
+
+	private static final String BUCKET = "alphamail-test";
+	private static final int PART_SIZE = 5 * 1024 * 1024;
+	private static final long MULTIPART_THRESHOLD = 6L * 1024 * 1024;
+
+	private LocalS3Server server;
+	private AmazonS3 s3Client;
+	private S3ServiceImpl s3Service;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = new LocalS3Server();
+		s3Client = AmazonS3ClientBuilder.standard()
+			.withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+			.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(server.endpoint(), "ap-northeast-2"))
+			.withPathStyleAccessEnabled(true)
+			.build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (s3Service != null) {
+			s3Service.shutdown();
+		}
+		s3Client.shutdown();
+		server.close();
+	}
+
+	@Test
+	@DisplayName("작은 파일은 PUT, 임계값 이상은 TransferManager multipart로 올리고 그대로 내려받는다")
+	void uploadsAndDownloadsFiles() throws Exception {
+		s3Service = service(4, 100);
+		byte[] small = bytes(1024);
+		byte[] large = bytes(PART_SIZE * 2 + 123);
+
+		List<String> keys = s3Service.uploadFiles(List.of(
+			new MockMultipartFile("files", "small.pdf", "application/pdf", small),
+			new MockMultipartFile("files", "large.bin", "application/octet-stream", large)));
+
+		assertThat(keys.get(0)).endsWith(".pdf");
+		assertThat(keys.get(1)).endsWith(".bin");
+		assertThat(download(keys.get(0))).isEqualTo(small);
+		assertThat(download(keys.get(1))).isEqualTo(large);
+		assertThat(server.contentType(BUCKET, keys.get(1))).contains("application/octet-stream");
+		assertThat(server.pendingUploads()).isZero();
+	}
+
+	@Test
+	@DisplayName("클라이언트 파일명의 확장자가 영숫자가 아니면 key에 붙이지 않는다")
+	void dropsUnsafeExtensions() {
+		s3Service = service(4, 100);
+
+		List<String> keys = s3Service.uploadFiles(List.of(
+			new MockMultipartFile("files", "evil.p/../../x", "text/plain", bytes(10)),
+			new MockMultipartFile("files", "payload.a b", "text/plain", bytes(10)),
+			new MockMultipartFile("files", "archive.verylongextension", "text/plain", bytes(10))));
+
+		assertThat(keys).allSatisfy(key -> {
+			assertThat(key).startsWith("sendAttachments/").doesNotContain("..").doesNotContain(" ");
+			assertThat(key.substring("sendAttachments/".length())).doesNotContain("/").doesNotContain(".");
+			assertThat(server.object(BUCKET, key)).isPresent();
+		});
+		assertThat(s3Service.createUploadKey(7, "../../x.p/y")).startsWith("sendAttachments/7/")
+			.doesNotContain("..");
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 거절 대신 제출한 스레드가 직접 올리고, 동시 요청은 워커 + 호출 스레드를 넘지 않는다")
+	void boundsConcurrentUploads() throws Exception {
+		s3Service = service(1, 1);
+		List<MultipartFile> files = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			files.add(new MockMultipartFile("files", "f" + i + ".txt", "text/plain", bytes(64 * 1024)));
+		}
+
+		List<String> keys = s3Service.uploadFiles(files);
+
+		assertThat(keys).hasSize(files.size()).doesNotHaveDuplicates();
+		for (int i = 0; i < keys.size(); i++) {
+			assertThat(download(keys.get(i))).isEqualTo(files.get(i).getBytes());
+		}
+		assertThat(server.maxActiveRequests()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("길이를 모르는 큰 스트림은 파트 단위로 올리고 완료 후 남은 업로드가 없다")
+	void uploadsStreamInParts() throws Exception {
+		s3Service = service(4, 100);
+		byte[] content = bytes(PART_SIZE * 2 + 10);
+
+		long size = s3Service.uploadStream("receivedAttachments/a/0.bin", new ByteArrayInputStream(content),
+			"application/pdf");
+
+		assertThat(size).isEqualTo(content.length);
+		assertThat(download("receivedAttachments/a/0.bin")).isEqualTo(content);
+		assertThat(server.contentType(BUCKET, "receivedAttachments/a/0.bin")).contains("application/pdf");
+		assertThat(server.pendingUploads()).isZero();
+	}
+
+	@Test
+	@DisplayName("없는 객체는 조회 시 비어 있고 다운로드는 404")
+	void reportsMissingObjects() {
+		s3Service = service(4, 100);
+
+		assertThat(s3Service.findObject("missing")).isEmpty();
+		assertThatThrownBy(() -> s3Service.downloadFile("missing")).isInstanceOf(NotFoundException.class);
+	}
+
+	private S3ServiceImpl service(int concurrency, int queueCapacity) {
+		return new S3ServiceImpl(s3Client, BUCKET, concurrency, concurrency, queueCapacity, MULTIPART_THRESHOLD,
+			PART_SIZE, 600, 300);
+	}
+
+	private byte[] download(String key) throws Exception {
+		try (InputStream content = s3Service.downloadFile(key)) {
+			return content.readAllBytes();
+		}
+	}
+
+	private static byte[] bytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+}
@@ -0,0 +1,150 @@
+package com.alphamail.api.global.s3.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+class S3ServiceImplTest {
+
+	private static final String BUCKET = "alphamail-test";
+	private static final int PART_SIZE = 5 * 1024 * 1024;
+
+	private AmazonS3 s3Client;
+	private S3ServiceImpl s3Service;
+
+	@BeforeEach
+	void setUp() {
+		s3Client = mock(AmazonS3.class);
+		s3Service = new S3ServiceImpl(s3Client, BUCKET, 4, 4, 100, 16L * 1024 * 1024, PART_SIZE, 600, 300);
+	}
+
+	@AfterEach
+	void tearDown() {
+		s3Service.shutdown();
+	}
+
+	@Test
+	@DisplayName("여러 첨부를 동시에 올려도 키는 요청 순서대로, 원래 확장자를 붙여 반환")
+	void uploadsFilesConcurrentlyInOrder() {
+		given(s3Client.putObject(any(PutObjectRequest.class))).willReturn(new PutObjectResult());
+		List<MultipartFile> files = List.of(
+			new MockMultipartFile("files", "a.pdf", "application/pdf", new byte[100]),
+			new MockMultipartFile("files", "b.png", "image/png", new byte[200]),
+			new MockMultipartFile("files", "noext", "text/plain", new byte[10]));
+
+		List<String> keys = s3Service.uploadFiles(files);
+
+		assertThat(keys).hasSize(3);
+		assertThat(keys.get(0)).startsWith("sendAttachments/").endsWith(".pdf");
+		assertThat(keys.get(1)).endsWith(".png");
+		assertThat(keys.get(2)).doesNotContain(".");
+
+		ArgumentCaptor<PutObjectRequest> requests = ArgumentCaptor.forClass(PutObjectRequest.class);
+		verify(s3Client, times(3)).putObject(requests.capture());
+		assertThat(requests.getAllValues()).extracting(PutObjectRequest::getKey)
+			.containsExactlyInAnyOrderElementsOf(keys);
+	}
+
+	@Test
+	@DisplayName("하나라도 실패하면 원래 예외로 실패")
+	void propagatesUploadFailure() {
+		given(s3Client.putObject(any(PutObjectRequest.class))).willThrow(new AmazonServiceException("denied"));
+		List<MultipartFile> files = List.of(new MockMultipartFile("files", "a.pdf", "application/pdf", new byte[10]));
+
+		assertThatThrownBy(() -> s3Service.uploadFiles(files))
+			.isInstanceOf(RuntimeException.class)
+			.hasMessageContaining("S3 파일 업로드 실패");
+	}
+
+	@Test
+	@DisplayName("파트 하나보다 작은 스트림은 PUT 한 번")
+	void uploadsSmallStreamInOnePut() {
+		long size = s3Service.uploadStream("received/a", new ByteArrayInputStream(new byte[1024]), "image/png");
+
+		assertThat(size).isEqualTo(1024);
+		ArgumentCaptor<ObjectMetadata> metadata = ArgumentCaptor.forClass(ObjectMetadata.class);
+		verify(s3Client).putObject(eq(BUCKET), eq("received/a"), any(InputStream.class), metadata.capture());
+		assertThat(metadata.getValue().getContentLength()).isEqualTo(1024);
+		assertThat(metadata.getValue().getContentType()).isEqualTo("image/png");
+		verify(s3Client, never()).initiateMultipartUpload(any());
+	}
+
+	@Test
+	@DisplayName("큰 스트림은 파트 크기씩 순서대로 multipart 업로드")
+	void uploadsLargeStreamInParts() {
+		givenMultipartUpload();
+		given(s3Client.uploadPart(any(UploadPartRequest.class))).willAnswer(invocation -> {
+			UploadPartRequest request = invocation.getArgument(0);
+			UploadPartResult result = new UploadPartResult();
+			result.setPartNumber(request.getPartNumber());
+			result.setETag("etag-" + request.getPartNumber());
+			return result;
+		});
+
+		long size = s3Service.uploadStream("received/big", new ByteArrayInputStream(new byte[PART_SIZE * 2 + 10]),
+			"application/pdf");
+
+		assertThat(size).isEqualTo(PART_SIZE * 2 + 10);
+		ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+		verify(s3Client, times(3)).uploadPart(parts.capture());
+		assertThat(parts.getAllValues()).extracting(UploadPartRequest::getPartSize)
+			.containsExactly((long)PART_SIZE, (long)PART_SIZE, 10L);
+		ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+			ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+		verify(s3Client).completeMultipartUpload(complete.capture());
+		assertThat(complete.getValue().getPartETags()).extracting(PartETag::getPartNumber).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	@DisplayName("파트 업로드가 실패하면 multipart 업로드를 취소")
+	void abortsFailedMultipartUpload() {
+		givenMultipartUpload();
+		given(s3Client.uploadPart(any(UploadPartRequest.class))).willThrow(new AmazonServiceException("boom"));
+
+		assertThatThrownBy(() -> s3Service.uploadStream("received/big",
+			new ByteArrayInputStream(new byte[PART_SIZE + 1]), "application/pdf"))
+			.hasMessageContaining("S3 스트림 업로드 실패");
+
+		ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+		verify(s3Client).abortMultipartUpload(abort.capture());
+		assertThat(abort.getValue().getUploadId()).isEqualTo("upload-1");
+		verify(s3Client, never()).completeMultipartUpload(any());
+	}
+
+	private void givenMultipartUpload() {
+		InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+		initiated.setUploadId("upload-1");
+		given(s3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).willReturn(initiated);
+	}
+}
@@ -0,0 +1,64 @@
+package com.alphamail.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NearCacheTest {
+
+	private static final Duration LONG_TTL = Duration.ofMinutes(10);
+
+	@Test
+	@DisplayName("넣은 값을 그대로 돌려주고 remove/clear로 지운다")
+	void putsAndRemoves() {
+		NearCache<String> cache = new NearCache<>(10, LONG_TTL);
+		cache.put("a", "1");
+		cache.put("b", "2");
+
+		assertThat(cache.get("a")).isEqualTo("1");
+
+		cache.remove("a");
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.size()).isEqualTo(1);
+
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("가득 차면 가장 오래 안 쓴 항목부터 밀어낸다")
+	void evictsLeastRecentlyUsed() {
+		NearCache<String> cache = new NearCache<>(2, LONG_TTL);
+		cache.put("a", "1");
+		cache.put("b", "2");
+		cache.get("a");
+
+		cache.put("c", "3");
+
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a")).isEqualTo("1");
+		assertThat(cache.get("c")).isEqualTo("3");
+	}
+
+	@Test
+	@DisplayName("만료된 항목은 조회 시 지운다")
+	void expiresEntries() {
+		NearCache<String> cache = new NearCache<>(10, Duration.ZERO);
+		cache.put("a", "1");
+
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("크기가 0이면 아무것도 담지 않는다")
+	void disabledWhenSizeIsZero() {
+		NearCache<String> cache = new NearCache<>(0, LONG_TTL);
+		cache.put("a", "1");
+
+		assertThat(cache.get("a")).isNull();
+	}
+}
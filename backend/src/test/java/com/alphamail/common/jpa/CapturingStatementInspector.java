@@ -0,0 +1,46 @@
+package com.alphamail.common.jpa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 실행하는 SQL을 모아 두는 테스트용 inspector (application-h2.yaml에서 등록)
+public class CapturingStatementInspector implements StatementInspector {
+
+	private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+	public static void clear() {
+		STATEMENTS.clear();
+	}
+
+	public static List<String> statements() {
+		return List.copyOf(STATEMENTS);
+	}
+
+	// select 절에 나온 컬럼 수 (select ... from 사이의 쉼표 기준)
+	public static int selectedColumnCount(String sql) {
+		return selectedColumns(sql).size();
+	}
+
+	public static List<String> selectedColumns(String sql) {
+		String lower = sql.toLowerCase(Locale.ROOT);
+		int from = lower.indexOf(" from ");
+		int select = lower.indexOf("select ");
+		List<String> columns = new ArrayList<>();
+		for (String column : sql.substring(select + "select ".length(), from).split(",")) {
+			String name = column.trim().split("\\s+")[0];
+			int alias = name.indexOf('.');
+			columns.add(alias >= 0 ? name.substring(alias + 1) : name);
+		}
+		return columns;
+	}
+
+	@Override
+	public String inspect(String sql) {
+		STATEMENTS.add(sql);
+		return sql;
+	}
+}
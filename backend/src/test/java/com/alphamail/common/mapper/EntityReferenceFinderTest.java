@@ -0,0 +1,78 @@
+package com.alphamail.common.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.alphamail.api.email.infrastructure.entity.EmailFolderEntity;
+import com.alphamail.api.email.infrastructure.repository.EmailFolderJpaRepository;
+import com.alphamail.api.email.infrastructure.repository.EmailJpaRepository;
+import com.alphamail.api.erp.infrastructure.repository.ProductJpaRepository;
+import com.alphamail.api.organization.infrastructure.entity.GroupEntity;
+import com.alphamail.api.organization.infrastructure.repository.GroupJpaRepository;
+import com.alphamail.api.user.infrastructure.repository.UserJpaRepository;
+import com.alphamail.common.exception.NotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class EntityReferenceFinderTest {
+
+	@Mock
+	private EmailFolderJpaRepository folderRepository;
+	@Mock
+	private UserJpaRepository userRepository;
+	@Mock
+	private GroupJpaRepository groupRepository;
+	@Mock
+	private EmailJpaRepository emailRepository;
+	@Mock
+	private ProductJpaRepository productRepository;
+
+	@InjectMocks
+	private EntityReferenceFinder entityReferenceFinder;
+
+	@Test
+	@DisplayName("일반 매핑은 SELECT 없이 프록시 참조만 만든다")
+	void usesReferenceWithoutSelect() {
+		EmailFolderEntity reference = mock(EmailFolderEntity.class);
+		given(folderRepository.getReferenceById(3)).willReturn(reference);
+
+		assertThat(entityReferenceFinder.toFolderEntity(3)).isSameAs(reference);
+		verify(folderRepository, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("검증 매핑은 조회해서 없으면 404")
+	void verifiesExistence() {
+		GroupEntity group = mock(GroupEntity.class);
+		given(groupRepository.findById(1)).willReturn(Optional.of(group));
+		given(groupRepository.findById(9)).willReturn(Optional.empty());
+
+		assertThat(entityReferenceFinder.toVerifiedGroupEntity(1)).isSameAs(group);
+		assertThatThrownBy(() -> entityReferenceFinder.toVerifiedGroupEntity(9))
+			.isInstanceOf(NotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("id가 없으면 리포지토리를 부르지 않고 거부")
+	void rejectsNullId() {
+		assertThatThrownBy(() -> entityReferenceFinder.toGroupEntity(null))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> entityReferenceFinder.toVerifiedGroupEntity(null))
+			.isInstanceOf(IllegalArgumentException.class);
+		verify(groupRepository, never()).getReferenceById(any());
+		verify(groupRepository, never()).findById(any());
+	}
+}
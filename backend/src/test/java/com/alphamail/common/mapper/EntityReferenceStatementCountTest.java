@@ -0,0 +1,155 @@
+package com.alphamail.common.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.reset;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.alphamail.api.email.domain.entity.Email;
+import com.alphamail.api.email.domain.entity.EmailStatus;
+import com.alphamail.api.email.domain.entity.EmailType;
+import com.alphamail.api.email.domain.entity.RecentUsedEmail;
+import com.alphamail.api.email.infrastructure.mapper.EmailMapper;
+import com.alphamail.api.email.infrastructure.mapper.EmailMapperImpl;
+import com.alphamail.api.email.infrastructure.mapper.RecentUsedEmailMapper;
+import com.alphamail.api.email.infrastructure.mapper.RecentUsedEmailMapperImpl;
+import com.alphamail.api.email.infrastructure.repository.EmailFolderJpaRepository;
+import com.alphamail.api.email.infrastructure.repository.EmailJpaRepository;
+import com.alphamail.api.email.infrastructure.repository.RecentUsedEmailJpaRepository;
+import com.alphamail.api.user.infrastructure.repository.UserJpaRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EntityReferenceFinder.class, EmailMapperImpl.class, RecentUsedEmailMapperImpl.class})
+@Sql({"/sql/h2-postgres-tables.sql", "/sql/h2-mailbox-fixture.sql"})
+class EntityReferenceStatementCountTest {
+
+	private static final int FOLDER_ID = 1;
+	private static final int USER_ID = 1;
+	private static final List<String> RECIPIENTS = List.of("a@x.com", "b@x.com", "c@x.com");
+
+	@MockitoSpyBean
+	private EntityReferenceFinder entityReferenceFinder;
+	@Autowired
+	private EmailMapper emailMapper;
+	@Autowired
+	private RecentUsedEmailMapper recentUsedEmailMapper;
+	@Autowired
+	private EmailJpaRepository emailJpaRepository;
+	@Autowired
+	private RecentUsedEmailJpaRepository recentUsedEmailJpaRepository;
+	@Autowired
+	private EmailFolderJpaRepository folderRepository;
+	@Autowired
+	private UserJpaRepository userRepository;
+	@Autowired
+	private TestEntityManager testEntityManager;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	@DisplayName("수신 저장 한 건 - findById 조회 2번이 빠지고 INSERT만 남는다")
+	void ingestSavesLookups() {
+		long before = withFindById(() -> countStatements(this::ingest));
+		long after = countStatements(this::ingest);
+		System.out.printf("수신 저장 - 이전 %d문장, 이후 %d문장%n", before, after);
+
+		assertThat(after).isEqualTo(1);
+		assertThat(before - after).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("발송 한 건(메일 저장 + 최근 수신자 3명 반영) - 트랜잭션마다 findById 조회가 빠진다")
+	void sendSavesLookups() {
+		long before = withFindById(() -> countStatements(this::send));
+		long after = countStatements(this::send);
+		System.out.printf("발송 저장 - 이전 %d문장, 이후 %d문장%n", before, after);
+
+		// 메일 INSERT 1 + 최근 수신자 INSERT 3
+		assertThat(after).isEqualTo(1 + RECIPIENTS.size());
+		// 메일 저장: 폴더/사용자 2번, 최근 수신자 반영: 사용자 1번 (같은 트랜잭션에서는 1차 캐시)
+		assertThat(before - after).isEqualTo(3);
+	}
+
+	private void ingest() {
+		emailJpaRepository.saveAndFlush(emailMapper.toEntity(email(EmailType.RECEIVED)));
+	}
+
+	// 메일 저장과 최근 수신자 반영은 서로 다른 트랜잭션 -> 영속성 컨텍스트를 비워 흉내냄
+	private void send() {
+		emailJpaRepository.saveAndFlush(emailMapper.toEntity(email(EmailType.SENT)));
+		testEntityManager.clear();
+		recentUsedEmailJpaRepository.saveAllAndFlush(RECIPIENTS.stream()
+			.map(recipient -> RecentUsedEmail.create(USER_ID, recipient, ""))
+			.map(recentUsedEmailMapper::toEntity)
+			.toList());
+	}
+
+	// 변경 전 매핑 (findById로 연관 엔티티를 읽어서 채움)
+	private long withFindById(StatementCounter counter) {
+		willAnswer(invocation -> folderRepository.findById(invocation.getArgument(0)).orElseThrow())
+			.given(entityReferenceFinder).toFolderEntity(any());
+		willAnswer(invocation -> userRepository.findById(invocation.getArgument(0)).orElseThrow())
+			.given(entityReferenceFinder).toUserEntity(any());
+		try {
+			return counter.count();
+		} finally {
+			reset(entityReferenceFinder);
+		}
+	}
+
+	private long countStatements(Runnable save) {
+		testEntityManager.clear();
+		statistics.clear();
+		save.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private Email email(EmailType emailType) {
+		return Email.builder()
+			.folderId(FOLDER_ID)
+			.userId(USER_ID)
+			.sender("tester@alphamail.my")
+			.recipients(RECIPIENTS)
+			.subject("subject")
+			.bodyText("body")
+			.receivedDateTime(LocalDateTime.of(2025, 5, 1, 9, 0))
+			.readStatus(false)
+			.hasAttachment(false)
+			.emailType(emailType)
+			.emailStatus(EmailStatus.SENT)
+			.build();
+	}
+
+	@FunctionalInterface
+	private interface StatementCounter {
+		long count();
+	}
+}
@@ -0,0 +1,126 @@
+package com.alphamail.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.alphamail.common.resilience.CircuitBreaker.State;
+
+class CircuitBreakerTest {
+
+	private static final Duration FAST = Duration.ofMillis(10);
+	private static final Duration SLOW = Duration.ofSeconds(5);
+
+	@Test
+	@DisplayName("최소 호출 수를 채우고 실패율이 임계치 이상이면 OPEN")
+	void opensWhenFailureRateReached() {
+		CircuitBreaker breaker = breaker(10, 4, Duration.ofMinutes(1));
+
+		breaker.onResult(false, FAST);
+		breaker.onResult(true, FAST);
+		breaker.onResult(false, FAST);
+		assertThat(breaker.status().state()).isEqualTo(State.CLOSED);
+
+		breaker.onResult(true, FAST);
+		assertThat(breaker.status().state()).isEqualTo(State.OPEN);
+		assertThat(breaker.tryAcquirePermission()).isFalse();
+		assertThat(breaker.status().notPermittedCalls()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("느린 호출도 실패로 센다")
+	void countsSlowCallsAsBad() {
+		CircuitBreaker breaker = breaker(10, 2, Duration.ofMinutes(1));
+
+		breaker.onResult(false, SLOW);
+		breaker.onResult(false, SLOW);
+
+		assertThat(breaker.status().state()).isEqualTo(State.OPEN);
+	}
+
+	@Test
+	@DisplayName("윈도우를 넘긴 오래된 결과는 실패율에서 빠진다")
+	void evictsOldestResult() {
+		CircuitBreaker breaker = breaker(4, 4, Duration.ofMinutes(1));
+
+		breaker.onResult(true, FAST);
+		breaker.onResult(false, FAST);
+		breaker.onResult(false, FAST);
+		breaker.onResult(false, FAST);
+		assertThat(breaker.status().badCalls()).isEqualTo(1);
+
+		breaker.onResult(false, FAST);
+		assertThat(breaker.status().recordedCalls()).isEqualTo(4);
+		assertThat(breaker.status().badCalls()).isZero();
+		assertThat(breaker.status().state()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("차단 시간이 지나면 HALF_OPEN에서 정해진 수만 흘려보내고, 모두 성공하면 CLOSED")
+	void recoversThroughHalfOpen() {
+		CircuitBreaker breaker = tripped(Duration.ZERO);
+
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+		assertThat(breaker.status().state()).isEqualTo(State.HALF_OPEN);
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+		assertThat(breaker.tryAcquirePermission()).isFalse();
+
+		breaker.onResult(false, FAST);
+		breaker.onResult(false, FAST);
+
+		assertThat(breaker.status().state()).isEqualTo(State.CLOSED);
+		assertThat(breaker.status().recordedCalls()).isZero();
+	}
+
+	@Test
+	@DisplayName("HALF_OPEN에서 한 번이라도 실패하면 다시 OPEN")
+	void reopensOnHalfOpenFailure() {
+		CircuitBreaker breaker = tripped(Duration.ZERO);
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+
+		breaker.onResult(true, FAST);
+
+		assertThat(breaker.status().state()).isEqualTo(State.OPEN);
+	}
+
+	@Test
+	@DisplayName("결과 없이 끝난 호출은 HALF_OPEN 허용 건수를 돌려준다")
+	void releasesHalfOpenPermit() {
+		CircuitBreaker breaker = tripped(Duration.ZERO);
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+		assertThat(breaker.tryAcquirePermission()).isFalse();
+
+		breaker.releasePermission();
+
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+	}
+
+	@Test
+	@DisplayName("reset은 바로 CLOSED로")
+	void resetCloses() {
+		CircuitBreaker breaker = tripped(Duration.ofMinutes(1));
+
+		breaker.reset();
+
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+		assertThat(breaker.status().state()).isEqualTo(State.CLOSED);
+	}
+
+	private CircuitBreaker tripped(Duration openDuration) {
+		CircuitBreaker breaker = breaker(10, 2, openDuration);
+		breaker.onResult(true, FAST);
+		breaker.onResult(true, FAST);
+		assertThat(breaker.status().state()).isEqualTo(State.OPEN);
+		return breaker;
+	}
+
+	// 실패율 50%, 1초 넘으면 느린 호출, HALF_OPEN 2건
+	private CircuitBreaker breaker(int windowSize, int minimumCalls, Duration openDuration) {
+		return new CircuitBreaker("test", new ResilienceSettings(windowSize, minimumCalls, 50,
+			Duration.ofSeconds(1), openDuration, 2, 10, Duration.ofMillis(100)));
+	}
+}
@@ -0,0 +1,57 @@
+package com.alphamail.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	// 초당 1개라 테스트가 도는 동안 새로 차는 토큰은 무시할 만큼 작음
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+	private static final long TOLERANCE = TimeUnit.MILLISECONDS.toNanos(200);
+
+	@Test
+	@DisplayName("용량만큼은 바로 주고, 그 뒤로는 예약 순서대로 간격을 둔다")
+	void spacesReservationsAfterBurst() {
+		TokenBucket bucket = new TokenBucket(1, 2);
+
+		assertThat(bucket.reserve()).isZero();
+		assertThat(bucket.reserve()).isZero();
+		assertThat(bucket.reserve()).isBetween(SECOND - TOLERANCE, SECOND);
+		assertThat(bucket.reserve()).isBetween(2 * SECOND - TOLERANCE, 2 * SECOND);
+	}
+
+	@Test
+	@DisplayName("pause는 남은 토큰을 버리고 그 시간만큼 다음 예약을 미룬다")
+	void pauseDelaysNextReservation() {
+		TokenBucket bucket = new TokenBucket(1, 5);
+
+		bucket.pause(Duration.ofSeconds(3));
+
+		assertThat(bucket.availablePermits()).isLessThanOrEqualTo(0);
+		assertThat(bucket.reserve()).isBetween(4 * SECOND - TOLERANCE, 4 * SECOND);
+	}
+
+	@Test
+	@DisplayName("pause는 이미 더 길게 멈춘 시간을 줄이지 않는다")
+	void pauseNeverShortens() {
+		TokenBucket bucket = new TokenBucket(1, 1);
+
+		bucket.pause(Duration.ofSeconds(5));
+		bucket.pause(Duration.ofSeconds(1));
+
+		assertThat(bucket.reserve()).isGreaterThan(5 * SECOND - TOLERANCE);
+	}
+
+	@Test
+	@DisplayName("잘못된 설정은 거부")
+	void rejectsInvalidSettings() {
+		assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new TokenBucket(1, 0.5)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,76 @@
+package com.alphamail.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MessageIdParserTest {
+
+	// 파서 도입 전 ThreadId 추출에 쓰던 정규식
+	private static final Pattern LEGACY = Pattern.compile("<([^>]+)>");
+
+	@Test
+	@DisplayName("단순 헤더는 기존 정규식과 같은 id를 꺼낸다")
+	void matchesLegacyRegexOnSimpleHeaders() {
+		List<String> headers = List.of(
+			"<abc@mail.example.com>",
+			"  <0100018f-aaaa-bbbb@email.amazonses.com>  ",
+			"<first@a.com> <second@b.com>",
+			"<first@a.com>,<second@b.com>",
+			"Re: <CAF=x+y/z@mail.gmail.com>");
+
+		for (String header : headers) {
+			Matcher matcher = LEGACY.matcher(header);
+			assertThat(matcher.find()).isTrue();
+			assertThat(MessageIdParser.first(header)).as(header).isEqualTo(matcher.group(1));
+		}
+	}
+
+	@Test
+	@DisplayName("References는 등장 순서대로 모두 꺼낸다")
+	void returnsAllIdsInOrder() {
+		assertThat(MessageIdParser.all("<a@x> <b@x>, <c@x>")).containsExactly("a@x", "b@x", "c@x");
+	}
+
+	@Test
+	@DisplayName("접힌 헤더의 공백은 id에서 제거한다")
+	void stripsFoldingWhitespace() {
+		String folded = "<first@a.com>\r\n <second@b.com>\r\n\t<long-\r\n id@c.com>";
+
+		assertThat(MessageIdParser.all(folded)).containsExactly("first@a.com", "second@b.com", "long-id@c.com");
+	}
+
+	@Test
+	@DisplayName("괄호 주석 안의 꺾쇠는 건너뛴다")
+	void skipsComments() {
+		String commented = "(old <ignored@x>) <real@x> (nested (<also@x>) \\) <still@x>) <last@x>";
+
+		assertThat(MessageIdParser.all(commented)).containsExactly("real@x", "last@x");
+	}
+
+	@Test
+	@DisplayName("따옴표 안의 꺾쇠는 건너뛰고 id 안의 따옴표는 그대로 둔다")
+	void skipsQuotedStrings() {
+		assertThat(MessageIdParser.all("\"<not@id>\" <\"quoted>part\"@x>"))
+			.containsExactly("\"quoted>part\"@x");
+	}
+
+	@Test
+	@DisplayName("닫는 꺾쇠가 없으면 헤더 끝까지를 id로 본다")
+	void readsUnterminatedIdToEnd() {
+		assertThat(MessageIdParser.all("<ok@x> <cut@x")).containsExactly("ok@x", "cut@x");
+	}
+
+	@Test
+	@DisplayName("빈 id와 null 헤더는 무시한다")
+	void ignoresEmptyIdsAndNullHeader() {
+		assertThat(MessageIdParser.all("<> <a@x>")).containsExactly("a@x");
+		assertThat(MessageIdParser.first(null)).isNull();
+		assertThat(MessageIdParser.all("no ids here")).isEmpty();
+	}
+}
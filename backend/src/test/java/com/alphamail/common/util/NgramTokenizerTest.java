@@ -0,0 +1,47 @@
+package com.alphamail.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NgramTokenizerTest {
+
+	@Test
+	@DisplayName("영문/숫자는 소문자 단어로, 한글은 2-gram으로 자른다")
+	void splitsWordsAndBigrams() {
+		assertThat(NgramTokenizer.tokenize("SSAFY 회의록")).containsExactly("ssafy", "회의", "의록");
+	}
+
+	@Test
+	@DisplayName("문자 종류가 바뀌는 곳에서 끊고 구두점은 버린다")
+	void splitsOnScriptChangeAndPunctuation() {
+		assertThat(NgramTokenizer.tokenize("Q3보고서, v2.0!")).containsExactly("q3", "보고", "고서", "v2", "0");
+	}
+
+	@Test
+	@DisplayName("두 글자 이하 한글은 그대로, 중복 토큰도 그대로 둔다")
+	void keepsShortRunsAndDuplicates() {
+		assertThat(NgramTokenizer.tokenize("회 회의 회의")).containsExactly("회", "회의", "회의");
+	}
+
+	@Test
+	@DisplayName("빈 입력은 빈 결과")
+	void handlesEmptyInput() {
+		assertThat(NgramTokenizer.tokenize(null)).isEmpty();
+		assertThat(NgramTokenizer.tokenize("  ...  ")).isEmpty();
+		assertThat(NgramTokenizer.toPrefixQuery(" ")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("검색어는 중복을 빼고 영문과 한 글자 한글만 접두 검색")
+	void buildsPrefixQuery() {
+		assertThat(NgramTokenizer.toPrefixQuery("회의록 SSAFY 회 ssafy")).isEqualTo("회의 & 의록 & ssafy:* & 회:*");
+	}
+
+	@Test
+	@DisplayName("tsquery 특수문자는 토큰에 섞이지 않는다")
+	void dropsTsqueryOperators() {
+		assertThat(NgramTokenizer.toPrefixQuery("a & !b | (c:*)")).isEqualTo("a:* & b:* & c:*");
+	}
+}
@@ -0,0 +1,6 @@
+-- 사용자 1명(id=1)과 받은메일함(id=1) - 파생 쿼리의 folder/user 조인용
+INSERT INTO companies (id, created_at, name) VALUES (1, TIMESTAMP '2025-05-01 00:00:00', 'alphamail');
+INSERT INTO groups (id, company_id, name) VALUES (1, 1, 'dev');
+INSERT INTO users (id, group_id, status, phone_num, name, position, email, hashed_password, image)
+VALUES (1, 1, true, '010-0000-0000', 'tester', 'dev', 'tester@alphamail.my', 'hashed', 'image.png');
+INSERT INTO email_folders (email_folder_id, user_id, name) VALUES (1, 1, 'INBOX');
@@ -0,0 +1,25 @@
+-- H2가 만들지 못하는 PostgreSQL 전용 타입(text[]) 테이블을 H2 타입으로 직접 생성
+CREATE TABLE IF NOT EXISTS emails (
+	email_id integer generated by default as identity,
+	folder_id integer not null,
+	has_attachment boolean not null,
+	original_folder_id integer,
+	read_status boolean,
+	user_id integer not null,
+	received_date_time timestamp(6),
+	sent_date_time timestamp(6),
+	thread_id varchar(100),
+	body_html varchar,
+	body_text varchar,
+	email_references varchar(255),
+	email_status varchar(255),
+	email_type varchar(255) not null,
+	file_path varchar(255),
+	in_reply_to varchar(255),
+	message_id varchar(255),
+	sender varchar(255) not null,
+	ses_message_id varchar(255),
+	subject varchar(255) not null,
+	recipients varchar array not null,
+	primary key (email_id)
+);